@@ -65,6 +65,7 @@ deleteArtifacts=true
 bootVersions=""
 strProject="mq-jms-spring-boot-starter"
 cntProject="mq-jms-spring-testcontainer"
+memProject="mq-jms-spring-inmemory"
 cntBaseProject="mq-java-testcontainer"
 testContainerBuild=false
 
@@ -87,6 +88,10 @@ cntOut2="$curdir/mq-boot2-spring-testcontainer"
 cntOut3="$curdir/mq-boot3-spring-testcontainer"
 cntOut4="$curdir/mq-boot4-spring-testcontainer"
 
+memIn="$curdir/mq-jms-spring-inmemory"
+memOut3="$curdir/mq-boot3-spring-inmemory"
+memOut4="$curdir/mq-boot4-spring-inmemory"
+
 majors=""
 
 unset NOSIGN
@@ -169,12 +174,13 @@ fi
 rm -f $rcFile
 rm -rf  $strIn/build $strOut2 $strOut3 $strOut4
 rm -rf  $cntIn/build $cntout2 $cntOut3 $cntOut4
+rm -rf  $memIn/build $memOut3 $memOut4
 rm -rf  $cntBaseIn/uild
 rm -f $buildLog
 
 if $deleteArtifacts
 then
-  for p in $strProject $cntProject $cntBaseProject
+  for p in $strProject $cntProject $cntBaseProject $memProject
   do
     rm -rf $HOME/.m2/repository/com/ibm/mq/$p
     find $HOME/.gradle | grep $p | xargs rm -rf
@@ -198,6 +204,7 @@ do
     # the primary.
     makeBoot3Source  $strIn $strOut3
     makeBoot3Source  $cntIn $cntOut3
+    makeBoot3Source  $memIn $memOut3
     if $testContainerBuild
     then
       export TESTCONTAINERBUILD=true
@@ -206,6 +213,7 @@ do
   boot4)
     makeBoot4Source  $strIn $strOut4
     makeBoot4Source  $cntIn $cntOut4
+    makeBoot4Source  $memIn $memOut4
     if $testContainerBuild
     then
       export TESTCONTAINERBUILD=true
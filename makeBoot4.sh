@@ -34,6 +34,7 @@ do
    # Boot4 moved a bunch of imported classes
    cat $f |\
    sed "s/org.springframework.boot.autoconfigure.jms/org.springframework.boot.jms.autoconfigure/g" |\
-   sed "s/org.springframework.boot.autoconfigure.transaction.jta/org.springframework.boot.transaction.jta.autoconfigure/g" > $out/$f 
+   sed "s/org.springframework.boot.autoconfigure.transaction.jta/org.springframework.boot.transaction.jta.autoconfigure/g" |\
+   sed "s/org.springframework.boot.actuate.health/org.springframework.boot.health.contributor/g" > $out/$f 
 done
 
@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Network;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * A set of queue managers, each in its own {@link MQContainer}, started in parallel on a shared
+ * network. With more than one queue manager, they are joined in an MQ cluster whose first members
+ * are the full repositories, and by default it is configured as a uniform cluster so that
+ * applications can test the "balancing" connection options.
+ * <p>
+ * The cluster channels are named "&lt;cluster&gt;.&lt;qmgr&gt;" and, as this is intended for testing,
+ * are not given any channel security beyond the defaults of the image.
+ * <p>
+ * For example:
+ * <pre>
+ *   MQClusterTopology topology = new MQClusterTopology(MQContainer.DEFAULT_IMAGE, 3)
+ *         .acceptLicense()
+ *         .withMQSC("DEFINE QLOCAL('APP.QUEUE') CLUSTER('UNICLUS') REPLACE");
+ *   topology.start();
+ *   String connName = topology.getConnName();
+ * </pre>
+ */
+public class MQClusterTopology implements Startable {
+  private static final Logger logger = LoggerFactory.getLogger(MQClusterTopology.class);
+
+  public static final String DEFAULT_CLUSTER = "UNICLUS";
+
+  private static final int DEFAULT_FULL_REPOSITORIES = 2;
+
+  // The container runs files from /etc/mqm in name order; our generated definitions
+  // come before a typical application startup file such as 99-startup.mqsc
+  private static final String CLUSTER_MQSC = "50-cluster.mqsc";
+  private static final String APP_MQSC     = "60-topology.mqsc";
+  private static final String UNIFORM_INI  = "50-uniform.ini";
+
+  private final DockerImageName imageName;
+  private final List<String> queueManagers;
+
+  private String clusterName = DEFAULT_CLUSTER;
+  private boolean uniform = true;
+  private int fullRepositories = DEFAULT_FULL_REPOSITORIES;
+  private String mqsc = null;
+  private Consumer<MQContainer> customizer = c -> {};
+
+  private Network network = null;
+  private final Map<String, MQContainer> containers = new LinkedHashMap<>();
+
+  /**
+   * @param imageName - the image used for every queue manager
+   * @param queueManagers - the queue manager names
+   */
+  public MQClusterTopology(DockerImageName imageName, String... queueManagers) {
+    if (queueManagers == null || queueManagers.length == 0) {
+      throw new IllegalArgumentException("At least one queue manager must be named");
+    }
+    this.imageName = imageName;
+    this.queueManagers = List.of(queueManagers);
+  }
+
+  /**
+   * @param imageName - the image used for every queue manager
+   * @param count - the number of queue managers, which are called QM1, QM2 ...
+   */
+  public MQClusterTopology(DockerImageName imageName, int count) {
+    this(imageName, defaultNames(count));
+  }
+
+  /**
+   * The "MQ Advanced for Developers" image needs you to explicitly accept the license
+   */
+  public MQClusterTopology acceptLicense() {
+    return withContainerCustomizer(MQContainer::acceptLicense);
+  }
+
+  public MQClusterTopology withClusterName(String s) {
+    this.clusterName = s;
+    return this;
+  }
+
+  /**
+   * Whether the queue managers form a uniform cluster. Default is true.
+   */
+  public MQClusterTopology withUniformCluster(boolean b) {
+    this.uniform = b;
+    return this;
+  }
+
+  /**
+   * How many of the queue managers, taken in order, are full repositories for the cluster. Default is 2.
+   */
+  public MQClusterTopology withFullRepositories(int n) {
+    this.fullRepositories = n;
+    return this;
+  }
+
+  /**
+   * MQSC commands run on every queue manager during startup, after the cluster has been
+   * defined. For example to define clustered queues.
+   */
+  public MQClusterTopology withMQSC(String commands) {
+    this.mqsc = commands;
+    return this;
+  }
+
+  /**
+   * Apply further configuration to each container before it is started. Customizers are applied in
+   * the order they are given. The queue manager name and network are set by this class and
+   * should not be changed.
+   */
+  public MQClusterTopology withContainerCustomizer(Consumer<MQContainer> c) {
+    this.customizer = this.customizer.andThen(c);
+    return this;
+  }
+
+  /**
+   * Create and start all of the containers, in parallel. This blocks until every queue manager is ready.
+   */
+  @Override
+  public void start() {
+    if (!containers.isEmpty()) {
+      return;
+    }
+
+    network = Network.newNetwork();
+    for (String qm : queueManagers) {
+      MQContainer c = new MQContainer(imageName)
+          .withQueueManager(qm)
+          .withNetwork(network)
+          .withNetworkAliases(hostName(qm));
+      if (queueManagers.size() > 1) {
+        c.withConfigFile(CLUSTER_MQSC, clusterMQSC(qm));
+        if (uniform) {
+          c.withConfigFile(UNIFORM_INI, "TuningParameters:\n   UniformClusterName=" + clusterName + "\n");
+        }
+      }
+      if (mqsc != null && !mqsc.isEmpty()) {
+        c.withConfigFile(APP_MQSC, mqsc);
+      }
+      customizer.accept(c);
+      containers.put(qm, c);
+    }
+
+    logger.info("Starting {} queue managers: {}", containers.size(), queueManagers);
+    try {
+      Startables.deepStart(containers.values()).join();
+    }
+    catch (RuntimeException e) {
+      stop();
+      throw e;
+    }
+  }
+
+  @Override
+  public void stop() {
+    containers.values().forEach(MQContainer::stop);
+    containers.clear();
+    if (network != null) {
+      network.close();
+      network = null;
+    }
+  }
+
+  public List<String> getQueueManagers() {
+    return queueManagers;
+  }
+
+  public String getClusterName() {
+    return clusterName;
+  }
+
+  /**
+   * @return the containers, in the same order as the queue manager names. Empty until started.
+   */
+  public List<MQContainer> getContainers() {
+    return Collections.unmodifiableList(new ArrayList<>(containers.values()));
+  }
+
+  /**
+   * @return the container running the named queue manager, or null if there is none
+   */
+  public MQContainer getContainer(String queueManager) {
+    return containers.get(queueManager);
+  }
+
+  /**
+   * @return a connection name list with an entry for every queue manager, as seen from the test program
+   */
+  public String getConnName() {
+    return containers.values().stream().map(MQContainer::getConnName).collect(Collectors.joining(","));
+  }
+
+  // Definitions for one queue manager. Each gets a cluster-receiver channel, and a cluster-sender
+  // to each of the full repositories other than itself.
+  String clusterMQSC(String qm) {
+    int repos = Math.max(1, Math.min(fullRepositories, queueManagers.size()));
+    List<String> fullRepos = queueManagers.subList(0, repos);
+
+    StringBuilder sb = new StringBuilder();
+    if (fullRepos.contains(qm)) {
+      sb.append("ALTER QMGR REPOS('").append(clusterName).append("')\n");
+    }
+    sb.append("DEFINE CHANNEL('").append(channelName(qm)).append("') CHLTYPE(CLUSRCVR) TRPTYPE(TCP)")
+      .append(" CONNAME('").append(hostName(qm)).append("(").append(MQContainer.PORT_QMGR).append(")')")
+      .append(" CLUSTER('").append(clusterName).append("') REPLACE\n");
+    for (String fr : fullRepos) {
+      if (!fr.equals(qm)) {
+        sb.append("DEFINE CHANNEL('").append(channelName(fr)).append("') CHLTYPE(CLUSSDR) TRPTYPE(TCP)")
+          .append(" CONNAME('").append(hostName(fr)).append("(").append(MQContainer.PORT_QMGR).append(")')")
+          .append(" CLUSTER('").append(clusterName).append("') REPLACE\n");
+      }
+    }
+
+    // The image blocks inbound channels by default. Allow the cluster channels through.
+    sb.append("SET CHLAUTH('").append(clusterName).append(".*') TYPE(ADDRESSMAP) ADDRESS('*') USERSRC(CHANNEL) ACTION(REPLACE)\n");
+    sb.append("SET CHLAUTH('").append(clusterName).append(".*') TYPE(BLOCKUSER) USERLIST('nobody') ACTION(REPLACE)\n");
+    return sb.toString();
+  }
+
+  private String channelName(String qm) {
+    return clusterName + "." + qm;
+  }
+
+  private static String hostName(String qm) {
+    return qm.toLowerCase(Locale.ROOT);
+  }
+
+  private static String[] defaultNames(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("At least one queue manager is needed");
+    }
+    String[] names = new String[count];
+    for (int i = 0; i < count; i++) {
+      names[i] = "QM" + (i + 1);
+    }
+    return names;
+  }
+}
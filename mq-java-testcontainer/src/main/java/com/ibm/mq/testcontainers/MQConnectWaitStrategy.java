@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.testcontainers;
+
+import java.util.Hashtable;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+
+/**
+ * Waits until a client connection (MQCONN) to the queue manager succeeds. This is quicker and more
+ * reliable than waiting for a log message, as the listener may be started a little before the
+ * queue manager can accept connections, and a reused container does not repeat its startup messages.
+ * <p>
+ * This class refers to the MQ client classes, so loading it fails when they are absent. It must
+ * only be used after {@link MQContainer#isMQClientAvailable()}, which does not refer to them, has
+ * returned true.
+ */
+class MQConnectWaitStrategy extends AbstractWaitStrategy {
+  private static final Logger logger = LoggerFactory.getLogger(MQConnectWaitStrategy.class);
+
+  private static final long RETRY_INTERVAL_MS = 250;
+
+  private final MQContainer container;
+
+  MQConnectWaitStrategy(MQContainer container) {
+    this.container = container;
+  }
+
+  /**
+   * Only call this once {@link MQContainer#isMQClientAvailable()} has returned true. The result is
+   * typed as a WaitStrategy so that callers do not need this class to be loadable.
+   */
+  static WaitStrategy create(MQContainer container) {
+    return new MQConnectWaitStrategy(container);
+  }
+
+  @Override
+  protected void waitUntilReady() {
+    long deadline = System.nanoTime() + startupTimeout.toNanos();
+    int lastReason = 0;
+
+    while (true) {
+      try {
+        MQQueueManager qmgr = new MQQueueManager(container.getQueueManager(), connectionProperties());
+        qmgr.disconnect();
+        logger.trace("Connected to {}", container.getQueueManager());
+        return;
+      }
+      catch (MQException e) {
+        // An authorisation failure will not get better by waiting
+        if (e.reasonCode == CMQC.MQRC_NOT_AUTHORIZED) {
+          throw new ContainerLaunchException("Connection to queue manager " + container.getQueueManager() + " was not authorised", e);
+        }
+        if (e.reasonCode != lastReason) {
+          logger.trace("Queue manager not ready: reason {}", e.reasonCode);
+          lastReason = e.reasonCode;
+        }
+      }
+
+      if (System.nanoTime() > deadline) {
+        throw new ContainerLaunchException("Timed out waiting for a connection to queue manager " + container.getQueueManager()
+            + ". Last reason code: " + lastReason);
+      }
+      try {
+        TimeUnit.MILLISECONDS.sleep(RETRY_INTERVAL_MS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ContainerLaunchException("Interrupted waiting for queue manager " + container.getQueueManager());
+      }
+    }
+  }
+
+  private Hashtable<String, Object> connectionProperties() {
+    Hashtable<String, Object> props = new Hashtable<>();
+    props.put(CMQC.TRANSPORT_PROPERTY, CMQC.TRANSPORT_MQSERIES_CLIENT);
+    props.put(CMQC.HOST_NAME_PROPERTY, waitStrategyTarget.getHost());
+    props.put(CMQC.PORT_PROPERTY, waitStrategyTarget.getMappedPort(MQContainer.PORT_QMGR));
+    props.put(CMQC.CHANNEL_PROPERTY, container.getChannel());
+    String password = container.getAppPassword();
+    if (password != null && !password.isEmpty()) {
+      props.put(CMQC.USER_ID_PROPERTY, container.getAppUser());
+      props.put(CMQC.PASSWORD_PROPERTY, password);
+      props.put(CMQC.USE_MQCSP_AUTHENTICATION_PROPERTY, Boolean.TRUE);
+    }
+    return props;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2025 IBM Corp. All rights reserved.
+ * Copyright © 2025,2026 IBM Corp. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
  * except in compliance with the License. You may obtain a copy of the License at
@@ -14,10 +14,22 @@
 
 package com.ibm.mq.testcontainers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container.ExecResult;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.images.builder.Transferable;
@@ -51,11 +63,21 @@ public class MQContainer extends GenericContainer<MQContainer> {
   private static final String DEFAULT_APP_PASSWORD = DEFAULT_APP_USER;
   private static final String DEFAULT_ADMIN_PASSWORD = DEFAULT_ADMIN_USER;
 
-  private static final int PORT_QMGR      = 1414;
+  static final int PORT_QMGR      = 1414;
   private static final int PORT_WEBSERVER = 9443;
 
   private static final Integer[] exposedPorts = {PORT_QMGR, PORT_WEBSERVER};
 
+  // A label on the container summarising the MQ configuration. It is part of what Testcontainers
+  // compares when looking for a reusable container, so a change to any of these options gives a
+  // new container instead of one that does not match the test's expectations.
+  public static final String CONFIG_HASH_LABEL = "com.ibm.mq.testcontainers.config-hash";
+
+  // Where MQSC scripts passed to runMQSC are copied before execution
+  private static final String MQSC_SCRIPT_PATH = "/tmp/testcontainers-runmqsc.mqsc";
+
+  private static final Pattern QUEUE_NAME = Pattern.compile("QUEUE\\(([^)]+)\\)");
+
   private String queueManager = DEFAULT_QUEUE_MANAGER;
   private String channel = DEFAULT_CHANNEL;
 
@@ -67,6 +89,8 @@ public class MQContainer extends GenericContainer<MQContainer> {
   private boolean startWeb = false;
   private String  startupMQSC = null;
   private String  startupMsg = ".*AMQ5026.*"; // Msgid for "The listener <insert> has started";
+  private boolean logMessageWait = false;
+  private Map<String, String> configFiles = new LinkedHashMap<>();
 
   /** Constructor.
    * As recommended by testcontainers.org, a name is always to be
@@ -117,16 +141,38 @@ public class MQContainer extends GenericContainer<MQContainer> {
       withCopyToContainer(MountableFile.forClasspathResource(startupMQSC,0444),"/etc/mqm/" + this.startupMQSC);
     }
 
+    for (Map.Entry<String, String> e : configFiles.entrySet()) {
+      withCopyToContainer(Transferable.of(e.getValue(), 0444), "/etc/mqm/" + e.getKey());
+    }
+
     if (this.startWeb) {
       // This message does not have an AMQ msgid. But it is also not translated.
       startupMsg = ".*Started web server.*";
     }
     withEnv("MQ_ENABLE_EMBEDDED_WEB_SERVER",this.startWeb?"true":"false");
 
-    waitingFor(Wait.forLogMessage(startupMsg, 1));
+    withLabel(CONFIG_HASH_LABEL, configHash());
+
+    // Prefer a real connection to the queue manager when the MQ client is available. The web server
+    // has no equivalent check, so keep waiting for its log message if it has been requested.
+    if (!this.logMessageWait && !this.startWeb && isMQClientAvailable()) {
+      logger.trace("Waiting for a client connection");
+      waitingFor(MQConnectWaitStrategy.create(this));
+    } else {
+      logger.trace("Waiting for log message {}", startupMsg);
+      waitingFor(Wait.forLogMessage(startupMsg, 1));
+    }
   }
 
 
+  @Override
+  protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+    if (reused) {
+      logger.info("Reusing IBM MQ container {}", containerInfo.getName());
+    }
+    super.containerIsStarted(containerInfo, reused);
+  }
+
   @Override
   protected void containerIsStarted(InspectContainerResponse containerInfo) {
     if (this.startWeb) {
@@ -195,6 +241,94 @@ public class MQContainer extends GenericContainer<MQContainer> {
     return this;
   }
 
+  /**
+   * Generated configuration to be applied during queue manager startup. The file is placed in
+   * /etc/mqm, where the container automatically runs files ending ".mqsc" and merges files
+   * ending ".ini" into qm.ini. Files are processed in name order.
+   *
+   * @param fileName - the name of the file, including its ".mqsc" or ".ini" suffix
+   * @param content - the file contents
+   * @return this container
+   */
+  public MQContainer withConfigFile(String fileName, String content) {
+    this.configFiles.put(fileName, content);
+    return this;
+  }
+
+  /**
+   * Wait for the queue manager's listener to report that it has started, instead of making a client
+   * connection. This is the only method available when the MQ client classes are not on the classpath.
+   * A reused container already has the message in its log, so this method can report readiness too early
+   * if the queue manager is being restarted.
+   *
+   * @return this container
+   */
+  public MQContainer withLogMessageWait() {
+    this.logMessageWait = true;
+    return this;
+  }
+
+  /**
+   * Execute MQSC commands in the running container.
+   *
+   * @param commands - one or more MQSC commands, separated by newlines
+   * @return the output from runmqsc
+   * @throws IllegalStateException if any of the commands fail, or they cannot be run
+   */
+  public String runMQSC(String commands) {
+    copyFileToContainer(Transferable.of(commands + "\n", 0444), MQSC_SCRIPT_PATH);
+    try {
+      ExecResult result = execInContainer("bash", "-c", "runmqsc -e " + queueManager + " < " + MQSC_SCRIPT_PATH);
+      logger.trace("runmqsc exit code: {} output: {}", result.getExitCode(), result.getStdout());
+      if (result.getExitCode() != 0) {
+        throw new IllegalStateException("runmqsc failed with exit code " + result.getExitCode() + ":\n" + result.getStdout() + result.getStderr());
+      }
+      return result.getStdout();
+    }
+    catch (IOException e) {
+      throw new IllegalStateException("Unable to run runmqsc", e);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted running runmqsc", e);
+    }
+  }
+
+  /**
+   * Remove all messages from the named local queues, so that a running (or reused) queue manager
+   * can be shared between tests without restarting it. With no names, every non-SYSTEM local queue
+   * that has messages on it is cleared. A queue cannot be cleared while an application has it open.
+   *
+   * @param queues - the names of the queues to clear
+   * @return the queues that were cleared
+   * @throws IllegalStateException if any of the queues cannot be cleared
+   */
+  public List<String> clearQueues(String... queues) {
+    List<String> names = new ArrayList<>();
+    if (queues != null && queues.length > 0) {
+      names.addAll(List.of(queues));
+    } else {
+      String output = runMQSC("DISPLAY QLOCAL(*) WHERE(CURDEPTH GT 0)");
+      Matcher m = QUEUE_NAME.matcher(output);
+      while (m.find()) {
+        String name = m.group(1).trim();
+        if (!name.startsWith("SYSTEM.")) {
+          names.add(name);
+        }
+      }
+    }
+
+    if (!names.isEmpty()) {
+      StringBuilder commands = new StringBuilder();
+      for (String name : names) {
+        commands.append("CLEAR QLOCAL(").append(name).append(")\n");
+      }
+      runMQSC(commands.toString());
+    }
+    logger.trace("Cleared queues: {}", names);
+    return names;
+  }
+
   public int getPort() {
     return getMappedPort(PORT_QMGR);
   }
@@ -231,6 +365,41 @@ public class MQContainer extends GenericContainer<MQContainer> {
     return this.adminPassword;
   }
 
+  // Combines the options that determine the queue manager's configuration. The MQSC
+  // and other file contents are included so that editing them is noticed.
+  private String configHash() {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      String[] values = {queueManager, channel, appUser, adminUser, appPassword, adminPassword, String.valueOf(startWeb), startupMQSC};
+      for (String v : values) {
+        digest.update(String.valueOf(v).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      for (Map.Entry<String, String> e : configFiles.entrySet()) {
+        digest.update(e.getKey().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(e.getValue().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      if (isNotNullOrEmpty(startupMQSC)) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        try (InputStream is = (cl != null ? cl : MQContainer.class.getClassLoader()).getResourceAsStream(startupMQSC)) {
+          if (is != null) {
+            digest.update(is.readAllBytes());
+          }
+        }
+      }
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    }
+    catch (NoSuchAlgorithmException | IOException e) {
+      throw new IllegalStateException("Unable to calculate container configuration hash", e);
+    }
+  }
+
   private static boolean isNullOrEmpty(String s) {
     if (s == null || s.isEmpty()) {
       return true;
@@ -241,4 +410,21 @@ public class MQContainer extends GenericContainer<MQContainer> {
     return !isNullOrEmpty(s);
   }
 
+  /**
+   * The MQ client is an optional dependency. This check must stay here, in a class that does not
+   * refer to any MQ types, because loading {@link MQConnectWaitStrategy} without the client fails
+   * with NoClassDefFoundError.
+   *
+   * @return true if the MQ client classes used to check the connection can be loaded
+   */
+  static boolean isMQClientAvailable() {
+    try {
+      Class.forName("com.ibm.mq.MQQueueManager", false, MQContainer.class.getClassLoader());
+      return true;
+    }
+    catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2018, 2023 IBM Corp. All rights reserved.
+ * Copyright © 2018, 2026 IBM Corp. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
  * except in compliance with the License. You may obtain a copy of the License at
@@ -45,7 +45,9 @@ import jakarta.jms.ConnectionFactory;
 @ConditionalOnProperty(prefix = "ibm.mq", name = "autoConfigure", matchIfMissing=true)
 @ConditionalOnMissingBean(ConnectionFactory.class)
 @EnableConfigurationProperties({MQConfigurationProperties.class, JmsProperties.class})
-@Import({ MQXAConnectionFactoryConfiguration.class,MQConnectionFactoryConfiguration.class })
+@Import({ MQXAConnectionFactoryConfiguration.class,MQConnectionFactoryConfiguration.class, MQListenerConfiguration.class, MQHealthConfiguration.class,
+  MQCircuitBreakerConfiguration.class, MQStreamingConfiguration.class,
+  MQMessageConverterConfiguration.class, MQDestinationConfiguration.class, MQPublisherConfiguration.class, MQCcdtCacheConfiguration.class })
 public class MQAutoConfiguration {
   private static Logger logger = LoggerFactory.getLogger(MQAutoConfiguration.class);
   public MQAutoConfiguration() {
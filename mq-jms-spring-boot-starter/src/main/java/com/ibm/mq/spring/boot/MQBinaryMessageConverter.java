@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * A MessageConverter that sends objects as BytesMessages using {@link MQBinarySerializer}s. The
+ * serializer's type ID is put in the JMSType header, which MQ carries without adding an application
+ * property folder to the message. On receive, a BytesMessage whose JMSType matches a known type ID is
+ * deserialized with that serializer. Everything else is handled by the delegate converter.
+ */
+public class MQBinaryMessageConverter implements MessageConverter {
+
+  private final MessageConverter delegate;
+  private final Map<String, MQBinarySerializer<?>> byTypeId = new LinkedHashMap<>();
+  private final Map<Class<?>, Optional<MQBinarySerializer<?>>> byClass = new ConcurrentHashMap<>();
+
+  public MQBinaryMessageConverter(List<MQBinarySerializer<?>> serializers) {
+    this(serializers, new SimpleMessageConverter());
+  }
+
+  public MQBinaryMessageConverter(List<MQBinarySerializer<?>> serializers, MessageConverter delegate) {
+    this.delegate = delegate;
+    for (MQBinarySerializer<?> s : serializers) {
+      if (byTypeId.put(s.getTypeId(), s) != null) {
+        throw new IllegalArgumentException("Duplicate binary type ID " + s.getTypeId());
+      }
+      byClass.put(s.getType(), Optional.of(s));
+    }
+  }
+
+  @Override
+  public Message toMessage(Object object, Session session) throws JMSException, MessageConversionException {
+    MQBinarySerializer<?> s = serializerFor(object.getClass());
+    if (s == null) {
+      return delegate.toMessage(object, session);
+    }
+    byte[] data;
+    try {
+      data = serialize(s, object);
+    }
+    catch (Exception e) {
+      throw new MessageConversionException("Unable to serialize " + object.getClass().getName() + " as " + s.getTypeId(), e);
+    }
+    BytesMessage m = session.createBytesMessage();
+    m.writeBytes(data);
+    m.setJMSType(s.getTypeId());
+    return m;
+  }
+
+  @Override
+  public Object fromMessage(Message message) throws JMSException, MessageConversionException {
+    String typeId = message.getJMSType();
+    MQBinarySerializer<?> s = (typeId != null) ? byTypeId.get(typeId) : null;
+    if (s == null || !(message instanceof BytesMessage)) {
+      return delegate.fromMessage(message);
+    }
+    BytesMessage bm = (BytesMessage) message;
+    byte[] data = new byte[(int) bm.getBodyLength()];
+    bm.readBytes(data);
+    try {
+      return s.deserialize(data);
+    }
+    catch (Exception e) {
+      throw new MessageConversionException("Unable to deserialize message of type " + typeId, e);
+    }
+  }
+
+  // The serializer for a class is looked up once, including whether there is none
+  private MQBinarySerializer<?> serializerFor(Class<?> c) {
+    return byClass.computeIfAbsent(c, k -> byTypeId.values().stream().filter(s -> s.getType().isAssignableFrom(k)).findFirst()).orElse(null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> byte[] serialize(MQBinarySerializer<T> s, Object object) throws Exception {
+    return s.serialize((T) object);
+  }
+}
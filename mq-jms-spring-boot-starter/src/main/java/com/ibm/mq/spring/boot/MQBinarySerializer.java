@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts objects of one type to and from a compact binary form for {@link MQBinaryMessageConverter}.
+ * The type ID is sent with each message in place of a Java class name, so it should be short and must
+ * be the same in the sender and receiver.
+ * <p>
+ * Serializers for Protobuf and Avro generated classes can be created with {@link #protobuf} and
+ * {@link #avro}. These find the generated methods once, when the serializer is created, and do not need
+ * the libraries at compile time. Applications can implement this interface for other formats.
+ *
+ * @param <T> the type handled by the serializer
+ */
+public interface MQBinarySerializer<T> {
+
+  /**
+   * @return the identifier sent with each message
+   */
+  String getTypeId();
+
+  /**
+   * @return the class handled by this serializer. Subclasses are also handled
+   */
+  Class<T> getType();
+
+  byte[] serialize(T object) throws Exception;
+
+  T deserialize(byte[] data) throws Exception;
+
+  /**
+   * A serializer for a Protobuf generated message class, using its toByteArray and parseFrom methods.
+   */
+  static <T> MQBinarySerializer<T> protobuf(String typeId, Class<T> type) {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      MethodHandle write = lookup.findVirtual(type, "toByteArray", MethodType.methodType(byte[].class));
+      MethodHandle read = lookup.findStatic(type, "parseFrom", MethodType.methodType(type, byte[].class));
+      return new Generated<>(typeId, type, o -> (byte[]) write.invoke(o), b -> type.cast(read.invoke(b)));
+    }
+    catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(type.getName() + " is not a Protobuf generated message class", e);
+    }
+  }
+
+  /**
+   * A serializer for an Avro generated SpecificRecord class, using its toByteBuffer and fromByteBuffer methods.
+   */
+  static <T> MQBinarySerializer<T> avro(String typeId, Class<T> type) {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      MethodHandle write = lookup.findVirtual(type, "toByteBuffer", MethodType.methodType(ByteBuffer.class));
+      MethodHandle read = lookup.findStatic(type, "fromByteBuffer", MethodType.methodType(type, ByteBuffer.class));
+      return new Generated<>(typeId, type, o -> {
+        ByteBuffer bb = (ByteBuffer) write.invoke(o);
+        byte[] b = new byte[bb.remaining()];
+        bb.get(b);
+        return b;
+      }, b -> type.cast(read.invoke(ByteBuffer.wrap(b))));
+    }
+    catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(type.getName() + " is not an Avro generated record class", e);
+    }
+  }
+
+  /**
+   * A Protobuf or Avro serializer, depending on the methods the class provides.
+   */
+  static <T> MQBinarySerializer<T> generated(String typeId, Class<T> type) {
+    try {
+      type.getMethod("parseFrom", byte[].class);
+      return protobuf(typeId, type);
+    }
+    catch (NoSuchMethodException e) {
+      return avro(typeId, type);
+    }
+  }
+
+  /**
+   * A serializer that calls methods of a generated class.
+   */
+  final class Generated<T> implements MQBinarySerializer<T> {
+    @FunctionalInterface
+    interface Writer {
+      byte[] write(Object o) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Reader<T> {
+      T read(byte[] b) throws Throwable;
+    }
+
+    private final String typeId;
+    private final Class<T> type;
+    private final Writer writer;
+    private final Reader<T> reader;
+
+    Generated(String typeId, Class<T> type, Writer writer, Reader<T> reader) {
+      this.typeId = typeId;
+      this.type = type;
+      this.writer = writer;
+      this.reader = reader;
+    }
+
+    @Override
+    public String getTypeId() {
+      return typeId;
+    }
+
+    @Override
+    public Class<T> getType() {
+      return type;
+    }
+
+    @Override
+    public byte[] serialize(T object) throws Exception {
+      try {
+        return writer.write(object);
+      }
+      catch (Exception | Error e) {
+        throw e;
+      }
+      catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+
+    @Override
+    public T deserialize(byte[] data) throws Exception {
+      try {
+        return reader.read(data);
+      }
+      catch (Exception | Error e) {
+        throw e;
+      }
+      catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of byte arrays in power-of-two size classes, so that message bodies can be read and written
+ * without allocating a new array for each message. An array is taken with {@link #acquire(int)}, which
+ * may return an array larger than requested, and given back with {@link #release(byte[])}. Requests larger
+ * than the biggest size class are allocated normally and not pooled. Arrays that are never released are
+ * simply garbage collected.
+ */
+public class MQByteArrayPool {
+
+  /** The smallest size class */
+  public static final int MIN_SIZE = 1024;
+
+  private final int maxSize;
+  private final int maxPerClass;
+  private final ConcurrentLinkedQueue<byte[]>[] classes;
+  private final AtomicInteger[] counts;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param maxSize     - the largest array to pool. Rounded up to a power of two
+   * @param maxPerClass - how many free arrays to keep in each size class
+   */
+  @SuppressWarnings("unchecked")
+  public MQByteArrayPool(int maxSize, int maxPerClass) {
+    this.maxSize = roundUp(Math.max(maxSize, MIN_SIZE));
+    this.maxPerClass = maxPerClass;
+    int n = sizeClass(this.maxSize) + 1;
+    classes = new ConcurrentLinkedQueue[n];
+    counts = new AtomicInteger[n];
+    for (int i = 0; i < n; i++) {
+      classes[i] = new ConcurrentLinkedQueue<>();
+      counts[i] = new AtomicInteger();
+    }
+  }
+
+  /**
+   * @param size - the number of bytes needed
+   * @return an array of at least that length
+   */
+  public byte[] acquire(int size) {
+    if (size > maxSize) {
+      misses.increment();
+      return new byte[size];
+    }
+    int c = sizeClass(size);
+    byte[] b = classes[c].poll();
+    if (b != null) {
+      counts[c].decrementAndGet();
+      hits.increment();
+      return b;
+    }
+    misses.increment();
+    return new byte[MIN_SIZE << c];
+  }
+
+  /**
+   * Return an array to the pool. Arrays that did not come from the pool, or that would take
+   * a size class over its limit, are dropped.
+   *
+   * @param b - the array, which the caller must not use again
+   */
+  public void release(byte[] b) {
+    if (b == null || b.length > maxSize || b.length < MIN_SIZE || Integer.bitCount(b.length) != 1) {
+      return;
+    }
+    int c = sizeClass(b.length);
+    if (counts[c].incrementAndGet() <= maxPerClass) {
+      classes[c].offer(b);
+    }
+    else {
+      counts[c].decrementAndGet();
+    }
+  }
+
+  /**
+   * @return how many requests were satisfied from the pool
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return how many requests needed a new array
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  // Index of the smallest class holding the given size
+  private static int sizeClass(int size) {
+    if (size <= MIN_SIZE) {
+      return 0;
+    }
+    return 32 - Integer.numberOfLeadingZeros(size - 1) - Integer.numberOfTrailingZeros(MIN_SIZE);
+  }
+
+  private static int roundUp(int size) {
+    int r = Integer.highestOneBit(size);
+    return (r == size) ? size : r << 1;
+  }
+}
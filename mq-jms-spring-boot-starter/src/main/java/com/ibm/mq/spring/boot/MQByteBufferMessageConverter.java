@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.jms.core.MessageCreator;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * A MessageConverter that handles BytesMessage bodies with arrays from an {@link MQByteArrayPool}.
+ * <p>
+ * A ByteBuffer is sent as a BytesMessage. A heap buffer is written directly from its backing array;
+ * a direct buffer is copied through a pooled array. The buffer's position is not changed. Other types
+ * are handled by the delegate converter, which defaults to a SimpleMessageConverter.
+ * <p>
+ * Received messages are converted by the delegate, so a BytesMessage gives a byte[] as usual. The
+ * MessageConverter interface has no way to ask for another type, so a pooled body is only returned
+ * when it is asked for explicitly, with {@link #fromMessage(Message, Class)} and
+ * {@code MQPooledPayload.class}, or with {@link #readPayload(BytesMessage)}. The application must close
+ * an {@link MQPooledPayload} when it has finished with the body so that the array can be reused.
+ */
+public class MQByteBufferMessageConverter implements MessageConverter {
+
+  private final MQByteArrayPool pool;
+  private final MessageConverter delegate;
+
+  public MQByteBufferMessageConverter(MQByteArrayPool pool) {
+    this(pool, new SimpleMessageConverter());
+  }
+
+  public MQByteBufferMessageConverter(MQByteArrayPool pool, MessageConverter delegate) {
+    this.pool = pool;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Message toMessage(Object object, Session session) throws JMSException, MessageConversionException {
+    if (object instanceof ByteBuffer) {
+      return createBytesMessage(session, (ByteBuffer) object);
+    }
+    return delegate.toMessage(object, session);
+  }
+
+  @Override
+  public Object fromMessage(Message message) throws JMSException, MessageConversionException {
+    return delegate.fromMessage(message);
+  }
+
+  /**
+   * Convert a message, reading a BytesMessage into a pooled array if the caller asks for an
+   * {@link MQPooledPayload}. For example
+   * {@code converter.fromMessage(jmsTemplate.receive("DEV.QUEUE.1"), MQPooledPayload.class)}.
+   *
+   * @param message    - the received message
+   * @param targetType - the type the caller wants
+   * @return an MQPooledPayload, which the caller must close, if targetType is MQPooledPayload and the
+   *         message is a BytesMessage. Otherwise the result of {@link #fromMessage(Message)}
+   */
+  public Object fromMessage(Message message, Class<?> targetType) throws JMSException, MessageConversionException {
+    if (targetType == MQPooledPayload.class && message instanceof BytesMessage) {
+      return readPayload((BytesMessage) message);
+    }
+    return fromMessage(message);
+  }
+
+  /**
+   * @param session - the session to create the message with
+   * @param body    - the bytes between the position and limit of the buffer are sent
+   * @return a BytesMessage holding the body
+   */
+  public BytesMessage createBytesMessage(Session session, ByteBuffer body) throws JMSException {
+    BytesMessage m = session.createBytesMessage();
+    writeBytes(m, body);
+    return m;
+  }
+
+  /**
+   * @return a MessageCreator for use with JmsTemplate.send that sends the buffer as a BytesMessage
+   */
+  public MessageCreator messageCreator(ByteBuffer body) {
+    return session -> createBytesMessage(session, body);
+  }
+
+  /**
+   * Append the contents of a buffer to a message, without changing the buffer's position.
+   */
+  public void writeBytes(BytesMessage m, ByteBuffer body) throws JMSException {
+    if (body.hasArray()) {
+      m.writeBytes(body.array(), body.arrayOffset() + body.position(), body.remaining());
+      return;
+    }
+    ByteBuffer b = body.duplicate();
+    byte[] chunk = pool.acquire(Math.min(b.remaining(), MQByteArrayPool.MIN_SIZE * 64));
+    try {
+      while (b.hasRemaining()) {
+        int n = Math.min(chunk.length, b.remaining());
+        b.get(chunk, 0, n);
+        m.writeBytes(chunk, 0, n);
+      }
+    }
+    finally {
+      pool.release(chunk);
+    }
+  }
+
+  /**
+   * Read the body of a message into a pooled array.
+   */
+  public MQPooledPayload readPayload(BytesMessage m) throws JMSException {
+    long length = m.getBodyLength();
+    if (length > Integer.MAX_VALUE) {
+      throw new MessageConversionException("Message body of " + length + " bytes is too large");
+    }
+    byte[] data = pool.acquire((int) length);
+    int n = (length > 0) ? m.readBytes(data, (int) length) : 0;
+    return new MQPooledPayload(pool, data, Math.max(n, 0));
+  }
+}
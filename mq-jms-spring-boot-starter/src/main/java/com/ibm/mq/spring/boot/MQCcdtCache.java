@@ -0,0 +1,354 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+
+import jakarta.jms.JMSException;
+
+/**
+ * Keeps a local copy of a CCDT that is published on an HTTP or HTTPS server.
+ * <p>
+ * Without the cache, the MQ client downloads the CCDT each time it creates a connection, so a burst of
+ * reconnections becomes a burst of requests to the CCDT server. Here the CCDT is downloaded once, written to
+ * a local file, and the connection factory is pointed at that file. The copy is checked in the background
+ * with a conditional request (If-None-Match and If-Modified-Since), so an unchanged CCDT costs a "304 Not
+ * Modified" response. If the server cannot be reached, the existing copy continues to be used.
+ * <p>
+ * The local copy decides which queue managers the application connects to. Its directory is created so that only
+ * the application's user can use it, and a directory or file that belongs to another user is not trusted.
+ * <p>
+ * As an {@link MQConnectionFactoryCustomizer}, the cache replaces the CCDT URL of any connection factory
+ * configured with the same remote URL.
+ */
+public class MQCcdtCache implements MQConnectionFactoryCustomizer {
+  private static Logger logger = LoggerFactory.getLogger(MQCcdtCache.class);
+
+  private final String url;
+  private final Path file;
+  private final Duration timeout;
+
+  private SSLSocketFactory sslSocketFactory;
+  private HostnameVerifier hostnameVerifier;
+  private Runnable changeListener;
+
+  private String etag;
+  private String lastModified;
+  private boolean downloaded = false;
+
+  private long downloads = 0;
+  private long notModified = 0;
+  private long failures = 0;
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * @param url     - the HTTP or HTTPS location of the CCDT
+   * @param file    - where the local copy is kept. A copy left by an earlier run is used if the server cannot be reached
+   * @param timeout - connect and read timeout for each request
+   */
+  public MQCcdtCache(String url, Path file, Duration timeout) {
+    this.url = url;
+    this.file = file;
+    this.timeout = timeout;
+  }
+
+  /**
+   * @return true if the CCDT URL is one that this class can cache
+   */
+  public static boolean isRemote(String url) {
+    if (U.isNullOrEmpty(url)) {
+      return false;
+    }
+    String u = url.toLowerCase();
+    return u.startsWith("http://") || u.startsWith("https://");
+  }
+
+  /**
+   * @param sslSocketFactory - used for HTTPS requests. Null for the JVM default
+   */
+  public void setSslSocketFactory(SSLSocketFactory sslSocketFactory) {
+    this.sslSocketFactory = sslSocketFactory;
+  }
+
+  /**
+   * @param hostnameVerifier - used for HTTPS requests. Null for the JVM default
+   */
+  public void setHostnameVerifier(HostnameVerifier hostnameVerifier) {
+    this.hostnameVerifier = hostnameVerifier;
+  }
+
+  /**
+   * @param changeListener - called after a background check has downloaded a changed CCDT
+   */
+  public void setChangeListener(Runnable changeListener) {
+    this.changeListener = changeListener;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * @return the URL of the local copy, in the form used for the connection factory's CCDT URL
+   */
+  public String getLocalUrl() {
+    return file.toUri().toString();
+  }
+
+  public synchronized long getDownloads() {
+    return downloads;
+  }
+
+  public synchronized long getNotModified() {
+    return notModified;
+  }
+
+  public synchronized long getFailures() {
+    return failures;
+  }
+
+  /**
+   * Make sure there is a local copy before any connection factory is configured. A copy left by an
+   * earlier run is used if the server cannot be reached.
+   *
+   * @throws IllegalStateException if the CCDT cannot be downloaded and there is no local copy, or if the
+   *                               directory or the copy belongs to another user
+   */
+  public void load() {
+    try {
+      checkDirectory();
+    }
+    catch (IOException e) {
+      throw new IllegalStateException("Unable to use " + file.toAbsolutePath().getParent() + " for the CCDT: " + e.getMessage(), e);
+    }
+
+    try {
+      refresh();
+    }
+    catch (IOException e) {
+      if (!Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+        throw new IllegalStateException("Unable to download CCDT from " + url, e);
+      }
+      try {
+        checkOwner(file);
+      }
+      catch (IOException o) {
+        throw new IllegalStateException("Unable to download CCDT from " + url + ", and the existing copy is not trusted: " + o.getMessage(), e);
+      }
+      logger.warn("Unable to download CCDT from {}. Using the existing copy in {}: {}", url, file, e.getMessage());
+    }
+  }
+
+  /**
+   * Check the server for a new version of the CCDT.
+   *
+   * @return true if a new copy was downloaded
+   * @throws IOException if the server cannot be reached or reports an error
+   */
+  public synchronized boolean refresh() throws IOException {
+    HttpURLConnection c;
+    try {
+      c = (HttpURLConnection) URI.create(url).toURL().openConnection();
+    }
+    catch (IllegalArgumentException | MalformedURLException | ClassCastException e) {
+      throw new IOException("Invalid CCDT URL " + url, e);
+    }
+
+    try {
+      if (c instanceof HttpsURLConnection) {
+        HttpsURLConnection s = (HttpsURLConnection) c;
+        if (sslSocketFactory != null) {
+          s.setSSLSocketFactory(sslSocketFactory);
+        }
+        if (hostnameVerifier != null) {
+          s.setHostnameVerifier(hostnameVerifier);
+        }
+      }
+      c.setConnectTimeout((int) timeout.toMillis());
+      c.setReadTimeout((int) timeout.toMillis());
+      c.setUseCaches(false);
+
+      // Validators are only sent when the local copy is known to match them
+      if (downloaded && Files.isRegularFile(file)) {
+        if (etag != null) {
+          c.setRequestProperty("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+          c.setRequestProperty("If-Modified-Since", lastModified);
+        }
+      }
+
+      int rc = c.getResponseCode();
+      if (rc == HttpURLConnection.HTTP_NOT_MODIFIED) {
+        notModified++;
+        logger.trace("CCDT at {} is not modified", url);
+        return false;
+      }
+      if (rc != HttpURLConnection.HTTP_OK) {
+        throw new IOException("CCDT request to " + url + " returned HTTP " + rc);
+      }
+
+      // Written to a temporary file first so that a client never reads a partial CCDT
+      checkDirectory();
+      Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+      try (InputStream in = c.getInputStream()) {
+        Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      finally {
+        Files.deleteIfExists(tmp);
+      }
+
+      etag = c.getHeaderField("ETag");
+      lastModified = c.getHeaderField("Last-Modified");
+      downloaded = true;
+      downloads++;
+      logger.trace("Downloaded CCDT from {} to {}", url, file);
+      return true;
+    }
+    catch (IOException e) {
+      failures++;
+      throw e;
+    }
+    finally {
+      c.disconnect();
+    }
+  }
+
+  // Creates the directory for the owner only. An existing directory must belong to this user, and on
+  // POSIX systems must not be writable by anyone else, so the copy cannot be replaced behind our back.
+  void checkDirectory() throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    boolean posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+    if (Files.notExists(directory, LinkOption.NOFOLLOW_LINKS)) {
+      if (posix) {
+        Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+      }
+      else {
+        Files.createDirectories(directory);
+      }
+    }
+    checkOwner(directory);
+    if (posix) {
+      Set<PosixFilePermission> p = Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS);
+      if (p.contains(PosixFilePermission.GROUP_WRITE) || p.contains(PosixFilePermission.OTHERS_WRITE)) {
+        throw new IOException(directory + " can be written by other users");
+      }
+    }
+  }
+
+  private static void checkOwner(Path path) throws IOException {
+    UserPrincipal owner = Files.getOwner(path, LinkOption.NOFOLLOW_LINKS);
+    UserPrincipal user = path.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+    if (!owner.equals(user)) {
+      throw new IOException(path + " belongs to " + owner.getName() + ", not " + user.getName());
+    }
+  }
+
+  /**
+   * Start checking the server in the background.
+   *
+   * @param interval - time between checks. Null or zero means no background checks
+   */
+  public synchronized void start(Duration interval) {
+    if (interval == null || interval.isZero() || interval.isNegative() || scheduler != null) {
+      return;
+    }
+    logger.trace("Checking CCDT at {} every {}", url, interval);
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "mq-ccdt");
+      t.setDaemon(true);
+      return t;
+    });
+    scheduler.scheduleWithFixedDelay(this::check, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  void check() {
+    try {
+      if (refresh()) {
+        logger.info("CCDT at {} has changed", url);
+        Runnable l = changeListener;
+        if (l != null) {
+          l.run();
+        }
+      }
+    }
+    catch (IOException e) {
+      logger.warn("Unable to check CCDT at {}. Continuing with the existing copy: {}", url, e.getMessage());
+    }
+  }
+
+  @Override
+  public void customize(MQConnectionFactory factory) {
+    URL ccdt = factory.getCCDTURL();
+    if (!isRemote(url) || ccdt == null) {
+      return;
+    }
+    try {
+      // Compared in the same form as the factory holds it
+      if (!URI.create(url).toURL().toExternalForm().equals(ccdt.toExternalForm())) {
+        // For example after a reload has changed ibm.mq.ccdtUrl. The cache keeps the URL it was created with.
+        if (isRemote(ccdt.toExternalForm())) {
+          logger.warn("CCDT {} is not cached, so the MQ client downloads it for each connection. Only {} is cached until the application restarts", ccdt, url);
+        }
+        return;
+      }
+      factory.setStringProperty(WMQConstants.WMQ_CCDTURL, getLocalUrl());
+      logger.trace("Connection factory uses local CCDT {}", getLocalUrl());
+    }
+    catch (JMSException | IllegalArgumentException | MalformedURLException e) {
+      logger.warn("Unable to use local CCDT {}: {}", getLocalUrl(), e.getMessage());
+    }
+  }
+}
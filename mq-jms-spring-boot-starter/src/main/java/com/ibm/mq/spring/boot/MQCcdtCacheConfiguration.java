@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+
+import javax.net.ssl.SSLContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ibm.mq.constants.MQConstants;
+
+/**
+ * Creates the {@link MQCcdtCache} when the CCDT is downloaded from an HTTP or HTTPS server. The cache
+ * is an MQConnectionFactoryCustomizer, so every connection factory built from the same "ccdtUrl" uses
+ * the local copy.
+ */
+@Configuration(proxyBeanMethods = false)
+class MQCcdtCacheConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQCcdtCacheConfiguration.class);
+
+  @Bean(destroyMethod = "stop")
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "ibm.mq.ccdtCache", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQCcdtCache mqCcdtCache(MQConfigurationProperties properties, ObjectProvider<SslBundles> sslBundles) {
+    MQConfigurationPropertiesCcdtCache options = properties.getCcdtCache();
+    String url = properties.getCcdtUrl();
+
+    MQCcdtCache cache = new MQCcdtCache(url, localFile(options, url), options.getTimeout());
+    if (!MQCcdtCache.isRemote(url)) {
+      logger.warn("CCDT cache is only used when ibm.mq.ccdtUrl is an http or https location");
+      return cache;
+    }
+
+    logger.trace("Creating CCDT cache for {} in {}", url, cache.getFile());
+    configureHttps(cache, properties, sslBundles.getIfAvailable());
+    cache.load();
+    cache.start(options.getRefreshInterval());
+    return cache;
+  }
+
+  // The file name includes a hash of the URL, so that a copy left by an earlier run is only used for the same URL.
+  // The default directory is named for the user, as several users may share java.io.tmpdir.
+  private static Path localFile(MQConfigurationPropertiesCcdtCache options, String url) {
+    Path directory = U.isNotNullOrEmpty(options.getDirectory()) ? Paths.get(options.getDirectory())
+        : Paths.get(System.getProperty("java.io.tmpdir"), "mq-ccdt-" + System.getProperty("user.name").replaceAll("[^A-Za-z0-9._-]", "_"));
+    String name = "ccdt-" + Integer.toHexString((url == null) ? 0 : url.hashCode());
+    if (url != null) {
+      String last = url.replaceAll("[?#].*$", "").replaceAll("^.*/", "");
+      if (last.matches("[A-Za-z0-9._-]+")) {
+        name += "-" + last;
+      }
+    }
+    return directory.resolve(name);
+  }
+
+  // Follows the same rules as the MQ client does for its own HTTPS download of the CCDT
+  private static void configureHttps(MQCcdtCache cache, MQConfigurationProperties properties, SslBundles sslBundles) {
+    SslBundle bundle = (sslBundles != null && U.isNotNullOrEmpty(properties.getCcdtSslBundle())) ? sslBundles.getBundle(properties.getCcdtSslBundle()) : null;
+    int policy = MQConnectionFactoryFactory.getHttpsCertValPolVal(properties.getCcdtHttpsCertValPolicy());
+
+    if (policy == MQConstants.MQ_HTTPSCERTVAL_NONE) {
+      try {
+        SSLContext sc = SSLContext.getInstance((bundle != null) ? bundle.getProtocol() : "TLS");
+        sc.init((bundle != null) ? bundle.getManagers().getKeyManagers() : null, MQConnectionFactoryFactory.trustAllCerts, null);
+        cache.setSslSocketFactory(sc.getSocketFactory());
+      }
+      catch (NoSuchAlgorithmException | KeyManagementException e) {
+        throw new IllegalStateException("Unable to create the SSL context for the CCDT download", e);
+      }
+    }
+    else if (bundle != null) {
+      cache.setSslSocketFactory(bundle.createSslContext().getSocketFactory());
+    }
+
+    if (policy == MQConstants.MQ_HTTPSCERTVAL_NONE || policy == MQConstants.MQ_HTTPSCERTVAL_ANY) {
+      cache.setHostnameVerifier((host, session) -> true);
+    }
+  }
+}
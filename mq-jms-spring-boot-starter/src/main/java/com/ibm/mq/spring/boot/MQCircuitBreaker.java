@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.constants.CMQC;
+
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSException;
+
+/**
+ * Tracks whether the queue manager can currently be reached, so that senders can fail fast instead of
+ * blocking while the MQ client reconnects.
+ * <p>
+ * The breaker is registered as an ExceptionListener on the connections. The MQ client reports
+ * MQRC_RECONNECTING when automatic reconnection starts, which opens the breaker, and MQRC_RECONNECTED
+ * when it completes, which closes it. Failures reported by senders through {@link #recordFailure} also
+ * open the breaker once {@code failureThreshold} consecutive connection-related failures have been seen.
+ * When the breaker has been open for {@code retryInterval} a single trial request is allowed through
+ * (HALF_OPEN); its outcome closes or re-opens the breaker. A trial that ends without a result, for
+ * example because the message could not be built, must be handed back with {@link #releaseTrial()}.
+ * <p>
+ * Spring's CachingConnectionFactory drops its connection as soon as any exception is reported on it.
+ * The MQ client's own reconnection is then abandoned and MQRC_RECONNECTED is never reported, so the
+ * breaker closes only after a successful trial request.
+ */
+public class MQCircuitBreaker implements ExceptionListener {
+  private static Logger logger = LoggerFactory.getLogger(MQCircuitBreaker.class);
+
+  public enum State { CLOSED, OPEN, HALF_OPEN }
+
+  // Reason codes that mean the queue manager cannot be used at the moment, rather than a problem with
+  // one particular request
+  private static final int[] CONNECTION_REASONS = {
+      CMQC.MQRC_CONNECTION_BROKEN,
+      CMQC.MQRC_Q_MGR_NOT_AVAILABLE,
+      CMQC.MQRC_Q_MGR_QUIESCING,
+      CMQC.MQRC_Q_MGR_STOPPING,
+      CMQC.MQRC_CONNECTION_QUIESCING,
+      CMQC.MQRC_CONNECTION_STOPPING,
+      CMQC.MQRC_HOST_NOT_AVAILABLE,
+      CMQC.MQRC_RECONNECTING,
+      CMQC.MQRC_RECONNECT_FAILED,
+      CMQC.MQRC_RECONNECT_TIMED_OUT
+  };
+
+  private final int failureThreshold;
+  private final long retryIntervalNanos;
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long openedAt = 0;
+
+  private final LongAdder opened = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+
+  private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * @param failureThreshold - consecutive connection failures reported by senders that open the breaker
+   * @param retryInterval    - how long the breaker stays open before allowing a trial request
+   */
+  public MQCircuitBreaker(int failureThreshold, Duration retryInterval) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.retryIntervalNanos = (retryInterval != null) ? retryInterval.toNanos() : 0;
+  }
+
+  /**
+   * Register for notification of state changes. The callback runs on the thread that caused the change,
+   * which may be an MQ client thread, so it should not block.
+   */
+  public void addListener(Consumer<State> listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * @return true if a request can go ahead. When false, the request should not be attempted.
+   */
+  public boolean allowRequest() {
+    State s = state.get();
+    if (s == State.CLOSED) {
+      return true;
+    }
+    if (s == State.OPEN && System.nanoTime() - openedAt >= retryIntervalNanos && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+      logger.trace("Allowing a trial request");
+      notifyListeners(State.HALF_OPEN);
+      return true;
+    }
+    rejected.increment();
+    return false;
+  }
+
+  /**
+   * Report that a trial request allowed by {@link #allowRequest()} ended without showing whether the
+   * queue manager can be reached. The breaker goes back to OPEN, and the next request is a new trial.
+   */
+  public void releaseTrial() {
+    if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+      logger.trace("Trial request released");
+      notifyListeners(State.OPEN);
+    }
+  }
+
+  public void recordSuccess() {
+    consecutiveFailures.set(0);
+    close();
+  }
+
+  /**
+   * Report a failed request. Failures that are not connection-related, for example an unknown queue,
+   * do not affect the breaker.
+   */
+  public void recordFailure(Throwable t) {
+    if (!isConnectionFailure(t)) {
+      if (state.get() == State.HALF_OPEN) {
+        // The queue manager answered, so the connection is usable
+        close();
+      }
+      return;
+    }
+    if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+      open(t.getMessage());
+    }
+  }
+
+  @Override
+  public void onException(JMSException e) {
+    int reason = reasonCode(e);
+    logger.trace("Exception notification with reason {}", reason);
+    if (reason == CMQC.MQRC_RECONNECTED) {
+      consecutiveFailures.set(0);
+      close();
+    }
+    else if (isConnectionReason(reason)) {
+      open("reason code " + reason);
+    }
+  }
+
+  private void open(String why) {
+    State previous = state.getAndSet(State.OPEN);
+    openedAt = System.nanoTime();
+    if (previous != State.OPEN) {
+      opened.increment();
+      logger.warn("Circuit breaker opened: {}", why);
+      notifyListeners(State.OPEN);
+    }
+  }
+
+  private void close() {
+    State previous = state.getAndSet(State.CLOSED);
+    if (previous != State.CLOSED) {
+      logger.info("Circuit breaker closed");
+      notifyListeners(State.CLOSED);
+    }
+  }
+
+  private void notifyListeners(State s) {
+    for (Consumer<State> l : listeners) {
+      try {
+        l.accept(s);
+      }
+      catch (RuntimeException e) {
+        logger.warn("Circuit breaker listener failed: {}", e.getMessage());
+      }
+    }
+  }
+
+  public State getState() {
+    return state.get();
+  }
+
+  public Duration getRetryInterval() {
+    return Duration.ofNanos(retryIntervalNanos);
+  }
+
+  /**
+   * @return how many times the breaker has opened
+   */
+  public long getOpenCount() {
+    return opened.sum();
+  }
+
+  /**
+   * @return how many requests have been refused while the breaker was open
+   */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  /**
+   * @return true if the exception, or one of its causes, carries a reason code meaning the
+   *         queue manager cannot be reached
+   */
+  public static boolean isConnectionFailure(Throwable t) {
+    return isConnectionReason(reasonCode(t));
+  }
+
+  private static boolean isConnectionReason(int reason) {
+    for (int r : CONNECTION_REASONS) {
+      if (r == reason) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // The MQ reason code is in a linked MQException, which may be some way down the chain
+  static int reasonCode(Throwable t) {
+    for (int depth = 0; t != null && depth < 10; depth++) {
+      if (t instanceof MQException) {
+        return ((MQException) t).reasonCode;
+      }
+      Throwable next = (t instanceof JMSException) ? ((JMSException) t).getLinkedException() : null;
+      t = (next != null) ? next : t.getCause();
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.jms.JmsProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.core.JmsOperations;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.destination.DestinationResolver;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Creates the producer circuit breaker and a JmsTemplate that uses it. The template replaces the
+ * Spring Boot default, and is configured from the same "spring.jms.template" options. If the outbox
+ * is also enabled, its journal is created here and attached to the template.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "ibm.mq.circuitBreaker", name = "enabled", havingValue = "true", matchIfMissing = false)
+class MQCircuitBreakerConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQCircuitBreakerConfiguration.class);
+
+  @Bean
+  @ConditionalOnMissingBean
+  public MQCircuitBreaker mqCircuitBreaker(MQConfigurationProperties properties) {
+    MQConfigurationPropertiesCircuitBreaker cb = properties.getCircuitBreaker();
+    return new MQCircuitBreaker(cb.getFailureThreshold(), cb.getRetryInterval());
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "ibm.mq.outbox", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQOutboxJournal mqOutboxJournal(MQConfigurationProperties properties) throws IOException {
+    MQConfigurationPropertiesOutbox o = properties.getOutbox();
+    logger.trace("Creating outbox journal in {}", o.getDirectory());
+    return new MQOutboxJournal(Paths.get(o.getDirectory()), (int) o.getSegmentSize().toBytes(), o.getMaxSize().toBytes(),
+        o.getSyncPolicy(), o.getSyncInterval().toMillis());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(JmsOperations.class)
+  @ConditionalOnSingleCandidate(ConnectionFactory.class)
+  public MQCircuitBreakerJmsTemplate jmsTemplate(ConnectionFactory connectionFactory,
+      MQCircuitBreaker breaker,
+      MQConfigurationProperties properties,
+      JmsProperties jmsProperties,
+      ObjectProvider<DestinationResolver> destinationResolver,
+      ObjectProvider<MessageConverter> messageConverter,
+      ObjectProvider<MQOutboxJournal> outboxJournal) {
+
+    logger.trace("Creating circuit breaker JmsTemplate");
+    MQConfigurationPropertiesCircuitBreaker cb = properties.getCircuitBreaker();
+    MQCircuitBreakerJmsTemplate template = new MQCircuitBreakerJmsTemplate(connectionFactory, breaker, cb.getBufferSize(), cb.getOverflowPolicy());
+
+    // Apply the same options as the Spring Boot JmsTemplate
+    JmsProperties.Template t = jmsProperties.getTemplate();
+    template.setPubSubDomain(jmsProperties.isPubSubDomain());
+    destinationResolver.ifUnique(template::setDestinationResolver);
+    messageConverter.ifUnique(template::setMessageConverter);
+    if (t.getDefaultDestination() != null) {
+      template.setDefaultDestinationName(t.getDefaultDestination());
+    }
+    if (t.getDeliveryDelay() != null) {
+      template.setDeliveryDelay(t.getDeliveryDelay().toMillis());
+    }
+    template.setExplicitQosEnabled(t.determineQosEnabled());
+    if (t.getDeliveryMode() != null) {
+      template.setDeliveryMode(t.getDeliveryMode().getValue());
+    }
+    if (t.getPriority() != null) {
+      template.setPriority(t.getPriority());
+    }
+    if (t.getTimeToLive() != null) {
+      template.setTimeToLive(t.getTimeToLive().toMillis());
+    }
+    if (t.getReceiveTimeout() != null) {
+      template.setReceiveTimeout(t.getReceiveTimeout().toMillis());
+    }
+    // NOTBOOT2 START
+    template.setSessionTransacted(t.getSession().isTransacted());
+    template.setSessionAcknowledgeMode(t.getSession().getAcknowledgeMode().getMode());
+    // NOTBOOT2 END
+    outboxJournal.ifUnique(template::enableOutbox);
+    return template;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.QueueConnection;
+import jakarta.jms.TopicConnection;
+
+/**
+ * Wraps a connection factory so that an {@link MQCircuitBreaker} hears about the exceptions reported
+ * on every connection it creates. The caching and pooling factories set their own ExceptionListener
+ * on the connections; that listener is still called, alongside the breaker.
+ * <p>
+ * JMSContext objects are passed through unchanged.
+ */
+public class MQCircuitBreakerConnectionFactory implements ConnectionFactory {
+
+  private final ConnectionFactory target;
+  private final MQCircuitBreaker breaker;
+
+  public MQCircuitBreakerConnectionFactory(ConnectionFactory target, MQCircuitBreaker breaker) {
+    this.target = target;
+    this.breaker = breaker;
+  }
+
+  public ConnectionFactory getTargetConnectionFactory() {
+    return target;
+  }
+
+  @Override
+  public Connection createConnection() throws JMSException {
+    return wrap(target.createConnection());
+  }
+
+  @Override
+  public Connection createConnection(String userName, String password) throws JMSException {
+    return wrap(target.createConnection(userName, password));
+  }
+
+  @Override
+  public JMSContext createContext() {
+    return target.createContext();
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password) {
+    return target.createContext(userName, password);
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password, int sessionMode) {
+    return target.createContext(userName, password, sessionMode);
+  }
+
+  @Override
+  public JMSContext createContext(int sessionMode) {
+    return target.createContext(sessionMode);
+  }
+
+  private Connection wrap(Connection connection) throws JMSException {
+    connection.setExceptionListener(breaker);
+
+    List<Class<?>> interfaces = new ArrayList<>();
+    interfaces.add(Connection.class);
+    if (connection instanceof QueueConnection) {
+      interfaces.add(QueueConnection.class);
+    }
+    if (connection instanceof TopicConnection) {
+      interfaces.add(TopicConnection.class);
+    }
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+        new ConnectionHandler(connection));
+  }
+
+  private class ConnectionHandler implements InvocationHandler {
+    private final Connection connection;
+    private volatile ExceptionListener applicationListener = null;
+
+    ConnectionHandler(Connection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+      case "setExceptionListener":
+        ExceptionListener l = (ExceptionListener) args[0];
+        applicationListener = l;
+        connection.setExceptionListener((l == null) ? breaker : e -> {
+          breaker.onException(e);
+          l.onException(e);
+        });
+        return null;
+      case "getExceptionListener":
+        return applicationListener;
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "MQCircuitBreaker proxy for " + connection;
+      default:
+        try {
+          return method.invoke(connection, args);
+        }
+        catch (InvocationTargetException e) {
+          throw e.getTargetException();
+        }
+      }
+    }
+  }
+}
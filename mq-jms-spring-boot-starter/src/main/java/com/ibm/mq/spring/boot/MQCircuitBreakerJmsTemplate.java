@@ -0,0 +1,397 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jms.JmsException;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessageCreator;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+
+/**
+ * A JmsTemplate whose send operations consult an {@link MQCircuitBreaker}. While the breaker is open,
+ * which usually means the MQ client is reconnecting, a send does not wait for the connection. Instead it
+ * either fails with {@link MQCircuitBreakerOpenException} or, if a buffer has been configured, is held in
+ * memory and sent once the breaker closes. All of the send and convertAndSend methods are covered;
+ * receive and request/reply operations are not.
+ * <p>
+ * Buffered messages are only held in memory, and are lost if the application stops before they are sent.
+ * They are also not ordered with respect to new messages sent while the buffer is being emptied. A send
+ * inside a transaction is never buffered, as it would then not be part of the transaction. While messages
+ * are buffered, the template itself sends the oldest one as the breaker's trial request every
+ * {@code retryInterval}, so the buffer is emptied even when the application sends nothing more.
+ * <p>
+ * An {@link MQOutbox} can be added with {@link #enableOutbox(MQOutboxJournal)}. String and byte[] bodies
+ * given to {@code convertAndSend} are then written to the local journal instead of the memory buffer,
+ * so they survive a restart of the application. Once the outbox holds any messages, new ones are also
+ * written to it until it is empty, so that they are sent in order.
+ */
+public class MQCircuitBreakerJmsTemplate extends JmsTemplate implements DisposableBean {
+  private static Logger logger = LoggerFactory.getLogger(MQCircuitBreakerJmsTemplate.class);
+
+  // Stops a breaker with no retry interval from being tried continuously
+  private static final long MIN_TRIAL_INTERVAL_MS = 1000;
+
+  /**
+   * What to do with a send when the buffer is full.
+   */
+  public enum OverflowPolicy {
+    /** Throw MQCircuitBreakerOpenException */
+    FAIL,
+    /** Discard the oldest buffered message to make room */
+    DROP_OLDEST,
+    /** Discard the new message */
+    DROP_NEWEST
+  }
+
+  private static final class PendingSend {
+    final Destination destination;
+    final String destinationName;
+    final MessageCreator messageCreator;
+
+    PendingSend(Destination destination, String destinationName, MessageCreator messageCreator) {
+      this.destination = destination;
+      this.destinationName = destinationName;
+      this.messageCreator = messageCreator;
+    }
+  }
+
+  private final MQCircuitBreaker breaker;
+  private final BlockingDeque<PendingSend> buffer;
+  private final OverflowPolicy overflowPolicy;
+  private final ScheduledExecutorService drainer;
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  private final AtomicBoolean trialScheduled = new AtomicBoolean(false);
+
+  private final LongAdder buffered = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+
+  private MQOutbox outbox = null;
+
+  /**
+   * @param connectionFactory - the connection factory
+   * @param breaker           - the breaker to consult before each send
+   * @param bufferSize        - how many messages to hold while the breaker is open. 0 means sends fail immediately
+   * @param overflowPolicy    - what to do when the buffer is full
+   */
+  public MQCircuitBreakerJmsTemplate(ConnectionFactory connectionFactory, MQCircuitBreaker breaker, int bufferSize, OverflowPolicy overflowPolicy) {
+    super(connectionFactory);
+    this.breaker = breaker;
+    this.overflowPolicy = (overflowPolicy != null) ? overflowPolicy : OverflowPolicy.FAIL;
+    if (bufferSize > 0) {
+      this.buffer = new LinkedBlockingDeque<>(bufferSize);
+      this.drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "mq-circuit-breaker-drain");
+        t.setDaemon(true);
+        return t;
+      });
+      breaker.addListener(s -> {
+        if (s == MQCircuitBreaker.State.CLOSED) {
+          scheduleDrain();
+        }
+        else if (s == MQCircuitBreaker.State.OPEN) {
+          scheduleTrial();
+        }
+      });
+    }
+    else {
+      this.buffer = null;
+      this.drainer = null;
+    }
+  }
+
+  /**
+   * Hold String and byte[] messages in a local journal while the breaker is not closed. The
+   * journal is not closed by this template.
+   *
+   * @param journal - where to hold the messages
+   */
+  public synchronized void enableOutbox(MQOutboxJournal journal) {
+    if (outbox != null) {
+      throw new IllegalStateException("An outbox is already enabled");
+    }
+    // The outbox does its own accounting with the breaker, so it goes straight to the JmsTemplate
+    outbox = new MQOutbox(journal, breaker, (destinationName, body) -> sendNow(new PendingSend(null, destinationName, session -> {
+      MessageConverter converter = getMessageConverter();
+      if (converter == null) {
+        throw new IllegalStateException("No 'messageConverter' specified");
+      }
+      return converter.toMessage(body, session);
+    })));
+    outbox.start();
+  }
+
+  public MQOutbox getOutbox() {
+    return outbox;
+  }
+
+  @Override
+  public void convertAndSend(Object message) throws JmsException {
+    String destinationName = getDefaultDestinationName();
+    if (getDefaultDestination() == null && destinationName != null && offerToOutbox(destinationName, message)) {
+      return;
+    }
+    super.convertAndSend(message);
+  }
+
+  @Override
+  public void convertAndSend(String destinationName, Object message) throws JmsException {
+    if (offerToOutbox(destinationName, message)) {
+      return;
+    }
+    super.convertAndSend(destinationName, message);
+  }
+
+  // Returns true if the message has been taken by the outbox
+  private boolean offerToOutbox(String destinationName, Object message) {
+    MQOutbox o = outbox;
+    if (o == null || !MQOutbox.isSupported(message) || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return false;
+    }
+    if (breaker.getState() == MQCircuitBreaker.State.CLOSED && !o.hasPending()) {
+      return false;
+    }
+    if (!o.offer(destinationName, message)) {
+      throw new MQCircuitBreakerOpenException("The connection to the queue manager is not available and the outbox is full");
+    }
+    return true;
+  }
+
+  @Override
+  public void send(Destination destination, MessageCreator messageCreator) throws JmsException {
+    guardedSend(new PendingSend(destination, null, messageCreator));
+  }
+
+  @Override
+  public void send(String destinationName, MessageCreator messageCreator) throws JmsException {
+    guardedSend(new PendingSend(null, destinationName, messageCreator));
+  }
+
+  private void guardedSend(PendingSend p) {
+    if (!breaker.allowRequest()) {
+      reject(p);
+      return;
+    }
+    boolean reported = false;
+    try {
+      sendNow(p);
+      reported = true;
+      breaker.recordSuccess();
+    }
+    catch (JmsException e) {
+      reported = true;
+      breaker.recordFailure(e);
+      throw e;
+    }
+    finally {
+      // Something other than the send failed, such as building the message. If this was the
+      // trial request it says nothing about the connection, so let another request try.
+      if (!reported) {
+        breaker.releaseTrial();
+      }
+    }
+  }
+
+  private void sendNow(PendingSend p) {
+    if (p.destination != null) {
+      super.send(p.destination, p.messageCreator);
+    }
+    else {
+      super.send(p.destinationName, p.messageCreator);
+    }
+  }
+
+  private void reject(PendingSend p) {
+    if (buffer == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new MQCircuitBreakerOpenException("The connection to the queue manager is not available");
+    }
+
+    if (!buffer.offerLast(p)) {
+      switch (overflowPolicy) {
+      case DROP_NEWEST:
+        dropped.increment();
+        logger.warn("Circuit breaker buffer is full. Discarding new message");
+        return;
+      case DROP_OLDEST:
+        while (!buffer.offerLast(p)) {
+          if (buffer.pollFirst() != null) {
+            dropped.increment();
+            logger.warn("Circuit breaker buffer is full. Discarding oldest message");
+          }
+        }
+        break;
+      default:
+        throw new MQCircuitBreakerOpenException("The connection to the queue manager is not available and the buffer is full");
+      }
+    }
+    buffered.increment();
+
+    // The breaker may have closed between the check and adding to the buffer
+    if (breaker.getState() == MQCircuitBreaker.State.CLOSED) {
+      scheduleDrain();
+    }
+    else {
+      scheduleTrial();
+    }
+  }
+
+  private void scheduleDrain() {
+    if (buffer != null && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+      drainer.execute(this::drain);
+    }
+  }
+
+  // The breaker only leaves OPEN when a request is made, so while messages are waiting we make one
+  // ourselves rather than waiting for the application's next send
+  private void scheduleTrial() {
+    if (buffer != null && !buffer.isEmpty() && trialScheduled.compareAndSet(false, true)) {
+      long delay = Math.max(breaker.getRetryInterval().toMillis(), MIN_TRIAL_INTERVAL_MS);
+      try {
+        drainer.schedule(this::trial, delay, TimeUnit.MILLISECONDS);
+      }
+      catch (RuntimeException e) {
+        // The template is being destroyed
+        trialScheduled.set(false);
+      }
+    }
+  }
+
+  private void trial() {
+    trialScheduled.set(false);
+    if (breaker.getState() != MQCircuitBreaker.State.CLOSED && draining.compareAndSet(false, true)) {
+      try {
+        PendingSend p = buffer.peekFirst();
+        if (p != null && breaker.allowRequest()) {
+          logger.trace("Sending a buffered message as the trial request");
+          sendBuffered(p);
+        }
+      }
+      finally {
+        draining.set(false);
+      }
+    }
+    if (breaker.getState() == MQCircuitBreaker.State.CLOSED) {
+      scheduleDrain();
+    }
+    else {
+      scheduleTrial();
+    }
+  }
+
+  // Send the buffered messages in order, stopping if the connection fails again
+  private void drain() {
+    try {
+      logger.trace("Sending {} buffered messages", buffer.size());
+      PendingSend p;
+      while (breaker.getState() == MQCircuitBreaker.State.CLOSED && (p = buffer.peekFirst()) != null) {
+        if (!sendBuffered(p)) {
+          break;
+        }
+      }
+    }
+    finally {
+      draining.set(false);
+    }
+    // Catch anything added while we were finishing
+    if (breaker.getState() == MQCircuitBreaker.State.CLOSED) {
+      scheduleDrain();
+    }
+    else {
+      scheduleTrial();
+    }
+  }
+
+  // Returns false if the connection failed, leaving the message at the head of the buffer
+  private boolean sendBuffered(PendingSend p) {
+    try {
+      sendNow(p);
+      buffer.remove(p);
+      breaker.recordSuccess();
+      return true;
+    }
+    catch (JmsException e) {
+      breaker.recordFailure(e);
+      if (MQCircuitBreaker.isConnectionFailure(e)) {
+        return false;
+      }
+      // This message cannot be sent, regardless of the connection state
+      buffer.remove(p);
+      dropped.increment();
+      logger.warn("Discarding buffered message that could not be sent: {}", e.getMessage());
+      return true;
+    }
+    catch (RuntimeException e) {
+      // The message could not be built, which tells us nothing about the connection
+      breaker.releaseTrial();
+      buffer.remove(p);
+      dropped.increment();
+      logger.warn("Discarding buffered message that could not be sent: {}", e.getMessage());
+      return true;
+    }
+  }
+
+  /**
+   * @return the number of messages waiting to be sent
+   */
+  public int getBufferedCount() {
+    return (buffer != null) ? buffer.size() : 0;
+  }
+
+  /**
+   * @return the total number of messages that have been put in the buffer
+   */
+  public long getTotalBuffered() {
+    return buffered.sum();
+  }
+
+  /**
+   * @return the number of messages discarded because the buffer was full or they could not be sent
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  public MQCircuitBreaker getCircuitBreaker() {
+    return breaker;
+  }
+
+  @Override
+  public void destroy() {
+    if (outbox != null) {
+      outbox.stop();
+    }
+    if (drainer != null) {
+      drainer.shutdownNow();
+    }
+    int remaining = getBufferedCount();
+    if (remaining > 0) {
+      logger.warn("{} buffered messages were not sent", remaining);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.springframework.jms.JmsException;
+
+/**
+ * Thrown instead of attempting a send while the {@link MQCircuitBreaker} is open and the message
+ * cannot be buffered.
+ */
+public class MQCircuitBreakerOpenException extends JmsException {
+  private static final long serialVersionUID = 1L;
+
+  public MQCircuitBreakerOpenException(String msg) {
+    super(msg);
+  }
+}
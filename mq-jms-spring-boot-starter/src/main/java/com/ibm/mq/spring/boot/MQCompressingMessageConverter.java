@@ -0,0 +1,295 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageEOFException;
+import jakarta.jms.MessageNotWriteableException;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+/**
+ * A MessageConverter that compresses the body of large messages. The message is first built by a
+ * delegate converter. If it is a TextMessage or BytesMessage whose body is at least the threshold size,
+ * and compressing it makes it smaller, it is replaced by a BytesMessage holding the compressed body with
+ * the same properties. Two properties record the codec name and the original message type.
+ * <p>
+ * On receive, a message carrying those properties is decompressed and presented to the delegate as a
+ * message of its original type, so the delegate sees no difference. Messages without them, from
+ * senders that do not compress, are passed straight to the delegate.
+ */
+public class MQCompressingMessageConverter implements MessageConverter {
+  private static Logger logger = LoggerFactory.getLogger(MQCompressingMessageConverter.class);
+
+  /** Names the codec used for a compressed message */
+  public static final String CODEC_PROPERTY = "ibm_mq_compression";
+
+  /** Holds "text" or "bytes", the type of the message before it was compressed */
+  public static final String TYPE_PROPERTY = "ibm_mq_compressed_type";
+
+  private static final String TYPE_TEXT = "text";
+  private static final String TYPE_BYTES = "bytes";
+
+  /** The largest body a message is decompressed to, unless another limit is given. The largest MQ message is 100MB */
+  public static final int DEFAULT_MAX_DECOMPRESSED_SIZE = 100 * 1024 * 1024;
+
+  private final MessageConverter delegate;
+  private final MQCompressionCodec codec;
+  private final Map<String, MQCompressionCodec> codecs = new HashMap<>();
+  private final int threshold;
+  private final int maxDecompressedSize;
+  private final MQCompressionStatistics statistics;
+
+  /**
+   * @param delegate   - builds and reads the uncompressed messages
+   * @param codec      - used to compress outbound messages
+   * @param others     - additional codecs that may be used by senders. The built-in Deflate codec is always available
+   * @param threshold  - messages with smaller bodies are not compressed
+   * @param statistics - where to record activity. May be null
+   */
+  public MQCompressingMessageConverter(MessageConverter delegate, MQCompressionCodec codec, List<MQCompressionCodec> others,
+      int threshold, MQCompressionStatistics statistics) {
+    this(delegate, codec, others, threshold, DEFAULT_MAX_DECOMPRESSED_SIZE, statistics);
+  }
+
+  /**
+   * @param delegate            - builds and reads the uncompressed messages
+   * @param codec               - used to compress outbound messages
+   * @param others              - additional codecs that may be used by senders. The built-in Deflate codec is always available
+   * @param threshold           - messages with smaller bodies are not compressed
+   * @param maxDecompressedSize - received messages that decompress to more than this are rejected
+   * @param statistics          - where to record activity. May be null
+   */
+  public MQCompressingMessageConverter(MessageConverter delegate, MQCompressionCodec codec, List<MQCompressionCodec> others,
+      int threshold, int maxDecompressedSize, MQCompressionStatistics statistics) {
+    this.delegate = delegate;
+    this.codec = codec;
+    this.threshold = threshold;
+    this.maxDecompressedSize = maxDecompressedSize;
+    this.statistics = (statistics != null) ? statistics : new MQCompressionStatistics();
+    codecs.put(MQCompressionCodec.DEFLATE, MQCompressionCodec.deflate(-1));
+    if (others != null) {
+      others.forEach(c -> codecs.put(c.getName(), c));
+    }
+    codecs.put(codec.getName(), codec);
+  }
+
+  public MQCompressionStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public Message toMessage(Object object, Session session) throws JMSException, MessageConversionException {
+    Message m = delegate.toMessage(object, session);
+
+    byte[] body;
+    String type;
+    if (m instanceof TextMessage) {
+      String text = ((TextMessage) m).getText();
+      // Each character is at least one byte, so short strings can be skipped without encoding them
+      if (text == null || text.length() < threshold) {
+        statistics.recordSkipped();
+        return m;
+      }
+      body = text.getBytes(StandardCharsets.UTF_8);
+      type = TYPE_TEXT;
+    }
+    else if (m instanceof BytesMessage) {
+      BytesMessage bm = (BytesMessage) m;
+      bm.reset();
+      long length = bm.getBodyLength();
+      if (length < threshold || length > Integer.MAX_VALUE) {
+        statistics.recordSkipped();
+        return m;
+      }
+      body = new byte[(int) length];
+      bm.readBytes(body);
+      type = TYPE_BYTES;
+    }
+    else {
+      return m;
+    }
+    if (body.length < threshold) {
+      statistics.recordSkipped();
+      return m;
+    }
+
+    long start = System.nanoTime();
+    byte[] compressed;
+    try {
+      compressed = codec.compress(body);
+    }
+    catch (IOException e) {
+      throw new MessageConversionException("Unable to compress message with " + codec.getName(), e);
+    }
+    long elapsed = System.nanoTime() - start;
+    if (compressed.length >= body.length) {
+      statistics.recordSkipped();
+      return m;
+    }
+    statistics.recordCompressed(body.length, compressed.length, elapsed);
+    logger.trace("Compressed {} bytes to {} with {}", body.length, compressed.length, codec.getName());
+
+    BytesMessage out = session.createBytesMessage();
+    out.writeBytes(compressed);
+    copyHeaders(m, out);
+    out.setStringProperty(CODEC_PROPERTY, codec.getName());
+    out.setStringProperty(TYPE_PROPERTY, type);
+    return out;
+  }
+
+  @Override
+  public Object fromMessage(Message message) throws JMSException, MessageConversionException {
+    String name = message.getStringProperty(CODEC_PROPERTY);
+    if (name == null || !(message instanceof BytesMessage)) {
+      return delegate.fromMessage(message);
+    }
+    MQCompressionCodec c = codecs.get(name);
+    if (c == null) {
+      throw new MessageConversionException("Message is compressed with unknown codec " + name);
+    }
+
+    BytesMessage bm = (BytesMessage) message;
+    byte[] compressed = new byte[(int) bm.getBodyLength()];
+    bm.readBytes(compressed);
+    long start = System.nanoTime();
+    byte[] body;
+    try {
+      body = c.decompress(compressed, maxDecompressedSize);
+    }
+    catch (IOException e) {
+      throw new MessageConversionException("Unable to decompress message with " + name, e);
+    }
+    statistics.recordDecompressed(System.nanoTime() - start);
+
+    if (TYPE_TEXT.equals(message.getStringProperty(TYPE_PROPERTY))) {
+      return delegate.fromMessage(textView(message, new String(body, StandardCharsets.UTF_8)));
+    }
+    return delegate.fromMessage(bytesView(bm, body));
+  }
+
+  // The producer sets the delivery headers when the message is sent. The others are copied along with
+  // the application properties; JMS-defined properties are set by the provider.
+  private static void copyHeaders(Message from, Message to) throws JMSException {
+    to.setJMSCorrelationID(from.getJMSCorrelationID());
+    to.setJMSType(from.getJMSType());
+    if (from.getJMSReplyTo() != null) {
+      to.setJMSReplyTo(from.getJMSReplyTo());
+    }
+    Enumeration<?> names = from.getPropertyNames();
+    while (names.hasMoreElements()) {
+      String n = (String) names.nextElement();
+      if (!n.startsWith("JMS")) {
+        to.setObjectProperty(n, from.getObjectProperty(n));
+      }
+    }
+  }
+
+  // A TextMessage that takes everything except its body from the received message
+  private static TextMessage textView(Message original, String text) {
+    return (TextMessage) Proxy.newProxyInstance(MQCompressingMessageConverter.class.getClassLoader(), new Class<?>[] { TextMessage.class },
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+          case "getText":
+            return text;
+          case "getBody":
+            return ((Class<?>) args[0]).cast(text);
+          case "isBodyAssignableTo":
+            return ((Class<?>) args[0]).isAssignableFrom(String.class);
+          default:
+            return invoke(original, method, args);
+          }
+        });
+  }
+
+  // A BytesMessage that reads the decompressed body, and takes everything else from the received message
+  private static BytesMessage bytesView(BytesMessage original, byte[] body) {
+    DataInputStream[] in = { new DataInputStream(new ByteArrayInputStream(body)) };
+    return (BytesMessage) Proxy.newProxyInstance(MQCompressingMessageConverter.class.getClassLoader(), new Class<?>[] { BytesMessage.class },
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+          case "getBodyLength":
+            return (long) body.length;
+          case "reset":
+            in[0] = new DataInputStream(new ByteArrayInputStream(body));
+            return null;
+          case "getBody":
+            return ((Class<?>) args[0]).cast(Arrays.copyOf(body, body.length));
+          case "isBodyAssignableTo":
+            return ((Class<?>) args[0]).isAssignableFrom(byte[].class);
+          case "readBytes":
+            byte[] b = (byte[]) args[0];
+            int len = (args.length > 1) ? (Integer) args[1] : b.length;
+            int n = in[0].read(b, 0, len);
+            return (n < 0) ? -1 : n;
+          case "readBoolean":
+          case "readByte":
+          case "readUnsignedByte":
+          case "readShort":
+          case "readUnsignedShort":
+          case "readChar":
+          case "readInt":
+          case "readLong":
+          case "readFloat":
+          case "readDouble":
+          case "readUTF":
+            try {
+              return DataInputStream.class.getMethod(method.getName()).invoke(in[0]);
+            }
+            catch (InvocationTargetException e) {
+              if (e.getCause() instanceof EOFException) {
+                throw new MessageEOFException("End of message body");
+              }
+              throw e.getCause();
+            }
+          default:
+            if (method.getName().startsWith("write")) {
+              throw new MessageNotWriteableException("Message body is read-only");
+            }
+            return invoke(original, method, args);
+          }
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    }
+    catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
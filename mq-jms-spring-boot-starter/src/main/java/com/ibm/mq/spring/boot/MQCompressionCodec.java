@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A compression algorithm for message bodies. The name is stored in each compressed message, so
+ * that the receiver can pick the same codec. Applications can provide beans of this type to add
+ * algorithms such as LZ4 or Zstandard; a Deflate codec is always available as "deflate".
+ */
+public interface MQCompressionCodec {
+
+  /** The name of the built-in Deflate codec */
+  String DEFLATE = "deflate";
+
+  /**
+   * @return the name used to identify the codec in message properties
+   */
+  String getName();
+
+  byte[] compress(byte[] data) throws IOException;
+
+  byte[] decompress(byte[] data) throws IOException;
+
+  /**
+   * Decompress, refusing output larger than maxSize. Codecs should override this to stop as soon as the
+   * limit is passed; the default only checks the result.
+   *
+   * @throws IOException if the data is not valid or the output is larger than maxSize
+   */
+  default byte[] decompress(byte[] data, int maxSize) throws IOException {
+    byte[] out = decompress(data);
+    if (out.length > maxSize) {
+      throw new IOException("Decompressed body is larger than " + maxSize + " bytes");
+    }
+    return out;
+  }
+
+  /**
+   * @param level - the Deflater compression level, from 1 (fastest) to 9 (smallest), or -1 for the default
+   * @return a codec using java.util.zip
+   */
+  static MQCompressionCodec deflate(int level) {
+    return new MQCompressionCodec() {
+      @Override
+      public String getName() {
+        return DEFLATE;
+      }
+
+      @Override
+      public byte[] compress(byte[] data) {
+        Deflater deflater = new Deflater(level);
+        try {
+          deflater.setInput(data);
+          deflater.finish();
+          ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+          byte[] buf = new byte[8192];
+          while (!deflater.finished()) {
+            out.write(buf, 0, deflater.deflate(buf));
+          }
+          return out.toByteArray();
+        }
+        finally {
+          deflater.end();
+        }
+      }
+
+      @Override
+      public byte[] decompress(byte[] data) throws IOException {
+        return decompress(data, Integer.MAX_VALUE);
+      }
+
+      @Override
+      public byte[] decompress(byte[] data, int maxSize) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+          inflater.setInput(data);
+          ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(maxSize, data.length * 4L));
+          byte[] buf = new byte[8192];
+          while (!inflater.finished()) {
+            int n = inflater.inflate(buf);
+            if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+              throw new IOException("Compressed data is truncated");
+            }
+            // A small message can expand to a very large body, so stop before it is all held in memory
+            if (n > maxSize - out.size()) {
+              throw new IOException("Decompressed body is larger than " + maxSize + " bytes");
+            }
+            out.write(buf, 0, n);
+          }
+          return out.toByteArray();
+        }
+        catch (DataFormatException e) {
+          throw new IOException(e);
+        }
+        finally {
+          inflater.end();
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the {@link MQCompressionStatistics} as Micrometer meters.
+ */
+public class MQCompressionMeterBinder implements MeterBinder {
+
+  private final MQCompressionStatistics statistics;
+
+  public MQCompressionMeterBinder(MQCompressionStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    MQCompressionStatistics s = statistics;
+    FunctionCounter.builder("ibm.mq.compression.messages", s, MQCompressionStatistics::getCompressed)
+        .description("Messages sent compressed")
+        .tag("result", "compressed").register(registry);
+    FunctionCounter.builder("ibm.mq.compression.messages", s, MQCompressionStatistics::getSkipped)
+        .description("Messages sent uncompressed")
+        .tag("result", "skipped").register(registry);
+    FunctionCounter.builder("ibm.mq.compression.bytes", s, MQCompressionStatistics::getBytesIn)
+        .description("Size of message bodies before compression")
+        .baseUnit("bytes")
+        .tag("stage", "original").register(registry);
+    FunctionCounter.builder("ibm.mq.compression.bytes", s, MQCompressionStatistics::getBytesOut)
+        .description("Size of message bodies after compression")
+        .baseUnit("bytes")
+        .tag("stage", "compressed").register(registry);
+    Gauge.builder("ibm.mq.compression.ratio", s, MQCompressionStatistics::getRatio)
+        .description("Original size divided by compressed size")
+        .register(registry);
+
+    timer(registry, "ibm.mq.compression.compress", s.getCompressLatency());
+    timer(registry, "ibm.mq.compression.decompress", s.getDecompressLatency());
+  }
+
+  private static void timer(MeterRegistry registry, String name, MQLatencyHistogram h) {
+    FunctionTimer.builder(name, h, MQLatencyHistogram::getCount, MQLatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+        .register(registry);
+    Gauge.builder(name + ".max", h, MQLatencyHistogram::getMaxMillis)
+        .baseUnit("milliseconds")
+        .register(registry);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the {@link MQCompressingMessageConverter}. The time spent compressing and
+ * decompressing is recorded separately, so the CPU cost can be weighed against the bytes saved.
+ */
+public class MQCompressionStatistics {
+
+  private final LongAdder compressed = new LongAdder();
+  private final LongAdder skipped = new LongAdder();
+  private final LongAdder decompressed = new LongAdder();
+  private final LongAdder bytesIn = new LongAdder();
+  private final LongAdder bytesOut = new LongAdder();
+
+  private final MQLatencyHistogram compressLatency = new MQLatencyHistogram();
+  private final MQLatencyHistogram decompressLatency = new MQLatencyHistogram();
+
+  void recordCompressed(int originalSize, int compressedSize, long nanos) {
+    compressed.increment();
+    bytesIn.add(originalSize);
+    bytesOut.add(compressedSize);
+    compressLatency.record(nanos);
+  }
+
+  void recordSkipped() {
+    skipped.increment();
+  }
+
+  void recordDecompressed(long nanos) {
+    decompressed.increment();
+    decompressLatency.record(nanos);
+  }
+
+  /**
+   * @return messages sent compressed
+   */
+  public long getCompressed() {
+    return compressed.sum();
+  }
+
+  /**
+   * @return messages sent uncompressed because they were below the threshold or did not get smaller
+   */
+  public long getSkipped() {
+    return skipped.sum();
+  }
+
+  /**
+   * @return compressed messages received
+   */
+  public long getDecompressed() {
+    return decompressed.sum();
+  }
+
+  /**
+   * @return total size of the message bodies that were compressed
+   */
+  public long getBytesIn() {
+    return bytesIn.sum();
+  }
+
+  /**
+   * @return total size of those bodies after compression
+   */
+  public long getBytesOut() {
+    return bytesOut.sum();
+  }
+
+  /**
+   * @return original size divided by compressed size, over all compressed messages. 0 if there are none
+   */
+  public double getRatio() {
+    long out = bytesOut.sum();
+    return (out > 0) ? (double) bytesIn.sum() / out : 0;
+  }
+
+  public MQLatencyHistogram getCompressLatency() {
+    return compressLatency;
+  }
+
+  public MQLatencyHistogram getDecompressLatency() {
+    return decompressLatency;
+  }
+}
@@ -287,6 +287,13 @@ public class MQConfigurationProperties {
    */
   private Map<String, String> additionalProperties = new HashMap<String, String>();
 
+  /**
+   * Options for individual queues and topics, keyed by the name used by the application. A name with
+   * dots must be in brackets, for example "ibm.mq.destinations[DEV.QUEUE.1].persistence=NON_PERSISTENT".
+   * The named destinations are resolved once at startup, so errors in the options are reported early.
+   */
+  private Map<String, MQConfigurationPropertiesDestination> destinations = new HashMap<String, MQConfigurationPropertiesDestination>();
+
   @NestedConfigurationProperty
   private JmsPoolConnectionFactoryProperties pool = new JmsPoolConnectionFactoryProperties();
 
@@ -302,6 +309,63 @@ public class MQConfigurationProperties {
   @NestedConfigurationProperty
   private MQConfigurationPropertiesTokenServer tokenServer = new MQConfigurationPropertiesTokenServer();
 
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesKeyOrdered keyOrdered = new MQConfigurationPropertiesKeyOrdered();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesPoison poison = new MQConfigurationPropertiesPoison();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesIdempotent idempotent = new MQConfigurationPropertiesIdempotent();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesXA xa = new MQConfigurationPropertiesXA();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesHealth health = new MQConfigurationPropertiesHealth();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesCircuitBreaker circuitBreaker = new MQConfigurationPropertiesCircuitBreaker();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesOutbox outbox = new MQConfigurationPropertiesOutbox();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesStreaming streaming = new MQConfigurationPropertiesStreaming();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesBufferPool bufferPool = new MQConfigurationPropertiesBufferPool();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesCompression compression = new MQConfigurationPropertiesCompression();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesBinary binary = new MQConfigurationPropertiesBinary();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesHeaders headers = new MQConfigurationPropertiesHeaders();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesProducerCache producerCache = new MQConfigurationPropertiesProducerCache();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesHandles handles = new MQConfigurationPropertiesHandles();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesPublisher publisher = new MQConfigurationPropertiesPublisher();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesListener listener = new MQConfigurationPropertiesListener();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesLayout layout = new MQConfigurationPropertiesLayout();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesReload reload = new MQConfigurationPropertiesReload();
+
+  @NestedConfigurationProperty
+  private MQConfigurationPropertiesCcdtCache ccdtCache = new MQConfigurationPropertiesCcdtCache();
+
   public String getQueueManager() {
     return queueManager;
   }
@@ -461,6 +525,82 @@ public class MQConfigurationProperties {
     return tokenServer;
   }
 
+  public MQConfigurationPropertiesKeyOrdered getKeyOrdered() {
+    return keyOrdered;
+  }
+
+  public MQConfigurationPropertiesPoison getPoison() {
+    return poison;
+  }
+
+  public MQConfigurationPropertiesIdempotent getIdempotent() {
+    return idempotent;
+  }
+
+  public MQConfigurationPropertiesXA getXa() {
+    return xa;
+  }
+
+  public MQConfigurationPropertiesHealth getHealth() {
+    return health;
+  }
+
+  public MQConfigurationPropertiesCircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public MQConfigurationPropertiesOutbox getOutbox() {
+    return outbox;
+  }
+
+  public MQConfigurationPropertiesStreaming getStreaming() {
+    return streaming;
+  }
+
+  public MQConfigurationPropertiesBufferPool getBufferPool() {
+    return bufferPool;
+  }
+
+  public MQConfigurationPropertiesCompression getCompression() {
+    return compression;
+  }
+
+  public MQConfigurationPropertiesBinary getBinary() {
+    return binary;
+  }
+
+  public MQConfigurationPropertiesHeaders getHeaders() {
+    return headers;
+  }
+
+  public MQConfigurationPropertiesProducerCache getProducerCache() {
+    return producerCache;
+  }
+
+  public MQConfigurationPropertiesHandles getHandles() {
+    return handles;
+  }
+
+  public MQConfigurationPropertiesPublisher getPublisher() {
+    return publisher;
+  }
+
+  public MQConfigurationPropertiesListener getListener() {
+    return listener;
+  }
+
+  public MQConfigurationPropertiesLayout getLayout() {
+    return layout;
+  }
+
+  public MQConfigurationPropertiesReload getReload() {
+    return reload;
+  }
+
+  public MQConfigurationPropertiesCcdtCache getCcdtCache() {
+    return ccdtCache;
+  }
+
   public String getTempQPrefix() {
     return tempQPrefix;
   }
@@ -724,6 +864,14 @@ public class MQConfigurationProperties {
     this.additionalProperties = properties;
   }
 
+  public Map<String, MQConfigurationPropertiesDestination> getDestinations() {
+    return destinations;
+  }
+
+  public void setDestinations(Map<String, MQConfigurationPropertiesDestination> destinations) {
+    this.destinations = destinations;
+  }
+
   public void traceProperties(MQConnectionDetails connectionDetails) {
     if (!logger.isTraceEnabled()) {
       return;
@@ -825,6 +973,28 @@ public class MQConfigurationProperties {
       logger.trace("Pooling is disabled");
     }
 
+    getKeyOrdered().traceProperties(logger);
+    getPoison().traceProperties(logger);
+    getIdempotent().traceProperties(logger);
+    getXa().traceProperties(logger);
     getTrace().traceProperties(logger);
+    getHealth().traceProperties(logger);
+    getCircuitBreaker().traceProperties(logger);
+    getOutbox().traceProperties(logger);
+    getStreaming().traceProperties(logger);
+    getBufferPool().traceProperties(logger);
+    getCompression().traceProperties(logger);
+    getBinary().traceProperties(logger);
+    getHeaders().traceProperties(logger);
+    getProducerCache().traceProperties(logger);
+    getHandles().traceProperties(logger);
+    getPublisher().traceProperties(logger);
+    getListener().traceProperties(logger);
+    getLayout().traceProperties(logger);
+    getReload().traceProperties(logger);
+    getCcdtCache().traceProperties(logger);
+    for (String s : destinations.keySet()) {
+      destinations.get(s).traceProperties(logger, s);
+    }
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for binary message conversion. When enabled, an {@link MQBinaryMessageConverter} is
+ * used as the message converter unless the application provides its own. It handles the types
+ * listed here and any MQBinarySerializer beans.
+ */
+public class MQConfigurationPropertiesBinary {
+
+  /**
+   * Whether to use the binary message converter
+   */
+  private boolean enabled = false;
+
+  /**
+   * Protobuf or Avro generated classes to convert, keyed by the type ID sent in the JMSType header.
+   * For example "ibm.mq.binary.types.order=com.example.OrderProto"
+   */
+  private Map<String, String> types = new HashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Map<String, String> getTypes() {
+    return types;
+  }
+
+  public void setTypes(Map<String, String> types) {
+    this.types = types;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Binary conversion");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  types               : {}", getTypes());
+  }
+}
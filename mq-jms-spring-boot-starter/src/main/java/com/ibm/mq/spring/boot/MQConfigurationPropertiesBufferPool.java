@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Options for pooled BytesMessage handling. When enabled, an {@link MQByteArrayPool} bean is created,
+ * and an {@link MQByteBufferMessageConverter} is used as the message converter unless the application
+ * provides its own.
+ */
+public class MQConfigurationPropertiesBufferPool {
+
+  /**
+   * Whether to create the pool and converter
+   */
+  private boolean enabled = false;
+
+  /**
+   * Largest array kept in the pool. Larger bodies use a new array each time
+   */
+  private DataSize maxBufferSize = DataSize.ofMegabytes(1);
+
+  /**
+   * Number of free arrays kept for each power-of-two size
+   */
+  private int buffersPerSize = 32;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public DataSize getMaxBufferSize() {
+    return maxBufferSize;
+  }
+
+  public void setMaxBufferSize(DataSize maxBufferSize) {
+    this.maxBufferSize = maxBufferSize;
+  }
+
+  public int getBuffersPerSize() {
+    return buffersPerSize;
+  }
+
+  public void setBuffersPerSize(int buffersPerSize) {
+    this.buffersPerSize = buffersPerSize;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Buffer pool");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  maxBufferSize       : {}", getMaxBufferSize());
+    parentLogger.trace("  buffersPerSize      : {}", getBuffersPerSize());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for keeping a local copy of a CCDT that is downloaded from an HTTP or HTTPS "ccdtUrl".
+ * See {@link MQCcdtCache}.
+ */
+public class MQConfigurationPropertiesCcdtCache {
+
+  /**
+   * Whether to download the CCDT once and point the connection factory at a local copy
+   */
+  private boolean enabled = false;
+
+  /**
+   * Directory for the local copy. Defaults to a directory for the user under java.io.tmpdir. The directory
+   * must belong to the application's user and must not be writable by other users
+   */
+  private String directory;
+
+  /**
+   * Time between checks for a new version of the CCDT. Zero means it is only downloaded at startup
+   */
+  private Duration refreshInterval = Duration.ofMinutes(5);
+
+  /**
+   * Connect and read timeout for each request to the CCDT server
+   */
+  private Duration timeout = Duration.ofSeconds(10);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getDirectory() {
+    return directory;
+  }
+
+  public void setDirectory(String directory) {
+    this.directory = directory;
+  }
+
+  public Duration getRefreshInterval() {
+    return refreshInterval;
+  }
+
+  public void setRefreshInterval(Duration refreshInterval) {
+    this.refreshInterval = refreshInterval;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("CCDT cache");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  directory           : {}", getDirectory());
+    parentLogger.trace("  refreshInterval     : {}", getRefreshInterval());
+    parentLogger.trace("  timeout             : {}", getTimeout());
+  }
+}
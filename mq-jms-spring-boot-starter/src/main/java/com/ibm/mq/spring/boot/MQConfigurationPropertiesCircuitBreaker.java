@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for the producer circuit breaker. When enabled, the "jmsTemplate" bean is an
+ * {@link MQCircuitBreakerJmsTemplate} that stops sending while the connection to the queue manager
+ * is unavailable, instead of blocking application threads until the client has reconnected.
+ */
+public class MQConfigurationPropertiesCircuitBreaker {
+
+  /**
+   * Whether to use the circuit breaker
+   */
+  private boolean enabled = false;
+
+  /**
+   * Consecutive connection failures seen by senders that open the breaker
+   */
+  private int failureThreshold = 3;
+
+  /**
+   * How long the breaker stays open before a single trial send is allowed
+   */
+  private Duration retryInterval = Duration.ofSeconds(30);
+
+  /**
+   * Number of messages held in memory while the breaker is open. 0 means sends fail immediately
+   */
+  private int bufferSize = 0;
+
+  /**
+   * What to do when the buffer is full: FAIL, DROP_OLDEST or DROP_NEWEST
+   */
+  private MQCircuitBreakerJmsTemplate.OverflowPolicy overflowPolicy = MQCircuitBreakerJmsTemplate.OverflowPolicy.FAIL;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  public void setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+  }
+
+  public Duration getRetryInterval() {
+    return retryInterval;
+  }
+
+  public void setRetryInterval(Duration retryInterval) {
+    this.retryInterval = retryInterval;
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  public void setBufferSize(int bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
+  public MQCircuitBreakerJmsTemplate.OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public void setOverflowPolicy(MQCircuitBreakerJmsTemplate.OverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Circuit breaker");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  failureThreshold    : {}", getFailureThreshold());
+    parentLogger.trace("  retryInterval       : {}", getRetryInterval());
+    parentLogger.trace("  bufferSize          : {}", getBufferSize());
+    parentLogger.trace("  overflowPolicy      : {}", getOverflowPolicy());
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Options for message body compression. When enabled, an {@link MQCompressingMessageConverter} is
+ * used as the message converter unless the application provides its own. Compressed messages are
+ * marked so that receivers using the converter decompress them automatically.
+ */
+public class MQConfigurationPropertiesCompression {
+
+  /**
+   * Whether to compress large messages
+   */
+  private boolean enabled = false;
+
+  /**
+   * The codec used for sent messages. "deflate" is built in; others can be added as MQCompressionCodec beans
+   */
+  private String codec = MQCompressionCodec.DEFLATE;
+
+  /**
+   * Compression level for the deflate codec, from 1 (fastest) to 9 (smallest). -1 uses the default
+   */
+  private int level = -1;
+
+  /**
+   * Message bodies smaller than this are sent uncompressed
+   */
+  private DataSize threshold = DataSize.ofKilobytes(4);
+
+  /**
+   * Received messages that decompress to more than this are rejected, so that a small message cannot
+   * expand to fill the heap
+   */
+  private DataSize maxDecompressedSize = DataSize.ofMegabytes(100);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getCodec() {
+    return codec;
+  }
+
+  public void setCodec(String codec) {
+    this.codec = codec;
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public void setLevel(int level) {
+    this.level = level;
+  }
+
+  public DataSize getThreshold() {
+    return threshold;
+  }
+
+  public void setThreshold(DataSize threshold) {
+    this.threshold = threshold;
+  }
+
+  public DataSize getMaxDecompressedSize() {
+    return maxDecompressedSize;
+  }
+
+  public void setMaxDecompressedSize(DataSize maxDecompressedSize) {
+    this.maxDecompressedSize = maxDecompressedSize;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Compression");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  codec               : {}", getCodec());
+    parentLogger.trace("  level               : {}", getLevel());
+    parentLogger.trace("  threshold           : {}", getThreshold());
+    parentLogger.trace("  maxDecompressedSize : {}", getMaxDecompressedSize());
+  }
+}
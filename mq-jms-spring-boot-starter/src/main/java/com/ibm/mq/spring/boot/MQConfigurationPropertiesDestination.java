@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+
+import com.ibm.mq.jakarta.jms.MQDestination;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+
+import jakarta.jms.JMSException;
+
+/**
+ * Options for an individual queue or topic, set with "ibm.mq.destinations[&lt;name&gt;].*".
+ * They are applied by the {@link MQDestinationResolver} when it first resolves the name.
+ * Options that are not set leave the destination's default, or any value given in a
+ * queue:/// or topic:// URI, unchanged.
+ */
+public class MQConfigurationPropertiesDestination {
+
+  /** Values for the persistence of messages sent to a destination */
+  public enum Persistence {
+    APP(WMQConstants.WMQ_PER_APP),
+    QDEF(WMQConstants.WMQ_PER_QDEF),
+    NON_PERSISTENT(WMQConstants.WMQ_PER_NON),
+    PERSISTENT(WMQConstants.WMQ_PER_PER),
+    HIGH(WMQConstants.WMQ_PER_NPHIGH);
+
+    private final int value;
+
+    Persistence(int value) {
+      this.value = value;
+    }
+
+    int getValue() {
+      return value;
+    }
+  }
+
+  /** Values for the MQMD context that an application may set on messages sent to a destination */
+  public enum MessageContext {
+    DEFAULT(WMQConstants.WMQ_MDCTX_DEFAULT),
+    SET_IDENTITY(WMQConstants.WMQ_MDCTX_SET_IDENTITY_CONTEXT),
+    SET_ALL(WMQConstants.WMQ_MDCTX_SET_ALL_CONTEXT);
+
+    private final int value;
+
+    MessageContext(int value) {
+      this.value = value;
+    }
+
+    int getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * Persistence of messages: APP, QDEF, NON_PERSISTENT, PERSISTENT or HIGH (non-persistent messages
+   * are not lost on a clean shutdown of the queue manager)
+   */
+  private Persistence persistence;
+
+  /**
+   * Whether messages can be put without waiting for a response from the queue manager
+   */
+  private Boolean putAsync;
+
+  /**
+   * Whether non-persistent messages can be sent to the client ahead of a receive request
+   */
+  private Boolean readAhead;
+
+  /**
+   * Which MQMD context fields the application may set on messages: DEFAULT, SET_IDENTITY or SET_ALL.
+   * Anything other than DEFAULT also enables writing of MQMD fields
+   */
+  private MessageContext messageContext;
+
+  /**
+   * Priority of messages, from 0 to 9. Unset means the application decides
+   */
+  private Integer priority;
+
+  public Persistence getPersistence() {
+    return persistence;
+  }
+
+  public void setPersistence(Persistence persistence) {
+    this.persistence = persistence;
+  }
+
+  public Boolean getPutAsync() {
+    return putAsync;
+  }
+
+  public void setPutAsync(Boolean putAsync) {
+    this.putAsync = putAsync;
+  }
+
+  public Boolean getReadAhead() {
+    return readAhead;
+  }
+
+  public void setReadAhead(Boolean readAhead) {
+    this.readAhead = readAhead;
+  }
+
+  public MessageContext getMessageContext() {
+    return messageContext;
+  }
+
+  public void setMessageContext(MessageContext messageContext) {
+    this.messageContext = messageContext;
+  }
+
+  public Integer getPriority() {
+    return priority;
+  }
+
+  public void setPriority(Integer priority) {
+    this.priority = priority;
+  }
+
+  /**
+   * Set the configured options on a destination.
+   *
+   * @param d - the destination to update
+   * @throws JMSException if an option is not valid
+   */
+  void apply(MQDestination d) throws JMSException {
+    if (persistence != null) {
+      d.setPersistence(persistence.getValue());
+    }
+    if (putAsync != null) {
+      d.setPutAsyncAllowed(putAsync ? WMQConstants.WMQ_PUT_ASYNC_ALLOWED_ENABLED : WMQConstants.WMQ_PUT_ASYNC_ALLOWED_DISABLED);
+    }
+    if (readAhead != null) {
+      d.setReadAheadAllowed(readAhead ? WMQConstants.WMQ_READ_AHEAD_ALLOWED_ENABLED : WMQConstants.WMQ_READ_AHEAD_ALLOWED_DISABLED);
+    }
+    if (messageContext != null) {
+      if (messageContext != MessageContext.DEFAULT) {
+        d.setMQMDWriteEnabled(true);
+      }
+      d.setMQMDMessageContext(messageContext.getValue());
+    }
+    if (priority != null) {
+      d.setPriority(priority);
+    }
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger, String name) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Destination {}", name);
+    parentLogger.trace("  persistence         : {}", getPersistence());
+    parentLogger.trace("  putAsync            : {}", getPutAsync());
+    parentLogger.trace("  readAhead           : {}", getReadAhead());
+    parentLogger.trace("  messageContext      : {}", getMessageContext());
+    parentLogger.trace("  priority            : {}", getPriority());
+  }
+}
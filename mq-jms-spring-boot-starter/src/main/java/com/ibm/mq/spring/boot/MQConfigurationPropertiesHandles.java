@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for counting the queue and topic handles opened by the sessions of the caching or pooled
+ * connection factory, and for limiting them. See {@link MQHandleStatistics}.
+ */
+public class MQConfigurationPropertiesHandles {
+
+  /**
+   * Whether to count the handles opened by producers, consumers and browsers
+   */
+  private boolean enabled = false;
+
+  /**
+   * Open handles in one session at which it closes its least recently used cached producers before
+   * opening another. Set it below the queue manager's MAXHANDS. 0 means no limit
+   */
+  private int limit = 0;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public void setLimit(int limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Handles");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  limit               : {}", getLimit());
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+/**
+ * Options to reduce the JMS header information sent with each message. See {@link MQHeaderMode}.
+ */
+public class MQConfigurationPropertiesHeaders {
+
+  /**
+   * Header mode for all destinations: JMS, MINIMAL or MQ. With MINIMAL or MQ, JmsTemplates do not
+   * ask for message IDs or timestamps. These are MQMD fields, so MINIMAL does not change the wire size
+   */
+  private MQHeaderMode mode = MQHeaderMode.JMS;
+
+  /**
+   * Header mode for individual destinations, keyed by name. A name with dots must be in brackets, for
+   * example "ibm.mq.headers.destinations[DEV.QUEUE.1]=MQ". MQ removes the MQRFH2 header for the
+   * destination. MINIMAL and JMS keep it, and also set the message ID and timestamp options of a
+   * JmsTemplate whose default destination is this name
+   */
+  private Map<String, MQHeaderMode> destinations = new HashMap<>();
+
+  public MQHeaderMode getMode() {
+    return mode;
+  }
+
+  public void setMode(MQHeaderMode mode) {
+    this.mode = mode;
+  }
+
+  public Map<String, MQHeaderMode> getDestinations() {
+    return destinations;
+  }
+
+  public void setDestinations(Map<String, MQHeaderMode> destinations) {
+    this.destinations = destinations;
+  }
+
+  /**
+   * @param destinationName - the name of a destination, or null
+   * @return the mode set for the destination, or the mode for all destinations
+   */
+  public MQHeaderMode modeFor(String destinationName) {
+    MQHeaderMode m = (destinationName != null) ? destinations.get(destinationName) : null;
+    return (m != null) ? m : mode;
+  }
+
+  /**
+   * @return whether the MQ mode is used for all destinations or for any individual destination
+   */
+  public boolean usesMQMode() {
+    return mode == MQHeaderMode.MQ || destinations.containsValue(MQHeaderMode.MQ);
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Headers");
+    parentLogger.trace("  mode                : {}", getMode());
+    parentLogger.trace("  destinations        : {}", getDestinations());
+  }
+}
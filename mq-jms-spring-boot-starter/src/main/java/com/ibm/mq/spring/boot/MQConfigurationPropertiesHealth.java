@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for the "mq" health indicator, which is created when Spring Boot Actuator is available.
+ * Connectivity is checked in the background and the health endpoint reports the latest result,
+ * so a slow queue manager does not delay the endpoint.
+ */
+public class MQConfigurationPropertiesHealth {
+
+  /**
+   * Whether to create the health indicator, which regularly connects to the queue manager
+   */
+  private boolean enabled = false;
+
+  /**
+   * Time between connectivity checks
+   */
+  private Duration interval = Duration.ofSeconds(30);
+
+  /**
+   * How long a check can take before the connection factory is reported as DOWN
+   */
+  private Duration timeout = Duration.ofSeconds(10);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getInterval() {
+    return interval;
+  }
+
+  public void setInterval(Duration interval) {
+    this.interval = interval;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Health");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  interval            : {}", getInterval());
+    parentLogger.trace("  timeout             : {}", getTimeout());
+  }
+}
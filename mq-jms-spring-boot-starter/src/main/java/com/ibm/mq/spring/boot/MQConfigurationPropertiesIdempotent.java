@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for discarding duplicate messages in listeners created by the starter's
+ * "jmsListenerContainerFactory".
+ */
+public class MQConfigurationPropertiesIdempotent {
+
+  /**
+   * Whether to discard messages that have already been processed
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of message keys remembered
+   */
+  private int capacity = 100000;
+
+  /**
+   * How long a message key is remembered
+   */
+  private Duration ttl = Duration.ofMinutes(30);
+
+  /**
+   * Name of a message property holding a business key. If not set, the JMSMessageID is used
+   */
+  private String keyProperty;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public void setCapacity(int capacity) {
+    this.capacity = capacity;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public void setTtl(Duration ttl) {
+    this.ttl = ttl;
+  }
+
+  public String getKeyProperty() {
+    return keyProperty;
+  }
+
+  public void setKeyProperty(String keyProperty) {
+    this.keyProperty = keyProperty;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Idempotent consumer");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  capacity            : {}", getCapacity());
+    parentLogger.trace("  ttl                 : {}", getTtl());
+    parentLogger.trace("  keyProperty         : {}", getKeyProperty());
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for the key-ordered listener container factory. When enabled, a
+ * JmsListenerContainerFactory bean called "mqKeyOrderedJmsListenerContainerFactory" is created.
+ * Messages with the same key are processed in order, while different keys are processed in parallel.
+ */
+public class MQConfigurationPropertiesKeyOrdered {
+
+  /**
+   * Whether to create the key-ordered listener container factory
+   */
+  private boolean enabled = false;
+
+  /**
+   * Number of worker lanes. Defaults to the number of available processors
+   */
+  private int workers = 0;
+
+  /**
+   * Maximum number of messages received and committed as one unit of work
+   */
+  private int batchSize = MQKeyOrderedMessageListenerContainer.DEFAULT_BATCH_SIZE;
+
+  /**
+   * How long to wait for the first message of a batch
+   */
+  private Duration receiveTimeout = Duration.ofMillis(MQKeyOrderedMessageListenerContainer.DEFAULT_RECEIVE_TIMEOUT);
+
+  /**
+   * Name of the message property holding the ordering key. Defaults to JMSXGroupID. Ignored if
+   * the application provides an MQMessageKeyExtractor bean
+   */
+  private String keyProperty = MQMessageKeyExtractor.JMSX_GROUP_ID;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getWorkers() {
+    return workers;
+  }
+
+  public void setWorkers(int workers) {
+    this.workers = workers;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public Duration getReceiveTimeout() {
+    return receiveTimeout;
+  }
+
+  public void setReceiveTimeout(Duration receiveTimeout) {
+    this.receiveTimeout = receiveTimeout;
+  }
+
+  public String getKeyProperty() {
+    return keyProperty;
+  }
+
+  public void setKeyProperty(String keyProperty) {
+    this.keyProperty = keyProperty;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Key-ordered listener");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  workers             : {}", getWorkers());
+    parentLogger.trace("  batchSize           : {}", getBatchSize());
+    parentLogger.trace("  receiveTimeout      : {}", getReceiveTimeout());
+    parentLogger.trace("  keyProperty         : {}", getKeyProperty());
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for laying out the pooled connection factory's sessions over TCP/IP sockets. See
+ * {@link MQConnectionLayout}. When enabled, the layout sets the pool's maximum connections and sessions
+ * per connection.
+ */
+public class MQConfigurationPropertiesLayout {
+
+  /**
+   * Whether to size the pool from the layout. Only applies with "ibm.mq.pool.enabled=true"
+   */
+  private boolean enabled = false;
+
+  /**
+   * Number of sessions the pool must provide at once
+   */
+  private int sessions = 10;
+
+  /**
+   * Most conversations to share one socket. 1 gives every connection and session its own socket.
+   * 0 allows as many as SHARECNV
+   */
+  private int conversationsPerSocket = 0;
+
+  /**
+   * SHARECNV value of the SVRCONN channel
+   */
+  private int shareCnv = MQConnectionLayout.DEFAULT_SHARECNV;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getSessions() {
+    return sessions;
+  }
+
+  public void setSessions(int sessions) {
+    this.sessions = sessions;
+  }
+
+  public int getConversationsPerSocket() {
+    return conversationsPerSocket;
+  }
+
+  public void setConversationsPerSocket(int conversationsPerSocket) {
+    this.conversationsPerSocket = conversationsPerSocket;
+  }
+
+  public int getShareCnv() {
+    return shareCnv;
+  }
+
+  public void setShareCnv(int shareCnv) {
+    this.shareCnv = shareCnv;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Connection layout");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  sessions            : {}", getSessions());
+    parentLogger.trace("  conversationsPerSocket : {}", getConversationsPerSocket());
+    parentLogger.trace("  shareCnv            : {}", getShareCnv());
+  }
+}
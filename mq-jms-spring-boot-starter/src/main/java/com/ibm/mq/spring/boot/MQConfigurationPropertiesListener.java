@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for the listener containers created by the starter's "jmsListenerContainerFactory" and
+ * "mqTopicJmsListenerContainerFactory", adding to the "spring.jms.listener" options.
+ */
+public class MQConfigurationPropertiesListener {
+
+  /**
+   * Number of connections each listener container spreads its consumers across. Use with
+   * "ibm.mq.channelSharing=CONNECTION" so that each connection has its own TCP/IP socket
+   */
+  private int connections = 1;
+
+  /**
+   * Whether listeners from the "mqTopicJmsListenerContainerFactory" use a JMS 2.0 shared subscription,
+   * so that several consumers can share the messages on one subscription
+   */
+  private Boolean subscriptionShared;
+
+  /**
+   * Whether listeners from the "mqTopicJmsListenerContainerFactory" use a durable subscription
+   */
+  private Boolean subscriptionDurable;
+
+  public int getConnections() {
+    return connections;
+  }
+
+  public void setConnections(int connections) {
+    this.connections = connections;
+  }
+
+  public Boolean getSubscriptionShared() {
+    return subscriptionShared;
+  }
+
+  public void setSubscriptionShared(Boolean subscriptionShared) {
+    this.subscriptionShared = subscriptionShared;
+  }
+
+  public Boolean getSubscriptionDurable() {
+    return subscriptionDurable;
+  }
+
+  public void setSubscriptionDurable(Boolean subscriptionDurable) {
+    this.subscriptionDurable = subscriptionDurable;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Listener");
+    parentLogger.trace("  connections         : {}", getConnections());
+    parentLogger.trace("  subscriptionShared  : {}", getSubscriptionShared());
+    parentLogger.trace("  subscriptionDurable : {}", getSubscriptionDurable());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Options for the local outbox. When enabled along with the circuit breaker, String and byte[]
+ * messages sent with convertAndSend while the queue manager is unavailable are written to files in
+ * a local directory, and sent in order once it is available again.
+ */
+public class MQConfigurationPropertiesOutbox {
+
+  /**
+   * Whether to use the outbox. Requires ibm.mq.circuitBreaker.enabled
+   */
+  private boolean enabled = false;
+
+  /**
+   * Directory holding the outbox files. It should not be shared with another application instance
+   */
+  private String directory = "mq-outbox";
+
+  /**
+   * Size of each outbox file. A single message cannot be larger than this
+   */
+  private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+  /**
+   * Maximum total size of the outbox files. Sends fail once it is reached
+   */
+  private DataSize maxSize = DataSize.ofMegabytes(256);
+
+  /**
+   * When writes are forced to disk: ALWAYS (every message), INTERVAL or NEVER (left to the operating system)
+   */
+  private MQOutboxJournal.SyncPolicy syncPolicy = MQOutboxJournal.SyncPolicy.INTERVAL;
+
+  /**
+   * How often writes are forced to disk with the INTERVAL policy
+   */
+  private Duration syncInterval = Duration.ofSeconds(1);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getDirectory() {
+    return directory;
+  }
+
+  public void setDirectory(String directory) {
+    this.directory = directory;
+  }
+
+  public DataSize getSegmentSize() {
+    return segmentSize;
+  }
+
+  public void setSegmentSize(DataSize segmentSize) {
+    this.segmentSize = segmentSize;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public MQOutboxJournal.SyncPolicy getSyncPolicy() {
+    return syncPolicy;
+  }
+
+  public void setSyncPolicy(MQOutboxJournal.SyncPolicy syncPolicy) {
+    this.syncPolicy = syncPolicy;
+  }
+
+  public Duration getSyncInterval() {
+    return syncInterval;
+  }
+
+  public void setSyncInterval(Duration syncInterval) {
+    this.syncInterval = syncInterval;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Outbox");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  directory           : {}", getDirectory());
+    parentLogger.trace("  segmentSize         : {}", getSegmentSize());
+    parentLogger.trace("  maxSize             : {}", getMaxSize());
+    parentLogger.trace("  syncPolicy          : {}", getSyncPolicy());
+    parentLogger.trace("  syncInterval        : {}", getSyncInterval());
+  }
+}
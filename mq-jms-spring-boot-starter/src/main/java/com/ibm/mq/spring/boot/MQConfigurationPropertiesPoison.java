@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for poison-message handling in listeners created by the starter's
+ * "jmsListenerContainerFactory". Failures are counted by the application instead of relying
+ * on repeated rollbacks until the queue manager's backout threshold is reached.
+ */
+public class MQConfigurationPropertiesPoison {
+
+  /**
+   * Whether to handle failing messages in the listener containers
+   */
+  private boolean enabled = false;
+
+  /**
+   * Number of failed attempts after which a message is moved to the backout queue
+   */
+  private int maxFailures = 3;
+
+  /**
+   * Queue to which messages are moved once maxFailures is reached. If not set, the failing
+   * message is rolled back and the queue manager's own BOTHRESH/BOQNAME processing applies
+   */
+  private String backoutQueue;
+
+  /**
+   * Whether a failed message, when it is redelivered after the rollback, is put back on the end of
+   * its queue with a delivery delay instead of being given to the listener again
+   */
+  private boolean requeue = true;
+
+  /**
+   * Delivery delay applied after the first failure
+   */
+  private Duration initialDelay = Duration.ofSeconds(1);
+
+  /**
+   * Upper limit on the delivery delay
+   */
+  private Duration maxDelay = Duration.ofMinutes(5);
+
+  /**
+   * Factor by which the delay grows for each further failure
+   */
+  private double multiplier = 2.0;
+
+  /**
+   * Maximum number of message IDs whose failure counts are held in memory
+   */
+  private int trackedMessages = 10000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxFailures() {
+    return maxFailures;
+  }
+
+  public void setMaxFailures(int maxFailures) {
+    this.maxFailures = maxFailures;
+  }
+
+  public String getBackoutQueue() {
+    return backoutQueue;
+  }
+
+  public void setBackoutQueue(String backoutQueue) {
+    this.backoutQueue = backoutQueue;
+  }
+
+  public boolean isRequeue() {
+    return requeue;
+  }
+
+  public void setRequeue(boolean requeue) {
+    this.requeue = requeue;
+  }
+
+  public Duration getInitialDelay() {
+    return initialDelay;
+  }
+
+  public void setInitialDelay(Duration initialDelay) {
+    this.initialDelay = initialDelay;
+  }
+
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  public void setMaxDelay(Duration maxDelay) {
+    this.maxDelay = maxDelay;
+  }
+
+  public double getMultiplier() {
+    return multiplier;
+  }
+
+  public void setMultiplier(double multiplier) {
+    this.multiplier = multiplier;
+  }
+
+  public int getTrackedMessages() {
+    return trackedMessages;
+  }
+
+  public void setTrackedMessages(int trackedMessages) {
+    this.trackedMessages = trackedMessages;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Poison message handling");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  maxFailures         : {}", getMaxFailures());
+    parentLogger.trace("  backoutQueue        : {}", getBackoutQueue());
+    parentLogger.trace("  requeue             : {}", isRequeue());
+    parentLogger.trace("  initialDelay        : {}", getInitialDelay());
+    parentLogger.trace("  maxDelay            : {}", getMaxDelay());
+    parentLogger.trace("  multiplier          : {}", getMultiplier());
+    parentLogger.trace("  trackedMessages     : {}", getTrackedMessages());
+  }
+}
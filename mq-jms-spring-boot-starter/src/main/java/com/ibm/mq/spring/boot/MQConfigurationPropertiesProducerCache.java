@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for caching message producers in the sessions held by the pooled connection factory
+ * ("ibm.mq.pool.enabled=true"). This gives the pooled path the same benefit as
+ * "spring.jms.cache.producers" gives the caching connection factory: a producer for a destination
+ * is opened once per session rather than on every send.
+ */
+public class MQConfigurationPropertiesProducerCache {
+
+  /**
+   * Whether to cache producers in pooled sessions. When enabled, the pool does not use anonymous producers
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of producers cached in each session. The least recently used is closed when the
+   * limit is reached
+   */
+  private int size = MQProducerCachingConnectionFactory.DEFAULT_CACHE_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Producer cache");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  size                : {}", getSize());
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for the {@link MQTopicPublisher}. When enabled, an MQTopicPublisher bean is created.
+ */
+public class MQConfigurationPropertiesPublisher {
+
+  /**
+   * Whether to create the topic publisher
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of topic strings for which each publishing session keeps a producer open. Each
+   * producer holds an object handle, so keep this below the queue manager's MAXHANDS (default 256)
+   */
+  private int cacheSize = MQTopicPublisher.DEFAULT_CACHE_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
+  public void setCacheSize(int cacheSize) {
+    this.cacheSize = cacheSize;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Topic publisher");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  cacheSize           : {}", getCacheSize());
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options for changing the connection configuration while the application runs. When enabled, the
+ * caching or pooled connection factory builds new MQ connections from the updated "ibm.mq" properties
+ * after a Spring Cloud refresh, or a call to {@link MQConnectionFactoryReloader#reload()}.
+ */
+public class MQConfigurationPropertiesReload {
+
+  /**
+   * Whether the connection factory can be reconfigured without restarting the application
+   */
+  private boolean enabled = false;
+
+  /**
+   * How long pooled connections made with the old configuration can stay in use before they are closed
+   */
+  private Duration drainTimeout = Duration.ofSeconds(60);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getDrainTimeout() {
+    return drainTimeout;
+  }
+
+  public void setDrainTimeout(Duration drainTimeout) {
+    this.drainTimeout = drainTimeout;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Reload");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  drainTimeout        : {}", getDrainTimeout());
+  }
+}
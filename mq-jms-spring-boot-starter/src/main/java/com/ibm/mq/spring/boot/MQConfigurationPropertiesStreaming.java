@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Options for the {@link MQMessageStreamer} bean, which sends and receives large payloads as
+ * groups of smaller messages. When enabled, an MQMessageStreamer bean is created.
+ */
+public class MQConfigurationPropertiesStreaming {
+
+  /**
+   * Whether to create the message streamer
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum payload size of each message in a group
+   */
+  private DataSize segmentSize = DataSize.ofBytes(MQMessageStreamer.DEFAULT_SEGMENT_SIZE);
+
+  /**
+   * How long a reader waits for each message of a group after the first
+   */
+  private Duration receiveTimeout = Duration.ofSeconds(30);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public DataSize getSegmentSize() {
+    return segmentSize;
+  }
+
+  public void setSegmentSize(DataSize segmentSize) {
+    this.segmentSize = segmentSize;
+  }
+
+  public Duration getReceiveTimeout() {
+    return receiveTimeout;
+  }
+
+  public void setReceiveTimeout(Duration receiveTimeout) {
+    this.receiveTimeout = receiveTimeout;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("Streaming");
+    parentLogger.trace("  enabled             : {}", isEnabled());
+    parentLogger.trace("  segmentSize         : {}", getSegmentSize());
+    parentLogger.trace("  receiveTimeout      : {}", getReceiveTimeout());
+  }
+}
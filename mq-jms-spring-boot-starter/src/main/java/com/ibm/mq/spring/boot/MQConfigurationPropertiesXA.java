@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+
+/**
+ * Options that apply when the starter creates an XA connection factory for use with a
+ * JTA transaction manager.
+ */
+public class MQConfigurationPropertiesXA {
+
+  /**
+   * Whether to record the outcomes (one-phase commit, prepare, rollback) of XA transactions
+   */
+  private boolean statistics = false;
+
+  /**
+   * Whether to create "mqLocalJmsListenerContainerFactory", which uses the non-XA connection
+   * factory and local MQ transactions for listeners that only work with MQ
+   */
+  private boolean localListener = false;
+
+  /**
+   * How often to list the in-doubt transactions held by the queue manager, when statistics
+   * are enabled. Zero disables the scan
+   */
+  private Duration recoveryScanInterval = Duration.ofMinutes(5);
+
+  public boolean isStatistics() {
+    return statistics;
+  }
+
+  public void setStatistics(boolean statistics) {
+    this.statistics = statistics;
+  }
+
+  public boolean isLocalListener() {
+    return localListener;
+  }
+
+  public void setLocalListener(boolean localListener) {
+    this.localListener = localListener;
+  }
+
+  public Duration getRecoveryScanInterval() {
+    return recoveryScanInterval;
+  }
+
+  public void setRecoveryScanInterval(Duration recoveryScanInterval) {
+    this.recoveryScanInterval = recoveryScanInterval;
+  }
+
+  /**
+   * Traces the configuration attributes of the current object.
+   * Use the parent logger so it appears neater in the output.
+   */
+  public void traceProperties(Logger parentLogger) {
+    if (!parentLogger.isTraceEnabled()) {
+      return;
+    }
+
+    parentLogger.trace("XA");
+    parentLogger.trace("  statistics          : {}", isStatistics());
+    parentLogger.trace("  localListener       : {}", isLocalListener());
+    parentLogger.trace("  recoveryScanInterval: {}", getRecoveryScanInterval());
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © 2025 IBM Corp. All rights reserved.
+ * Copyright © 2025, 2026 IBM Corp. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
  * except in compliance with the License. You may obtain a copy of the License at
@@ -16,6 +16,8 @@ package com.ibm.mq.spring.boot;
 
 import org.springframework.boot.autoconfigure.service.connection.ConnectionDetails;
 
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+
 public interface MQConnectionDetails extends ConnectionDetails {
 
   String getConnName();
@@ -27,4 +29,15 @@ public interface MQConnectionDetails extends ConnectionDetails {
   String getUser();
 
   String getPassword();
+
+  /**
+   * The class instantiated for a non-XA connection factory. Implementations can return a
+   * subclass of MQConnectionFactory to replace the connection behaviour while keeping the caching,
+   * pooling and listener configuration of this package.
+   *
+   * @return the connection factory class, or null for the default
+   */
+  default Class<? extends MQConnectionFactory> getConnectionFactoryClass() {
+    return null;
+  }
 }
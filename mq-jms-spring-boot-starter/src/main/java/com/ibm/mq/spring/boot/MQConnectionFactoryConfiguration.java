@@ -30,11 +30,16 @@ import org.springframework.boot.autoconfigure.jms.JmsProperties;
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.jms.connection.CachingConnectionFactory;
 
 import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
 
 /**
  * Configuration for IBM MQ {@link ConnectionFactory}.
@@ -64,6 +69,8 @@ public class MQConnectionFactoryConfiguration {
         MQConfigurationProperties properties,
         ObjectProvider<SslBundles> sslBundles,
         ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers,
+        ObjectProvider<MQCircuitBreaker> circuitBreaker,
+        ObjectProvider<MQHandleStatistics> handleStatistics,
         JmsProperties jmsProperties) {
 
       JmsProperties.Cache cacheProperties = jmsProperties.getCache();
@@ -72,10 +79,21 @@ public class MQConnectionFactoryConfiguration {
       MQConnectionFactory wrappedConnectionFactory = createConnectionFactory(connectionDetails,
           properties, sslBundles, factoryCustomizers);
 
-      CachingConnectionFactory connectionFactory = new CachingConnectionFactory(wrappedConnectionFactory);
+      // Producers cached by the CachingConnectionFactory are never closed, so the handle limit could not
+      // make room by closing them. With a limit, they are cached by the session wrapper instead.
+      MQHandleStatistics handles = handleStatistics.getIfAvailable();
+      boolean limitProducers = handles != null && properties.getHandles().getLimit() > 0 && cacheProperties.isProducers();
+      int producerCacheSize = limitProducers ? properties.getProducerCache().getSize() : 0;
+
+      ConnectionFactory targetConnectionFactory = withSessionWrapper(withCircuitBreaker(withReload(wrappedConnectionFactory, properties), circuitBreaker),
+          producerCacheSize, null, handles, properties.getHandles(), null);
+      CachingConnectionFactory connectionFactory = new CachingConnectionFactory(targetConnectionFactory);
       connectionFactory.setCacheConsumers(cacheProperties.isConsumers());
-      connectionFactory.setCacheProducers(cacheProperties.isProducers());
+      connectionFactory.setCacheProducers(cacheProperties.isProducers() && !limitProducers);
       connectionFactory.setSessionCacheSize(cacheProperties.getSessionCacheSize());
+      if (limitProducers) {
+        logger.trace("Cached sessions keep up to {} producers, within the handle limit", producerCacheSize);
+      }
 
       return connectionFactory;
     }
@@ -90,6 +108,79 @@ public class MQConnectionFactoryConfiguration {
         .createConnectionFactory(MQConnectionFactory.class);
   }
 
+  // The MQConnectionFactory can only be replaced when it is held by the caching or pooling factory
+  private static ConnectionFactory withReload(MQConnectionFactory connectionFactory, MQConfigurationProperties properties) {
+    if (!properties.getReload().isEnabled()) {
+      return connectionFactory;
+    }
+    logger.trace("Connection configuration can be reloaded");
+    return new MQReloadableConnectionFactory(connectionFactory);
+  }
+
+  // The circuit breaker needs to see the exceptions reported on the MQ connections held by the
+  // caching or pooling factory.
+  private static ConnectionFactory withCircuitBreaker(ConnectionFactory connectionFactory, ObjectProvider<MQCircuitBreaker> circuitBreaker) {
+    MQCircuitBreaker breaker = circuitBreaker.getIfAvailable();
+    if (breaker == null) {
+      return connectionFactory;
+    }
+    logger.trace("Connections are monitored by the circuit breaker");
+    return new MQCircuitBreakerConnectionFactory(connectionFactory, breaker);
+  }
+
+  // Sessions need wrapping to cache producers, or to count the handles they open
+  private static ConnectionFactory withSessionWrapper(ConnectionFactory connectionFactory, int producerCacheSize,
+      MQProducerCacheStatistics producerCacheStatistics, MQHandleStatistics handleStatistics, MQConfigurationPropertiesHandles handles,
+      MQConnectionLayoutStatistics layoutStatistics) {
+    if (producerCacheSize <= 0 && handleStatistics == null && layoutStatistics == null) {
+      return connectionFactory;
+    }
+    MQProducerCachingConnectionFactory f = new MQProducerCachingConnectionFactory(connectionFactory, producerCacheSize, producerCacheStatistics);
+    if (handleStatistics != null) {
+      logger.trace("Sessions count open handles with a limit of {}", handles.getLimit());
+      f.setHandleStatistics(handleStatistics);
+      f.setHandleLimit(handles.getLimit());
+    }
+    f.setLayoutStatistics(layoutStatistics);
+    return f;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "ibm.mq.handles", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQHandleStatistics mqHandleStatistics(MQConnectionDetails connectionDetails) {
+    return new MQHandleStatistics(connectionDetails.getQueueManager());
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  @ConditionalOnProperty(prefix = "ibm.mq.handles", name = "enabled", havingValue = "true", matchIfMissing = false)
+  static class MQHandleMetricsConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    MQHandleMeterBinder mqHandleMeterBinder(MQHandleStatistics statistics) {
+      return new MQHandleMeterBinder(statistics);
+    }
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "ibm.mq.reload", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQConnectionFactoryReloader mqConnectionFactoryReloader(ConnectionFactory connectionFactory,
+      MQConnectionDetails connectionDetails,
+      MQConfigurationProperties properties,
+      Environment environment,
+      ObjectProvider<SslBundles> sslBundles,
+      ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers,
+      ObjectProvider<MQCcdtCache> ccdtCache) {
+    logger.trace("Creating connection factory reloader");
+    MQConnectionFactoryReloader reloader = new MQConnectionFactoryReloader(connectionFactory, connectionDetails, properties, environment,
+        sslBundles.getIfAvailable(), factoryCustomizers.getIfAvailable());
+    // Existing connections were made from the old CCDT
+    ccdtCache.ifAvailable(c -> c.setChangeListener(() -> reloader.reloadQuietly(true, "CCDT changed")));
+    return reloader;
+  }
+
   @Configuration(proxyBeanMethods = false)
   @ConditionalOnClass({ JmsPoolConnectionFactory.class, PooledObject.class })
   static public class PooledMQConnectionFactoryConfiguration {
@@ -98,12 +189,110 @@ public class MQConnectionFactoryConfiguration {
     @ConditionalOnProperty(prefix = "ibm.mq.pool", name = "enabled", havingValue = "true", matchIfMissing = false)
     public JmsPoolConnectionFactory pooledJmsConnectionFactory(MQConnectionDetails connectionDetails,MQConfigurationProperties properties,
         ObjectProvider<SslBundles> sslBundles,
-        ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers) {
+        ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers,
+        ObjectProvider<MQCircuitBreaker> circuitBreaker,
+        ObjectProvider<MQProducerCacheStatistics> producerCacheStatistics,
+        ObjectProvider<MQHandleStatistics> handleStatistics,
+        ObjectProvider<MQConnectionLayoutStatistics> layoutStatistics) throws JMSException {
 
       logger.trace("Creating pooled MQConnectionFactory");
       MQConnectionFactory connectionFactory = createConnectionFactory(connectionDetails, properties, sslBundles, factoryCustomizers);
+      MQConnectionLayout layout = connectionLayout(properties);
+      applyLayout(connectionFactory, properties, layout);
+
+      MQConfigurationPropertiesProducerCache producerCache = properties.getProducerCache();
+      int producerCacheSize = producerCache.isEnabled() ? producerCache.getSize() : 0;
+      ConnectionFactory targetConnectionFactory = withSessionWrapper(withCircuitBreaker(withReload(connectionFactory, properties), circuitBreaker),
+          producerCacheSize, producerCacheStatistics.getIfAvailable(), handleStatistics.getIfAvailable(), properties.getHandles(),
+          layoutStatistics.getIfAvailable());
+      // Connections made with an old configuration are drained from the pool after a reload
+      Class<? extends JmsPoolConnectionFactory> poolClass = properties.getReload().isEnabled() ? MQReloadableJmsPoolConnectionFactory.class : JmsPoolConnectionFactory.class;
+      JmsPoolConnectionFactory pooledConnectionFactory = createInstance(poolClass, targetConnectionFactory, properties.getPool());
+      if (layout != null && pooledConnectionFactory != null) {
+        pooledConnectionFactory.setMaxConnections(layout.getConnections());
+        pooledConnectionFactory.setMaxSessionsPerConnection(layout.getSessionsPerConnection());
+      }
+
+      // An anonymous producer opens the destination on every send, so the pool must ask the
+      // session for a producer per destination for the cache to be used.
+      if (producerCacheSize > 0 && pooledConnectionFactory != null) {
+        logger.trace("Pooled sessions cache up to {} producers", producerCacheSize);
+        pooledConnectionFactory.setUseAnonymousProducers(false);
+      }
+      return pooledConnectionFactory;
+    }
 
-      return createInstance(JmsPoolConnectionFactory.class, connectionFactory, properties.getPool());
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "ibm.mq.producerCache", name = "enabled", havingValue = "true", matchIfMissing = false)
+    public MQProducerCacheStatistics mqProducerCacheStatistics() {
+      return new MQProducerCacheStatistics();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnProperty(prefix = "ibm.mq.producerCache", name = "enabled", havingValue = "true", matchIfMissing = false)
+    static class MQProducerCacheMetricsConfiguration {
+      @Bean
+      @ConditionalOnMissingBean
+      MQProducerCacheMeterBinder mqProducerCacheMeterBinder(MQProducerCacheStatistics statistics) {
+        return new MQProducerCacheMeterBinder(statistics);
+      }
+    }
+
+    // The layout only sizes the pool, so there is nothing to report without one
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "ibm.mq", name = { "layout.enabled", "pool.enabled" }, havingValue = "true", matchIfMissing = false)
+    public MQConnectionLayoutStatistics mqConnectionLayoutStatistics(MQConfigurationProperties properties) {
+      MQConnectionLayout layout = connectionLayout(properties);
+      return new MQConnectionLayoutStatistics(layout.getConnections(), layout.getConversationsPerConnection());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnProperty(prefix = "ibm.mq", name = { "layout.enabled", "pool.enabled" }, havingValue = "true", matchIfMissing = false)
+    static class MQConnectionLayoutMetricsConfiguration {
+      @Bean
+      @ConditionalOnMissingBean
+      MQConnectionLayoutMeterBinder mqConnectionLayoutMeterBinder(MQConnectionLayoutStatistics statistics) {
+        return new MQConnectionLayoutMeterBinder(statistics);
+      }
+    }
+
+    static MQConnectionLayout connectionLayout(MQConfigurationProperties properties) {
+      MQConfigurationPropertiesLayout l = properties.getLayout();
+      if (!l.isEnabled()) {
+        return null;
+      }
+      MQConnectionLayout layout = MQConnectionLayout.plan(l.getSessions(), l.getConversationsPerSocket(), l.getShareCnv());
+      logger.trace("Connection layout: {}", layout);
+      return layout;
+    }
+
+    static void applyLayout(MQConnectionFactory connectionFactory, MQConfigurationProperties properties, MQConnectionLayout layout) throws JMSException {
+      if (layout == null) {
+        return;
+      }
+      if (!layout.isShareConversations()) {
+        connectionFactory.setShareConvAllowed(WMQConstants.WMQ_SHARE_CONV_ALLOWED_NO);
+      }
+      else if (!"CONNECTION".equalsIgnoreCase(properties.getChannelSharing())) {
+        // Channel sharing is a JVM-wide setting that the MQ client reads once, so it cannot be
+        // applied to this factory alone. Without it, pooled connections may share a socket.
+        logger.warn("Connection layout assumes one socket for each connection. Set ibm.mq.channelSharing=CONNECTION so that sockets are not shared");
+      }
+    }
+
+    // Used when the configuration is reloaded. The pool applies new sizes to the connections and
+    // sessions it creates from now on.
+    static void configurePool(JmsPoolConnectionFactory pooledConnectionFactory, JmsPoolConnectionFactoryProperties poolProperties,
+        MQConnectionLayout layout) {
+      setPoolOptions(pooledConnectionFactory, poolProperties);
+      if (layout != null) {
+        pooledConnectionFactory.setMaxConnections(layout.getConnections());
+        pooledConnectionFactory.setMaxSessionsPerConnection(layout.getSessionsPerConnection());
+      }
     }
 
     public static <T extends JmsPoolConnectionFactory> T createInstance(Class<T> factoryClass, ConnectionFactory connectionFactory,
@@ -117,23 +306,7 @@ public class MQConnectionFactoryConfiguration {
         pooledConnectionFactory = factoryClass.getConstructor().newInstance();
 
         pooledConnectionFactory.setConnectionFactory(connectionFactory);
-        pooledConnectionFactory.setBlockIfSessionPoolIsFull(poolProperties.isBlockIfFull());
-
-        if (poolProperties.getBlockIfFullTimeout() != null) {
-          pooledConnectionFactory.setBlockIfSessionPoolIsFullTimeout(poolProperties.getBlockIfFullTimeout().toMillis());
-        }
-
-        if (poolProperties.getIdleTimeout() != null) {
-          pooledConnectionFactory.setConnectionIdleTimeout((int) poolProperties.getIdleTimeout().toMillis());
-        }
-
-        pooledConnectionFactory.setMaxConnections(poolProperties.getMaxConnections());
-        pooledConnectionFactory.setMaxSessionsPerConnection(poolProperties.getMaxSessionsPerConnection());
-
-        if (poolProperties.getTimeBetweenExpirationCheck() != null) {
-          pooledConnectionFactory.setConnectionCheckInterval(poolProperties.getTimeBetweenExpirationCheck().toMillis());
-        }
-
+        setPoolOptions(pooledConnectionFactory, poolProperties);
         pooledConnectionFactory.setUseAnonymousProducers(poolProperties.isUseAnonymousProducers());
       }
       catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
@@ -142,5 +315,24 @@ public class MQConnectionFactoryConfiguration {
       return pooledConnectionFactory;
     }
 
+    private static void setPoolOptions(JmsPoolConnectionFactory pooledConnectionFactory, JmsPoolConnectionFactoryProperties poolProperties) {
+      pooledConnectionFactory.setBlockIfSessionPoolIsFull(poolProperties.isBlockIfFull());
+
+      if (poolProperties.getBlockIfFullTimeout() != null) {
+        pooledConnectionFactory.setBlockIfSessionPoolIsFullTimeout(poolProperties.getBlockIfFullTimeout().toMillis());
+      }
+
+      if (poolProperties.getIdleTimeout() != null) {
+        pooledConnectionFactory.setConnectionIdleTimeout((int) poolProperties.getIdleTimeout().toMillis());
+      }
+
+      pooledConnectionFactory.setMaxConnections(poolProperties.getMaxConnections());
+      pooledConnectionFactory.setMaxSessionsPerConnection(poolProperties.getMaxSessionsPerConnection());
+
+      if (poolProperties.getTimeBetweenExpirationCheck() != null) {
+        pooledConnectionFactory.setConnectionCheckInterval(poolProperties.getTimeBetweenExpirationCheck().toMillis());
+      }
+    }
+
   }
 }
\ No newline at end of file
@@ -66,7 +66,7 @@ public class MQConnectionFactoryFactory {
    * socket configuration with the older jks properties, then we can pass an option directly
    * to the client code (from 9.4.0).
    */
-  private static TrustManager[] trustAllCerts = { new X509TrustManager() {
+  static TrustManager[] trustAllCerts = { new X509TrustManager() {
     @Override
     public X509Certificate[] getAcceptedIssuers() {
       return null;
@@ -559,6 +559,12 @@ public class MQConnectionFactoryFactory {
   private <T extends MQConnectionFactory> T createConnectionFactoryInstance(Class<T> factoryClass)
       throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
     logger.trace("createConnectionFactoryInstance for class " + factoryClass.getSimpleName());
+    // The connection details may name a subclass to use instead, such as a stand-in for testing
+    Class<? extends MQConnectionFactory> detailsClass = this.connectionDetails.getConnectionFactoryClass();
+    if (detailsClass != null && factoryClass != detailsClass && factoryClass.isAssignableFrom(detailsClass)) {
+      logger.trace("createConnectionFactoryInstance using class " + detailsClass.getSimpleName());
+      return factoryClass.cast(detailsClass.getConstructor().newInstance());
+    }
     return factoryClass.getConstructor().newInstance();
   }
 
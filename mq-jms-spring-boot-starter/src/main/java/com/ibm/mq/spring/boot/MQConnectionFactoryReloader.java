@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.messaginghub.pooled.jms.JmsPoolConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jms.JmsPoolConnectionFactoryProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.connection.SingleConnectionFactory;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+
+/**
+ * Applies changes to the "ibm.mq" properties to a running connection factory.
+ * <p>
+ * The properties are bound again from the Environment. When the connection settings (endpoint,
+ * CCDT, credentials, TLS options or connection layout) have changed, a new MQConnectionFactory is built from them and
+ * used for all new connections. Pooled connections that already exist are drained: they are not handed
+ * out again, and are closed once they are no longer in use or the drain timeout passes. The caching
+ * factory has a single shared connection, which is reset. Changes to the pool sizes are applied to the
+ * pool directly.
+ * <p>
+ * A reload is started by the EnvironmentChangeEvent that Spring Cloud publishes after a refresh, by a
+ * change to any SSL bundle used by the connection factory, or by calling {@link #reload()}.
+ */
+public class MQConnectionFactoryReloader implements ApplicationListener<ApplicationEvent> {
+  private static Logger logger = LoggerFactory.getLogger(MQConnectionFactoryReloader.class);
+
+  /** The event published by Spring Cloud when the Environment has been refreshed */
+  static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+  private final ConnectionFactory connectionFactory;
+  private final MQReloadableConnectionFactory reloadable;
+  private final MQConnectionDetails connectionDetails;
+  private final Environment environment;
+  private final SslBundles sslBundles;
+  private final List<MQConnectionFactoryCustomizer> factoryCustomizers;
+  private final Duration drainTimeout;
+
+  private List<Object> connectionSettings;
+  private List<Object> poolSettings;
+  private long reloads = 0;
+
+  /**
+   * @param connectionFactory  - the application's connection factory, which must contain an {@link MQReloadableConnectionFactory}
+   * @param connectionDetails  - where the connection settings come from
+   * @param properties         - the properties used to create the connection factory
+   * @param environment        - where the updated properties are bound from
+   * @param sslBundles         - the SSL bundles. May be null
+   * @param factoryCustomizers - applied to each new MQConnectionFactory. May be null
+   */
+  public MQConnectionFactoryReloader(ConnectionFactory connectionFactory, MQConnectionDetails connectionDetails,
+      MQConfigurationProperties properties, Environment environment, SslBundles sslBundles,
+      List<MQConnectionFactoryCustomizer> factoryCustomizers) {
+    this.connectionFactory = connectionFactory;
+    this.reloadable = findReloadable(connectionFactory);
+    this.connectionDetails = connectionDetails;
+    this.environment = environment;
+    this.sslBundles = sslBundles;
+    this.factoryCustomizers = (factoryCustomizers != null) ? factoryCustomizers : Collections.emptyList();
+    this.drainTimeout = properties.getReload().getDrainTimeout();
+
+    this.connectionSettings = connectionSettings(details(properties), properties);
+    this.poolSettings = poolSettings(properties);
+
+    if (reloadable == null) {
+      logger.warn("Connection configuration cannot be reloaded: the caching or pooled connection factory is needed");
+      return;
+    }
+
+    if (sslBundles != null) {
+      for (String bundle : new String[] { properties.getSslBundle(), properties.getCcdtSslBundle(), properties.getTokenServer().getSslBundle() }) {
+        if (U.isNotNullOrEmpty(bundle)) {
+          sslBundles.addBundleUpdateHandler(bundle, b -> reloadQuietly(true, "SSL bundle " + bundle + " updated"));
+        }
+      }
+    }
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationEvent event) {
+    // Checked by name, so that Spring Cloud is not needed on the classpath
+    if (event.getClass().getName().equals(ENVIRONMENT_CHANGE_EVENT)) {
+      reloadQuietly(false, "Environment changed");
+    }
+  }
+
+  /**
+   * Bind the "ibm.mq" properties again, and apply any changes to the connection factory.
+   *
+   * @return true if the connection factory was changed
+   */
+  public boolean reload() {
+    return reload(false);
+  }
+
+  /**
+   * @return the number of times the configuration has been applied since the application started
+   */
+  public synchronized long getReloads() {
+    return reloads;
+  }
+
+  synchronized boolean reload(boolean force) {
+    if (reloadable == null) {
+      return false;
+    }
+
+    MQConfigurationProperties properties = Binder.get(environment).bindOrCreate("ibm.mq", MQConfigurationProperties.class);
+    MQConnectionDetails details = details(properties);
+    List<Object> newConnectionSettings = connectionSettings(details, properties);
+    List<Object> newPoolSettings = poolSettings(properties);
+
+    boolean reconnect = force || !newConnectionSettings.equals(connectionSettings);
+    boolean resize = !newPoolSettings.equals(poolSettings);
+    if (!reconnect && !resize) {
+      logger.trace("No changes to the connection configuration");
+      return false;
+    }
+
+    JmsPoolConnectionFactory pool = (connectionFactory instanceof JmsPoolConnectionFactory) ? (JmsPoolConnectionFactory) connectionFactory : null;
+    MQConnectionLayout layout = (pool != null) ? MQConnectionFactoryConfiguration.PooledMQConnectionFactoryConfiguration.connectionLayout(properties) : null;
+
+    if (reconnect) {
+      // Any failure here leaves the existing factory in use
+      MQConnectionFactory cf = new MQConnectionFactoryFactory(details, properties, sslBundles, factoryCustomizers)
+          .createConnectionFactory(MQConnectionFactory.class);
+      if (pool != null) {
+        try {
+          MQConnectionFactoryConfiguration.PooledMQConnectionFactoryConfiguration.applyLayout(cf, properties, layout);
+        }
+        catch (JMSException e) {
+          throw new IllegalStateException("Unable to apply the connection layout", e);
+        }
+      }
+      reloadable.setTargetConnectionFactory(cf);
+    }
+
+    if (pool != null) {
+      MQConnectionFactoryConfiguration.PooledMQConnectionFactoryConfiguration.configurePool(pool, properties.getPool(), layout);
+    }
+
+    if (reconnect) {
+      if (pool instanceof MQReloadableJmsPoolConnectionFactory) {
+        ((MQReloadableJmsPoolConnectionFactory) pool).drain(drainTimeout);
+      }
+      else if (connectionFactory instanceof CachingConnectionFactory) {
+        ((CachingConnectionFactory) connectionFactory).resetConnection();
+      }
+    }
+
+    connectionSettings = newConnectionSettings;
+    poolSettings = newPoolSettings;
+    reloads++;
+    logger.info("Connection configuration reloaded{}", reconnect ? "" : " (pool sizes only)");
+    return true;
+  }
+
+  void reloadQuietly(boolean force, String why) {
+    logger.trace("Reloading connection configuration: {}", why);
+    try {
+      reload(force);
+    }
+    catch (RuntimeException e) {
+      logger.warn("Connection configuration was not reloaded: {}", e.getMessage());
+    }
+  }
+
+  // Connection details given by another bean, such as a test container, are not from the properties
+  private MQConnectionDetails details(MQConfigurationProperties properties) {
+    if (connectionDetails == null || connectionDetails instanceof PropertiesMQConnectionDetails) {
+      return new PropertiesMQConnectionDetails(properties);
+    }
+    return connectionDetails;
+  }
+
+  private static List<Object> connectionSettings(MQConnectionDetails details, MQConfigurationProperties p) {
+    MQConfigurationPropertiesTokenServer t = p.getTokenServer();
+    return Arrays.asList(details.getQueueManager(), details.getChannel(), details.getConnName(),
+        details.getUser(), details.getPassword(), p.getToken(),
+        p.getCcdtUrl(), p.getCcdtSslBundle(),
+        p.getSslBundle(), p.getSslCipherSuite(), p.getSslCipherSpec(), p.getSslPeerName(),
+        t.getEndpoint(), t.getClientId(), t.getClientSecret(), t.getSslBundle(),
+        p.getApplicationName(),
+        p.getLayout().isEnabled(), p.getLayout().getSessions(), p.getLayout().getConversationsPerSocket(), p.getLayout().getShareCnv());
+  }
+
+  private static List<Object> poolSettings(MQConfigurationProperties p) {
+    JmsPoolConnectionFactoryProperties pool = p.getPool();
+    return Arrays.asList(pool.getMaxConnections(), pool.getMaxSessionsPerConnection(),
+        pool.isBlockIfFull(), pool.getBlockIfFullTimeout(), pool.getIdleTimeout(), pool.getTimeBetweenExpirationCheck());
+  }
+
+  static MQReloadableConnectionFactory findReloadable(Object cf) {
+    while (cf != null) {
+      if (cf instanceof MQReloadableConnectionFactory) {
+        return (MQReloadableConnectionFactory) cf;
+      }
+      else if (cf instanceof SingleConnectionFactory) {
+        cf = ((SingleConnectionFactory) cf).getTargetConnectionFactory();
+      }
+      else if (cf instanceof JmsPoolConnectionFactory) {
+        cf = ((JmsPoolConnectionFactory) cf).getConnectionFactory();
+      }
+      else if (cf instanceof MQCircuitBreakerConnectionFactory) {
+        cf = ((MQCircuitBreakerConnectionFactory) cf).getTargetConnectionFactory();
+      }
+      else if (cf instanceof MQProducerCachingConnectionFactory) {
+        cf = ((MQProducerCachingConnectionFactory) cf).getTargetConnectionFactory();
+      }
+      else {
+        cf = null;
+      }
+    }
+    return null;
+  }
+}
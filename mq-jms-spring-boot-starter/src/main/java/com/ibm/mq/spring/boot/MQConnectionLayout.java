@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+/**
+ * Decides how the pooled connection factory spreads its sessions over TCP/IP sockets.
+ * <p>
+ * Each JMS connection and each JMS session is an MQ conversation. A channel instance, which is one socket,
+ * carries up to SHARECNV conversations, and conversations on the same socket take turns to send. With the
+ * channel sharing strategy set to CONNECTION, a socket only carries conversations from one JMS connection.
+ * So if each pooled connection has no more sessions than fit beside it on a socket, every pooled connection
+ * has a socket to itself. The layout picks the number of connections and sessions per connection to achieve
+ * that for a given number of sessions and a target number of conversations per socket. A target of 1 turns
+ * off conversation sharing, so every connection and session gets its own socket.
+ * <p>
+ * SHARECNV is agreed between the client and the SVRCONN channel when the socket is opened, and JMS does not
+ * report the result, so the value to plan with is given in the configuration.
+ */
+public class MQConnectionLayout {
+
+  /** The SHARECNV value of a channel that has not been changed */
+  public static final int DEFAULT_SHARECNV = 10;
+
+  private final int connections;
+  private final int sessionsPerConnection;
+  private final boolean shareConversations;
+  private final int sockets;
+
+  private MQConnectionLayout(int connections, int sessionsPerConnection, boolean shareConversations, int sockets) {
+    this.connections = connections;
+    this.sessionsPerConnection = sessionsPerConnection;
+    this.shareConversations = shareConversations;
+    this.sockets = sockets;
+  }
+
+  /**
+   * @param sessions               - the number of sessions the pool must be able to provide at once
+   * @param conversationsPerSocket - the most conversations to put on one socket. 0 means as many as SHARECNV allows
+   * @param shareCnv               - the SHARECNV value of the channel
+   * @return the layout
+   */
+  public static MQConnectionLayout plan(int sessions, int conversationsPerSocket, int shareCnv) {
+    if (sessions < 1) {
+      throw new IllegalArgumentException("The number of sessions must be at least 1");
+    }
+    int perSocket = (shareCnv > 0) ? shareCnv : 1;
+    if (conversationsPerSocket > 0) {
+      perSocket = Math.min(perSocket, conversationsPerSocket);
+    }
+
+    // A connection needs a conversation of its own, so there must be room for at least one session beside it
+    if (perSocket <= 1) {
+      return new MQConnectionLayout(1, sessions, false, 1 + sessions);
+    }
+    int sessionsPerConnection = perSocket - 1;
+    int connections = (sessions + sessionsPerConnection - 1) / sessionsPerConnection;
+    return new MQConnectionLayout(connections, sessionsPerConnection, true, connections);
+  }
+
+  /**
+   * @return the maximum number of connections for the pool
+   */
+  public int getConnections() {
+    return connections;
+  }
+
+  /**
+   * @return the maximum number of sessions on each pooled connection
+   */
+  public int getSessionsPerConnection() {
+    return sessionsPerConnection;
+  }
+
+  /**
+   * @return whether conversations share sockets. If not, the connection factory must not allow sharing
+   */
+  public boolean isShareConversations() {
+    return shareConversations;
+  }
+
+  /**
+   * @return the number of sockets used when the pool is full
+   */
+  public int getSockets() {
+    return sockets;
+  }
+
+  /**
+   * @return the number of conversations on each pooled connection's socket when it is full
+   */
+  public int getConversationsPerConnection() {
+    return sessionsPerConnection + 1;
+  }
+
+  @Override
+  public String toString() {
+    return "connections=" + connections + " sessionsPerConnection=" + sessionsPerConnection
+        + " shareConversations=" + shareConversations + " sockets=" + sockets;
+  }
+}
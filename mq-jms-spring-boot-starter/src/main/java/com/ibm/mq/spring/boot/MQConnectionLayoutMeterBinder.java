@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the {@link MQConnectionLayoutStatistics} as Micrometer gauges, tagged with the connection's slot.
+ */
+public class MQConnectionLayoutMeterBinder implements MeterBinder {
+
+  private final MQConnectionLayoutStatistics statistics;
+
+  public MQConnectionLayoutMeterBinder(MQConnectionLayoutStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    statistics.setSlotListener(slot -> gauges(registry, slot));
+    for (int slot = 0; slot < statistics.getSlots(); slot++) {
+      gauges(registry, slot);
+    }
+  }
+
+  private void gauges(MeterRegistry registry, int slot) {
+    String tag = Integer.toString(slot);
+    Gauge.builder("ibm.mq.layout.conversations", statistics, s -> s.getConversations(slot))
+        .description("Conversations in use on a pooled connection")
+        .tag("connection", tag).register(registry);
+    Gauge.builder("ibm.mq.layout.utilization", statistics, s -> s.getUtilization(slot))
+        .description("Conversations in use on a pooled connection as a fraction of those that fill it")
+        .tag("connection", tag).register(registry);
+  }
+}
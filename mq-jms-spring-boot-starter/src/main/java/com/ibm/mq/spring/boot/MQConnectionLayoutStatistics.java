@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Counts the conversations in use on each connection of the pooled connection factory. When the pool follows
+ * an {@link MQConnectionLayout}, each connection has its own socket, so these are also the conversations on each
+ * socket. Connections are numbered by slot, and a slot is reused when its connection closes, so the number of
+ * slots stays within the pool's maximum connections.
+ */
+public class MQConnectionLayoutStatistics {
+
+  private final int capacity;
+  private final AtomicIntegerArray conversations;
+  private final boolean[] used;
+  private int slotsSeen = 0;
+
+  private volatile IntConsumer slotListener = null;
+
+  /**
+   * @param maxConnections - the most connections that can be open at once
+   * @param capacity       - the number of conversations that fill one connection
+   */
+  public MQConnectionLayoutStatistics(int maxConnections, int capacity) {
+    this.capacity = Math.max(1, capacity);
+    this.conversations = new AtomicIntegerArray(Math.max(1, maxConnections));
+    this.used = new boolean[conversations.length()];
+  }
+
+  // Returns -1 if every slot is in use, in which case the connection is not counted
+  synchronized int connectionOpened() {
+    for (int i = 0; i < used.length; i++) {
+      if (!used[i]) {
+        used[i] = true;
+        conversations.set(i, 1);
+        if (i >= slotsSeen) {
+          slotsSeen = i + 1;
+          IntConsumer l = slotListener;
+          if (l != null) {
+            l.accept(i);
+          }
+        }
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  synchronized void connectionClosed(int slot) {
+    if (slot >= 0) {
+      used[slot] = false;
+      conversations.set(slot, 0);
+    }
+  }
+
+  void sessionOpened(int slot) {
+    if (slot >= 0) {
+      conversations.incrementAndGet(slot);
+    }
+  }
+
+  void sessionClosed(int slot) {
+    if (slot >= 0) {
+      conversations.decrementAndGet(slot);
+    }
+  }
+
+  /**
+   * @param listener - called with each slot number when it is first used
+   */
+  synchronized void setSlotListener(IntConsumer listener) {
+    this.slotListener = listener;
+  }
+
+  /**
+   * @return the number of slots that have been used
+   */
+  public synchronized int getSlots() {
+    return slotsSeen;
+  }
+
+  /**
+   * @param slot - the connection's slot
+   * @return the conversations in use on the connection: one for the connection and one for each session
+   */
+  public int getConversations(int slot) {
+    return conversations.get(slot);
+  }
+
+  /**
+   * @param slot - the connection's slot
+   * @return the conversations in use as a fraction of those that fill the connection
+   */
+  public double getUtilization(int slot) {
+    return (double) conversations.get(slot) / capacity;
+  }
+}
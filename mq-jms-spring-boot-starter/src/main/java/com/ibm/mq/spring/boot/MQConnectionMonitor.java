@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+/**
+ * Checks in the background that connection factories can reach their queue manager, and keeps
+ * the latest result for each of them. Readers such as a health endpoint get the cached result
+ * immediately, regardless of how long a check takes.
+ * <p>
+ * A check takes a connection and a transacted session from the factory and commits the empty
+ * unit of work, which needs a round trip to the queue manager but no access to any queue. When the
+ * factory is caching or pooling, the connection and session are borrowed and then returned, so
+ * the check does not add a connection to the queue manager.
+ */
+public class MQConnectionMonitor {
+  private static Logger logger = LoggerFactory.getLogger(MQConnectionMonitor.class);
+
+  /**
+   * The latest known state of a connection factory. A check is in progress when
+   * {@link #getCheckStarted()} is later than {@link #getCheckedAt()}.
+   */
+  public static final class State {
+    private volatile Boolean up = null;
+    private volatile long checkedAt = 0;
+    private volatile long checkStarted = 0;
+    private volatile long durationMillis = 0;
+    private volatile String error = null;
+
+    /**
+     * @return the result of the latest check, or null if no check has completed
+     */
+    public Boolean getUp() {
+      return up;
+    }
+
+    /**
+     * @return when the latest check completed, in milliseconds since the epoch. 0 if none has completed
+     */
+    public long getCheckedAt() {
+      return checkedAt;
+    }
+
+    /**
+     * @return when the latest check started, in milliseconds since the epoch. 0 if none has started
+     */
+    public long getCheckStarted() {
+      return checkStarted;
+    }
+
+    public long getDurationMillis() {
+      return durationMillis;
+    }
+
+    /**
+     * @return the failure from the latest check, or null if it succeeded
+     */
+    public String getError() {
+      return error;
+    }
+
+    /**
+     * @param now - the current time in milliseconds since the epoch
+     * @return how long the current check has been running, or 0 if there is none
+     */
+    public long inProgressMillis(long now) {
+      long started = checkStarted;
+      return (started > checkedAt) ? now - started : 0;
+    }
+  }
+
+  private final Map<String, ConnectionFactory> connectionFactories;
+  private final Map<String, State> states = new LinkedHashMap<>();
+  private final Duration interval;
+  private final Duration timeout;
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * @param connectionFactories - the factories to check, by name
+   * @param interval            - time between checks. Null or zero means checks are only run by calling {@link #check()}
+   * @param timeout             - how long a check can run before readers should treat the factory as failed
+   */
+  public MQConnectionMonitor(Map<String, ConnectionFactory> connectionFactories, Duration interval, Duration timeout) {
+    this.connectionFactories = new LinkedHashMap<>(connectionFactories);
+    this.interval = interval;
+    this.timeout = timeout;
+    this.connectionFactories.keySet().forEach(name -> states.put(name, new State()));
+  }
+
+  public synchronized void start() {
+    if (interval == null || interval.isZero() || interval.isNegative() || scheduler != null) {
+      return;
+    }
+    logger.trace("Starting connection checks for {} every {}", connectionFactories.keySet(), interval);
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "mq-health");
+      t.setDaemon(true);
+      return t;
+    });
+    // The first check runs straight away, so that readiness is known as soon as possible
+    scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  /**
+   * Check each of the connection factories in turn.
+   */
+  public void check() {
+    connectionFactories.forEach((name, cf) -> check(name, cf, states.get(name)));
+  }
+
+  private void check(String name, ConnectionFactory cf, State state) {
+    long start = System.currentTimeMillis();
+    state.checkStarted = start;
+    String error = null;
+    try (Connection connection = cf.createConnection();
+        Session session = connection.createSession(true, Session.SESSION_TRANSACTED)) {
+      if (session.getTransacted()) {
+        session.commit();
+      }
+    }
+    catch (JMSException | RuntimeException e) {
+      error = e.getMessage();
+      if (e instanceof JMSException && ((JMSException) e).getLinkedException() != null) {
+        error += " (" + ((JMSException) e).getLinkedException().getMessage() + ")";
+      }
+    }
+    long end = System.currentTimeMillis();
+
+    Boolean previous = state.up;
+    state.error = error;
+    state.durationMillis = end - start;
+    state.up = (error == null);
+    state.checkedAt = end;
+
+    if (error != null && !Boolean.FALSE.equals(previous)) {
+      logger.warn("Connection check for {} failed: {}", name, error);
+    }
+    else if (error == null && Boolean.FALSE.equals(previous)) {
+      logger.info("Connection check for {} succeeded", name);
+    }
+  }
+
+  /**
+   * @return the latest state of each connection factory, by name
+   */
+  public Map<String, State> getStates() {
+    return Collections.unmodifiableMap(states);
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.jms.support.JmsUtils;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * A DefaultMessageListenerContainer that runs a list of {@link MQMessageListenerInterceptor}s around
+ * each listener invocation. With no interceptors, it behaves exactly as its superclass.
+ * <p>
+ * The container can also spread its consumers across several connections rather than creating all of
+ * their sessions on the one shared connection. With "channelSharing=CONNECTION", each MQ connection then
+ * gets its own TCP/IP socket, so that concurrent consumers, for example on a shared subscription, are not
+ * limited by one socket. Sessions are assigned to connections in turn as the consumers start. This only
+ * applies when the cache level shares a connection, which is the default.
+ */
+public class MQDefaultMessageListenerContainer extends DefaultMessageListenerContainer {
+
+  private List<MQMessageListenerInterceptor> interceptors = new ArrayList<>();
+
+  private int connections = 1;
+  private final List<Connection> extraConnections = new ArrayList<>();
+  private final AtomicInteger nextConnection = new AtomicInteger();
+  private boolean extraConnectionsStarted = false;
+
+  public void setInterceptors(List<MQMessageListenerInterceptor> interceptors) {
+    this.interceptors = (interceptors != null) ? new ArrayList<>(interceptors) : new ArrayList<>();
+  }
+
+  public List<MQMessageListenerInterceptor> getInterceptors() {
+    return interceptors;
+  }
+
+  /**
+   * @param connections - the number of connections to spread the consumers' sessions across. Default 1
+   */
+  public void setConnections(int connections) {
+    if (connections < 1) {
+      throw new IllegalArgumentException("The number of connections must be at least 1");
+    }
+    this.connections = connections;
+  }
+
+  public int getConnections() {
+    return connections;
+  }
+
+  @Override
+  protected void validateConfiguration() {
+    super.validateConfiguration();
+    // A client ID may only be used by one connection at a time
+    if (connections > 1 && getClientId() != null) {
+      throw new IllegalArgumentException("A client ID cannot be set when using more than one connection");
+    }
+  }
+
+  @Override
+  protected Session createSession(Connection con) throws JMSException {
+    if (connections > 1 && sharedConnectionEnabled()) {
+      int index = Math.floorMod(nextConnection.getAndIncrement(), connections);
+      if (index > 0) {
+        con = getExtraConnection(index - 1);
+      }
+    }
+    return super.createSession(con);
+  }
+
+  // Connections beyond the shared one are made as they are first needed, and started with it
+  private Connection getExtraConnection(int index) throws JMSException {
+    synchronized (extraConnections) {
+      while (extraConnections.size() <= index) {
+        Connection c = createSharedConnection();
+        if (extraConnectionsStarted) {
+          c.start();
+        }
+        extraConnections.add(c);
+      }
+      return extraConnections.get(index);
+    }
+  }
+
+  @Override
+  protected void startSharedConnection() {
+    super.startSharedConnection();
+    synchronized (extraConnections) {
+      extraConnectionsStarted = true;
+      for (Connection c : extraConnections) {
+        try {
+          c.start();
+        }
+        catch (JMSException e) {
+          logger.debug("Ignoring Connection start exception - assuming already started: " + e);
+        }
+      }
+    }
+  }
+
+  @Override
+  protected void stopSharedConnection() {
+    super.stopSharedConnection();
+    synchronized (extraConnections) {
+      extraConnectionsStarted = false;
+      for (Connection c : extraConnections) {
+        try {
+          c.stop();
+        }
+        catch (JMSException e) {
+          logger.debug("Ignoring Connection stop exception - assuming already stopped: " + e);
+        }
+      }
+    }
+  }
+
+  // After a failure, the extra connections are made again as the consumers recover
+  @Override
+  protected void refreshConnectionUntilSuccessful() {
+    closeExtraConnections();
+    super.refreshConnectionUntilSuccessful();
+  }
+
+  @Override
+  protected void doShutdown() throws JMSException {
+    super.doShutdown();
+    closeExtraConnections();
+  }
+
+  private void closeExtraConnections() {
+    synchronized (extraConnections) {
+      for (Connection c : extraConnections) {
+        JmsUtils.closeConnection(c);
+      }
+      extraConnections.clear();
+    }
+  }
+
+  @Override
+  protected void invokeListener(Session session, Message message) throws JMSException {
+    if (interceptors.isEmpty()) {
+      super.invokeListener(session, message);
+    }
+    else {
+      invokeInterceptor(0, session, message);
+    }
+  }
+
+  @Override
+  protected void commitIfNecessary(Session session, Message message) throws JMSException {
+    super.commitIfNecessary(session, message);
+    if (message != null) {
+      for (MQMessageListenerInterceptor interceptor : interceptors) {
+        interceptor.afterCommit(session, message);
+      }
+    }
+  }
+
+  private void invokeInterceptor(int index, Session session, Message message) throws JMSException {
+    if (index < interceptors.size()) {
+      interceptors.get(index).intercept(session, message, () -> invokeInterceptor(index + 1, session, message));
+    }
+    else {
+      super.invokeListener(session, message);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.autoconfigure.jms.JmsProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.destination.DestinationResolver;
+
+import jakarta.jms.JMSException;
+
+/**
+ * Creates the MQ-aware DestinationResolver, which is then used by the JmsTemplate and listener
+ * containers, and applies the header mode to JmsTemplate beans. Nothing is created unless
+ * ibm.mq.headers or ibm.mq.destinations options are set.
+ */
+@Configuration(proxyBeanMethods = false)
+class MQDestinationConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQDestinationConfiguration.class);
+
+  @Bean
+  @ConditionalOnMissingBean(DestinationResolver.class)
+  @Conditional(MQDestinationResolverCondition.class)
+  public MQDestinationResolver mqDestinationResolver(MQConfigurationProperties properties, JmsProperties jmsProperties) throws JMSException {
+    MQConfigurationPropertiesHeaders headers = properties.getHeaders();
+
+    // Without an MQRFH2 header, the JMSType and the properties that mark converted messages are not sent,
+    // so the receiver could not turn the body back into an object
+    if (headers.usesMQMode() && (properties.getCompression().isEnabled() || properties.getBinary().isEnabled())) {
+      throw new IllegalStateException("Header mode MQ cannot be used with ibm.mq.compression or ibm.mq.binary enabled");
+    }
+
+    logger.trace("Creating MQ DestinationResolver");
+    MQDestinationResolver resolver = new MQDestinationResolver(headers.getMode(), headers.getDestinations(), properties.getDestinations());
+    resolver.preResolve(jmsProperties.isPubSubDomain());
+    return resolver;
+  }
+
+  // Static, as post-processors are created before the rest of the configuration. The JmsTemplate beans
+  // may be created by Spring Boot or by the application, so they are adjusted after construction. The
+  // message ID and timestamp options belong to the template's producers, so a template takes the mode of
+  // its default destination if that name has its own mode, and the mode for all destinations otherwise.
+  @Bean
+  @Conditional(MQHeadersCondition.class)
+  static BeanPostProcessor mqHeaderModeTemplatePostProcessor(Environment environment) {
+    MQConfigurationPropertiesHeaders headers = Binder.get(environment)
+        .bind("ibm.mq.headers", MQConfigurationPropertiesHeaders.class)
+        .orElseGet(MQConfigurationPropertiesHeaders::new);
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof JmsTemplate) {
+          JmsTemplate t = (JmsTemplate) bean;
+          MQHeaderMode mode = headers.modeFor(t.getDefaultDestinationName());
+          if (mode != MQHeaderMode.JMS) {
+            logger.trace("Disabling message IDs and timestamps for {}", beanName);
+            t.setMessageIdEnabled(false);
+            t.setMessageTimestampEnabled(false);
+          }
+        }
+        return bean;
+      }
+    };
+  }
+
+  // Any ibm.mq.headers option. The destination map cannot be tested with @ConditionalOnProperty
+  static class MQHeadersCondition extends SpringBootCondition {
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      if (Binder.get(context.getEnvironment()).bind("ibm.mq.headers", MQConfigurationPropertiesHeaders.class).isBound()) {
+        return ConditionOutcome.match("ibm.mq.headers options are set");
+      }
+      return ConditionOutcome.noMatch("No ibm.mq.headers options are set");
+    }
+  }
+
+  // Any ibm.mq.destinations.<name> option
+  static class MQDestinationOptionsCondition extends SpringBootCondition {
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      if (Binder.get(context.getEnvironment())
+          .bind("ibm.mq.destinations", Bindable.mapOf(String.class, MQConfigurationPropertiesDestination.class)).isBound()) {
+        return ConditionOutcome.match("ibm.mq.destinations options are set");
+      }
+      return ConditionOutcome.noMatch("No ibm.mq.destinations options are set");
+    }
+  }
+
+  // Either header or destination options
+  static class MQDestinationResolverCondition extends AnyNestedCondition {
+    MQDestinationResolverCondition() {
+      super(ConfigurationPhase.REGISTER_BEAN);
+    }
+
+    @Conditional(MQHeadersCondition.class)
+    static class Headers {
+    }
+
+    @Conditional(MQDestinationOptionsCondition.class)
+    static class Options {
+    }
+  }
+}
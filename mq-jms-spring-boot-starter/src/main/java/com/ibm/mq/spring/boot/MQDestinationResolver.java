@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.destination.DynamicDestinationResolver;
+
+import com.ibm.mq.jakarta.jms.MQDestination;
+import com.ibm.mq.jakarta.jms.MQQueue;
+import com.ibm.mq.jakarta.jms.MQTopic;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+/**
+ * A DestinationResolver that applies MQ-specific options to the queues and topics it resolves by name.
+ * A destination whose {@link MQHeaderMode} is MQ is given targetClient=MQ, so messages sent to it carry
+ * no MQRFH2 header. The mode can be set for all destinations, and overridden for individual names. A
+ * name set to MINIMAL or JMS keeps its MQRFH2 header even when the mode for all destinations is MQ.
+ * The message ID and timestamp options of MINIMAL belong to the producer rather than the destination,
+ * and are applied to JmsTemplates by the auto-configuration.
+ * Further options for individual names come from {@link MQConfigurationPropertiesDestination}.
+ * <p>
+ * Resolved MQ destinations are cached by name, so the parsing of names and URIs and the setting of
+ * options happens only once for each name rather than on every send. JMS destinations are safe for
+ * concurrent use, and MQ destination objects are not tied to the session that created them, so
+ * the cached objects are shared by all sessions. The cache is bounded; once full, further names are
+ * still resolved but not cached.
+ */
+public class MQDestinationResolver extends DynamicDestinationResolver {
+  private static Logger logger = LoggerFactory.getLogger(MQDestinationResolver.class);
+
+  /** The default maximum number of queues and topics that are cached */
+  public static final int DEFAULT_CACHE_LIMIT = 1000;
+
+  private final MQHeaderMode defaultHeaderMode;
+  private final Map<String, MQHeaderMode> headerModes;
+  private final Map<String, MQConfigurationPropertiesDestination> options;
+
+  private final Map<String, Destination> queueCache = new ConcurrentHashMap<>();
+  private final Map<String, Destination> topicCache = new ConcurrentHashMap<>();
+  private int cacheLimit = DEFAULT_CACHE_LIMIT;
+
+  /**
+   * @param defaultHeaderMode - the mode for destinations not in the map
+   * @param headerModes       - modes for individual destination names
+   */
+  public MQDestinationResolver(MQHeaderMode defaultHeaderMode, Map<String, MQHeaderMode> headerModes) {
+    this(defaultHeaderMode, headerModes, null);
+  }
+
+  /**
+   * @param defaultHeaderMode - the mode for destinations not in the map
+   * @param headerModes       - modes for individual destination names
+   * @param options           - further options for individual destination names
+   */
+  public MQDestinationResolver(MQHeaderMode defaultHeaderMode, Map<String, MQHeaderMode> headerModes,
+      Map<String, MQConfigurationPropertiesDestination> options) {
+    this.defaultHeaderMode = (defaultHeaderMode != null) ? defaultHeaderMode : MQHeaderMode.JMS;
+    this.headerModes = (headerModes != null) ? new HashMap<>(headerModes) : new HashMap<>();
+    this.options = (options != null) ? new HashMap<>(options) : new HashMap<>();
+  }
+
+  /**
+   * @param cacheLimit - the maximum number of queues, and of topics, to cache. 0 disables caching
+   */
+  public void setCacheLimit(int cacheLimit) {
+    this.cacheLimit = cacheLimit;
+  }
+
+  @Override
+  public Destination resolveDestinationName(Session session, String destinationName, boolean pubSubDomain) throws JMSException {
+    Map<String, Destination> cache = pubSubDomain ? topicCache : queueCache;
+    Destination d = cache.get(destinationName);
+    if (d != null) {
+      return d;
+    }
+
+    d = super.resolveDestinationName(session, destinationName, pubSubDomain);
+    if (d instanceof MQDestination) {
+      configure((MQDestination) d, destinationName);
+      cache(cache, destinationName, d);
+    }
+    return d;
+  }
+
+  /**
+   * Create and cache the destinations that have configured options, without needing a connection to
+   * the queue manager. Any errors in the options are reported here rather than on the first send.
+   *
+   * @param pubSubDomain - whether the names refer to topics rather than queues
+   * @throws JMSException if a name or option is not valid
+   */
+  public void preResolve(boolean pubSubDomain) throws JMSException {
+    Map<String, Destination> cache = pubSubDomain ? topicCache : queueCache;
+    for (String name : options.keySet()) {
+      MQDestination d = pubSubDomain ? new MQTopic(name) : new MQQueue(name);
+      configure(d, name);
+      cache(cache, name, d);
+      logger.trace("Pre-resolved destination {}", name);
+    }
+  }
+
+  /**
+   * Remove all cached destinations, so that names are resolved again on their next use.
+   */
+  public void clearCache() {
+    queueCache.clear();
+    topicCache.clear();
+  }
+
+  private void cache(Map<String, Destination> cache, String destinationName, Destination d) {
+    if (cache.size() < cacheLimit) {
+      cache.putIfAbsent(destinationName, d);
+    }
+  }
+
+  private void configure(MQDestination d, String destinationName) throws JMSException {
+    applyHeaderMode(d, destinationName);
+    MQConfigurationPropertiesDestination o = options.get(destinationName);
+    if (o != null) {
+      o.apply(d);
+    }
+  }
+  /**
+   * @param destinationName - the name of a destination
+   * @return the header mode set for the name, or the mode for all destinations
+   */
+  public MQHeaderMode getHeaderMode(String destinationName) {
+    MQHeaderMode mode = headerModes.get(destinationName);
+    return (mode != null) ? mode : defaultHeaderMode;
+  }
+
+  // An explicit setting for the name always applies. Otherwise only a default of MQ changes the
+  // destination, so that a "targetClient" given in a queue:/// URI is not overridden.
+  private void applyHeaderMode(MQDestination d, String destinationName) throws JMSException {
+    if (headerModes.containsKey(destinationName) || defaultHeaderMode == MQHeaderMode.MQ) {
+      MQHeaderMode mode = getHeaderMode(destinationName);
+      d.setTargetClient((mode == MQHeaderMode.MQ) ? WMQConstants.WMQ_CLIENT_NONJMS_MQ : WMQConstants.WMQ_CLIENT_JMS_COMPLIANT);
+    }
+  }
+}
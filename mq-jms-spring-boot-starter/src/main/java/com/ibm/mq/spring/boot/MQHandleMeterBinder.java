@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the {@link MQHandleStatistics} as Micrometer meters, tagged with the queue manager name.
+ * A gauge of open handles is added for each destination as it is first used.
+ */
+public class MQHandleMeterBinder implements MeterBinder {
+
+  private final MQHandleStatistics statistics;
+
+  public MQHandleMeterBinder(MQHandleStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    MQHandleStatistics s = statistics;
+    String qm = s.getQueueManager();
+    FunctionCounter.builder("ibm.mq.handles.opened", s, MQHandleStatistics::getOpened)
+        .description("Queue and topic handles opened")
+        .tag("queueManager", qm).register(registry);
+    FunctionCounter.builder("ibm.mq.handles.closed", s, MQHandleStatistics::getClosed)
+        .description("Queue and topic handles closed")
+        .tag("queueManager", qm).register(registry);
+    FunctionCounter.builder("ibm.mq.handles.evictions", s, MQHandleStatistics::getEvictions)
+        .description("Cached producers closed because a session reached its handle limit")
+        .tag("queueManager", qm).register(registry);
+
+    MQLatencyHistogram h = s.getOpenLatency();
+    FunctionTimer.builder("ibm.mq.handles.open.time", h, MQLatencyHistogram::getCount, MQLatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+        .tag("queueManager", qm).register(registry);
+    Gauge.builder("ibm.mq.handles.open.time.max", h, MQLatencyHistogram::getMaxMillis)
+        .baseUnit("milliseconds")
+        .tag("queueManager", qm).register(registry);
+
+    s.setDestinationListener(d -> gauge(registry, d));
+    for (String d : s.getDestinations()) {
+      gauge(registry, d);
+    }
+  }
+
+  private void gauge(MeterRegistry registry, String destination) {
+    Gauge.builder("ibm.mq.handles.open", statistics, x -> x.getOpen(destination))
+        .description("Queue and topic handles currently open")
+        .tag("queueManager", statistics.getQueueManager())
+        .tag("destination", destination).register(registry);
+  }
+}
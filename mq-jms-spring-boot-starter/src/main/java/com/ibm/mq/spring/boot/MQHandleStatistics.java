@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.ibm.mq.jakarta.jms.MQQueue;
+import com.ibm.mq.jakarta.jms.MQTopic;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Queue;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.Topic;
+
+/**
+ * Counts the queue and topic handles held open by producers, consumers and browsers in the sessions of
+ * an {@link MQProducerCachingConnectionFactory}. Handles are counted per destination name. Temporary
+ * destinations are counted together, and once {@link #MAX_DESTINATIONS} names have been seen any others
+ * are counted together too, so that a large number of reply queues does not give a large number of meters.
+ */
+public class MQHandleStatistics {
+
+  /** The maximum number of destination names counted separately */
+  public static final int MAX_DESTINATIONS = 1000;
+
+  /** The name under which temporary queues and topics are counted */
+  public static final String TEMPORARY = "temporary";
+
+  /** The name under which destinations beyond the limit are counted */
+  public static final String OTHER = "other";
+
+  private final String queueManager;
+
+  private final Map<String, AtomicLong> open = new ConcurrentHashMap<>();
+  private final LongAdder opened = new LongAdder();
+  private final LongAdder closed = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final MQLatencyHistogram openLatency = new MQLatencyHistogram();
+
+  private volatile Consumer<String> destinationListener = null;
+
+  /**
+   * @param queueManager - the name of the queue manager, used to label the meters. May be empty
+   */
+  public MQHandleStatistics(String queueManager) {
+    this.queueManager = (queueManager != null) ? queueManager : "";
+  }
+
+  void recordOpen(Destination destination, long nanos) {
+    opened.increment();
+    openLatency.record(nanos);
+    counter(destination).incrementAndGet();
+  }
+
+  void recordClose(Destination destination) {
+    closed.increment();
+    counter(destination).decrementAndGet();
+  }
+
+  void recordEviction() {
+    evictions.increment();
+  }
+
+  private AtomicLong counter(Destination destination) {
+    String name = name(destination);
+    AtomicLong c = open.get(name);
+    if (c == null) {
+      if (open.size() >= MAX_DESTINATIONS) {
+        name = OTHER;
+      }
+      AtomicLong n = new AtomicLong();
+      c = open.putIfAbsent(name, n);
+      if (c == null) {
+        c = n;
+        Consumer<String> l = destinationListener;
+        if (l != null) {
+          l.accept(name);
+        }
+      }
+    }
+    return c;
+  }
+
+  static String name(Destination destination) {
+    try {
+      if (destination instanceof TemporaryQueue || destination instanceof TemporaryTopic) {
+        return TEMPORARY;
+      }
+      // The MQ classes return a queue:/// or topic:// URI from the JMS methods
+      if (destination instanceof MQQueue) {
+        return ((MQQueue) destination).getBaseQueueName();
+      }
+      if (destination instanceof MQTopic) {
+        return ((MQTopic) destination).getBaseTopicName();
+      }
+      if (destination instanceof Queue) {
+        return ((Queue) destination).getQueueName();
+      }
+      if (destination instanceof Topic) {
+        return ((Topic) destination).getTopicName();
+      }
+    }
+    catch (JMSException e) {
+      // Fall through to use the string form
+    }
+    return String.valueOf(destination);
+  }
+
+  /**
+   * @param listener - called with each destination name when it is first counted
+   */
+  void setDestinationListener(Consumer<String> listener) {
+    this.destinationListener = listener;
+  }
+
+  public String getQueueManager() {
+    return queueManager;
+  }
+
+  /**
+   * @return the destination names that have been counted
+   */
+  public Set<String> getDestinations() {
+    return open.keySet();
+  }
+
+  /**
+   * @param destination - a name returned by {@link #getDestinations()}
+   * @return the number of handles currently open for the destination
+   */
+  public long getOpen(String destination) {
+    AtomicLong c = open.get(destination);
+    return (c != null) ? c.get() : 0;
+  }
+
+  /**
+   * @return the number of handles currently open for all destinations
+   */
+  public long getOpen() {
+    return open.values().stream().mapToLong(AtomicLong::get).sum();
+  }
+
+  /**
+   * @return the number of handles opened
+   */
+  public long getOpened() {
+    return opened.sum();
+  }
+
+  /**
+   * @return the number of handles closed
+   */
+  public long getClosed() {
+    return closed.sum();
+  }
+
+  /**
+   * @return the number of cached producers closed because a session reached its handle limit
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return the time taken to create producers, consumers and browsers, which is when MQ opens the queue or topic
+   */
+  public MQLatencyHistogram getOpenLatency() {
+    return openLatency;
+  }
+}
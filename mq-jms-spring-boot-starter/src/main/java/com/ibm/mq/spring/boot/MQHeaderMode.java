@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+/**
+ * How much JMS header information is sent with each message. The JMS header fields and message
+ * properties that do not fit in the MQMD are carried in an MQRFH2 header, which has to be built by the
+ * sender and parsed by the receiver.
+ */
+public enum MQHeaderMode {
+  /** Send all JMS header fields and properties. The default */
+  JMS,
+  /** Keep the MQRFH2 header for application properties, but do not ask for the optional JMS message ID and timestamp */
+  MINIMAL,
+  /**
+   * Send no MQRFH2 header (targetClient=MQ). Only the MQMD fields and the message body reach the receiver,
+   * so JMSType and application properties are lost. This cannot be used with the compressing or binary
+   * message converters, which depend on them
+   */
+  MQ
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jms.ConnectionFactoryUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Creates the "mq" health indicator when Spring Boot Actuator is available and "ibm.mq.health.enabled" is
+ * set. It covers the connection factory beans that lead to an MQ connection factory, through the caching,
+ * pooling and other wrappers the starter uses, including the non-XA factory in XA mode. Factories for other
+ * providers are not checked.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(HealthIndicator.class)
+@ConditionalOnProperty(prefix = "ibm.mq.health", name = "enabled", havingValue = "true", matchIfMissing = false)
+class MQHealthConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQHealthConfiguration.class);
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnMissingBean
+  public MQConnectionMonitor mqConnectionMonitor(Map<String, ConnectionFactory> connectionFactories, MQConfigurationProperties properties) {
+    Map<String, ConnectionFactory> mqFactories = new LinkedHashMap<>();
+    connectionFactories.forEach((name, cf) -> {
+      if (isMQ(cf)) {
+        mqFactories.put(name, cf);
+      }
+    });
+    logger.trace("Creating connection monitor for {}", mqFactories.keySet());
+    MQConfigurationPropertiesHealth health = properties.getHealth();
+    return new MQConnectionMonitor(mqFactories, health.getInterval(), health.getTimeout());
+  }
+
+  // A factory wrapped by something other than these, such as a transaction manager's XA pool, is not checked
+  static boolean isMQ(ConnectionFactory cf) {
+    while (cf != null) {
+      if (cf instanceof MQConnectionFactory) {
+        return true;
+      }
+      ConnectionFactory target = ConnectionFactoryUnwrapper.unwrap(cf);
+      if (target != cf) {
+        cf = target;
+      }
+      else if (cf instanceof MQCircuitBreakerConnectionFactory) {
+        cf = ((MQCircuitBreakerConnectionFactory) cf).getTargetConnectionFactory();
+      }
+      else if (cf instanceof MQProducerCachingConnectionFactory) {
+        cf = ((MQProducerCachingConnectionFactory) cf).getTargetConnectionFactory();
+      }
+      else if (cf instanceof MQReloadableConnectionFactory) {
+        cf = ((MQReloadableConnectionFactory) cf).getTargetConnectionFactory();
+      }
+      else if (cf instanceof MQInstrumentedXAConnectionFactory) {
+        cf = ((MQInstrumentedXAConnectionFactory) cf).getDelegate();
+      }
+      else {
+        cf = null;
+      }
+    }
+    return false;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(name = "mqHealthIndicator")
+  public MQHealthIndicator mqHealthIndicator(MQConnectionMonitor monitor) {
+    return new MQHealthIndicator(monitor);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Reports the connectivity of the MQ connection factories from the results cached by an
+ * {@link MQConnectionMonitor}. This never connects to the queue manager itself, so it returns
+ * immediately. A factory is DOWN if its latest check failed, or if a check has been running for
+ * longer than the configured timeout; it is UNKNOWN until the first check has completed.
+ */
+public class MQHealthIndicator implements HealthIndicator {
+
+  private final MQConnectionMonitor monitor;
+
+  public MQHealthIndicator(MQConnectionMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  @Override
+  public Health health() {
+    long now = System.currentTimeMillis();
+    long timeout = (monitor.getTimeout() != null) ? monitor.getTimeout().toMillis() : 0;
+    boolean anyDown = false;
+    boolean anyUnknown = false;
+
+    Health.Builder builder = new Health.Builder();
+    for (Map.Entry<String, MQConnectionMonitor.State> e : monitor.getStates().entrySet()) {
+      MQConnectionMonitor.State state = e.getValue();
+      Map<String, Object> details = new LinkedHashMap<>();
+      Status status;
+
+      long inProgress = state.inProgressMillis(now);
+      if (timeout > 0 && inProgress > timeout) {
+        status = Status.DOWN;
+        details.put("error", "Check has not completed after " + inProgress + "ms");
+      }
+      else if (state.getUp() == null) {
+        status = Status.UNKNOWN;
+      }
+      else {
+        status = state.getUp() ? Status.UP : Status.DOWN;
+        if (state.getError() != null) {
+          details.put("error", state.getError());
+        }
+      }
+      details.put("status", status.getCode());
+      if (state.getCheckedAt() > 0) {
+        details.put("checkedAt", Instant.ofEpochMilli(state.getCheckedAt()).toString());
+        details.put("durationMs", state.getDurationMillis());
+      }
+      builder.withDetail(e.getKey(), details);
+
+      anyDown |= Status.DOWN.equals(status);
+      anyUnknown |= Status.UNKNOWN.equals(status);
+    }
+
+    if (anyDown) {
+      builder.down();
+    }
+    else if (anyUnknown) {
+      builder.unknown();
+    }
+    else {
+      builder.up();
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * Discard messages that have already been processed. Duplicates can be delivered after a client
+ * reconnects or after XA recovery, when the queue manager cannot know whether an earlier
+ * delivery was committed.
+ * <p>
+ * Each message is identified by a key: by default its JMSMessageID, or a business key from an
+ * {@link MQMessageKeyExtractor}. A key is only recorded once the transaction that processed the
+ * message has committed, so a failed attempt does not cause the retry to be discarded. Keys are held
+ * in an {@link MQMessageIdCache}, optionally backed by a persistent {@link MQIdempotentStore}.
+ * <p>
+ * A duplicate is not passed to the listener, and is committed so that it is removed from the queue.
+ */
+public class MQIdempotentMessageInterceptor implements MQMessageListenerInterceptor, Ordered {
+  private static Logger logger = LoggerFactory.getLogger(MQIdempotentMessageInterceptor.class);
+
+  /** Runs inside the poison message interceptor */
+  public static final int ORDER = 200;
+
+  private final MQIdempotentStore cache;
+  private final MQIdempotentStore backingStore;
+  private final MQMessageKeyExtractor keyExtractor;
+
+  // Keys of processed messages waiting for the container to commit. The key-ordered container
+  // commits on a different thread from the one that ran the listener, so this is held per message.
+  // Messages whose work is rolled back are dropped from the map once they are no longer referenced.
+  private final Map<Message, String> pending = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final LongAdder duplicates = new LongAdder();
+
+  /**
+   * @param cache - the in-memory record of processed keys
+   * @param backingStore - an optional persistent record, consulted when the cache does not hold a key. May be null
+   * @param keyExtractor - derives the key from a message. If null, or if it returns null, the JMSMessageID is used
+   */
+  public MQIdempotentMessageInterceptor(MQIdempotentStore cache, MQIdempotentStore backingStore, MQMessageKeyExtractor keyExtractor) {
+    logger.trace("constructor");
+    this.cache = cache;
+    this.backingStore = backingStore;
+    this.keyExtractor = keyExtractor;
+  }
+
+  @Override
+  public void intercept(Session session, Message message, Chain chain) throws JMSException {
+    String key = keyFor(message);
+    if (key == null) {
+      chain.proceed();
+      return;
+    }
+
+    if (isDuplicate(key)) {
+      duplicates.increment();
+      logger.debug("Discarding duplicate message with key {}", key);
+      return;
+    }
+
+    chain.proceed();
+
+    // Remember the key only once the work is committed. An external transaction tells us
+    // directly; otherwise the container calls afterCommit once it has committed its own session.
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          record(key);
+        }
+      });
+    }
+    else {
+      pending.put(message, key);
+    }
+  }
+
+  @Override
+  public void afterCommit(Session session, Message message) throws JMSException {
+    String key = pending.remove(message);
+    if (key != null) {
+      record(key);
+    }
+  }
+
+  private String keyFor(Message message) throws JMSException {
+    Object key = (keyExtractor != null) ? keyExtractor.extractKey(message) : null;
+    return (key != null) ? key.toString() : message.getJMSMessageID();
+  }
+
+  private boolean isDuplicate(String key) {
+    if (cache.contains(key)) {
+      return true;
+    }
+    if (backingStore != null && backingStore.contains(key)) {
+      cache.add(key);
+      return true;
+    }
+    return false;
+  }
+
+  private void record(String key) {
+    cache.add(key);
+    if (backingStore != null) {
+      try {
+        backingStore.add(key);
+      }
+      catch (RuntimeException e) {
+        logger.warn("Unable to record key {} in the idempotent store: {}", key, e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  /**
+   * @return number of duplicate messages discarded
+   */
+  public long getDuplicateCount() {
+    return duplicates.sum();
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+/**
+ * A record of the keys of messages that have already been processed. The starter keeps
+ * an in-memory {@link MQMessageIdCache}; an application can provide a bean of this type to add
+ * a persistent store, such as a database table, that is consulted when the in-memory cache
+ * does not know about a key.
+ */
+public interface MQIdempotentStore {
+
+  /**
+   * @param key - the message ID or business key
+   * @return true if a message with this key has already been processed
+   */
+  boolean contains(String key);
+
+  /**
+   * Record that a message with this key has been processed. Called after the transaction that
+   * processed the message has committed.
+   *
+   * @param key - the message ID or business key
+   */
+  void add(String key);
+}
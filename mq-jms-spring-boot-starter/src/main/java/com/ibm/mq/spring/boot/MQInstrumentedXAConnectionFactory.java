@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.transaction.xa.XAResource;
+
+import org.springframework.util.ClassUtils;
+
+import com.ibm.mq.jakarta.jms.MQXAConnectionFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.XAConnection;
+import jakarta.jms.XAConnectionFactory;
+import jakarta.jms.XAJMSContext;
+import jakarta.jms.XASession;
+
+/**
+ * An XAConnectionFactory that wraps an MQXAConnectionFactory so that the XAResources it hands
+ * to a transaction manager record their outcomes in an {@link MQXAStatistics} object. It is
+ * placed between the MQ factory and the transaction manager's own wrapper or pool.
+ */
+public class MQInstrumentedXAConnectionFactory implements XAConnectionFactory, ConnectionFactory {
+
+  private final MQXAConnectionFactory delegate;
+  private final MQXAStatistics statistics;
+
+  public MQInstrumentedXAConnectionFactory(MQXAConnectionFactory delegate, MQXAStatistics statistics) {
+    this.delegate = delegate;
+    this.statistics = statistics;
+  }
+
+  public MQXAConnectionFactory getDelegate() {
+    return delegate;
+  }
+
+  public MQXAStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public XAConnection createXAConnection() throws JMSException {
+    return wrap(delegate.createXAConnection(), XAConnection.class);
+  }
+
+  @Override
+  public XAConnection createXAConnection(String userName, String password) throws JMSException {
+    return wrap(delegate.createXAConnection(userName, password), XAConnection.class);
+  }
+
+  @Override
+  public XAJMSContext createXAContext() {
+    return wrap(delegate.createXAContext(), XAJMSContext.class);
+  }
+
+  @Override
+  public XAJMSContext createXAContext(String userName, String password) {
+    return wrap(delegate.createXAContext(userName, password), XAJMSContext.class);
+  }
+
+  @Override
+  public Connection createConnection() throws JMSException {
+    return delegate.createConnection();
+  }
+
+  @Override
+  public Connection createConnection(String userName, String password) throws JMSException {
+    return delegate.createConnection(userName, password);
+  }
+
+  @Override
+  public JMSContext createContext() {
+    return delegate.createContext();
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password) {
+    return delegate.createContext(userName, password);
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password, int sessionMode) {
+    return delegate.createContext(userName, password, sessionMode);
+  }
+
+  @Override
+  public JMSContext createContext(int sessionMode) {
+    return delegate.createContext(sessionMode);
+  }
+
+  /**
+   * Proxy an XA connection, session or context, exposing all of the interfaces of the MQ object,
+   * so that XASessions created from it and XAResources obtained from it are also wrapped. Sessions
+   * and contexts are counted as open until they, or the connection that owns them, are closed.
+   */
+  private <T> T wrap(T target, Class<T> type) {
+    return wrap(target, type, null);
+  }
+
+  private <T> T wrap(T target, Class<T> type, Set<Runnable> owner) {
+    // Sessions created from this object, which are closed along with it
+    Set<Runnable> children = ConcurrentHashMap.newKeySet();
+    Runnable closed = null;
+    if (target instanceof XASession || target instanceof XAJMSContext) {
+      closed = sessionCloser(owner);
+    }
+    Runnable onClose = closed;
+
+    InvocationHandler handler = (proxy, method, args) -> {
+      Object result;
+      try {
+        result = method.invoke(target, args);
+      }
+      catch (InvocationTargetException ex) {
+        throw ex.getTargetException();
+      }
+
+      if (method.getName().equals("close") && method.getParameterCount() == 0) {
+        children.forEach(Runnable::run);
+        if (onClose != null) {
+          onClose.run();
+        }
+      }
+      else if (result instanceof XAResource && !(result instanceof MQInstrumentedXAResource)) {
+        result = new MQInstrumentedXAResource((XAResource) result, statistics);
+      }
+      else if (result instanceof XASession && !Proxy.isProxyClass(result.getClass())) {
+        result = wrap((XASession) result, XASession.class, children);
+      }
+      return result;
+    };
+    return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), publicInterfaces(target), handler));
+  }
+
+  private Runnable sessionCloser(Set<Runnable> owner) {
+    statistics.sessionOpened();
+    AtomicBoolean closed = new AtomicBoolean();
+    Runnable closer = new Runnable() {
+      @Override
+      public void run() {
+        if (closed.compareAndSet(false, true)) {
+          statistics.sessionClosed();
+          if (owner != null) {
+            owner.remove(this);
+          }
+        }
+      }
+    };
+    if (owner != null) {
+      owner.add(closer);
+    }
+    return closer;
+  }
+
+  static Class<?>[] publicInterfaces(Object target) {
+    return ClassUtils.getAllInterfacesForClassAsSet(target.getClass()).stream()
+        .filter(i -> Modifier.isPublic(i.getModifiers()))
+        .toArray(Class<?>[]::new);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * An XAResource that passes every call to the MQ resource it wraps, and records the outcome
+ * in an {@link MQXAStatistics} object, along with how long prepare and commit take.
+ */
+public class MQInstrumentedXAResource implements XAResource {
+
+  private final XAResource delegate;
+  private final MQXAStatistics statistics;
+
+  public MQInstrumentedXAResource(XAResource delegate, MQXAStatistics statistics) {
+    this.delegate = delegate;
+    this.statistics = statistics;
+  }
+
+  public XAResource getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public void start(Xid xid, int flags) throws XAException {
+    delegate.start(xid, flags);
+    statistics.branchStarted(xid);
+  }
+
+  @Override
+  public void end(Xid xid, int flags) throws XAException {
+    delegate.end(xid, flags);
+    statistics.branchEnded(xid);
+  }
+
+  @Override
+  public int prepare(Xid xid) throws XAException {
+    long start = System.nanoTime();
+    int rc = delegate.prepare(xid);
+    statistics.prepared(rc == XA_RDONLY, System.nanoTime() - start);
+    return rc;
+  }
+
+  @Override
+  public void commit(Xid xid, boolean onePhase) throws XAException {
+    long start = System.nanoTime();
+    try {
+      delegate.commit(xid, onePhase);
+    }
+    catch (XAException e) {
+      statistics.failed(e);
+      throw e;
+    }
+    statistics.committed(onePhase, System.nanoTime() - start);
+  }
+
+  @Override
+  public void rollback(Xid xid) throws XAException {
+    // A transaction manager can roll back a branch without ending it first
+    statistics.branchEnded(xid);
+    try {
+      delegate.rollback(xid);
+    }
+    catch (XAException e) {
+      statistics.failed(e);
+      throw e;
+    }
+    statistics.rolledBack();
+  }
+
+  @Override
+  public Xid[] recover(int flag) throws XAException {
+    return delegate.recover(flag);
+  }
+
+  @Override
+  public void forget(Xid xid) throws XAException {
+    statistics.branchEnded(xid);
+    delegate.forget(xid);
+  }
+
+  // Transaction managers use this to decide whether to join an existing branch, so
+  // compare the underlying MQ resources rather than the wrappers.
+  @Override
+  public boolean isSameRM(XAResource other) throws XAException {
+    if (other instanceof MQInstrumentedXAResource) {
+      other = ((MQInstrumentedXAResource) other).getDelegate();
+    }
+    return delegate.isSameRM(other);
+  }
+
+  @Override
+  public int getTransactionTimeout() throws XAException {
+    return delegate.getTransactionTimeout();
+  }
+
+  @Override
+  public boolean setTransactionTimeout(int seconds) throws XAException {
+    return delegate.setTransactionTimeout(seconds);
+  }
+
+  @Override
+  public String toString() {
+    return "MQInstrumentedXAResource[" + delegate + "]";
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+/**
+ * The starter's default JmsListenerContainerFactory. It creates {@link MQDefaultMessageListenerContainer}
+ * instances so that the configured {@link MQMessageListenerInterceptor}s are applied to every
+ * listener, and so that consumers can be spread across several connections. All other configuration is as
+ * for the Spring Boot default factory.
+ */
+public class MQJmsListenerContainerFactory extends DefaultJmsListenerContainerFactory {
+
+  private List<MQMessageListenerInterceptor> interceptors = new ArrayList<>();
+  private Integer connections;
+
+  public void setInterceptors(List<MQMessageListenerInterceptor> interceptors) {
+    this.interceptors = (interceptors != null) ? new ArrayList<>(interceptors) : new ArrayList<>();
+  }
+
+  public List<MQMessageListenerInterceptor> getInterceptors() {
+    return interceptors;
+  }
+
+  /**
+   * @param connections - the number of connections each container spreads its consumers across
+   */
+  public void setConnections(Integer connections) {
+    this.connections = connections;
+  }
+
+  @Override
+  protected MQDefaultMessageListenerContainer createContainerInstance() {
+    return new MQDefaultMessageListenerContainer();
+  }
+
+  @Override
+  protected void initializeContainer(DefaultMessageListenerContainer container) {
+    super.initializeContainer(container);
+    if (container instanceof MQDefaultMessageListenerContainer) {
+      MQDefaultMessageListenerContainer c = (MQDefaultMessageListenerContainer) container;
+      c.setInterceptors(interceptors);
+      if (connections != null) {
+        c.setConnections(connections);
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jms.config.AbstractJmsListenerContainerFactory;
+
+/**
+ * A JmsListenerContainerFactory that builds {@link MQKeyOrderedMessageListenerContainer} instances.
+ * Reference it from a listener with
+ * {@code @JmsListener(destination="...", containerFactory="mqKeyOrderedJmsListenerContainerFactory")}.
+ * The "concurrency" attribute of the listener, if given, sets the number of worker lanes.
+ * The {@link MQMessageListenerInterceptor}s are applied as they are by the default factory.
+ */
+public class MQKeyOrderedJmsListenerContainerFactory extends AbstractJmsListenerContainerFactory<MQKeyOrderedMessageListenerContainer> {
+
+  private Integer workers;
+  private Integer batchSize;
+  private Long receiveTimeout;
+  private MQMessageKeyExtractor keyExtractor;
+  private List<MQMessageListenerInterceptor> interceptors = new ArrayList<>();
+
+  public void setWorkers(Integer workers) {
+    this.workers = workers;
+  }
+
+  public void setBatchSize(Integer batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public void setReceiveTimeout(Long receiveTimeout) {
+    this.receiveTimeout = receiveTimeout;
+  }
+
+  public void setKeyExtractor(MQMessageKeyExtractor keyExtractor) {
+    this.keyExtractor = keyExtractor;
+  }
+
+  public void setInterceptors(List<MQMessageListenerInterceptor> interceptors) {
+    this.interceptors = (interceptors != null) ? new ArrayList<>(interceptors) : new ArrayList<>();
+  }
+
+  @Override
+  protected MQKeyOrderedMessageListenerContainer createContainerInstance() {
+    return new MQKeyOrderedMessageListenerContainer();
+  }
+
+  @Override
+  protected void initializeContainer(MQKeyOrderedMessageListenerContainer container) {
+    if (workers != null) {
+      container.setWorkers(workers);
+    }
+    if (batchSize != null) {
+      container.setBatchSize(batchSize);
+    }
+    if (receiveTimeout != null) {
+      container.setReceiveTimeout(receiveTimeout);
+    }
+    if (keyExtractor != null) {
+      container.setKeyExtractor(keyExtractor);
+    }
+    container.setInterceptors(interceptors);
+  }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.listener.AbstractMessageListenerContainer;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.Session;
+
+/**
+ * A listener container that reads from a single destination but processes messages on
+ * several worker lanes. Each message is assigned to a lane by the key returned from an
+ * {@link MQMessageKeyExtractor}, so messages with the same key are always processed in the
+ * order they were received, while messages with different keys run in parallel.
+ * <p>
+ * Messages are received in batches on one session. The batch is only committed (or, for
+ * CLIENT_ACKNOWLEDGE sessions, acknowledged) once every lane has finished with it. If any
+ * message fails, the remaining messages in that lane are skipped and the whole batch is
+ * rolled back so it is redelivered in the original order. Messages from the batch that were
+ * already processed successfully on other lanes will therefore be seen again; listeners should
+ * be idempotent.
+ * <p>
+ * The session passed to a SessionAwareMessageListener is shared between the lanes, so calls
+ * on it (and on producers/consumers created from it) are serialised.
+ */
+public class MQKeyOrderedMessageListenerContainer extends AbstractMessageListenerContainer {
+  private static Logger logger = LoggerFactory.getLogger(MQKeyOrderedMessageListenerContainer.class);
+
+  /** Default receive timeout, matching the starter's default for the Spring polling listeners */
+  public static final long DEFAULT_RECEIVE_TIMEOUT = 30 * 1000L;
+  /** Default maximum number of messages processed in one unit of work */
+  public static final int DEFAULT_BATCH_SIZE = 10;
+  /** Default interval between attempts to recover a failed connection */
+  public static final long DEFAULT_RECOVERY_INTERVAL = 5 * 1000L;
+
+  private int workers = Runtime.getRuntime().availableProcessors();
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
+  private long recoveryInterval = DEFAULT_RECOVERY_INTERVAL;
+  private MQMessageKeyExtractor keyExtractor = MQMessageKeyExtractor.groupId();
+  private List<MQMessageListenerInterceptor> interceptors = new ArrayList<>();
+
+  private ExecutorService[] lanes;
+  private Thread receiverThread;
+  private int nextLane = 0;
+
+  public MQKeyOrderedMessageListenerContainer() {
+    logger.trace("constructor");
+    setSessionTransacted(true);
+  }
+
+  /**
+   * Set the number of worker lanes. For compatibility with the endpoint configuration
+   * in {@code @JmsListener}, a range such as "2-8" can be given; the upper bound is used.
+   */
+  @Override
+  public void setConcurrency(String concurrency) {
+    try {
+      int separator = concurrency.indexOf('-');
+      if (separator != -1) {
+        setWorkers(Integer.parseInt(concurrency.substring(separator + 1).trim()));
+      }
+      else {
+        setWorkers(Integer.parseInt(concurrency.trim()));
+      }
+    }
+    catch (NumberFormatException ex) {
+      throw new IllegalArgumentException(String.format("Invalid concurrency value \'%s\': only single maximum integer (e.g. \"5\") and minimum-maximum combo (e.g. \"3-5\") supported", concurrency));
+    }
+  }
+
+  public void setWorkers(int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("Worker count must be at least 1");
+    }
+    this.workers = workers;
+  }
+
+  public int getWorkers() {
+    return workers;
+  }
+
+  public void setBatchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    }
+    this.batchSize = batchSize;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * How long the receiver waits for the first message of each batch, in milliseconds.
+   */
+  public void setReceiveTimeout(long receiveTimeout) {
+    this.receiveTimeout = receiveTimeout;
+  }
+
+  public long getReceiveTimeout() {
+    return receiveTimeout;
+  }
+
+  public void setRecoveryInterval(long recoveryInterval) {
+    this.recoveryInterval = recoveryInterval;
+  }
+
+  public long getRecoveryInterval() {
+    return recoveryInterval;
+  }
+
+  public void setKeyExtractor(MQMessageKeyExtractor keyExtractor) {
+    this.keyExtractor = keyExtractor;
+  }
+
+  public MQMessageKeyExtractor getKeyExtractor() {
+    return keyExtractor;
+  }
+
+  /**
+   * Interceptors run around each listener invocation, on the lane's thread. Their afterCommit
+   * methods are called for every message in a batch once the batch is committed.
+   */
+  public void setInterceptors(List<MQMessageListenerInterceptor> interceptors) {
+    this.interceptors = (interceptors != null) ? new ArrayList<>(interceptors) : new ArrayList<>();
+  }
+
+  public List<MQMessageListenerInterceptor> getInterceptors() {
+    return interceptors;
+  }
+
+  @Override
+  protected void validateConfiguration() {
+    super.validateConfiguration();
+    if (!isSessionTransacted() && getSessionAcknowledgeMode() != Session.CLIENT_ACKNOWLEDGE) {
+      throw new IllegalArgumentException("Key-ordered listener container requires a transacted session or CLIENT_ACKNOWLEDGE mode");
+    }
+    if (keyExtractor == null) {
+      throw new IllegalArgumentException("Property 'keyExtractor' is required");
+    }
+  }
+
+  @Override
+  protected boolean sharedConnectionEnabled() {
+    return true;
+  }
+
+  @Override
+  protected void doInitialize() throws JMSException {
+    logger.trace("Initialising {} with {} lanes, batch size {}", getBeanName(), workers, batchSize);
+    String prefix = (getBeanName() != null) ? getBeanName() : getClass().getSimpleName();
+
+    lanes = new ExecutorService[workers];
+    for (int i = 0; i < workers; i++) {
+      lanes[i] = Executors.newSingleThreadExecutor(new CustomizableThreadFactory(prefix + "-lane-" + i + "-"));
+    }
+    receiverThread = new CustomizableThreadFactory(prefix + "-receiver-").newThread(this::receiveLoop);
+    receiverThread.start();
+  }
+
+  @Override
+  protected void doShutdown() throws JMSException {
+    logger.trace("Shutting down {}", getBeanName());
+    if (receiverThread != null) {
+      try {
+        receiverThread.join(receiveTimeout + recoveryInterval);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      receiverThread = null;
+    }
+    if (lanes != null) {
+      for (ExecutorService lane : lanes) {
+        lane.shutdown();
+      }
+      lanes = null;
+    }
+  }
+
+  /**
+   * Choose the lane for a key. Keyed messages always map to the same lane; messages
+   * without a key are spread across all lanes.
+   */
+  int laneFor(Object key) {
+    if (key == null) {
+      int lane = nextLane;
+      nextLane = (nextLane + 1) % workers;
+      return lane;
+    }
+    return Math.floorMod(key.hashCode(), workers);
+  }
+
+  private void receiveLoop() {
+    Session session = null;
+    Session lanesSession = null;
+    MessageConsumer consumer = null;
+
+    while (waitWhileStopped()) {
+      try {
+        if (session == null) {
+          session = createSession(getSharedConnection());
+          lanesSession = lockingProxy(session, Session.class, new ReentrantLock());
+          consumer = createConsumer(session, resolveListenerDestination(session));
+        }
+
+        List<Message> batch = receiveBatch(consumer);
+        if (!batch.isEmpty()) {
+          processBatch(session, lanesSession, batch);
+        }
+      }
+      catch (Throwable ex) {
+        JmsUtils.closeMessageConsumer(consumer);
+        JmsUtils.closeSession(session);
+        consumer = null;
+        session = null;
+        lanesSession = null;
+
+        if (isActive()) {
+          logger.warn("Key-ordered listener for {} failed; attempting recovery: {}", getDestinationDescription(), ex.getMessage());
+          if (ex instanceof JMSException) {
+            invokeExceptionListener((JMSException) ex);
+          }
+          recover();
+        }
+      }
+    }
+
+    JmsUtils.closeMessageConsumer(consumer);
+    JmsUtils.closeSession(session);
+    logger.trace("Receiver for {} ended", getBeanName());
+  }
+
+  private Destination resolveListenerDestination(Session session) throws JMSException {
+    Destination destination = getDestination();
+    if (destination == null) {
+      destination = resolveDestinationName(session, getDestinationName());
+    }
+    return destination;
+  }
+
+  private List<Message> receiveBatch(MessageConsumer consumer) throws JMSException {
+    List<Message> batch = new ArrayList<>(batchSize);
+    Message message = (receiveTimeout < 0) ? consumer.receiveNoWait() : consumer.receive(receiveTimeout);
+    while (message != null) {
+      batch.add(message);
+      if (batch.size() >= batchSize) {
+        break;
+      }
+      message = consumer.receiveNoWait();
+    }
+    return batch;
+  }
+
+  private void processBatch(Session session, Session lanesSession, List<Message> batch) throws JMSException {
+    // Group the batch by lane, preserving the receive order within each lane
+    List<List<Message>> work = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      work.add(new ArrayList<>());
+    }
+    for (Message message : batch) {
+      work.get(laneFor(keyExtractor.extractKey(message))).add(message);
+    }
+
+    List<Future<?>> results = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      List<Message> laneMessages = work.get(i);
+      if (!laneMessages.isEmpty()) {
+        results.add(lanes[i].submit(() -> processLane(lanesSession, laneMessages)));
+      }
+    }
+
+    Throwable failure = null;
+    for (Future<?> result : results) {
+      try {
+        result.get();
+      }
+      catch (ExecutionException ex) {
+        if (failure == null) {
+          failure = ex.getCause();
+        }
+      }
+      catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        failure = ex;
+      }
+    }
+
+    if (failure == null) {
+      if (session.getTransacted()) {
+        session.commit();
+      }
+      else {
+        batch.get(batch.size() - 1).acknowledge();
+      }
+      for (Message message : batch) {
+        for (MQMessageListenerInterceptor interceptor : interceptors) {
+          interceptor.afterCommit(lanesSession, message);
+        }
+      }
+    }
+    else {
+      if (session.getTransacted()) {
+        session.rollback();
+      }
+      else {
+        session.recover();
+      }
+      if (!(failure instanceof StoppingException)) {
+        handleListenerException(failure);
+      }
+    }
+  }
+
+  private Void processLane(Session lanesSession, List<Message> messages) throws JMSException {
+    for (Message message : messages) {
+      if (!isAcceptMessagesWhileStopping() && !isRunning()) {
+        throw new StoppingException();
+      }
+      invokeInterceptor(0, lanesSession, message);
+    }
+    return null;
+  }
+
+  private void invokeInterceptor(int index, Session session, Message message) throws JMSException {
+    if (index < interceptors.size()) {
+      interceptors.get(index).intercept(session, message, () -> invokeInterceptor(index + 1, session, message));
+    }
+    else {
+      invokeListener(session, message);
+    }
+  }
+
+  private boolean waitWhileStopped() {
+    lifecycleLock.lock();
+    try {
+      while (isActive() && !isRunning()) {
+        lifecycleCondition.await();
+      }
+      return isActive();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    finally {
+      lifecycleLock.unlock();
+    }
+  }
+
+  private void recover() {
+    try {
+      Thread.sleep(recoveryInterval);
+      refreshSharedConnection();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    catch (Exception e) {
+      logger.debug("Connection recovery failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Wrap a JMS object so that all calls on it, and on the producers, consumers and browsers
+   * created from it, are made while holding the same lock.
+   */
+  static <T> T lockingProxy(T target, Class<T> type, Lock lock) {
+    InvocationHandler handler = (proxy, method, args) -> {
+      Object result;
+      lock.lock();
+      try {
+        result = method.invoke(target, args);
+      }
+      catch (InvocationTargetException ex) {
+        throw ex.getTargetException();
+      }
+      finally {
+        lock.unlock();
+      }
+
+      if (result instanceof MessageProducer) {
+        result = lockingProxy((MessageProducer) result, MessageProducer.class, lock);
+      }
+      else if (result instanceof MessageConsumer) {
+        result = lockingProxy((MessageConsumer) result, MessageConsumer.class, lock);
+      }
+      else if (result instanceof QueueBrowser) {
+        result = lockingProxy((QueueBrowser) result, QueueBrowser.class, lock);
+      }
+      return result;
+    };
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+  }
+
+  /**
+   * Used to abandon the rest of a batch when the container is stopping.
+   */
+  private static class StoppingException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with power-of-two microsecond buckets. Recording a value
+ * does not allocate, so it can be used on every message or transaction. Percentiles are
+ * reported as the upper bound of the bucket in which they fall, so they are accurate to within
+ * a factor of two; that is enough to see a slow queue manager.
+ */
+public class MQLatencyHistogram {
+
+  // Bucket i holds values below 2^i microseconds. The last bucket holds everything above about 68 seconds.
+  private static final int BUCKETS = 27;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /**
+   * @param nanos - the duration of one operation
+   */
+  public void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    long micros = nanos / 1000;
+    int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    counts.incrementAndGet(bucket);
+    count.increment();
+    totalNanos.add(nanos);
+    maxNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * @return the mean duration in milliseconds
+   */
+  public double getMeanMillis() {
+    long n = count.sum();
+    return (n == 0) ? 0.0 : totalNanos.sum() / (n * 1000000.0);
+  }
+
+  /**
+   * @return the longest recorded duration in milliseconds
+   */
+  public double getMaxMillis() {
+    return maxNanos.get() / 1000000.0;
+  }
+
+  /**
+   * @param percentile - between 0.0 and 1.0
+   * @return an upper bound, in milliseconds, for the given percentile of recorded durations
+   */
+  public double getPercentileMillis(double percentile) {
+    long n = count.sum();
+    if (n == 0) {
+      return 0.0;
+    }
+    long target = (long) Math.ceil(percentile * n);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= target && i < BUCKETS - 1) {
+        return Math.min((1L << i) / 1000.0, getMaxMillis());
+      }
+    }
+    return getMaxMillis();
+  }
+
+  /**
+   * @return a summary suitable for reporting through an actuator endpoint
+   */
+  public Map<String, Object> summary() {
+    Map<String, Object> m = new LinkedHashMap<>();
+    m.put("count", getCount());
+    m.put("meanMs", getMeanMillis());
+    m.put("p50Ms", getPercentileMillis(0.50));
+    m.put("p90Ms", getPercentileMillis(0.90));
+    m.put("p99Ms", getPercentileMillis(0.99));
+    m.put("maxMs", getMaxMillis());
+    return m;
+  }
+}
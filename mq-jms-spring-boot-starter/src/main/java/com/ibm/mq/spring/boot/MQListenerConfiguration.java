@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.jms.JmsProperties;
+import org.springframework.boot.jms.ConnectionFactoryUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.annotation.EnableJms;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.destination.DestinationResolver;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Configuration for the MQ-specific JMS listener container factories.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ EnableJms.class })
+class MQListenerConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQListenerConfiguration.class);
+
+  // Replaces the Spring Boot default factory, which backs off when a bean of this name exists. That
+  // only happens when there is something for the MQ containers to add; otherwise the Boot factory
+  // is left in place. The Boot configurer is still used so that all of the "spring.jms.listener"
+  // options are honoured.
+  @Bean
+  @ConditionalOnMissingBean(name = "jmsListenerContainerFactory")
+  @Conditional(MQListenerFeaturesCondition.class)
+  public MQJmsListenerContainerFactory jmsListenerContainerFactory(ConnectionFactory connectionFactory,
+      MQConfigurationProperties properties,
+      ObjectProvider<DefaultJmsListenerContainerFactoryConfigurer> configurer,
+      ObjectProvider<MQMessageListenerInterceptor> interceptors) {
+
+    logger.trace("Creating MQ JmsListenerContainerFactory");
+    return createFactory(connectionFactory, properties, configurer, interceptors);
+  }
+
+  // Shared and durable subscriptions only apply to topics, and Spring switches a container to the
+  // publish/subscribe domain as soon as either is set. So they go on a separate factory, leaving
+  // queue listeners on the default one untouched.
+  @Bean
+  @ConditionalOnMissingBean(name = "mqTopicJmsListenerContainerFactory")
+  @Conditional(MQSubscriptionCondition.class)
+  public MQJmsListenerContainerFactory mqTopicJmsListenerContainerFactory(ConnectionFactory connectionFactory,
+      MQConfigurationProperties properties,
+      ObjectProvider<DefaultJmsListenerContainerFactoryConfigurer> configurer,
+      ObjectProvider<MQMessageListenerInterceptor> interceptors) {
+
+    logger.trace("Creating MQ topic JmsListenerContainerFactory");
+    MQJmsListenerContainerFactory factory = createFactory(connectionFactory, properties, configurer, interceptors);
+    factory.setPubSubDomain(true);
+
+    MQConfigurationPropertiesListener listener = properties.getListener();
+    if (listener.getSubscriptionShared() != null) {
+      factory.setSubscriptionShared(listener.getSubscriptionShared());
+    }
+    if (listener.getSubscriptionDurable() != null) {
+      factory.setSubscriptionDurable(listener.getSubscriptionDurable());
+    }
+    return factory;
+  }
+
+  private static MQJmsListenerContainerFactory createFactory(ConnectionFactory connectionFactory,
+      MQConfigurationProperties properties,
+      ObjectProvider<DefaultJmsListenerContainerFactoryConfigurer> configurer,
+      ObjectProvider<MQMessageListenerInterceptor> interceptors) {
+
+    MQJmsListenerContainerFactory factory = new MQJmsListenerContainerFactory();
+    int connections = properties.getListener().getConnections();
+    ConnectionFactory listenerConnectionFactory = listenerConnectionFactory(connectionFactory, connections);
+    DefaultJmsListenerContainerFactoryConfigurer c = configurer.getIfAvailable();
+    if (c != null) {
+      c.configure(factory, listenerConnectionFactory);
+    }
+    else {
+      factory.setConnectionFactory(listenerConnectionFactory);
+    }
+    factory.setInterceptors(interceptors.orderedStream().toList());
+    factory.setConnections(connections);
+    return factory;
+  }
+
+  // Listener containers hold their connections open, so they gain nothing from the caching factory. Extra
+  // connections from the pool could be handles on one physical connection, so the pool is bypassed too
+  // when a container is to spread its sessions across connections.
+  private static ConnectionFactory listenerConnectionFactory(ConnectionFactory connectionFactory, int connections) {
+    if (connections > 1) {
+      return ConnectionFactoryUnwrapper.unwrap(connectionFactory);
+    }
+    return ConnectionFactoryUnwrapper.unwrapCaching(connectionFactory);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(MQPoisonMessageInterceptor.class)
+  @ConditionalOnProperty(prefix = "ibm.mq.poison", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQPoisonMessageInterceptor mqPoisonMessageInterceptor(MQConfigurationProperties properties) {
+    logger.trace("Creating poison message interceptor");
+    return new MQPoisonMessageInterceptor(properties.getPoison());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(MQIdempotentMessageInterceptor.class)
+  @ConditionalOnProperty(prefix = "ibm.mq.idempotent", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQIdempotentMessageInterceptor mqIdempotentMessageInterceptor(MQConfigurationProperties properties,
+      ObjectProvider<MQIdempotentStore> backingStore) {
+    logger.trace("Creating idempotent message interceptor");
+    MQConfigurationPropertiesIdempotent idempotent = properties.getIdempotent();
+    long ttl = (idempotent.getTtl() != null) ? idempotent.getTtl().toMillis() : 0;
+    MQMessageKeyExtractor keyExtractor = U.isNotNullOrEmpty(idempotent.getKeyProperty()) ? MQMessageKeyExtractor.property(idempotent.getKeyProperty()) : null;
+    return new MQIdempotentMessageInterceptor(new MQMessageIdCache(idempotent.getCapacity(), ttl), backingStore.getIfUnique(), keyExtractor);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(name = "mqKeyOrderedJmsListenerContainerFactory")
+  @ConditionalOnProperty(prefix = "ibm.mq.keyOrdered", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQKeyOrderedJmsListenerContainerFactory mqKeyOrderedJmsListenerContainerFactory(ConnectionFactory connectionFactory,
+      MQConfigurationProperties properties,
+      JmsProperties jmsProperties,
+      ObjectProvider<MQMessageKeyExtractor> keyExtractor,
+      ObjectProvider<DestinationResolver> destinationResolver,
+      ObjectProvider<MessageConverter> messageConverter,
+      ObjectProvider<MQMessageListenerInterceptor> interceptors) {
+
+    logger.trace("Creating key-ordered JmsListenerContainerFactory");
+    MQConfigurationPropertiesKeyOrdered keyOrdered = properties.getKeyOrdered();
+
+    // The container holds one shared connection open, in the same way as the default containers
+    MQKeyOrderedJmsListenerContainerFactory factory = new MQKeyOrderedJmsListenerContainerFactory();
+    factory.setConnectionFactory(listenerConnectionFactory(connectionFactory, 1));
+    factory.setPubSubDomain(jmsProperties.isPubSubDomain());
+    factory.setSessionTransacted(true);
+    destinationResolver.ifUnique(factory::setDestinationResolver);
+    messageConverter.ifUnique(factory::setMessageConverter);
+
+    if (keyOrdered.getWorkers() > 0) {
+      factory.setWorkers(keyOrdered.getWorkers());
+    }
+    factory.setBatchSize(keyOrdered.getBatchSize());
+    if (keyOrdered.getReceiveTimeout() != null) {
+      factory.setReceiveTimeout(keyOrdered.getReceiveTimeout().toMillis());
+    }
+    factory.setKeyExtractor(keyExtractor.getIfAvailable(() -> MQMessageKeyExtractor.property(keyOrdered.getKeyProperty())));
+    factory.setInterceptors(interceptors.orderedStream().toList());
+
+    return factory;
+  }
+
+  // Any interceptor, or any MQ option for the default containers
+  static class MQListenerFeaturesCondition extends AnyNestedCondition {
+    MQListenerFeaturesCondition() {
+      super(ConfigurationPhase.REGISTER_BEAN);
+    }
+
+    @ConditionalOnBean(MQMessageListenerInterceptor.class)
+    static class Interceptors {
+    }
+
+    @ConditionalOnProperty(prefix = "ibm.mq.poison", name = "enabled", havingValue = "true", matchIfMissing = false)
+    static class Poison {
+    }
+
+    @ConditionalOnProperty(prefix = "ibm.mq.idempotent", name = "enabled", havingValue = "true", matchIfMissing = false)
+    static class Idempotent {
+    }
+
+    @ConditionalOnProperty(prefix = "ibm.mq.listener", name = "connections")
+    static class Connections {
+    }
+  }
+
+  // Either of the subscription options for topic listeners
+  static class MQSubscriptionCondition extends AnyNestedCondition {
+    MQSubscriptionCondition() {
+      super(ConfigurationPhase.REGISTER_BEAN);
+    }
+
+    @ConditionalOnProperty(prefix = "ibm.mq.listener", name = "subscriptionShared")
+    static class Shared {
+    }
+
+    @ConditionalOnProperty(prefix = "ibm.mq.listener", name = "subscriptionDurable")
+    static class Durable {
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Creates the optional MQ message converters. A converter is only created if the application has not
+ * provided a MessageConverter bean, and is then used by the JmsTemplate and listener containers.
+ */
+@Configuration(proxyBeanMethods = false)
+class MQMessageConverterConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQMessageConverterConfiguration.class);
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "ibm.mq.bufferPool", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQByteArrayPool mqByteArrayPool(MQConfigurationProperties properties) {
+    MQConfigurationPropertiesBufferPool bp = properties.getBufferPool();
+    return new MQByteArrayPool((int) bp.getMaxBufferSize().toBytes(), bp.getBuffersPerSize());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "ibm.mq.compression", name = "enabled", havingValue = "true", matchIfMissing = false)
+  public MQCompressionStatistics mqCompressionStatistics() {
+    return new MQCompressionStatistics();
+  }
+
+  // The converters are layered: compression, if enabled, wraps binary conversion, which wraps the pooled
+  // ByteBuffer conversion or the standard conversions.
+  @Bean
+  @ConditionalOnMissingBean(MessageConverter.class)
+  @ConditionalOnExpression("${ibm.mq.bufferPool.enabled:false} or ${ibm.mq.compression.enabled:false} or ${ibm.mq.binary.enabled:false}")
+  public MessageConverter mqMessageConverter(MQConfigurationProperties properties,
+      ObjectProvider<MQByteArrayPool> pool,
+      ObjectProvider<MQBinarySerializer<?>> serializers,
+      ObjectProvider<MQCompressionCodec> codecs,
+      ObjectProvider<MQCompressionStatistics> statistics) throws ClassNotFoundException {
+
+    MQByteArrayPool p = pool.getIfUnique();
+    MessageConverter converter = (p != null) ? new MQByteBufferMessageConverter(p) : new SimpleMessageConverter();
+
+    MQConfigurationPropertiesBinary b = properties.getBinary();
+    if (b.isEnabled()) {
+      List<MQBinarySerializer<?>> list = new ArrayList<>(serializers.orderedStream().toList());
+      for (Map.Entry<String, String> e : b.getTypes().entrySet()) {
+        list.add(MQBinarySerializer.generated(e.getKey(), ClassUtils.forName(e.getValue(), getClass().getClassLoader())));
+      }
+      logger.trace("Creating binary message converter for {}", list.stream().map(MQBinarySerializer::getTypeId).toList());
+      converter = new MQBinaryMessageConverter(list, converter);
+    }
+
+    MQConfigurationPropertiesCompression c = properties.getCompression();
+    if (c.isEnabled()) {
+      logger.trace("Creating compressing message converter using {}", c.getCodec());
+      MQCompressionCodec codec = codecs.orderedStream().filter(x -> x.getName().equals(c.getCodec())).findFirst().orElse(null);
+      if (codec == null) {
+        if (!MQCompressionCodec.DEFLATE.equals(c.getCodec())) {
+          throw new IllegalStateException("No MQCompressionCodec bean is named " + c.getCodec());
+        }
+        codec = MQCompressionCodec.deflate(c.getLevel());
+      }
+      converter = new MQCompressingMessageConverter(converter, codec, codecs.orderedStream().toList(), (int) c.getThreshold().toBytes(),
+          (int) Math.min(Integer.MAX_VALUE, c.getMaxDecompressedSize().toBytes()), statistics.getIfUnique());
+    }
+    return converter;
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  @ConditionalOnProperty(prefix = "ibm.mq.compression", name = "enabled", havingValue = "true", matchIfMissing = false)
+  static class MQCompressionMetricsConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    MQCompressionMeterBinder mqCompressionMeterBinder(MQCompressionStatistics statistics) {
+      return new MQCompressionMeterBinder(statistics);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded set of recently-seen message keys, used to detect duplicate deliveries.
+ * <p>
+ * Keys are not stored as objects. Each key is reduced to a 128-bit hash that is kept in primitive
+ * arrays: an open-addressed table for lookups and a ring that remembers insertion order. The oldest
+ * entries are discarded when the cache is full or when they are older than the time-to-live. Both
+ * lookups and insertions are O(1) and do not allocate.
+ */
+public class MQMessageIdCache implements MQIdempotentStore {
+
+  private final int capacity;
+  private final long ttlNanos;
+  private final LongSupplier clock;
+
+  // The hash table, using linear probing
+  private final int mask;
+  private final long[] tableHi;
+  private final long[] tableLo;
+  private final boolean[] used;
+
+  // Insertion order, oldest at "head"
+  private final long[] ringHi;
+  private final long[] ringLo;
+  private final long[] ringTime;
+  private int head = 0;
+  private int size = 0;
+
+  /**
+   * @param capacity - maximum number of keys held
+   * @param ttlMillis - how long a key is remembered, in milliseconds. Zero or less means no expiry
+   */
+  public MQMessageIdCache(int capacity, long ttlMillis) {
+    this(capacity, ttlMillis, System::nanoTime);
+  }
+
+  MQMessageIdCache(int capacity, long ttlMillis, LongSupplier nanoClock) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1");
+    }
+    this.capacity = capacity;
+    this.ttlNanos = (ttlMillis > 0) ? ttlMillis * 1000000L : Long.MAX_VALUE;
+    this.clock = nanoClock;
+
+    // Keep the table no more than half full
+    int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+    this.mask = tableSize - 1;
+    this.tableHi = new long[tableSize];
+    this.tableLo = new long[tableSize];
+    this.used = new boolean[tableSize];
+
+    this.ringHi = new long[capacity];
+    this.ringLo = new long[capacity];
+    this.ringTime = new long[capacity];
+  }
+
+  @Override
+  public synchronized boolean contains(String key) {
+    expire(clock.getAsLong());
+    long hi = hashHi(key);
+    long lo = hashLo(key);
+    return find(hi, lo) >= 0;
+  }
+
+  @Override
+  public synchronized void add(String key) {
+    long now = clock.getAsLong();
+    expire(now);
+    long hi = hashHi(key);
+    long lo = hashLo(key);
+    if (find(hi, lo) >= 0) {
+      return;
+    }
+    if (size == capacity) {
+      evictOldest();
+    }
+
+    int i = home(hi);
+    while (used[i]) {
+      i = (i + 1) & mask;
+    }
+    used[i] = true;
+    tableHi[i] = hi;
+    tableLo[i] = lo;
+
+    int tail = (head + size) % capacity;
+    ringHi[tail] = hi;
+    ringLo[tail] = lo;
+    ringTime[tail] = now;
+    size++;
+  }
+
+  /**
+   * @return the number of keys currently held
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  private void expire(long now) {
+    while (size > 0 && now - ringTime[head] >= ttlNanos) {
+      evictOldest();
+    }
+  }
+
+  private void evictOldest() {
+    int i = find(ringHi[head], ringLo[head]);
+    if (i >= 0) {
+      removeAt(i);
+    }
+    head = (head + 1) % capacity;
+    size--;
+  }
+
+  private int find(long hi, long lo) {
+    int i = home(hi);
+    while (used[i]) {
+      if (tableHi[i] == hi && tableLo[i] == lo) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  // Backward-shift deletion keeps probe sequences intact without needing tombstones
+  private void removeAt(int i) {
+    int j = i;
+    while (true) {
+      j = (j + 1) & mask;
+      if (!used[j]) {
+        break;
+      }
+      int k = home(tableHi[j]);
+      boolean inRange = (i <= j) ? (i < k && k <= j) : (i < k || k <= j);
+      if (!inRange) {
+        tableHi[i] = tableHi[j];
+        tableLo[i] = tableLo[j];
+        i = j;
+      }
+    }
+    used[i] = false;
+  }
+
+  private int home(long hi) {
+    return (int) (hi ^ (hi >>> 32)) & mask;
+  }
+
+  // Two independent 64-bit hashes of the characters, so that no String or byte[] is created
+  static long hashHi(String key) {
+    long h = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.length(); i++) {
+      h ^= key.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    return mix(h);
+  }
+
+  static long hashLo(String key) {
+    long h = 0x9E3779B97F4A7C15L ^ key.length();
+    for (int i = 0; i < key.length(); i++) {
+      h = Long.rotateLeft(h ^ (key.charAt(i) * 0xC2B2AE3D27D4EB4FL), 31) * 0x165667B19E3779F9L;
+    }
+    return mix(h);
+  }
+
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
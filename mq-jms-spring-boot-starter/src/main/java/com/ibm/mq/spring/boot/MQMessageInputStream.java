@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.jms.support.JmsUtils;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+
+/**
+ * A payload being received from a group of messages sent by {@link MQMessageStreamer}. Only the current
+ * segment is held in memory; the next message of the group is received when it is needed. The messages
+ * are committed when the stream is closed after the last one has been read, and are otherwise rolled
+ * back so that the group can be received again.
+ */
+public class MQMessageInputStream extends InputStream {
+
+  private final Connection connection;
+  private final Session session;
+  private final MessageConsumer consumer;
+  private final long receiveTimeout;
+  private final String groupId;
+
+  private byte[] segment;
+  private int position = 0;
+  private int seq = 1;
+  private boolean last;
+  private long length = 0;
+  private boolean closed = false;
+
+  MQMessageInputStream(Connection connection, Session session, MessageConsumer consumer, BytesMessage first, long receiveTimeout) throws JMSException {
+    this.connection = connection;
+    this.session = session;
+    this.consumer = consumer;
+    this.receiveTimeout = receiveTimeout;
+    this.groupId = first.getStringProperty(MQMessageStreamer.GROUP_ID);
+    load(first);
+  }
+
+  /**
+   * @return the JMSXGroupID of the messages
+   */
+  public String getGroupId() {
+    return groupId;
+  }
+
+  /**
+   * @return the number of bytes received so far
+   */
+  public long getLength() {
+    return length;
+  }
+
+  private void load(BytesMessage m) throws JMSException {
+    segment = new byte[(int) m.getBodyLength()];
+    m.readBytes(segment);
+    position = 0;
+    length += segment.length;
+    last = m.propertyExists(MQMessageStreamer.LAST_IN_GROUP) && m.getBooleanProperty(MQMessageStreamer.LAST_IN_GROUP);
+  }
+
+  // Returns false at the end of the group
+  private boolean fill() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    while (position >= segment.length) {
+      if (last) {
+        return false;
+      }
+      try {
+        Message m = consumer.receive(receiveTimeout);
+        if (m == null) {
+          throw new IOException("Timed out waiting for message " + (seq + 1) + " of group " + groupId);
+        }
+        int s = m.getIntProperty(MQMessageStreamer.GROUP_SEQ);
+        if (s != seq + 1) {
+          throw new IOException("Expected message " + (seq + 1) + " of group " + groupId + " but received " + s);
+        }
+        seq = s;
+        load((BytesMessage) m);
+      }
+      catch (JMSException | ClassCastException e) {
+        throw new IOException("Unable to receive message " + (seq + 1) + " of group " + groupId, e);
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return segment[position++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    int n = Math.min(len, segment.length - position);
+    System.arraycopy(segment, position, b, off, n);
+    position += n;
+    return n;
+  }
+
+  @Override
+  public int available() {
+    return closed ? 0 : segment.length - position;
+  }
+
+  /**
+   * Commit the group if it has been read completely, or roll it back otherwise.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    boolean complete = last && position >= segment.length;
+    segment = null;
+    try {
+      if (complete) {
+        session.commit();
+      }
+      else {
+        session.rollback();
+      }
+    }
+    catch (JMSException e) {
+      throw new IOException("Unable to " + (complete ? "commit" : "roll back") + " group " + groupId, e);
+    }
+    finally {
+      JmsUtils.closeMessageConsumer(consumer);
+      JmsUtils.closeSession(session);
+      JmsUtils.closeConnection(connection);
+    }
+  }
+}
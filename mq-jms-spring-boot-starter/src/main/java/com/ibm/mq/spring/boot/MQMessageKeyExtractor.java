@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+
+/**
+ * Extract a key from a received message. Messages that return equal keys are processed
+ * in the order they were received; messages with different keys may be processed in parallel.
+ * A null key means the message has no ordering requirement.
+ * <p>
+ * Applications can provide their own bean of this type to derive a key from the message body.
+ */
+@FunctionalInterface
+public interface MQMessageKeyExtractor {
+
+  /** The JMS-defined property naming the group that a message belongs to */
+  String JMSX_GROUP_ID = "JMSXGroupID";
+
+  /**
+   * @param message - the received message
+   * @return the ordering key, or null if the message can be processed in any order
+   * @throws JMSException if the message cannot be inspected
+   */
+  Object extractKey(Message message) throws JMSException;
+
+  /**
+   * @return an extractor that uses the JMSXGroupID property of each message
+   */
+  static MQMessageKeyExtractor groupId() {
+    return property(JMSX_GROUP_ID);
+  }
+
+  /**
+   * @param name - the message property holding the key
+   * @return an extractor that uses the named message property
+   */
+  static MQMessageKeyExtractor property(String name) {
+    return m -> m.getObjectProperty(name);
+  }
+}
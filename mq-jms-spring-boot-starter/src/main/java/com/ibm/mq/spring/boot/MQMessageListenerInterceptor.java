@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * A step that runs around the invocation of a message listener in an
+ * {@link MQDefaultMessageListenerContainer} or an {@link MQKeyOrderedMessageListenerContainer}.
+ * The interceptor runs on the thread that invokes the listener, inside the same session and
+ * transaction, so any messages it sends are committed or rolled back together with the received
+ * message.
+ * <p>
+ * Beans of this type are applied, in order, to containers created by the starter's
+ * "jmsListenerContainerFactory" and "mqKeyOrderedJmsListenerContainerFactory". Interceptors can
+ * implement {@link org.springframework.core.Ordered} to control their position; the first in the
+ * list is the outermost.
+ */
+@FunctionalInterface
+public interface MQMessageListenerInterceptor {
+
+  /**
+   * The remainder of the invocation chain.
+   */
+  @FunctionalInterface
+  interface Chain {
+    void proceed() throws JMSException;
+  }
+
+  /**
+   * @param session - the session the message was received on
+   * @param message - the received message
+   * @param chain - call proceed() to continue with the next interceptor or the listener itself
+   * @throws JMSException - to have the container roll back the message
+   */
+  void intercept(Session session, Message message, Chain chain) throws JMSException;
+
+  /**
+   * Called once the container has committed (or acknowledged) the work for a message
+   * it received on its own local session. The key-ordered container commits a batch of messages
+   * on its receiving thread, so this may not be the thread that called intercept().
+   *
+   * @param session - the session the message was received on
+   * @param message - the received message
+   * @throws JMSException - if the interceptor cannot complete its work
+   */
+  default void afterCommit(Session session, Message message) throws JMSException {
+  }
+}
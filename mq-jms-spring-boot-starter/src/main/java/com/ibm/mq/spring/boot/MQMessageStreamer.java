@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.JmsUtils;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+
+/**
+ * Sends and receives payloads that are too large to hold comfortably in memory. A payload is read from a
+ * stream and sent as a group of BytesMessages, each holding at most one segment. The messages carry the
+ * same JMSXGroupID, a JMSXGroupSeq starting at 1, and JMS_IBM_Last_Msg_In_Group on the final message, so
+ * the group can also be reassembled by MQ applications that do not use this class.
+ * <p>
+ * The whole group is sent in a single transaction, so a receiver never sees part of a group. The
+ * queue manager's MAXUMSGS must therefore allow for the number of segments in the largest payload.
+ * A received payload is returned as an {@link MQMessageInputStream}, which fetches each segment as it
+ * is needed, and only commits the group when it has been read to the end and closed.
+ */
+public class MQMessageStreamer {
+  private static Logger logger = LoggerFactory.getLogger(MQMessageStreamer.class);
+
+  /** The default maximum size of each message in a group */
+  public static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+  // Message properties describing the position of a message in its group
+  static final String GROUP_ID = "JMSXGroupID";
+  static final String GROUP_SEQ = "JMSXGroupSeq";
+  static final String LAST_IN_GROUP = "JMS_IBM_Last_Msg_In_Group";
+
+  // MQ gives every message that is not in a group a JMSXGroupSeq of 1, but no JMSXGroupID
+  static final String FIRST_IN_GROUP = GROUP_SEQ + " = 1 AND " + GROUP_ID + " IS NOT NULL";
+
+  // An MQ GroupId is 24 bytes, given to JMS as "ID:" followed by the bytes in hex
+  private static final int GROUP_ID_LENGTH = 24;
+  private static final SecureRandom random = new SecureRandom();
+
+  private final ConnectionFactory connectionFactory;
+  private int segmentSize = DEFAULT_SEGMENT_SIZE;
+  private long receiveTimeout = 30000;
+
+  public MQMessageStreamer(ConnectionFactory connectionFactory) {
+    this.connectionFactory = connectionFactory;
+  }
+
+  /**
+   * @param segmentSize - the maximum number of payload bytes in each message
+   */
+  public void setSegmentSize(int segmentSize) {
+    if (segmentSize <= 0) {
+      throw new IllegalArgumentException("Segment size must be positive");
+    }
+    this.segmentSize = segmentSize;
+  }
+
+  public int getSegmentSize() {
+    return segmentSize;
+  }
+
+  /**
+   * @param receiveTimeout - how long a reader waits for each segment after the first
+   */
+  public void setReceiveTimeout(Duration receiveTimeout) {
+    this.receiveTimeout = receiveTimeout.toMillis();
+  }
+
+  /**
+   * Send the contents of a stream as a group of messages. The stream is read to the end but not closed.
+   *
+   * @param queueName - where to send the messages
+   * @param in        - the payload
+   * @return the JMSXGroupID of the messages
+   * @throws JMSException if the messages cannot be sent. None of the group is then sent
+   * @throws IOException  if the stream cannot be read. None of the group is then sent
+   */
+  public String send(String queueName, InputStream in) throws JMSException, IOException {
+    String groupId = newGroupId();
+    byte[] segment = new byte[segmentSize];
+    Connection connection = null;
+    Session session = null;
+    boolean committed = false;
+    try {
+      connection = connectionFactory.createConnection();
+      session = connection.createSession(true, Session.SESSION_TRANSACTED);
+      MessageProducer producer = session.createProducer(session.createQueue(queueName));
+
+      // Read one segment ahead, so that the last one can be marked as it is sent
+      int length = readSegment(in, segment);
+      int seq = 1;
+      long total = 0;
+      do {
+        BytesMessage m = session.createBytesMessage();
+        m.writeBytes(segment, 0, length);
+        m.setStringProperty(GROUP_ID, groupId);
+        m.setIntProperty(GROUP_SEQ, seq);
+        total += length;
+
+        length = (length == segmentSize) ? readSegment(in, segment) : 0;
+        if (length == 0) {
+          m.setBooleanProperty(LAST_IN_GROUP, true);
+        }
+        producer.send(m);
+        seq++;
+      } while (length > 0);
+
+      session.commit();
+      committed = true;
+      logger.trace("Sent {} bytes in {} messages with group {}", total, seq - 1, groupId);
+      return groupId;
+    }
+    finally {
+      if (session != null && !committed) {
+        try {
+          session.rollback();
+        }
+        catch (JMSException e) {
+          logger.trace("Rollback failed: {}", e.getMessage());
+        }
+      }
+      JmsUtils.closeSession(session);
+      JmsUtils.closeConnection(connection);
+    }
+  }
+
+  /**
+   * Send the contents of a channel as a group of messages. The channel is read to the end but not closed.
+   *
+   * @see #send(String, InputStream)
+   */
+  public String send(String queueName, ReadableByteChannel channel) throws JMSException, IOException {
+    return send(queueName, Channels.newInputStream(channel));
+  }
+
+  /**
+   * Receive the next group of messages from a queue as a stream. The caller must close the stream. The
+   * messages are removed from the queue only if the whole stream has been read when it is closed.
+   *
+   * @param queueName - where to receive from
+   * @param timeout   - how long to wait for the first message of a group, in milliseconds. 0 waits forever
+   * @return the payload, or null if no group arrived in time
+   * @throws JMSException if the queue cannot be read
+   */
+  public MQMessageInputStream receive(String queueName, long timeout) throws JMSException {
+    Connection connection = null;
+    Session session = null;
+    try {
+      connection = connectionFactory.createConnection();
+      connection.start();
+      session = connection.createSession(true, Session.SESSION_TRANSACTED);
+      Queue queue = session.createQueue(queueName);
+
+      Message received;
+      try (MessageConsumer consumer = session.createConsumer(queue, FIRST_IN_GROUP)) {
+        received = consumer.receive(timeout);
+      }
+      if (received == null) {
+        JmsUtils.closeSession(session);
+        JmsUtils.closeConnection(connection);
+        return null;
+      }
+
+      String groupId = received.getStringProperty(GROUP_ID);
+      if (groupId == null || !(received instanceof BytesMessage)) {
+        throw new JMSException("Message " + received.getJMSMessageID() + " on " + queueName
+            + " is not the first BytesMessage of a message group");
+      }
+      BytesMessage first = (BytesMessage) received;
+      MessageConsumer groupConsumer = session.createConsumer(queue, GROUP_ID + " = '" + groupId.replace("'", "''") + "'");
+      return new MQMessageInputStream(connection, session, groupConsumer, first, receiveTimeout);
+    }
+    catch (JMSException | RuntimeException e) {
+      JmsUtils.closeSession(session);
+      JmsUtils.closeConnection(connection);
+      throw e;
+    }
+  }
+
+  /**
+   * Receive the next group of messages from a queue as a channel.
+   *
+   * @see #receive(String, long)
+   */
+  public ReadableByteChannel receiveChannel(String queueName, long timeout) throws JMSException {
+    MQMessageInputStream in = receive(queueName, timeout);
+    return (in != null) ? Channels.newChannel(in) : null;
+  }
+
+  // Fill the buffer unless the stream ends first
+  private static int readSegment(InputStream in, byte[] segment) throws IOException {
+    int length = 0;
+    while (length < segment.length) {
+      int n = in.read(segment, length, segment.length - length);
+      if (n < 0) {
+        break;
+      }
+      length += n;
+    }
+    return length;
+  }
+
+  private static String newGroupId() {
+    byte[] b = new byte[GROUP_ID_LENGTH];
+    random.nextBytes(b);
+    StringBuilder sb = new StringBuilder("ID:");
+    for (byte x : b) {
+      sb.append(String.format("%02x", x));
+    }
+    return sb.toString();
+  }
+}
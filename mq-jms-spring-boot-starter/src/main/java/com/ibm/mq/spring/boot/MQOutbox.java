@@ -0,0 +1,340 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.JmsException;
+
+import com.ibm.mq.constants.CMQC;
+
+/**
+ * Holds messages in an {@link MQOutboxJournal} while the queue manager cannot be reached, and sends
+ * them in order from a background thread once it can. The message body is stored as given, and is
+ * converted into a JMS message only when it is sent, so only String and byte[] bodies are accepted.
+ * <p>
+ * If there is a circuit breaker, the sender waits for it to allow a request before each attempt, and
+ * reports the outcome to it. A message that fails because the queue manager is unreachable, or for a
+ * reason that may clear, such as a full or put-inhibited queue or a missing authority, is retried with an
+ * increasing delay, holding up the messages behind it. A message that fails for any other reason, such
+ * as an unknown queue, is moved to the journal's parked records so that it is neither lost nor blocks
+ * the rest.
+ */
+public class MQOutbox {
+  private static Logger logger = LoggerFactory.getLogger(MQOutbox.class);
+
+  private static final byte TYPE_TEXT  = 1;
+  private static final byte TYPE_BYTES = 2;
+
+  // How long to wait before retrying after a connection failure, or when the breaker is open
+  private static final long RETRY_MS = 1000;
+  // The longest wait between attempts to send a message that keeps failing for a transient reason
+  private static final long MAX_RETRY_MS = 60000;
+
+  // Reasons that may clear without changes to the application, so the message is kept and retried
+  private static final int[] TRANSIENT_REASONS = {
+      CMQC.MQRC_SYNCPOINT_LIMIT_REACHED,
+      CMQC.MQRC_NOT_AUTHORIZED,
+      CMQC.MQRC_PUT_INHIBITED,
+      CMQC.MQRC_Q_FULL,
+      CMQC.MQRC_Q_SPACE_NOT_AVAILABLE,
+      CMQC.MQRC_RESOURCE_PROBLEM,
+      CMQC.MQRC_STORAGE_MEDIUM_FULL
+  };
+
+  /**
+   * Sends one message from the outbox.
+   */
+  @FunctionalInterface
+  public interface Sender {
+    void send(String destinationName, Object body) throws JmsException;
+  }
+
+  private final MQOutboxJournal journal;
+  private final MQCircuitBreaker breaker;
+  private final Sender sender;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition wakeup = lock.newCondition();
+  private volatile boolean running = false;
+  private Thread thread = null;
+
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder parked = new LongAdder();
+  private int retries = 0;
+
+  /**
+   * @param journal - where messages are held
+   * @param breaker - consulted before each send. May be null
+   * @param sender  - sends a message to the queue manager
+   */
+  public MQOutbox(MQOutboxJournal journal, MQCircuitBreaker breaker, Sender sender) {
+    this.journal = journal;
+    this.breaker = breaker;
+    this.sender = sender;
+    if (breaker != null) {
+      breaker.addListener(s -> {
+        if (s == MQCircuitBreaker.State.CLOSED) {
+          signal();
+        }
+      });
+    }
+  }
+
+  /**
+   * @return true if the body can be stored in the outbox
+   */
+  public static boolean isSupported(Object body) {
+    return body instanceof String || body instanceof byte[];
+  }
+
+  /**
+   * Add a message to the outbox.
+   *
+   * @param destinationName - the destination, resolved when the message is sent
+   * @param body            - a String or byte[]
+   * @return false if the outbox is full
+   */
+  public boolean offer(String destinationName, Object body) {
+    if (!journal.append(encode(destinationName, body))) {
+      return false;
+    }
+    signal();
+    return true;
+  }
+
+  /**
+   * @return true if messages are waiting to be sent
+   */
+  public boolean hasPending() {
+    return journal.getPending() > 0;
+  }
+
+  public long getPending() {
+    return journal.getPending();
+  }
+
+  public long getSentCount() {
+    return sent.sum();
+  }
+
+  /**
+   * @return number of records moved to the parked journal because they could never be sent
+   */
+  public long getParkedCount() {
+    return parked.sum();
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    thread = new Thread(this::run, "mq-outbox");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  public synchronized void stop() {
+    running = false;
+    if (thread != null) {
+      thread.interrupt();
+      try {
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      thread = null;
+    }
+    long remaining = journal.getPending();
+    if (remaining > 0) {
+      logger.info("{} outbox messages will be sent after restart", remaining);
+    }
+  }
+
+  private void signal() {
+    lock.lock();
+    try {
+      wakeup.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private void await(long millis) throws InterruptedException {
+    lock.lock();
+    try {
+      wakeup.await(millis, TimeUnit.MILLISECONDS);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        byte[] record = journal.peek();
+        if (record == null) {
+          await(RETRY_MS);
+          continue;
+        }
+        if (breaker != null && !breaker.allowRequest()) {
+          await(RETRY_MS);
+          continue;
+        }
+        if (sendRecord(record)) {
+          journal.consume();
+        }
+        else {
+          await(retryDelay());
+        }
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      catch (RuntimeException e) {
+        logger.warn("Outbox sender error: {}", e.getMessage());
+        if (breaker != null) {
+          breaker.releaseTrial();
+        }
+        try {
+          await(RETRY_MS);
+        }
+        catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+  }
+
+  // Doubles for each consecutive transient failure of the same message
+  private long retryDelay() {
+    long delay = RETRY_MS << Math.min(Math.max(retries - 1, 0), 16);
+    return Math.min(Math.max(delay, RETRY_MS), MAX_RETRY_MS);
+  }
+
+  // Returns false if the message should be retried later
+  private boolean sendRecord(byte[] record) {
+    String destinationName;
+    Object body;
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+      destinationName = in.readUTF();
+      byte type = in.readByte();
+      byte[] data = new byte[in.readInt()];
+      in.readFully(data);
+      body = (type == TYPE_TEXT) ? new String(data, StandardCharsets.UTF_8) : data;
+    }
+    catch (IOException e) {
+      return park(record, "unknown", "unreadable record: " + e.getMessage());
+    }
+
+    try {
+      sender.send(destinationName, body);
+      sent.increment();
+      retries = 0;
+      if (breaker != null) {
+        breaker.recordSuccess();
+      }
+      return true;
+    }
+    catch (JmsException e) {
+      if (breaker != null) {
+        breaker.recordFailure(e);
+      }
+      if (MQCircuitBreaker.isConnectionFailure(e)) {
+        retries = 0;
+        return false;
+      }
+      if (isTransient(e)) {
+        retries++;
+        logger.warn("Outbox message for {} could not be sent, retrying in {}ms: {}", destinationName, retryDelay(), e.getMessage());
+        return false;
+      }
+      return park(record, destinationName, e.getMessage());
+    }
+  }
+
+  // Returns true if the record was parked and can be consumed
+  private boolean park(byte[] record, String destinationName, String why) {
+    retries = 0;
+    try {
+      if (journal.getParkedJournal().append(record)) {
+        logger.error("Parking outbox message for {} that cannot be sent: {}", destinationName, why);
+        parked.increment();
+        return true;
+      }
+      logger.error("Outbox message for {} cannot be sent, and the parked journal is full: {}", destinationName, why);
+    }
+    catch (IOException | RuntimeException e) {
+      logger.error("Outbox message for {} cannot be sent or parked: {}", destinationName, e.getMessage());
+    }
+    return false;
+  }
+
+  static boolean isTransient(Throwable t) {
+    int reason = MQCircuitBreaker.reasonCode(t);
+    for (int r : TRANSIENT_REASONS) {
+      if (r == reason) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static byte[] encode(String destinationName, Object body) {
+    byte[] data;
+    byte type;
+    if (body instanceof String) {
+      data = ((String) body).getBytes(StandardCharsets.UTF_8);
+      type = TYPE_TEXT;
+    }
+    else if (body instanceof byte[]) {
+      data = (byte[]) body;
+      type = TYPE_BYTES;
+    }
+    else {
+      throw new IllegalArgumentException("Outbox messages must be String or byte[]");
+    }
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length + destinationName.length() + 16);
+    try (DataOutputStream out = new DataOutputStream(bos)) {
+      out.writeUTF(destinationName);
+      out.writeByte(type);
+      out.writeInt(data.length);
+      out.write(data);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bos.toByteArray();
+  }
+}
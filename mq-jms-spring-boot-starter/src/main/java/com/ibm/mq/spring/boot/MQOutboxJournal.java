@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only journal of records held in fixed-size, memory-mapped segment files. Records are
+ * read back in the order they were written, and a segment file is deleted once every record in it
+ * has been consumed. The read position is kept in a checkpoint file so that unconsumed records
+ * survive a restart. A record that was read but not yet marked as consumed when the process stopped
+ * is read again, so consumers see each record at least once.
+ * <p>
+ * Each record is stored as its length, a CRC32 of its contents, and the contents. A zero length
+ * marks the end of the data in a segment. Because the files are memory-mapped, written records
+ * survive the failure of the process even without a sync; the sync policy controls how quickly they
+ * are forced to disk so they also survive the failure of the operating system.
+ */
+public class MQOutboxJournal implements AutoCloseable {
+  private static Logger logger = LoggerFactory.getLogger(MQOutboxJournal.class);
+
+  /**
+   * When written data is forced to the storage device.
+   */
+  public enum SyncPolicy {
+    /** After every record. Safest, and slowest */
+    ALWAYS,
+    /** Periodically, from a background thread */
+    INTERVAL,
+    /** Left to the operating system */
+    NEVER
+  }
+
+  private static final int RECORD_HEADER = 8; // length + crc
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".dat";
+  private static final String CHECKPOINT_FILE = "checkpoint.dat";
+  private static final String PARKED_DIRECTORY = "parked";
+
+  private final Path directory;
+  private final int segmentSize;
+  private final int maxSegments;
+  private final long maxSize;
+  private final SyncPolicy syncPolicy;
+  private final long syncInterval;
+
+  private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+  private final MappedByteBuffer checkpoint;
+
+  private long readSegment;
+  private int readOffset;
+  private long writeSegment;
+  private int writeOffset;
+  private long pending = 0;
+  private boolean dirty = false;
+  private boolean closed = false;
+
+  private ScheduledExecutorService syncer = null;
+  private MQOutboxJournal parked = null;
+
+  /**
+   * Open a journal, recovering any records left by a previous run.
+   *
+   * @param directory    - where the segment and checkpoint files are kept. It is created if necessary
+   * @param segmentSize  - the size of each segment file in bytes. This also limits the size of a record
+   * @param maxSize      - the maximum total size of the segment files in bytes
+   * @param syncPolicy   - when data is forced to disk
+   * @param syncInterval - the time between syncs for the INTERVAL policy, in milliseconds
+   * @throws IOException if the files cannot be opened
+   */
+  public MQOutboxJournal(Path directory, int segmentSize, long maxSize, SyncPolicy syncPolicy, long syncInterval) throws IOException {
+    if (segmentSize <= RECORD_HEADER * 2) {
+      throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+    }
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.maxSegments = (int) Math.max(1, maxSize / segmentSize);
+    this.maxSize = maxSize;
+    this.syncPolicy = (syncPolicy != null) ? syncPolicy : SyncPolicy.INTERVAL;
+    this.syncInterval = syncInterval;
+
+    Files.createDirectories(directory);
+    checkpoint = map(directory.resolve(CHECKPOINT_FILE), 16);
+    recover();
+
+    if (this.syncPolicy == SyncPolicy.INTERVAL && syncInterval > 0) {
+      syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "mq-outbox-sync");
+        t.setDaemon(true);
+        return t;
+      });
+      syncer.scheduleWithFixedDelay(this::sync, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void recover() throws IOException {
+    File[] files = directory.toFile().listFiles((d, n) -> n.startsWith(SEGMENT_PREFIX) && n.endsWith(SEGMENT_SUFFIX));
+    if (files != null) {
+      for (File f : files) {
+        String n = f.getName();
+        try {
+          long id = Long.parseLong(n.substring(SEGMENT_PREFIX.length(), n.length() - SEGMENT_SUFFIX.length()));
+          segments.put(id, map(f.toPath(), segmentSize));
+        }
+        catch (NumberFormatException e) {
+          logger.warn("Ignoring unexpected file {} in outbox directory", n);
+        }
+      }
+    }
+
+    long cpSegment = checkpoint.getLong(0);
+    int cpOffset = checkpoint.getInt(8);
+    int cpCheck = checkpoint.getInt(12);
+    if (segments.isEmpty()) {
+      segments.put(0L, map(segmentPath(0), segmentSize));
+    }
+    if (cpCheck != checksum(cpSegment, cpOffset) || !segments.containsKey(cpSegment) || cpOffset < 0 || cpOffset > segmentSize) {
+      // No usable checkpoint, so start from the oldest record that still exists
+      cpSegment = segments.firstKey();
+      cpOffset = 0;
+    }
+
+    // Drop segments that were completely consumed but not deleted before a restart
+    for (Long id : segments.headMap(cpSegment).keySet().toArray(new Long[0])) {
+      segments.remove(id);
+      Files.deleteIfExists(segmentPath(id));
+    }
+
+    readSegment = cpSegment;
+    readOffset = cpOffset;
+
+    // Count the outstanding records and find where the next one is to be written
+    writeSegment = segments.lastKey();
+    writeOffset = 0;
+    for (Map.Entry<Long, MappedByteBuffer> e : segments.entrySet()) {
+      int offset = (e.getKey() == readSegment) ? readOffset : 0;
+      MappedByteBuffer buf = e.getValue();
+      while (readRecord(buf, offset) != null) {
+        offset += RECORD_HEADER + buf.getInt(offset);
+        pending++;
+      }
+      if (e.getKey() == writeSegment) {
+        writeOffset = offset;
+      }
+    }
+    if (pending > 0) {
+      logger.info("Recovered {} outbox records from {}", pending, directory);
+    }
+  }
+
+  /**
+   * Add a record to the end of the journal.
+   *
+   * @param data - the record contents
+   * @return false if there is no room for the record
+   * @throws IllegalArgumentException if the record can never fit in a segment
+   */
+  public synchronized boolean append(byte[] data) {
+    checkOpen();
+    if (data.length + RECORD_HEADER * 2 > segmentSize) {
+      throw new IllegalArgumentException("Record of " + data.length + " bytes is larger than the outbox segment size");
+    }
+    if (writeOffset + RECORD_HEADER + data.length > segmentSize) {
+      if (segments.size() >= maxSegments) {
+        return false;
+      }
+      writeSegment++;
+      writeOffset = 0;
+      try {
+        segments.put(writeSegment, map(segmentPath(writeSegment), segmentSize));
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    MappedByteBuffer buf = segments.get(writeSegment);
+    // Write the contents and checksum before the length, so a partly-written record is never seen
+    buf.put(writeOffset + RECORD_HEADER, data);
+    buf.putInt(writeOffset + 4, crc(data));
+    if (writeOffset + RECORD_HEADER + data.length + 4 <= segmentSize) {
+      buf.putInt(writeOffset + RECORD_HEADER + data.length, 0);
+    }
+    buf.putInt(writeOffset, data.length);
+    writeOffset += RECORD_HEADER + data.length;
+    pending++;
+
+    if (syncPolicy == SyncPolicy.ALWAYS) {
+      buf.force();
+    }
+    else {
+      dirty = true;
+    }
+    return true;
+  }
+
+  /**
+   * @return the oldest record that has not been consumed, or null if there is none
+   */
+  public synchronized byte[] peek() {
+    checkOpen();
+    while (true) {
+      if (readSegment == writeSegment && readOffset >= writeOffset) {
+        return null;
+      }
+      byte[] data = readRecord(segments.get(readSegment), readOffset);
+      if (data != null) {
+        return data;
+      }
+      if (readSegment == writeSegment) {
+        return null;
+      }
+      // The rest of this segment is empty, or damaged
+      nextSegment();
+    }
+  }
+
+  /**
+   * Mark the record returned by {@link #peek()} as consumed.
+   */
+  public synchronized void consume() {
+    checkOpen();
+    byte[] data = readRecord(segments.get(readSegment), readOffset);
+    if (data == null) {
+      return;
+    }
+    readOffset += RECORD_HEADER + data.length;
+    pending--;
+    if (readSegment != writeSegment && readRecord(segments.get(readSegment), readOffset) == null) {
+      nextSegment();
+    }
+    saveCheckpoint();
+  }
+
+  private void nextSegment() {
+    segments.remove(readSegment);
+    try {
+      Files.deleteIfExists(segmentPath(readSegment));
+    }
+    catch (IOException e) {
+      logger.warn("Unable to delete outbox segment {}: {}", readSegment, e.getMessage());
+    }
+    readSegment = segments.higherKey(readSegment);
+    readOffset = 0;
+    saveCheckpoint();
+  }
+
+  private void saveCheckpoint() {
+    checkpoint.putLong(0, readSegment);
+    checkpoint.putInt(8, readOffset);
+    checkpoint.putInt(12, checksum(readSegment, readOffset));
+    if (syncPolicy == SyncPolicy.ALWAYS) {
+      checkpoint.force();
+    }
+    else {
+      dirty = true;
+    }
+  }
+
+  /**
+   * Force any written data to the storage device.
+   */
+  public synchronized void sync() {
+    if (closed || !dirty) {
+      return;
+    }
+    // Older segments may have been written since the last sync if the journal has rolled over
+    for (MappedByteBuffer buf : segments.values()) {
+      buf.force();
+    }
+    checkpoint.force();
+    dirty = false;
+  }
+
+  /**
+   * @return the number of records that have not been consumed
+   */
+  public synchronized long getPending() {
+    return pending;
+  }
+
+  /**
+   * @return the number of segment files in use
+   */
+  public synchronized int getSegmentCount() {
+    return segments.size();
+  }
+
+  /**
+   * A second journal, in the "parked" subdirectory, for records that can never be delivered. It has the
+   * same size limits and sync policy as this one, is opened on first use, and is closed with this journal.
+   * Its records are kept until they are removed by hand.
+   *
+   * @return the journal of parked records
+   * @throws IOException if the files cannot be opened
+   */
+  public synchronized MQOutboxJournal getParkedJournal() throws IOException {
+    checkOpen();
+    if (parked == null) {
+      parked = new MQOutboxJournal(directory.resolve(PARKED_DIRECTORY), segmentSize, maxSize, syncPolicy, syncInterval);
+    }
+    return parked;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    if (parked != null) {
+      parked.close();
+    }
+    if (syncer != null) {
+      syncer.shutdownNow();
+    }
+    if (syncPolicy != SyncPolicy.NEVER) {
+      sync();
+    }
+    closed = true;
+    segments.clear();
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The outbox journal is closed");
+    }
+  }
+
+  // Returns the record at the offset, or null if there is not a complete, valid record there
+  private byte[] readRecord(MappedByteBuffer buf, int offset) {
+    if (buf == null || offset + RECORD_HEADER > segmentSize) {
+      return null;
+    }
+    int length = buf.getInt(offset);
+    if (length <= 0 || offset + RECORD_HEADER + length > segmentSize) {
+      return null;
+    }
+    byte[] data = new byte[length];
+    buf.get(offset + RECORD_HEADER, data);
+    if (crc(data) != buf.getInt(offset + 4)) {
+      logger.warn("Damaged record found in outbox segment at offset {}", offset);
+      return null;
+    }
+    return data;
+  }
+
+  private Path segmentPath(long id) {
+    return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+  }
+
+  private static MappedByteBuffer map(Path path, int size) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // The mapping remains valid after the channel is closed
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  private static int crc(byte[] data) {
+    CRC32 crc = new CRC32();
+    crc.update(data);
+    return (int) crc.getValue();
+  }
+
+  private static int checksum(long segment, int offset) {
+    return Arrays.hashCode(new long[] { segment, offset, 0x4d514f42L });
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+
+/**
+ * Handle messages whose listener fails, without repeatedly rolling them back to the head of the queue.
+ * <p>
+ * When a listener throws an exception, the failure count for the message is increased and the exception
+ * is passed on, so the container rolls back the transaction, including anything the listener sent. When
+ * the message is delivered again, it is dealt with before the listener runs. Until the count reaches
+ * "maxFailures", a copy of the message is put back on the end of its queue with an exponentially
+ * increasing JMS delivery delay, and the original is removed when the session commits. Once "maxFailures"
+ * is reached, the message is moved to the configured backout queue instead. Either way, the transaction
+ * contains only the received message and its copy, and the session is not held while the delay runs.
+ * <p>
+ * The failure count travels with the requeued message in the "MQSpringFailureCount" property, and
+ * is also held in memory for messages that are rolled back instead (for example messages from topics).
+ * The container must use a transacted session so that failed messages are redelivered. When the listener
+ * runs in an externally-managed (e.g. JTA) transaction, this interceptor only counts failures.
+ */
+public class MQPoisonMessageInterceptor implements MQMessageListenerInterceptor, Ordered {
+  private static Logger logger = LoggerFactory.getLogger(MQPoisonMessageInterceptor.class);
+
+  /** Runs outside other starter-provided interceptors, so they see the listener's failures */
+  public static final int ORDER = 100;
+
+  /** Property holding the number of failed attempts to process a message */
+  public static final String FAILURE_COUNT_PROPERTY = "MQSpringFailureCount";
+  /** Property holding the JMSMessageID of the message as originally received */
+  public static final String ORIGINAL_MESSAGE_ID_PROPERTY = "MQSpringOriginalMessageID";
+
+  private static final String JMSX_DELIVERY_COUNT = "JMSXDeliveryCount";
+
+  private final int maxFailures;
+  private final String backoutQueue;
+  private final boolean requeue;
+  private final long initialDelay;
+  private final long maxDelay;
+  private final double multiplier;
+
+  private final Map<String, Integer> failures;
+
+  private final LongAdder requeued = new LongAdder();
+  private final LongAdder backedOut = new LongAdder();
+  private final LongAdder rolledBack = new LongAdder();
+
+  public MQPoisonMessageInterceptor(MQConfigurationPropertiesPoison properties) {
+    logger.trace("constructor");
+    this.maxFailures = Math.max(1, properties.getMaxFailures());
+    this.backoutQueue = properties.getBackoutQueue();
+    this.requeue = properties.isRequeue();
+    this.initialDelay = (properties.getInitialDelay() != null) ? properties.getInitialDelay().toMillis() : 0;
+    this.maxDelay = (properties.getMaxDelay() != null) ? properties.getMaxDelay().toMillis() : this.initialDelay;
+    this.multiplier = Math.max(1.0, properties.getMultiplier());
+
+    int tracked = Math.max(1, properties.getTrackedMessages());
+    this.failures = Collections.synchronizedMap(new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+        return size() > tracked;
+      }
+    });
+  }
+
+  @Override
+  public void intercept(Session session, Message message, Chain chain) throws JMSException {
+    String id = originalMessageId(message);
+    int previous = previousFailures(message, id);
+    if (previous > 0 && divert(session, message, id, previous)) {
+      return;
+    }
+
+    try {
+      chain.proceed();
+      if (previous > 0) {
+        failures.remove(id);
+      }
+    }
+    catch (JMSException | RuntimeException ex) {
+      int count = previous + 1;
+      logger.debug("Message {} failed {} times, rolling back: {}", id, count, ex.getMessage());
+      failures.put(id, count);
+      rolledBack.increment();
+      throw ex;
+    }
+  }
+
+  /**
+   * Move or requeue a message that has failed before, instead of giving it to the listener. Nothing else
+   * has been done in the transaction, so only the forwarded copy is committed with the received message.
+   *
+   * @return true if the message has been forwarded and the received message can be committed
+   */
+  private boolean divert(Session session, Message message, String id, int count) throws JMSException {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return false;
+    }
+
+    if (count >= maxFailures && U.isNotNullOrEmpty(backoutQueue)) {
+      logger.warn("Moving message {} to backout queue {} after {} failures", id, backoutQueue, count);
+      forward(session, message, session.createQueue(backoutQueue), id, count, 0);
+      failures.remove(id);
+      backedOut.increment();
+      return true;
+    }
+
+    // A requeued copy whose delay has run is given to the listener. Only a rolled back message is requeued.
+    Destination source = message.getJMSDestination();
+    if (count < maxFailures && requeue && source instanceof Queue && message.getJMSRedelivered()) {
+      long delay = delayFor(count);
+      logger.debug("Requeueing message {} after failure {} with delay {}ms", id, count, delay);
+      forward(session, message, source, id, count, delay);
+      failures.remove(id);
+      requeued.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * The delivery delay to apply after the given number of failures
+   */
+  long delayFor(int count) {
+    double delay = initialDelay * Math.pow(multiplier, count - 1);
+    return (delay >= maxDelay) ? maxDelay : (long) delay;
+  }
+
+  // Failures of earlier copies are in the property, and rollbacks of this copy in the delivery count
+  private int previousFailures(Message message, String id) throws JMSException {
+    int count = 0;
+    if (message.propertyExists(FAILURE_COUNT_PROPERTY)) {
+      count = message.getIntProperty(FAILURE_COUNT_PROPERTY);
+    }
+    if (message.propertyExists(JMSX_DELIVERY_COUNT)) {
+      count += Math.max(0, message.getIntProperty(JMSX_DELIVERY_COUNT) - 1);
+    }
+    else if (message.getJMSRedelivered()) {
+      count++;
+    }
+    Integer local = failures.get(id);
+    if (local != null) {
+      count = Math.max(count, local);
+    }
+    return count;
+  }
+
+  private static String originalMessageId(Message message) throws JMSException {
+    String id = message.getStringProperty(ORIGINAL_MESSAGE_ID_PROPERTY);
+    return (id != null) ? id : message.getJMSMessageID();
+  }
+
+  /**
+   * Send the received message on to another destination within the current session. Properties
+   * of a received message are read-only, so they are cleared and set again along with the
+   * failure tracking properties. Properties that the provider does not allow an application to set
+   * are not copied.
+   */
+  private static void forward(Session session, Message message, Destination destination, String id, int count, long delay) throws JMSException {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    Enumeration<?> names = message.getPropertyNames();
+    while (names.hasMoreElements()) {
+      String name = (String) names.nextElement();
+      properties.put(name, message.getObjectProperty(name));
+    }
+
+    message.clearProperties();
+    for (Map.Entry<String, Object> property : properties.entrySet()) {
+      String name = property.getKey();
+      if (name.startsWith("JMSX") && !name.equals("JMSXGroupID") && !name.equals("JMSXGroupSeq")) {
+        continue;
+      }
+      try {
+        message.setObjectProperty(name, property.getValue());
+      }
+      catch (JMSException | RuntimeException e) {
+        logger.trace("Not copying property {}: {}", name, e.getMessage());
+      }
+    }
+    message.setIntProperty(FAILURE_COUNT_PROPERTY, count);
+    message.setStringProperty(ORIGINAL_MESSAGE_ID_PROPERTY, id);
+
+    long timeToLive = 0;
+    if (message.getJMSExpiration() != 0) {
+      timeToLive = Math.max(1, message.getJMSExpiration() - System.currentTimeMillis());
+    }
+    int deliveryMode = (message.getJMSDeliveryMode() == DeliveryMode.NON_PERSISTENT) ? DeliveryMode.NON_PERSISTENT : DeliveryMode.PERSISTENT;
+
+    MessageProducer producer = session.createProducer(destination);
+    try {
+      if (delay > 0) {
+        producer.setDeliveryDelay(delay);
+      }
+      producer.send(message, deliveryMode, message.getJMSPriority(), timeToLive);
+    }
+    finally {
+      producer.close();
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  /**
+   * @return number of messages put back on their queue with a delay
+   */
+  public long getRequeuedCount() {
+    return requeued.sum();
+  }
+
+  /**
+   * @return number of messages moved to the backout queue
+   */
+  public long getBackedOutCount() {
+    return backedOut.sum();
+  }
+
+  /**
+   * @return number of listener failures left for the container to roll back
+   */
+  public long getRolledBackCount() {
+    return rolledBack.sum();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The body of a received BytesMessage, held in an array borrowed from an {@link MQByteArrayPool}.
+ * The contents can be read as a read-only ByteBuffer or as a stream without being copied again.
+ * Closing the payload returns the array to the pool, after which the buffers and streams obtained
+ * from it must not be used. A payload that is not closed is garbage collected as usual.
+ */
+public class MQPooledPayload implements AutoCloseable {
+
+  private final MQByteArrayPool pool;
+  private byte[] data;
+  private final int length;
+
+  MQPooledPayload(MQByteArrayPool pool, byte[] data, int length) {
+    this.pool = pool;
+    this.data = data;
+    this.length = length;
+  }
+
+  /**
+   * @return the number of bytes in the body
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * @return a read-only view of the body
+   */
+  public ByteBuffer asReadOnlyBuffer() {
+    return ByteBuffer.wrap(checkOpen(), 0, length).slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * @return a stream reading the body
+   */
+  public InputStream asInputStream() {
+    return new ByteArrayInputStream(checkOpen(), 0, length);
+  }
+
+  /**
+   * @return a copy of the body, which remains valid after the payload is closed
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(checkOpen(), length);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (data != null) {
+      pool.release(data);
+      data = null;
+    }
+  }
+
+  private synchronized byte[] checkOpen() {
+    if (data == null) {
+      throw new IllegalStateException("The payload has been closed");
+    }
+    return data;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the {@link MQProducerCacheStatistics} as Micrometer meters.
+ */
+public class MQProducerCacheMeterBinder implements MeterBinder {
+
+  private final MQProducerCacheStatistics statistics;
+
+  public MQProducerCacheMeterBinder(MQProducerCacheStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    MQProducerCacheStatistics s = statistics;
+    FunctionCounter.builder("ibm.mq.producer.cache.requests", s, MQProducerCacheStatistics::getHits)
+        .description("Producers taken from the cache")
+        .tag("result", "hit").register(registry);
+    FunctionCounter.builder("ibm.mq.producer.cache.requests", s, MQProducerCacheStatistics::getMisses)
+        .description("Producers opened because none was cached")
+        .tag("result", "miss").register(registry);
+    FunctionCounter.builder("ibm.mq.producer.cache.evictions", s, MQProducerCacheStatistics::getEvictions)
+        .description("Cached producers closed to make room for another destination")
+        .register(registry);
+    Gauge.builder("ibm.mq.producer.cache.hit.ratio", s, MQProducerCacheStatistics::getHitRatio)
+        .description("Fraction of producer requests met from the cache")
+        .register(registry);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the {@link MQProducerCachingConnectionFactory}, summed over all sessions.
+ */
+public class MQProducerCacheStatistics {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  void recordEviction() {
+    evictions.increment();
+  }
+
+  /**
+   * @return requests for a producer that were met from the cache
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return requests for a producer that needed a new one to be opened
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return producers closed to make room for another destination
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return the fraction of requests met from the cache. 0 if there have been none
+   */
+  public double getHitRatio() {
+    long h = hits.sum();
+    long total = h + misses.sum();
+    return (total > 0) ? (double) h / total : 0;
+  }
+}
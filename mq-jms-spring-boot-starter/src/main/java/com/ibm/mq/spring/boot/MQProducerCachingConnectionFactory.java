@@ -0,0 +1,514 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.QueueConnection;
+import jakarta.jms.QueueReceiver;
+import jakarta.jms.QueueSender;
+import jakarta.jms.QueueSession;
+import jakarta.jms.Session;
+import jakarta.jms.TopicConnection;
+import jakarta.jms.TopicPublisher;
+import jakarta.jms.TopicSession;
+import jakarta.jms.TopicSubscriber;
+
+/**
+ * Wraps a connection factory so that every session it creates keeps its message producers open, keyed
+ * by destination. Closing a producer returns it to the session's cache, and the next createProducer call
+ * for the same destination reuses it. This avoids opening and closing the MQ queue or topic for each
+ * message when a pooling factory hands out short-lived producers.
+ * <p>
+ * Each session holds at most a fixed number of producers; the least recently used one is closed when
+ * another destination is needed. If that producer is still in use, it is removed from the cache and
+ * closed when the application closes it. All cached producers are closed with their session. Producers for a
+ * null (unidentified) destination, and JMSContext objects, are passed through unchanged. A cache size
+ * of 0 turns off the caching.
+ * <p>
+ * When given an {@link MQHandleStatistics}, the factory also counts the queue and topic handles that each
+ * session's producers, consumers and browsers hold open. A session can then be given a soft limit on its
+ * open handles: MQ applies its MAXHANDS limit to each connection handle, and each JMS session has its own.
+ * At the limit, the session closes its least recently used cached producers before opening another handle.
+ * Handles held by consumers, or by producers that the application has not closed, are never closed by the
+ * factory, so the limit can still be passed.
+ * <p>
+ * When given an {@link MQConnectionLayoutStatistics}, the factory counts the conversations in use on each
+ * connection.
+ */
+public class MQProducerCachingConnectionFactory implements ConnectionFactory {
+  private static Logger logger = LoggerFactory.getLogger(MQProducerCachingConnectionFactory.class);
+
+  /** The default maximum number of producers cached in each session */
+  public static final int DEFAULT_CACHE_SIZE = 50;
+
+  private final ConnectionFactory target;
+  private final int cacheSize;
+  private final MQProducerCacheStatistics statistics;
+  private MQHandleStatistics handleStatistics = null;
+  private int handleLimit = 0;
+  private MQConnectionLayoutStatistics layoutStatistics = null;
+
+  /**
+   * @param target     - the factory whose sessions are to cache producers
+   * @param cacheSize  - the maximum number of producers cached in each session. 0 turns off the caching
+   * @param statistics - counters to update. May be null
+   */
+  public MQProducerCachingConnectionFactory(ConnectionFactory target, int cacheSize, MQProducerCacheStatistics statistics) {
+    this.target = target;
+    this.cacheSize = cacheSize;
+    this.statistics = (statistics != null) ? statistics : new MQProducerCacheStatistics();
+  }
+
+  public ConnectionFactory getTargetConnectionFactory() {
+    return target;
+  }
+
+  public MQProducerCacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * @param handleStatistics - counters for open handles. Handles are only tracked when this is set
+   */
+  public void setHandleStatistics(MQHandleStatistics handleStatistics) {
+    this.handleStatistics = handleStatistics;
+  }
+
+  public MQHandleStatistics getHandleStatistics() {
+    return handleStatistics;
+  }
+
+  /**
+   * @param handleLimit - the number of open handles in a session at which it starts closing cached
+   *                    producers. 0 means no limit. Only applies when handles are tracked
+   */
+  public void setHandleLimit(int handleLimit) {
+    this.handleLimit = handleLimit;
+  }
+
+  /**
+   * @param layoutStatistics - counters for the conversations on each connection. May be null
+   */
+  public void setLayoutStatistics(MQConnectionLayoutStatistics layoutStatistics) {
+    this.layoutStatistics = layoutStatistics;
+  }
+
+  @Override
+  public Connection createConnection() throws JMSException {
+    return wrap(target.createConnection());
+  }
+
+  @Override
+  public Connection createConnection(String userName, String password) throws JMSException {
+    return wrap(target.createConnection(userName, password));
+  }
+
+  @Override
+  public JMSContext createContext() {
+    return target.createContext();
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password) {
+    return target.createContext(userName, password);
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password, int sessionMode) {
+    return target.createContext(userName, password, sessionMode);
+  }
+
+  @Override
+  public JMSContext createContext(int sessionMode) {
+    return target.createContext(sessionMode);
+  }
+
+  private Connection wrap(Connection connection) {
+    List<Class<?>> interfaces = new ArrayList<>();
+    interfaces.add(Connection.class);
+    if (connection instanceof QueueConnection) {
+      interfaces.add(QueueConnection.class);
+    }
+    if (connection instanceof TopicConnection) {
+      interfaces.add(TopicConnection.class);
+    }
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+        new ConnectionHandler(connection));
+  }
+
+  private Session wrap(Session session, ConnectionHandler owner) {
+    List<Class<?>> interfaces = new ArrayList<>();
+    interfaces.add(Session.class);
+    if (session instanceof QueueSession) {
+      interfaces.add(QueueSession.class);
+    }
+    if (session instanceof TopicSession) {
+      interfaces.add(TopicSession.class);
+    }
+    return (Session) Proxy.newProxyInstance(getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+        new SessionHandler(session, owner));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    }
+    catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  private class ConnectionHandler implements InvocationHandler {
+    private final Connection connection;
+    private final MQConnectionLayoutStatistics layout = layoutStatistics;
+    private final int slot;
+    private volatile boolean open = true;
+
+    ConnectionHandler(Connection connection) {
+      this.connection = connection;
+      this.slot = (layout != null) ? layout.connectionOpened() : -1;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+      case "close":
+        try {
+          connection.close();
+        }
+        finally {
+          if (layout != null && open) {
+            open = false;
+            layout.connectionClosed(slot);
+          }
+        }
+        return null;
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "MQProducerCache proxy for " + connection;
+      default:
+        Object o = MQProducerCachingConnectionFactory.invoke(connection, method, args);
+        if (o instanceof Session) {
+          if (layout != null) {
+            layout.sessionOpened(slot);
+          }
+          return wrap((Session) o, (layout != null) ? this : null);
+        }
+        return o;
+      }
+    }
+
+    // Sessions closed after their connection are already accounted for
+    void sessionClosed() {
+      if (open) {
+        layout.sessionClosed(slot);
+      }
+    }
+  }
+
+  private class SessionHandler implements InvocationHandler {
+    private final Session session;
+    private final ConnectionHandler owner;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final MQHandleStatistics handles = handleStatistics;
+    private final AtomicInteger openHandles = new AtomicInteger();
+
+    // Access-ordered, so the eldest entry is the least recently used producer
+    private final LinkedHashMap<Destination, CachedProducer> producers = new LinkedHashMap<Destination, CachedProducer>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Destination, CachedProducer> eldest) {
+        if (size() <= cacheSize) {
+          return false;
+        }
+        statistics.recordEviction();
+        CachedProducer p = eldest.getValue();
+        if (p.inUse) {
+          // Still being used, so leave it open until the application closes it
+          p.evicted = true;
+        }
+        else {
+          p.closeProducer();
+        }
+        return true;
+      }
+    };
+
+    SessionHandler(Session session, ConnectionHandler owner) {
+      this.session = session;
+      this.owner = owner;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+      case "createProducer":
+        if (args[0] != null && cacheSize > 0) {
+          return getProducer((Destination) args[0]);
+        }
+        return open(method, args);
+      case "close":
+        closeProducers();
+        session.close();
+        if (owner != null && closed.compareAndSet(false, true)) {
+          owner.sessionClosed();
+        }
+        return null;
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "MQProducerCache proxy for " + session;
+      default:
+        if (handles != null && opensHandle(method)) {
+          return open(method, args);
+        }
+        return MQProducerCachingConnectionFactory.invoke(session, method, args);
+      }
+    }
+
+    private boolean opensHandle(Method method) {
+      Class<?> c = method.getReturnType();
+      return MessageConsumer.class.isAssignableFrom(c) || QueueBrowser.class.isAssignableFrom(c);
+    }
+
+    // Create a producer, consumer or browser whose closing is counted. An unidentified producer does
+    // not hold a handle, as MQ opens the destination on each send.
+    private Object open(Method method, Object[] args) throws Throwable {
+      Destination destination = (Destination) args[0];
+      if (handles == null || destination == null) {
+        return MQProducerCachingConnectionFactory.invoke(session, method, args);
+      }
+      Object o = timedOpen(destination, () -> MQProducerCachingConnectionFactory.invoke(session, method, args));
+      return new TrackedHandle(o, destination, this).proxy;
+    }
+
+    private <T> T timedOpen(Destination destination, Opener<T> opener) throws Throwable {
+      makeRoom();
+      long start = System.nanoTime();
+      T o = opener.open();
+      handles.recordOpen(destination, System.nanoTime() - start);
+      openHandles.incrementAndGet();
+      return o;
+    }
+
+    void closed(Destination destination) {
+      handles.recordClose(destination);
+      openHandles.decrementAndGet();
+    }
+
+    // Close idle cached producers, least recently used first, until there is room for another handle
+    private synchronized void makeRoom() {
+      if (handleLimit <= 0) {
+        return;
+      }
+      Iterator<CachedProducer> it = producers.values().iterator();
+      while (openHandles.get() >= handleLimit && it.hasNext()) {
+        CachedProducer p = it.next();
+        if (!p.inUse) {
+          it.remove();
+          handles.recordEviction();
+          p.closeProducer();
+        }
+      }
+    }
+
+    private synchronized MessageProducer getProducer(Destination destination) throws Throwable {
+      CachedProducer p = producers.get(destination);
+      if (p != null) {
+        statistics.recordHit();
+        p.inUse = true;
+        return p.proxy;
+      }
+      statistics.recordMiss();
+      MessageProducer real = (handles == null) ? session.createProducer(destination)
+          : timedOpen(destination, () -> session.createProducer(destination));
+      p = new CachedProducer(real, destination, this);
+      producers.put(destination, p);
+      return p.proxy;
+    }
+
+    private synchronized void closeProducers() {
+      for (CachedProducer p : producers.values()) {
+        p.closeProducer();
+      }
+      producers.clear();
+    }
+  }
+
+  @FunctionalInterface
+  private interface Opener<T> {
+    T open() throws Throwable;
+  }
+
+  private static Object proxy(Object target, InvocationHandler handler) {
+    List<Class<?>> interfaces = new ArrayList<>();
+    for (Class<?> c : JMS_HANDLE_TYPES) {
+      if (c.isInstance(target)) {
+        interfaces.add(c);
+      }
+    }
+    return Proxy.newProxyInstance(MQProducerCachingConnectionFactory.class.getClassLoader(), interfaces.toArray(new Class<?>[0]), handler);
+  }
+
+  private static final Class<?>[] JMS_HANDLE_TYPES = { MessageProducer.class, QueueSender.class, TopicPublisher.class,
+      MessageConsumer.class, QueueReceiver.class, TopicSubscriber.class, QueueBrowser.class };
+
+  // A producer, consumer or browser that reports when it is closed
+  private static class TrackedHandle implements InvocationHandler {
+    private final Object target;
+    private final Destination destination;
+    private final SessionHandler session;
+    private final Object proxy;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    TrackedHandle(Object target, Destination destination, SessionHandler session) {
+      this.target = target;
+      this.destination = destination;
+      this.session = session;
+      this.proxy = MQProducerCachingConnectionFactory.proxy(target, this);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+      case "close":
+        Object o = MQProducerCachingConnectionFactory.invoke(target, method, args);
+        if (closed.compareAndSet(false, true)) {
+          session.closed(destination);
+        }
+        return o;
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "MQHandle proxy for " + target;
+      default:
+        return MQProducerCachingConnectionFactory.invoke(target, method, args);
+      }
+    }
+  }
+
+  // A producer whose close() leaves it open in the cache. Any QoS settings changed while it was in use
+  // are put back, so that the next user sees the same producer as a newly-created one.
+  private static class CachedProducer implements InvocationHandler {
+    private final MessageProducer producer;
+    private final Destination destination;
+    private final SessionHandler session;
+    private final MessageProducer proxy;
+
+    private final int deliveryMode;
+    private final int priority;
+    private final long timeToLive;
+    private final long deliveryDelay;
+    private final boolean disableMessageID;
+    private final boolean disableMessageTimestamp;
+    private boolean modified = false;
+    private volatile boolean inUse = true;
+    private volatile boolean evicted = false;
+
+    CachedProducer(MessageProducer producer, Destination destination, SessionHandler session) throws JMSException {
+      this.producer = producer;
+      this.destination = destination;
+      this.session = session;
+      this.deliveryMode = producer.getDeliveryMode();
+      this.priority = producer.getPriority();
+      this.timeToLive = producer.getTimeToLive();
+      this.deliveryDelay = producer.getDeliveryDelay();
+      this.disableMessageID = producer.getDisableMessageID();
+      this.disableMessageTimestamp = producer.getDisableMessageTimestamp();
+      this.proxy = (MessageProducer) MQProducerCachingConnectionFactory.proxy(producer, this);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      switch (name) {
+      case "close":
+        inUse = false;
+        if (evicted) {
+          closeProducer();
+        }
+        else {
+          reset();
+        }
+        return null;
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "MQProducerCache proxy for " + producer;
+      default:
+        if (name.startsWith("set")) {
+          modified = true;
+        }
+        return MQProducerCachingConnectionFactory.invoke(producer, method, args);
+      }
+    }
+
+    private void reset() throws JMSException {
+      if (modified) {
+        producer.setDeliveryMode(deliveryMode);
+        producer.setPriority(priority);
+        producer.setTimeToLive(timeToLive);
+        producer.setDeliveryDelay(deliveryDelay);
+        producer.setDisableMessageID(disableMessageID);
+        producer.setDisableMessageTimestamp(disableMessageTimestamp);
+        modified = false;
+      }
+    }
+
+    void closeProducer() {
+      try {
+        producer.close();
+      }
+      catch (JMSException e) {
+        logger.trace("Error closing cached producer: {}", e.getMessage());
+      }
+      if (session.handles != null) {
+        session.closed(destination);
+      }
+    }
+  }
+}
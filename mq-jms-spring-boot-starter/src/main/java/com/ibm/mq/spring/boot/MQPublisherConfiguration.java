@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.destination.DestinationResolver;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Creates the {@link MQTopicPublisher} for publishing to many topic strings.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "ibm.mq.publisher", name = "enabled", havingValue = "true", matchIfMissing = false)
+class MQPublisherConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQPublisherConfiguration.class);
+
+  @Bean
+  @ConditionalOnMissingBean
+  public MQTopicPublisherStatistics mqTopicPublisherStatistics() {
+    return new MQTopicPublisherStatistics();
+  }
+
+  // The connection is only made on the first publish
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  @ConditionalOnSingleCandidate(ConnectionFactory.class)
+  public MQTopicPublisher mqTopicPublisher(ConnectionFactory connectionFactory, MQConfigurationProperties properties,
+      MQTopicPublisherStatistics statistics, ObjectProvider<MessageConverter> messageConverter,
+      ObjectProvider<DestinationResolver> destinationResolver) {
+    logger.trace("Creating topic publisher");
+    MQTopicPublisher publisher = new MQTopicPublisher(connectionFactory, statistics);
+    publisher.setCacheSize(properties.getPublisher().getCacheSize());
+    messageConverter.ifUnique(publisher::setMessageConverter);
+    destinationResolver.ifUnique(publisher::setDestinationResolver);
+    return publisher;
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  static class MQTopicPublisherMetricsConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    MQTopicPublisherMeterBinder mqTopicPublisherMeterBinder(MQTopicPublisherStatistics statistics) {
+      return new MQTopicPublisherMeterBinder(statistics);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+
+/**
+ * A connection factory that passes each request to an MQConnectionFactory that can be replaced while
+ * the application runs. Connections that already exist are not affected by the replacement; the
+ * caching or pooled factory above this one decides when they are closed.
+ */
+public class MQReloadableConnectionFactory implements ConnectionFactory {
+
+  private volatile MQConnectionFactory target;
+
+  public MQReloadableConnectionFactory(MQConnectionFactory target) {
+    this.target = target;
+  }
+
+  public MQConnectionFactory getTargetConnectionFactory() {
+    return target;
+  }
+
+  /**
+   * @param target - the factory to use for all new connections
+   */
+  public void setTargetConnectionFactory(MQConnectionFactory target) {
+    this.target = target;
+  }
+
+  @Override
+  public Connection createConnection() throws JMSException {
+    return target.createConnection();
+  }
+
+  @Override
+  public Connection createConnection(String userName, String password) throws JMSException {
+    return target.createConnection(userName, password);
+  }
+
+  @Override
+  public JMSContext createContext() {
+    return target.createContext();
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password) {
+    return target.createContext(userName, password);
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password, int sessionMode) {
+    return target.createContext(userName, password, sessionMode);
+  }
+
+  @Override
+  public JMSContext createContext(int sessionMode) {
+    return target.createContext(sessionMode);
+  }
+}
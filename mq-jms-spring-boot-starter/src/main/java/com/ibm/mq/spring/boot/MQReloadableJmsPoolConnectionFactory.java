@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.messaginghub.pooled.jms.JmsPoolConnectionFactory;
+import org.messaginghub.pooled.jms.pool.PooledConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+
+/**
+ * A pooled connection factory whose connections can be retired after the configuration changes.
+ * <p>
+ * A retired connection is not handed out again, so new requests get a new connection from the
+ * current configuration. A retired connection that is still in use stays open until the application
+ * closes its last reference, or until the drain timeout passes, whichever comes first.
+ */
+public class MQReloadableJmsPoolConnectionFactory extends JmsPoolConnectionFactory {
+  private static Logger logger = LoggerFactory.getLogger(MQReloadableJmsPoolConnectionFactory.class);
+
+  private final Set<DrainingConnection> connections = ConcurrentHashMap.newKeySet();
+  private ScheduledExecutorService scheduler;
+
+  @Override
+  protected PooledConnection createPooledConnection(Connection connection) {
+    DrainingConnection c = new DrainingConnection(connection);
+    connections.add(c);
+    return c;
+  }
+
+  /**
+   * Retire every connection that is currently in the pool.
+   *
+   * @param timeout - how long a retired connection can stay in use before it is closed. Null or zero
+   *                means it is only closed when it is no longer used
+   * @return the number of connections retired
+   */
+  public int drain(Duration timeout) {
+    List<DrainingConnection> retired = new ArrayList<>();
+    for (DrainingConnection c : connections) {
+      if (c.retire()) {
+        retired.add(c);
+      }
+    }
+    logger.trace("Retired {} pooled connections", retired.size());
+
+    if (!retired.isEmpty() && timeout != null && !timeout.isZero() && !timeout.isNegative()) {
+      scheduler().schedule(() -> retired.forEach(DrainingConnection::forceClose), timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    return retired.size();
+  }
+
+  /**
+   * @return the number of retired connections that are still open
+   */
+  public int getDrainingConnections() {
+    return (int) connections.stream().filter(DrainingConnection::isDraining).count();
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    synchronized (this) {
+      if (scheduler != null) {
+        scheduler.shutdownNow();
+        scheduler = null;
+      }
+    }
+  }
+
+  private synchronized ScheduledExecutorService scheduler() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "mq-pool-drain");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return scheduler;
+  }
+
+  // The pool validates a connection each time it is borrowed. A retired connection fails that
+  // check, so the pool destroys it and creates a new one; the close from the pool is held back
+  // until the last reference is released.
+  private class DrainingConnection extends PooledConnection {
+    private int references = 0;
+    private boolean retired = false;
+    private boolean failed = false;
+
+    DrainingConnection(Connection connection) {
+      super(connection);
+    }
+
+    synchronized boolean retire() {
+      if (retired || isClosed()) {
+        return false;
+      }
+      retired = true;
+      if (references == 0) {
+        close();
+      }
+      return true;
+    }
+
+    synchronized boolean isDraining() {
+      return retired && !isClosed();
+    }
+
+    synchronized void forceClose() {
+      if (!isClosed()) {
+        logger.trace("Closing pooled connection {} that was still in use after the drain timeout", this);
+        failed = true;
+        close();
+      }
+    }
+
+    @Override
+    public synchronized void incrementReferenceCount() {
+      references++;
+      super.incrementReferenceCount();
+    }
+
+    @Override
+    public synchronized void decrementReferenceCount() {
+      references--;
+      super.decrementReferenceCount();
+    }
+
+    @Override
+    public synchronized boolean idleTimeoutCheck() {
+      if (retired) {
+        if (references <= 0) {
+          close();
+        }
+        return true;
+      }
+      return super.idleTimeoutCheck();
+    }
+
+    @Override
+    public synchronized void close() {
+      if (retired && !failed && references > 0) {
+        return;
+      }
+      super.close();
+      connections.remove(this);
+    }
+
+    @Override
+    public void onException(JMSException exception) {
+      synchronized (this) {
+        failed = true;
+      }
+      super.onException(exception);
+    }
+  }
+}
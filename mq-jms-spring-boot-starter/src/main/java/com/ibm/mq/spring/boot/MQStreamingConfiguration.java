@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.jms.ConnectionFactory;
+
+/**
+ * Creates the {@link MQMessageStreamer} for sending and receiving large payloads.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "ibm.mq.streaming", name = "enabled", havingValue = "true", matchIfMissing = false)
+class MQStreamingConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQStreamingConfiguration.class);
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnSingleCandidate(ConnectionFactory.class)
+  public MQMessageStreamer mqMessageStreamer(ConnectionFactory connectionFactory, MQConfigurationProperties properties) {
+    logger.trace("Creating message streamer");
+    MQConfigurationPropertiesStreaming streaming = properties.getStreaming();
+    MQMessageStreamer streamer = new MQMessageStreamer(connectionFactory);
+    streamer.setSegmentSize((int) streaming.getSegmentSize().toBytes());
+    streamer.setReceiveTimeout(streaming.getReceiveTimeout());
+    return streamer;
+  }
+}
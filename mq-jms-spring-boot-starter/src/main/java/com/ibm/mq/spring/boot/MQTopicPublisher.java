@@ -0,0 +1,306 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+import org.springframework.jms.support.destination.DestinationResolver;
+
+import com.ibm.mq.constants.CMQC;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.jms.Topic;
+
+/**
+ * Publishes messages to many topic strings. Sending through a JmsTemplate opens the topic for each
+ * publish; this class instead keeps a producer open for each topic string that a session has used, up to
+ * a limit, and shares the Topic objects between sessions.
+ * <p>
+ * The publisher holds one connection, and a session for each thread that is publishing at the same
+ * time. Publishes are made in a transaction. {@link #publish(Map)} sends a batch of updates and
+ * commits them together, which is much cheaper than committing each one.
+ * <p>
+ * Each cached producer holds an object handle on its session's connection to the queue manager, and
+ * the number of handles is limited by the queue manager's MAXHANDS attribute, 256 by default. The
+ * default cache size leaves room below that. If opening a producer fails with reason code 2017
+ * (MQRC_HANDLE_NOT_AVAILABLE), the session closes its least recently used producer, tries again, and
+ * keeps no more producers than it then holds.
+ * <p>
+ * MQ reports a publication with no matching subscriber as a warning that JMS does not pass to the
+ * application, so the "no subscribers" count only includes the cases where a JMSException carries
+ * reason code 2550 (MQRC_NO_SUBS_MATCHED).
+ */
+public class MQTopicPublisher {
+  private static Logger logger = LoggerFactory.getLogger(MQTopicPublisher.class);
+
+  /** The default maximum number of topic strings for which each session keeps a producer. Below the default MAXHANDS of 256 */
+  public static final int DEFAULT_CACHE_SIZE = 200;
+
+  private final ConnectionFactory connectionFactory;
+  private final MQTopicPublisherStatistics statistics;
+  private MessageConverter messageConverter = new SimpleMessageConverter();
+  private DestinationResolver destinationResolver = null;
+  private int cacheSize = DEFAULT_CACHE_SIZE;
+
+  private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+  private final Deque<Channel> idle = new ConcurrentLinkedDeque<>();
+  private volatile Connection connection = null;
+
+  /**
+   * @param connectionFactory - used to create the publisher's connection
+   * @param statistics        - counters to update. May be null
+   */
+  public MQTopicPublisher(ConnectionFactory connectionFactory, MQTopicPublisherStatistics statistics) {
+    this.connectionFactory = connectionFactory;
+    this.statistics = (statistics != null) ? statistics : new MQTopicPublisherStatistics();
+  }
+
+  /**
+   * @param messageConverter - converts payloads to messages. The default is a SimpleMessageConverter
+   */
+  public void setMessageConverter(MessageConverter messageConverter) {
+    this.messageConverter = messageConverter;
+  }
+
+  /**
+   * @param destinationResolver - resolves topic strings, for example to apply the options of an
+   *                            {@link MQDestinationResolver}. By default the session creates the topics
+   */
+  public void setDestinationResolver(DestinationResolver destinationResolver) {
+    this.destinationResolver = destinationResolver;
+  }
+
+  /**
+   * @param cacheSize - the maximum number of topic strings for which each session keeps a producer, and the
+   *                  number of Topic objects kept for all sessions. Keep it below the queue manager's MAXHANDS
+   */
+  public void setCacheSize(int cacheSize) {
+    this.cacheSize = cacheSize;
+  }
+
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
+  public MQTopicPublisherStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Publish one message and commit it.
+   *
+   * @param topicString - where to publish
+   * @param payload     - the message body, converted by the MessageConverter
+   * @throws JMSException if the message cannot be published
+   */
+  public void publish(String topicString, Object payload) throws JMSException {
+    publish(Collections.singletonMap(topicString, payload));
+  }
+
+  /**
+   * Publish a message to each topic string in the map, in the map's iteration order, and commit them in
+   * one transaction.
+   *
+   * @param updates - the payloads, keyed by topic string
+   * @throws JMSException if the messages cannot be published. None of them is then published
+   */
+  public void publish(Map<String, ?> updates) throws JMSException {
+    if (updates.isEmpty()) {
+      return;
+    }
+    Channel channel = borrow();
+    try {
+      for (Map.Entry<String, ?> e : updates.entrySet()) {
+        long start = System.nanoTime();
+        channel.send(e.getKey(), e.getValue());
+        statistics.recordPublish(System.nanoTime() - start);
+      }
+      long start = System.nanoTime();
+      channel.session.commit();
+      statistics.recordCommit(System.nanoTime() - start);
+      release(channel);
+    }
+    catch (JMSException | RuntimeException e) {
+      if (MQCircuitBreaker.reasonCode(e) == CMQC.MQRC_NO_SUBS_MATCHED) {
+        statistics.recordNoSubscribers();
+      }
+      else {
+        statistics.recordFailure();
+      }
+      discard(channel, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Close the connection and all sessions. Sessions that are publishing at the time are closed when the
+   * publish finishes. The publisher reconnects if it is used again.
+   */
+  public synchronized void close() {
+    Channel c;
+    while ((c = idle.poll()) != null) {
+      c.close();
+    }
+    JmsUtils.closeConnection(connection);
+    connection = null;
+  }
+
+  private Channel borrow() throws JMSException {
+    Channel c = idle.poll();
+    if (c != null) {
+      return c;
+    }
+    Connection conn = connection();
+    return new Channel(conn, conn.createSession(true, Session.SESSION_TRANSACTED));
+  }
+
+  // A session from a connection that has since been closed cannot be used again
+  private synchronized void release(Channel channel) {
+    if (channel.connection == connection) {
+      idle.push(channel);
+    }
+    else {
+      channel.close();
+    }
+  }
+
+  private synchronized Connection connection() throws JMSException {
+    if (connection == null) {
+      logger.trace("Creating publisher connection");
+      connection = connectionFactory.createConnection();
+    }
+    return connection;
+  }
+
+  // The session cannot be reused after an error. If the connection has gone too, the other sessions
+  // are closed so that the next publish reconnects.
+  private void discard(Channel channel, Exception e) {
+    try {
+      channel.session.rollback();
+    }
+    catch (JMSException x) {
+      logger.trace("Rollback failed: {}", x.getMessage());
+    }
+    channel.close();
+    if (MQCircuitBreaker.isConnectionFailure(e)) {
+      logger.trace("Publisher connection failed: {}", e.getMessage());
+      close();
+    }
+  }
+
+  private Topic topic(Session session, String topicString) throws JMSException {
+    Topic t = topics.get(topicString);
+    if (t == null) {
+      t = (destinationResolver != null) ? (Topic) destinationResolver.resolveDestinationName(session, topicString, true)
+          : session.createTopic(topicString);
+      if (topics.size() < cacheSize) {
+        topics.putIfAbsent(topicString, t);
+      }
+    }
+    return t;
+  }
+
+  // A session and its producers, used by one thread at a time
+  private class Channel {
+    private final Connection connection;
+    private final Session session;
+
+    // Lowered if the queue manager runs out of handles before the cache is full
+    private int limit = cacheSize;
+
+    // Access-ordered, so the eldest entry is the least recently used producer
+    private final Map<String, MessageProducer> producers = new LinkedHashMap<String, MessageProducer>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, MessageProducer> eldest) {
+        if (size() <= limit) {
+          return false;
+        }
+        JmsUtils.closeMessageProducer(eldest.getValue());
+        return true;
+      }
+    };
+
+    Channel(Connection connection, Session session) {
+      this.connection = connection;
+      this.session = session;
+    }
+
+    void send(String topicString, Object payload) throws JMSException {
+      MessageProducer p = producers.get(topicString);
+      boolean cached = (p != null);
+      if (!cached) {
+        p = createProducer(topicString);
+      }
+      Message m = messageConverter.toMessage(payload, session);
+      p.send(m);
+      if (!cached) {
+        if (cacheSize > 0) {
+          producers.put(topicString, p);
+        }
+        else {
+          JmsUtils.closeMessageProducer(p);
+        }
+      }
+    }
+
+    private MessageProducer createProducer(String topicString) throws JMSException {
+      Topic t = topic(session, topicString);
+      while (true) {
+        try {
+          return session.createProducer(t);
+        }
+        catch (JMSException e) {
+          if (MQCircuitBreaker.reasonCode(e) != CMQC.MQRC_HANDLE_NOT_AVAILABLE || producers.isEmpty()) {
+            throw e;
+          }
+          // Keep no more producers than the queue manager allowed, then make room for this one
+          if (producers.size() < limit) {
+            logger.warn("Queue manager handle limit reached with {} producers open on a session. Consider lowering ibm.mq.publisher.cacheSize", producers.size());
+            limit = producers.size();
+          }
+          Iterator<MessageProducer> eldest = producers.values().iterator();
+          JmsUtils.closeMessageProducer(eldest.next());
+          eldest.remove();
+        }
+      }
+    }
+
+    void close() {
+      for (MessageProducer p : producers.values()) {
+        JmsUtils.closeMessageProducer(p);
+      }
+      producers.clear();
+      JmsUtils.closeSession(session);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the {@link MQTopicPublisherStatistics} as Micrometer meters.
+ */
+public class MQTopicPublisherMeterBinder implements MeterBinder {
+
+  private final MQTopicPublisherStatistics statistics;
+
+  public MQTopicPublisherMeterBinder(MQTopicPublisherStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    MQTopicPublisherStatistics s = statistics;
+    FunctionCounter.builder("ibm.mq.publisher.messages", s, MQTopicPublisherStatistics::getPublished)
+        .description("Messages published")
+        .register(registry);
+    FunctionCounter.builder("ibm.mq.publisher.batches", s, MQTopicPublisherStatistics::getBatches)
+        .description("Transactions of publishes committed")
+        .register(registry);
+    FunctionCounter.builder("ibm.mq.publisher.errors", s, MQTopicPublisherStatistics::getNoSubscribers)
+        .description("Publishes reported as having no subscriber")
+        .tag("reason", "no_subscribers").register(registry);
+    FunctionCounter.builder("ibm.mq.publisher.errors", s, MQTopicPublisherStatistics::getFailures)
+        .description("Publishes that failed")
+        .tag("reason", "failed").register(registry);
+
+    timer(registry, "ibm.mq.publisher.publish", s.getPublishLatency());
+    timer(registry, "ibm.mq.publisher.commit", s.getCommitLatency());
+  }
+
+  private static void timer(MeterRegistry registry, String name, MQLatencyHistogram h) {
+    FunctionTimer.builder(name, h, MQLatencyHistogram::getCount, MQLatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+        .register(registry);
+    Gauge.builder(name + ".max", h, MQLatencyHistogram::getMaxMillis)
+        .baseUnit("milliseconds")
+        .register(registry);
+  }
+}
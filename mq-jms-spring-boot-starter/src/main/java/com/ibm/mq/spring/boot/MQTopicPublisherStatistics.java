@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the {@link MQTopicPublisher}.
+ */
+public class MQTopicPublisherStatistics {
+
+  private final LongAdder published = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder noSubscribers = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  private final MQLatencyHistogram publishLatency = new MQLatencyHistogram();
+  private final MQLatencyHistogram commitLatency = new MQLatencyHistogram();
+
+  void recordPublish(long nanos) {
+    published.increment();
+    publishLatency.record(nanos);
+  }
+
+  void recordCommit(long nanos) {
+    batches.increment();
+    commitLatency.record(nanos);
+  }
+
+  void recordNoSubscribers() {
+    noSubscribers.increment();
+  }
+
+  void recordFailure() {
+    failures.increment();
+  }
+
+  /**
+   * @return messages published and committed, or waiting to be committed
+   */
+  public long getPublished() {
+    return published.sum();
+  }
+
+  /**
+   * @return transactions committed, each holding one or more messages
+   */
+  public long getBatches() {
+    return batches.sum();
+  }
+
+  /**
+   * @return publishes that the queue manager reported as having no matching subscriber
+   */
+  public long getNoSubscribers() {
+    return noSubscribers.sum();
+  }
+
+  /**
+   * @return publishes or commits that failed for any other reason
+   */
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  public MQLatencyHistogram getPublishLatency() {
+    return publishLatency;
+  }
+
+  public MQLatencyHistogram getCommitLatency() {
+    return commitLatency;
+  }
+}
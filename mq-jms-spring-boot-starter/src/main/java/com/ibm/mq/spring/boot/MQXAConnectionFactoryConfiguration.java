@@ -21,10 +21,13 @@ import org.messaginghub.pooled.jms.JmsPoolXAConnectionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
 import org.springframework.boot.jms.XAConnectionFactoryWrapper;
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
@@ -35,7 +38,9 @@ import com.ibm.mq.jakarta.jms.MQConnectionFactory;
 import com.ibm.mq.jakarta.jms.MQXAConnectionFactory;
 import com.ibm.mq.spring.boot.MQConnectionFactoryConfiguration.PooledMQConnectionFactoryConfiguration;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.jms.ConnectionFactory;
+import jakarta.jms.XAConnectionFactory;
 
 /**
  * Configuration for IBM MQ XA {@link ConnectionFactory}.
@@ -53,10 +58,64 @@ class MQXAConnectionFactoryConfiguration {
       MQConfigurationProperties properties,
       ObjectProvider<SslBundles> sslBundles,
       ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers,
-      XAConnectionFactoryWrapper wrapper) throws Exception {
+      XAConnectionFactoryWrapper wrapper,
+      ObjectProvider<MQXAStatistics> statistics) throws Exception {
     logger.trace("Creating MQXAConnectionFactory");
     MQXAConnectionFactory connectionFactory = new MQConnectionFactoryFactory(connectionDetails, properties, sslBundles.getIfAvailable(), factoryCustomizers.getIfAvailable()).createConnectionFactory(MQXAConnectionFactory.class);
-    return wrapper.wrapConnectionFactory(connectionFactory);
+    return wrapper.wrapConnectionFactory(instrument(connectionFactory, statistics.getIfAvailable()));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "ibm.mq.xa", name = "statistics", havingValue = "true", matchIfMissing = false)
+  public MQXAStatistics mqXAStatistics(MQConnectionDetails connectionDetails) {
+    return new MQXAStatistics(connectionDetails.getQueueManager());
+  }
+
+  // The scan uses its own unwrapped factory so that it is not counted in the statistics, and so
+  // that it does not depend on the pool or transaction manager.
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnBean(MQXAStatistics.class)
+  public MQXARecoveryMonitor mqXARecoveryMonitor(MQConnectionDetails connectionDetails,
+      MQConfigurationProperties properties,
+      ObjectProvider<SslBundles> sslBundles,
+      ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers,
+      MQXAStatistics statistics) {
+    logger.trace("Creating XA recovery monitor");
+    MQXAConnectionFactory connectionFactory = new MQConnectionFactoryFactory(connectionDetails, properties, sslBundles.getIfAvailable(),
+        factoryCustomizers.getIfAvailable()).createConnectionFactory(MQXAConnectionFactory.class);
+    return new MQXARecoveryMonitor(connectionFactory, statistics, properties.getXa().getRecoveryScanInterval());
+  }
+
+  // Listeners that only touch MQ do not need the transaction manager. This factory gives them
+  // local MQ transactions on the non-XA connection factory, avoiding the transaction manager's
+  // log writes and the XA start/end/commit flows.
+  @Bean
+  @ConditionalOnProperty(prefix = "ibm.mq.xa", name = "localListener", havingValue = "true", matchIfMissing = false)
+  public MQJmsListenerContainerFactory mqLocalJmsListenerContainerFactory(
+      @Qualifier("nonXaJmsConnectionFactory") ConnectionFactory connectionFactory,
+      ObjectProvider<DefaultJmsListenerContainerFactoryConfigurer> configurer,
+      ObjectProvider<MQMessageListenerInterceptor> interceptors) {
+    logger.trace("Creating local-transaction JmsListenerContainerFactory");
+    MQJmsListenerContainerFactory factory = new MQJmsListenerContainerFactory();
+    DefaultJmsListenerContainerFactoryConfigurer c = configurer.getIfAvailable();
+    if (c != null) {
+      c.configure(factory, connectionFactory);
+    }
+    else {
+      factory.setConnectionFactory(connectionFactory);
+    }
+    factory.setTransactionManager(null);
+    factory.setSessionTransacted(true);
+    factory.setInterceptors(interceptors.orderedStream().toList());
+    return factory;
+  }
+
+  static XAConnectionFactory instrument(MQXAConnectionFactory connectionFactory, MQXAStatistics statistics) {
+    if (statistics == null) {
+      return connectionFactory;
+    }
+    logger.trace("Recording XA statistics");
+    return new MQInstrumentedXAConnectionFactory(connectionFactory, statistics);
   }
 
   @Bean
@@ -69,6 +128,30 @@ class MQXAConnectionFactoryConfiguration {
         factoryCustomizers.getIfAvailable()).createConnectionFactory(MQConnectionFactory.class);
   }
 
+  // Nested configurations are registered before the beans of the outer class, so a condition on the
+  // MQXAStatistics bean would never match here. They use the same property as that bean instead.
+  @Configuration(proxyBeanMethods=false)
+  @ConditionalOnClass(Endpoint.class)
+  @ConditionalOnProperty(prefix = "ibm.mq.xa", name = "statistics", havingValue = "true", matchIfMissing = false)
+  static class MQXAEndpointConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    MQXAEndpoint mqXAEndpoint(List<MQXAStatistics> statistics) {
+      return new MQXAEndpoint(statistics);
+    }
+  }
+
+  @Configuration(proxyBeanMethods=false)
+  @ConditionalOnClass(MeterBinder.class)
+  @ConditionalOnProperty(prefix = "ibm.mq.xa", name = "statistics", havingValue = "true", matchIfMissing = false)
+  static class MQXAMetricsConfiguration {
+    @Bean
+    @ConditionalOnMissingBean
+    MQXAMeterBinder mqXAMeterBinder(List<MQXAStatistics> statistics) {
+      return new MQXAMeterBinder(statistics);
+    }
+  }
+
   @Configuration(proxyBeanMethods=false)
   @ConditionalOnClass({ JmsPoolXAConnectionFactory.class, PooledObject.class })
   static public class PooledMQXAConnectionFactoryConfiguration {
@@ -78,13 +161,15 @@ class MQXAConnectionFactoryConfiguration {
     JmsPoolXAConnectionFactory pooledJmsXAConnectionFactory(MQConnectionDetails connectionDetails,
         MQConfigurationProperties properties,
         ObjectProvider<SslBundles> sslBundles,
-        ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers) {
+        ObjectProvider<List<MQConnectionFactoryCustomizer>> factoryCustomizers,
+        ObjectProvider<MQXAStatistics> statistics) {
 
       logger.trace("Creating pooled MQXAConnectionFactory");
       MQXAConnectionFactory connectionFactory = new MQConnectionFactoryFactory(connectionDetails, properties, sslBundles.getIfAvailable(),
           factoryCustomizers.getIfAvailable()).createConnectionFactory(MQXAConnectionFactory.class);
 
-      return PooledMQConnectionFactoryConfiguration.createInstance(JmsPoolXAConnectionFactory.class, connectionFactory, properties.getPool());
+      return PooledMQConnectionFactoryConfiguration.createInstance(JmsPoolXAConnectionFactory.class,
+          (ConnectionFactory) instrument(connectionFactory, statistics.getIfAvailable()), properties.getPool());
     }
   }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint ("/actuator/mqxa") reporting the {@link MQXAStatistics} for each queue manager.
+ * As with other endpoints, it has to be exposed through "management.endpoints.web.exposure.include".
+ */
+@Endpoint(id = "mqxa")
+public class MQXAEndpoint {
+
+  private final List<MQXAStatistics> statistics;
+
+  public MQXAEndpoint(List<MQXAStatistics> statistics) {
+    this.statistics = statistics;
+  }
+
+  @ReadOperation
+  public Map<String, Object> statistics() {
+    Map<String, Object> m = new LinkedHashMap<>();
+    for (MQXAStatistics s : statistics) {
+      m.put(s.getQueueManager(), s.summary());
+    }
+    return m;
+  }
+}
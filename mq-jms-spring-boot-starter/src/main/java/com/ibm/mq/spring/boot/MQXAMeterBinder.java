@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the {@link MQXAStatistics} for each queue manager as Micrometer meters, tagged
+ * with "queueManager".
+ */
+public class MQXAMeterBinder implements MeterBinder {
+
+  private final List<MQXAStatistics> statistics;
+
+  public MQXAMeterBinder(List<MQXAStatistics> statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (MQXAStatistics s : statistics) {
+      String qm = s.getQueueManager();
+
+      Gauge.builder("ibm.mq.xa.sessions.open", s, MQXAStatistics::getOpenSessions)
+          .description("Open XA sessions, including those idle in a pool")
+          .tag("queueManager", qm).register(registry);
+      Gauge.builder("ibm.mq.xa.branches.active", s, MQXAStatistics::getActiveBranches)
+          .description("Transaction branches between start and end")
+          .tag("queueManager", qm).register(registry);
+      Gauge.builder("ibm.mq.xa.indoubt", s, MQXAStatistics::getInDoubt)
+          .description("In-doubt transactions found by the last recovery scan")
+          .tag("queueManager", qm).register(registry);
+
+      counter(registry, "ibm.mq.xa.commits", s, MQXAStatistics::getOnePhaseCommits, "phase", "one");
+      counter(registry, "ibm.mq.xa.commits", s, MQXAStatistics::getTwoPhaseCommits, "phase", "two");
+      counter(registry, "ibm.mq.xa.prepares", s, MQXAStatistics::getReadOnlyPrepares, "readOnly", "true");
+      counter(registry, "ibm.mq.xa.prepares", s, x -> x.getPrepares() - x.getReadOnlyPrepares(), "readOnly", "false");
+      counter(registry, "ibm.mq.xa.rollbacks", s, MQXAStatistics::getRollbacks, null, null);
+      counter(registry, "ibm.mq.xa.heuristics", s, MQXAStatistics::getHeuristicCommits, "outcome", "commit");
+      counter(registry, "ibm.mq.xa.heuristics", s, MQXAStatistics::getHeuristicRollbacks, "outcome", "rollback");
+      counter(registry, "ibm.mq.xa.heuristics", s, MQXAStatistics::getHeuristicMixed, "outcome", "mixed");
+      counter(registry, "ibm.mq.xa.heuristics", s, MQXAStatistics::getHeuristicHazards, "outcome", "hazard");
+      counter(registry, "ibm.mq.xa.recovery.scans", s, MQXAStatistics::getRecoveryScans, "result", "success");
+      counter(registry, "ibm.mq.xa.recovery.scans", s, MQXAStatistics::getRecoveryScanFailures, "result", "failure");
+
+      timer(registry, "ibm.mq.xa.prepare", s, s.getPrepareLatency());
+      timer(registry, "ibm.mq.xa.commit", s, s.getCommitLatency());
+    }
+  }
+
+  private static void counter(MeterRegistry registry, String name, MQXAStatistics s, ToLongFunction<MQXAStatistics> f, String tag, String value) {
+    FunctionCounter.Builder<MQXAStatistics> b = FunctionCounter.builder(name, s, x -> f.applyAsLong(x))
+        .tag("queueManager", s.getQueueManager());
+    if (tag != null) {
+      b.tag(tag, value);
+    }
+    b.register(registry);
+  }
+
+  private static void timer(MeterRegistry registry, String name, MQXAStatistics s, MQLatencyHistogram h) {
+    FunctionTimer.builder(name, h, MQLatencyHistogram::getCount, MQLatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+        .tag("queueManager", s.getQueueManager())
+        .register(registry);
+    Gauge.builder(name + ".max", h, MQLatencyHistogram::getMaxMillis)
+        .baseUnit("milliseconds")
+        .tag("queueManager", s.getQueueManager())
+        .register(registry);
+  }
+}
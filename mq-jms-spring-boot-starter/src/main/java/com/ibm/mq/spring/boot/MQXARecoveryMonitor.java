@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.XAConnection;
+import jakarta.jms.XAConnectionFactory;
+import jakarta.jms.XASession;
+
+/**
+ * Periodically asks the queue manager for the transactions it holds in doubt, by calling
+ * {@link XAResource#recover} on a connection of its own. The count is recorded in an
+ * {@link MQXAStatistics} object. A growing number of in-doubt transactions usually means the
+ * transaction manager has lost contact with the queue manager, or has not completed recovery.
+ * <p>
+ * The scan only lists transactions; resolving them is left to the transaction manager.
+ */
+public class MQXARecoveryMonitor {
+  private static Logger logger = LoggerFactory.getLogger(MQXARecoveryMonitor.class);
+
+  private final XAConnectionFactory connectionFactory;
+  private final MQXAStatistics statistics;
+  private final Duration interval;
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * @param connectionFactory - used to connect for each scan. It should not be instrumented,
+   *                          so that the scan does not show up in the session counts
+   * @param statistics        - where the results are recorded
+   * @param interval          - time between scans. Null or zero disables the scan
+   */
+  public MQXARecoveryMonitor(XAConnectionFactory connectionFactory, MQXAStatistics statistics, Duration interval) {
+    this.connectionFactory = connectionFactory;
+    this.statistics = statistics;
+    this.interval = interval;
+  }
+
+  public synchronized void start() {
+    if (interval == null || interval.isZero() || interval.isNegative() || scheduler != null) {
+      return;
+    }
+    logger.trace("Starting XA recovery scan for {} every {}", statistics.getQueueManager(), interval);
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "mq-xa-recovery-" + statistics.getQueueManager());
+      t.setDaemon(true);
+      return t;
+    });
+    scheduler.scheduleWithFixedDelay(this::scan, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  /**
+   * Runs a single scan.
+   *
+   * @return the number of in-doubt transactions, or -1 if the scan failed
+   */
+  public int scan() {
+    try (XAConnection connection = connectionFactory.createXAConnection();
+        XASession session = connection.createXASession()) {
+      Xid[] xids = session.getXAResource().recover(XAResource.TMSTARTRSCAN | XAResource.TMENDRSCAN);
+      int count = (xids != null) ? xids.length : 0;
+      statistics.recoveryScanned(count);
+      if (count > 0) {
+        logger.warn("Queue manager {} has {} in-doubt XA transaction(s)", statistics.getQueueManager(), count);
+      }
+      return count;
+    }
+    catch (JMSException | XAException | RuntimeException e) {
+      statistics.recoveryScanFailed();
+      logger.warn("XA recovery scan of queue manager {} failed: {}", statistics.getQueueManager(), e.getMessage());
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.Xid;
+
+/**
+ * Counts the outcomes of XA transactions involving one MQ connection factory, as seen through
+ * its XAResources. A commit with "onePhase" set means the transaction manager found that MQ was
+ * the only resource in the transaction, and committed it without a prepare phase.
+ * <p>
+ * The prepare and commit durations, heuristic outcomes, and the number of in-doubt transactions
+ * found by the periodic recovery scan are also kept, so that a queue manager that is slowing down
+ * the transaction manager can be identified.
+ */
+public class MQXAStatistics {
+
+  private final String queueManager;
+
+  private final LongAdder onePhaseCommits = new LongAdder();
+  private final LongAdder twoPhaseCommits = new LongAdder();
+  private final LongAdder prepares = new LongAdder();
+  private final LongAdder readOnlyPrepares = new LongAdder();
+  private final LongAdder rollbacks = new LongAdder();
+
+  private final LongAdder heuristicCommits = new LongAdder();
+  private final LongAdder heuristicRollbacks = new LongAdder();
+  private final LongAdder heuristicMixed = new LongAdder();
+  private final LongAdder heuristicHazards = new LongAdder();
+
+  private final MQLatencyHistogram prepareLatency = new MQLatencyHistogram();
+  private final MQLatencyHistogram commitLatency = new MQLatencyHistogram();
+
+  private final AtomicInteger openSessions = new AtomicInteger();
+  // Keyed on the Xid's contents, as Xid implementations need not define equals()
+  private final Set<String> activeBranches = ConcurrentHashMap.newKeySet();
+
+  private final LongAdder recoveryScans = new LongAdder();
+  private final LongAdder recoveryScanFailures = new LongAdder();
+  private volatile int inDoubt = 0;
+  private volatile long lastRecoveryScan = 0;
+
+  public MQXAStatistics() {
+    this(null);
+  }
+
+  /**
+   * @param queueManager - the name of the queue manager, used when reporting the statistics
+   */
+  public MQXAStatistics(String queueManager) {
+    this.queueManager = U.isNotNullOrEmpty(queueManager) ? queueManager : "default";
+  }
+
+  void prepared(boolean readOnly, long nanos) {
+    prepares.increment();
+    if (readOnly) {
+      readOnlyPrepares.increment();
+    }
+    prepareLatency.record(nanos);
+  }
+
+  void committed(boolean onePhase, long nanos) {
+    if (onePhase) {
+      onePhaseCommits.increment();
+    }
+    else {
+      twoPhaseCommits.increment();
+    }
+    commitLatency.record(nanos);
+  }
+
+  void rolledBack() {
+    rollbacks.increment();
+  }
+
+  // Called with the exception from a commit or rollback. Only the heuristic outcomes are
+  // counted; other errors are left to the transaction manager to report.
+  void failed(XAException e) {
+    switch (e.errorCode) {
+    case XAException.XA_HEURCOM:
+      heuristicCommits.increment();
+      break;
+    case XAException.XA_HEURRB:
+      heuristicRollbacks.increment();
+      break;
+    case XAException.XA_HEURMIX:
+      heuristicMixed.increment();
+      break;
+    case XAException.XA_HEURHAZ:
+      heuristicHazards.increment();
+      break;
+    default:
+      break;
+    }
+  }
+
+  void sessionOpened() {
+    openSessions.incrementAndGet();
+  }
+
+  void sessionClosed() {
+    openSessions.decrementAndGet();
+  }
+
+  // Starting a branch that is already active, by joining or resuming it, does not add another
+  void branchStarted(Xid xid) {
+    activeBranches.add(key(xid));
+  }
+
+  void branchEnded(Xid xid) {
+    activeBranches.remove(key(xid));
+  }
+
+  // Nothing here may throw, as it would break the transaction it is only meant to observe
+  private static String key(Xid xid) {
+    return xid.getFormatId() + ":" + hex(xid.getGlobalTransactionId()) + ":" + hex(xid.getBranchQualifier());
+  }
+
+  private static String hex(byte[] b) {
+    return (b != null) ? HexFormat.of().formatHex(b) : "";
+  }
+
+  void recoveryScanned(int count) {
+    inDoubt = count;
+    lastRecoveryScan = System.currentTimeMillis();
+    recoveryScans.increment();
+  }
+
+  void recoveryScanFailed() {
+    recoveryScanFailures.increment();
+  }
+
+  /**
+   * @return the queue manager these statistics refer to
+   */
+  public String getQueueManager() {
+    return queueManager;
+  }
+
+  /**
+   * @return number of transactions committed in a single phase
+   */
+  public long getOnePhaseCommits() {
+    return onePhaseCommits.sum();
+  }
+
+  /**
+   * @return number of transactions committed after a separate prepare
+   */
+  public long getTwoPhaseCommits() {
+    return twoPhaseCommits.sum();
+  }
+
+  /**
+   * @return number of prepare calls
+   */
+  public long getPrepares() {
+    return prepares.sum();
+  }
+
+  /**
+   * @return number of prepare calls where MQ had no work to commit
+   */
+  public long getReadOnlyPrepares() {
+    return readOnlyPrepares.sum();
+  }
+
+  /**
+   * @return number of rollbacks
+   */
+  public long getRollbacks() {
+    return rollbacks.sum();
+  }
+
+  /**
+   * @return number of commits or rollbacks that failed with XA_HEURCOM
+   */
+  public long getHeuristicCommits() {
+    return heuristicCommits.sum();
+  }
+
+  /**
+   * @return number of commits or rollbacks that failed with XA_HEURRB
+   */
+  public long getHeuristicRollbacks() {
+    return heuristicRollbacks.sum();
+  }
+
+  /**
+   * @return number of commits or rollbacks that failed with XA_HEURMIX
+   */
+  public long getHeuristicMixed() {
+    return heuristicMixed.sum();
+  }
+
+  /**
+   * @return number of commits or rollbacks that failed with XA_HEURHAZ
+   */
+  public long getHeuristicHazards() {
+    return heuristicHazards.sum();
+  }
+
+  /**
+   * @return durations of prepare calls
+   */
+  public MQLatencyHistogram getPrepareLatency() {
+    return prepareLatency;
+  }
+
+  /**
+   * @return durations of commit calls, whether one-phase or two-phase
+   */
+  public MQLatencyHistogram getCommitLatency() {
+    return commitLatency;
+  }
+
+  /**
+   * @return number of XA sessions and contexts that are currently open, including those
+   *         held idle in a pool
+   */
+  public int getOpenSessions() {
+    return openSessions.get();
+  }
+
+  /**
+   * @return number of transaction branches between start and end
+   */
+  public int getActiveBranches() {
+    return activeBranches.size();
+  }
+
+  /**
+   * @return number of in-doubt transactions found by the most recent recovery scan
+   */
+  public int getInDoubt() {
+    return inDoubt;
+  }
+
+  /**
+   * @return number of completed recovery scans
+   */
+  public long getRecoveryScans() {
+    return recoveryScans.sum();
+  }
+
+  /**
+   * @return number of recovery scans that could not connect to the queue manager
+   */
+  public long getRecoveryScanFailures() {
+    return recoveryScanFailures.sum();
+  }
+
+  /**
+   * @return time of the most recent completed recovery scan, in milliseconds since the epoch, or 0
+   */
+  public long getLastRecoveryScan() {
+    return lastRecoveryScan;
+  }
+
+  /**
+   * @return a summary suitable for reporting through an actuator endpoint
+   */
+  public Map<String, Object> summary() {
+    Map<String, Object> m = new LinkedHashMap<>();
+    m.put("openSessions", getOpenSessions());
+    m.put("activeBranches", getActiveBranches());
+    m.put("onePhaseCommits", getOnePhaseCommits());
+    m.put("twoPhaseCommits", getTwoPhaseCommits());
+    m.put("prepares", getPrepares());
+    m.put("readOnlyPrepares", getReadOnlyPrepares());
+    m.put("rollbacks", getRollbacks());
+
+    Map<String, Object> heuristics = new LinkedHashMap<>();
+    heuristics.put("commit", getHeuristicCommits());
+    heuristics.put("rollback", getHeuristicRollbacks());
+    heuristics.put("mixed", getHeuristicMixed());
+    heuristics.put("hazard", getHeuristicHazards());
+    m.put("heuristics", heuristics);
+
+    m.put("prepareLatency", prepareLatency.summary());
+    m.put("commitLatency", commitLatency.summary());
+
+    Map<String, Object> recovery = new LinkedHashMap<>();
+    recovery.put("inDoubt", getInDoubt());
+    recovery.put("scans", getRecoveryScans());
+    recovery.put("failures", getRecoveryScanFailures());
+    recovery.put("lastScan", getLastRecoveryScan());
+    m.put("recovery", recovery);
+    return m;
+  }
+}
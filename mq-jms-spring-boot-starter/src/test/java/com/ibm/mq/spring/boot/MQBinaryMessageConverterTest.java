@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+public class MQBinaryMessageConverterTest {
+
+  // Shaped like a Protobuf generated message
+  public static final class Order {
+    final String id;
+
+    public Order(String id) {
+      this.id = id;
+    }
+
+    public byte[] toByteArray() {
+      return id.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Order parseFrom(byte[] data) {
+      return new Order(new String(data, StandardCharsets.UTF_8));
+    }
+  }
+
+  // Shaped like an Avro generated record
+  public static final class Trade {
+    final long amount;
+
+    public Trade(long amount) {
+      this.amount = amount;
+    }
+
+    public ByteBuffer toByteBuffer() {
+      return ByteBuffer.allocate(8).putLong(0, amount);
+    }
+
+    public static Trade fromByteBuffer(ByteBuffer b) {
+      return new Trade(b.getLong());
+    }
+  }
+
+  private static BytesMessage bytesMessage() throws Exception {
+    BytesMessage m = mock(BytesMessage.class);
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    String[] type = { null };
+    doAnswer(i -> {
+      body.write((byte[]) i.getArgument(0));
+      return null;
+    }).when(m).writeBytes(any(byte[].class));
+    doAnswer(i -> type[0] = i.getArgument(0)).when(m).setJMSType(anyString());
+    when(m.getJMSType()).thenAnswer(i -> type[0]);
+    when(m.getBodyLength()).thenAnswer(i -> (long) body.size());
+    when(m.readBytes(any(byte[].class))).thenAnswer(i -> {
+      byte[] b = i.getArgument(0);
+      System.arraycopy(body.toByteArray(), 0, b, 0, b.length);
+      return b.length;
+    });
+    return m;
+  }
+
+  @Test
+  public void testGeneratedClasses() throws Exception {
+    Session session = mock(Session.class);
+    when(session.createBytesMessage()).thenAnswer(i -> bytesMessage());
+    TextMessage text = mock(TextMessage.class);
+    when(session.createTextMessage("plain")).thenReturn(text);
+    when(text.getText()).thenReturn("plain");
+
+    MQBinarySerializer<Order> orders = MQBinarySerializer.generated("order", Order.class);
+    MQBinarySerializer<Trade> trades = MQBinarySerializer.generated("trade", Trade.class);
+    MQBinaryMessageConverter converter = new MQBinaryMessageConverter(List.of(orders, trades));
+
+    BytesMessage m = (BytesMessage) converter.toMessage(new Order("A-1"), session);
+    Assertions.assertEquals("order", m.getJMSType());
+    Assertions.assertEquals(3, m.getBodyLength());
+    Assertions.assertEquals("A-1", ((Order) converter.fromMessage(m)).id);
+
+    m = (BytesMessage) converter.toMessage(new Trade(12345), session);
+    Assertions.assertEquals("trade", m.getJMSType());
+    Assertions.assertEquals(12345, ((Trade) converter.fromMessage(m)).amount);
+
+    // Other types go to the delegate, as do messages with an unknown type
+    Assertions.assertSame(text, converter.toMessage("plain", session));
+    Assertions.assertEquals("plain", converter.fromMessage(text));
+    verify(text, never()).setJMSType(anyString());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> MQBinarySerializer.protobuf("x", String.class));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new MQBinaryMessageConverter(List.of(orders, MQBinarySerializer.avro("order", Trade.class))));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Session;
+
+public class MQByteArrayPoolTest {
+
+  @Test
+  public void testSizeClasses() {
+    MQByteArrayPool pool = new MQByteArrayPool(60000, 2);
+    Assertions.assertEquals(1024, pool.acquire(1).length);
+    Assertions.assertEquals(1024, pool.acquire(1024).length);
+    Assertions.assertEquals(2048, pool.acquire(1025).length);
+    Assertions.assertEquals(65536, pool.acquire(40000).length);
+    // Larger than the biggest class, so exactly the size asked for
+    Assertions.assertEquals(70000, pool.acquire(70000).length);
+    Assertions.assertEquals(0, pool.getHits());
+
+    byte[] a = pool.acquire(8192);
+    byte[] b = pool.acquire(8192);
+    byte[] c = pool.acquire(8192);
+    pool.release(a);
+    pool.release(b);
+    pool.release(c);         // Over the per-class limit
+    pool.release(new byte[5000]); // Not a pooled size
+    Assertions.assertSame(a, pool.acquire(5000));
+    Assertions.assertSame(b, pool.acquire(8000));
+    Assertions.assertNotSame(c, pool.acquire(8000));
+    Assertions.assertEquals(2, pool.getHits());
+  }
+
+  @Test
+  public void testConverter() throws Exception {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    BytesMessage m = mock(BytesMessage.class);
+    doAnswer(i -> {
+      body.write(i.getArgument(0), i.getArgument(1), i.getArgument(2));
+      return null;
+    }).when(m).writeBytes(any(byte[].class), anyInt(), anyInt());
+    when(m.getBodyLength()).thenAnswer(i -> (long) body.size());
+    when(m.readBytes(any(byte[].class), anyInt())).thenAnswer(i -> {
+      byte[] b = i.getArgument(0);
+      int n = i.getArgument(1);
+      System.arraycopy(body.toByteArray(), 0, b, 0, n);
+      return n;
+    });
+    when(m.readBytes(any(byte[].class))).thenAnswer(i -> {
+      byte[] b = i.getArgument(0);
+      System.arraycopy(body.toByteArray(), 0, b, 0, b.length);
+      return b.length;
+    });
+    Session session = mock(Session.class);
+    when(session.createBytesMessage()).thenReturn(m);
+
+    byte[] data = new byte[100000];
+    new Random(1).nextBytes(data);
+    ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+    direct.put(data).flip();
+
+    MQByteArrayPool pool = new MQByteArrayPool(256 * 1024, 4);
+    MQByteBufferMessageConverter converter = new MQByteBufferMessageConverter(pool);
+    Assertions.assertSame(m, converter.toMessage(direct, session));
+    Assertions.assertEquals(0, direct.position());
+    Assertions.assertArrayEquals(data, body.toByteArray());
+
+    // Callers that do not ask for a pooled payload get a byte[], so nothing needs to be closed
+    long acquired = pool.getHits() + pool.getMisses();
+    Assertions.assertArrayEquals(data, (byte[]) converter.fromMessage(m));
+    Assertions.assertArrayEquals(data, (byte[]) converter.fromMessage(m, byte[].class));
+    Assertions.assertEquals(acquired, pool.getHits() + pool.getMisses());
+
+    MQPooledPayload payload = (MQPooledPayload) converter.fromMessage(m, MQPooledPayload.class);
+    Assertions.assertEquals(data.length, payload.length());
+    ByteBuffer view = payload.asReadOnlyBuffer();
+    Assertions.assertEquals(data.length, view.remaining());
+    Assertions.assertEquals(data[99999], view.get(99999));
+    Assertions.assertThrows(ReadOnlyBufferException.class, () -> view.put(0, (byte) 0));
+    Assertions.assertArrayEquals(data, payload.asInputStream().readAllBytes());
+
+    // The array goes back to the pool for the next message
+    long hits = pool.getHits();
+    payload.close();
+    payload.close();
+    Assertions.assertThrows(IllegalStateException.class, () -> payload.asReadOnlyBuffer());
+    ((MQPooledPayload) converter.fromMessage(m, MQPooledPayload.class)).close();
+    Assertions.assertEquals(hits + 1, pool.getHits());
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+import com.sun.net.httpserver.HttpServer;
+
+public class MQCcdtCacheTest {
+
+  @TempDir
+  Path dir;
+
+  private HttpServer server;
+  private String url;
+  private volatile String body = "{\"channel\":[{\"name\":\"A\"}]}";
+  private volatile String etag = "\"v1\"";
+  private final List<String> conditions = new ArrayList<>();
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/ccdt.json", exchange -> {
+      String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+      synchronized (conditions) {
+        conditions.add(ifNoneMatch);
+      }
+      if (etag.equals(ifNoneMatch)) {
+        exchange.sendResponseHeaders(304, -1);
+      }
+      else {
+        byte[] b = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("ETag", etag);
+        exchange.sendResponseHeaders(200, b.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(b);
+        }
+      }
+      exchange.close();
+    });
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort() + "/ccdt.json";
+  }
+
+  @AfterEach
+  public void stopServer() {
+    if (server != null) {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void testRevalidatesWithETag() throws Exception {
+    MQCcdtCache cache = new MQCcdtCache(url, dir.resolve("ccdt.json"), Duration.ofSeconds(5));
+
+    Assertions.assertTrue(cache.refresh());
+    Assertions.assertEquals(body, Files.readString(cache.getFile()));
+    Assertions.assertNull(conditions.get(0));
+
+    // Unchanged: the server answers "304 Not Modified" and the copy is kept
+    Assertions.assertFalse(cache.refresh());
+    Assertions.assertEquals("\"v1\"", conditions.get(1));
+    Assertions.assertEquals(1, cache.getDownloads());
+    Assertions.assertEquals(1, cache.getNotModified());
+
+    body = "{\"channel\":[{\"name\":\"B\"}]}";
+    etag = "\"v2\"";
+    Assertions.assertTrue(cache.refresh());
+    Assertions.assertEquals(body, Files.readString(cache.getFile()));
+    Assertions.assertEquals(2, cache.getDownloads());
+  }
+
+  @Test
+  public void testExistingCopyUsedWhenServerUnavailable() throws Exception {
+    Path file = dir.resolve("ccdt.json");
+    new MQCcdtCache(url, file, Duration.ofSeconds(5)).load();
+    server.stop(0);
+    server = null;
+
+    MQCcdtCache cache = new MQCcdtCache(url, file, Duration.ofSeconds(5));
+    cache.load();
+    Assertions.assertEquals(1, cache.getFailures());
+    Assertions.assertEquals(body, Files.readString(file));
+
+    MQCcdtCache empty = new MQCcdtCache(url, dir.resolve("missing.json"), Duration.ofSeconds(5));
+    Assertions.assertThrows(IllegalStateException.class, empty::load);
+  }
+
+  @Test
+  public void testChangeListener() throws Exception {
+    MQCcdtCache cache = new MQCcdtCache(url, dir.resolve("ccdt.json"), Duration.ofSeconds(5));
+    int[] changes = { 0 };
+    cache.setChangeListener(() -> changes[0]++);
+    cache.load();
+
+    cache.check();
+    Assertions.assertEquals(0, changes[0]);
+    etag = "\"v2\"";
+    cache.check();
+    Assertions.assertEquals(1, changes[0]);
+  }
+
+  @Test
+  public void testConnectionFactoryUsesLocalCopy() throws Exception {
+    MQCcdtCache cache = new MQCcdtCache(url, dir.resolve("ccdt.json"), Duration.ofSeconds(5));
+    cache.load();
+
+    MQConnectionFactory cf = new MQConnectionFactory();
+    cf.setStringProperty(WMQConstants.WMQ_CCDTURL, url);
+    cache.customize(cf);
+    Assertions.assertEquals(cache.getFile(), Paths.get(cf.getCCDTURL().toURI()));
+
+    // A factory with a different CCDT is left alone
+    MQConnectionFactory other = new MQConnectionFactory();
+    other.setStringProperty(WMQConstants.WMQ_CCDTURL, "file:///var/mqm/ccdt.json");
+    cache.customize(other);
+    Assertions.assertEquals(Paths.get("/var/mqm/ccdt.json"), Paths.get(other.getCCDTURL().toURI()));
+  }
+
+  @Test
+  public void testDirectoryMustBePrivate() throws Exception {
+    Assumptions.assumeTrue(dir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+    // Created for the owner only
+    Path created = dir.resolve("created").resolve("ccdt.json");
+    new MQCcdtCache(url, created, Duration.ofSeconds(5)).load();
+    Assertions.assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(created.getParent())));
+
+    // A copy in a directory that others can write to is not used, even when the server is down
+    Path shared = Files.createDirectory(dir.resolve("shared"));
+    Files.writeString(shared.resolve("ccdt.json"), body);
+    Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+    server.stop(0);
+    server = null;
+    MQCcdtCache cache = new MQCcdtCache(url, shared.resolve("ccdt.json"), Duration.ofSeconds(5));
+    Assertions.assertThrows(IllegalStateException.class, cache::load);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.constants.CMQC;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+public class MQCircuitBreakerTest {
+
+  private static JMSException mqException(int reason) {
+    JMSException e = new JMSException("JMSWMQ0018");
+    e.setLinkedException(new MQException(CMQC.MQCC_FAILED, reason, null));
+    return e;
+  }
+
+  @Test
+  public void testReconnectNotifications() {
+    MQCircuitBreaker breaker = new MQCircuitBreaker(3, Duration.ofMinutes(1));
+    Assertions.assertTrue(breaker.allowRequest());
+
+    breaker.onException(mqException(CMQC.MQRC_RECONNECTING));
+    Assertions.assertEquals(MQCircuitBreaker.State.OPEN, breaker.getState());
+    Assertions.assertFalse(breaker.allowRequest());
+    Assertions.assertEquals(1, breaker.getRejectedCount());
+
+    breaker.onException(mqException(CMQC.MQRC_RECONNECTED));
+    Assertions.assertEquals(MQCircuitBreaker.State.CLOSED, breaker.getState());
+    Assertions.assertEquals(1, breaker.getOpenCount());
+  }
+
+  @Test
+  public void testFailureThresholdAndTrial() throws Exception {
+    MQCircuitBreaker breaker = new MQCircuitBreaker(2, Duration.ZERO);
+
+    // Only connection-related failures count
+    breaker.recordFailure(mqException(CMQC.MQRC_UNKNOWN_OBJECT_NAME));
+    breaker.recordFailure(mqException(CMQC.MQRC_CONNECTION_BROKEN));
+    Assertions.assertEquals(MQCircuitBreaker.State.CLOSED, breaker.getState());
+    breaker.recordFailure(new RuntimeException(mqException(CMQC.MQRC_CONNECTION_BROKEN)));
+    Assertions.assertEquals(MQCircuitBreaker.State.OPEN, breaker.getState());
+
+    // With no retry interval, the next request is the trial
+    Assertions.assertTrue(breaker.allowRequest());
+    Assertions.assertEquals(MQCircuitBreaker.State.HALF_OPEN, breaker.getState());
+    Assertions.assertFalse(breaker.allowRequest());
+    breaker.recordFailure(mqException(CMQC.MQRC_Q_MGR_NOT_AVAILABLE));
+    Assertions.assertEquals(MQCircuitBreaker.State.OPEN, breaker.getState());
+
+    Assertions.assertTrue(breaker.allowRequest());
+    breaker.recordSuccess();
+    Assertions.assertEquals(MQCircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  public void testConnectionFactoryListener() throws Exception {
+    ConnectionFactory target = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    when(target.createConnection()).thenReturn(connection);
+
+    MQCircuitBreaker breaker = new MQCircuitBreaker(1, Duration.ofMinutes(1));
+    Connection c = new MQCircuitBreakerConnectionFactory(target, breaker).createConnection();
+
+    // A listener set by a caching or pooling factory is called as well as the breaker
+    ExceptionListener app = mock(ExceptionListener.class);
+    c.setExceptionListener(app);
+    Assertions.assertSame(app, c.getExceptionListener());
+
+    ArgumentCaptor<ExceptionListener> captor = ArgumentCaptor.forClass(ExceptionListener.class);
+    verify(connection, times(2)).setExceptionListener(captor.capture());
+    JMSException e = mqException(CMQC.MQRC_RECONNECTING);
+    captor.getValue().onException(e);
+    verify(app).onException(e);
+    Assertions.assertEquals(MQCircuitBreaker.State.OPEN, breaker.getState());
+
+    c.start();
+    verify(connection).start();
+  }
+
+  @Test
+  public void testTemplate() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue queue = mock(Queue.class);
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    when(session.createQueue("Q")).thenReturn(queue);
+    when(session.createProducer(queue)).thenReturn(producer);
+    when(session.createTextMessage(any())).thenReturn(mock(TextMessage.class));
+
+    MQCircuitBreaker failFastBreaker = new MQCircuitBreaker(1, Duration.ofMinutes(1));
+    MQCircuitBreakerJmsTemplate failFast = new MQCircuitBreakerJmsTemplate(cf, failFastBreaker, 0, null);
+    failFast.convertAndSend("Q", "one");
+    verify(producer, times(1)).send(any());
+
+    failFastBreaker.onException(mqException(CMQC.MQRC_RECONNECTING));
+    Assertions.assertThrows(MQCircuitBreakerOpenException.class, () -> failFast.convertAndSend("Q", "two"));
+
+    // A buffering template holds messages until the connection returns
+    MQCircuitBreaker breaker = new MQCircuitBreaker(1, Duration.ofMinutes(1));
+    MQCircuitBreakerJmsTemplate template = new MQCircuitBreakerJmsTemplate(cf, breaker, 2, MQCircuitBreakerJmsTemplate.OverflowPolicy.DROP_OLDEST);
+    breaker.onException(mqException(CMQC.MQRC_RECONNECTING));
+    template.convertAndSend("Q", "a");
+    template.convertAndSend("Q", "b");
+    template.convertAndSend("Q", "c");
+    Assertions.assertEquals(2, template.getBufferedCount());
+    Assertions.assertEquals(1, template.getDroppedCount());
+    verify(session, never()).createTextMessage("a");
+
+    breaker.onException(mqException(CMQC.MQRC_RECONNECTED));
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (template.getBufferedCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    Assertions.assertEquals(0, template.getBufferedCount());
+    verify(session).createTextMessage("b");
+    verify(session).createTextMessage("c");
+    verify(session, never()).createTextMessage("a");
+    template.destroy();
+  }
+
+  @Test
+  public void testTrialReleasedWhenMessageCannotBeBuilt() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    when(session.createQueue("Q")).thenReturn(mock(Queue.class));
+
+    MQCircuitBreaker breaker = new MQCircuitBreaker(1, Duration.ZERO);
+    MQCircuitBreakerJmsTemplate template = new MQCircuitBreakerJmsTemplate(cf, breaker, 0, null);
+    breaker.onException(mqException(CMQC.MQRC_RECONNECTING));
+
+    // The trial fails before anything reaches the queue manager, so the breaker must not stay HALF_OPEN
+    Assertions.assertThrows(IllegalStateException.class, () -> template.send("Q", s -> {
+      throw new IllegalStateException("Cannot build message");
+    }));
+    Assertions.assertEquals(MQCircuitBreaker.State.OPEN, breaker.getState());
+    Assertions.assertTrue(breaker.allowRequest());
+    Assertions.assertEquals(MQCircuitBreaker.State.HALF_OPEN, breaker.getState());
+    template.destroy();
+  }
+
+  @Test
+  public void testBufferDrainedWithCachingConnectionFactory() throws Exception {
+    ConnectionFactory target = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue queue = mock(Queue.class);
+    when(target.createConnection()).thenReturn(connection);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    when(session.createQueue("Q")).thenReturn(queue);
+    when(session.createProducer(any())).thenReturn(producer);
+    when(session.createTextMessage(any())).thenReturn(mock(TextMessage.class));
+
+    MQCircuitBreaker breaker = new MQCircuitBreaker(1, Duration.ofMillis(100));
+    CachingConnectionFactory ccf = new CachingConnectionFactory(new MQCircuitBreakerConnectionFactory(target, breaker));
+    MQCircuitBreakerJmsTemplate template = new MQCircuitBreakerJmsTemplate(ccf, breaker, 10, null);
+    template.convertAndSend("Q", "a");
+
+    // The caching factory drops its connection on the first exception, so MQRC_RECONNECTED never arrives
+    ArgumentCaptor<ExceptionListener> captor = ArgumentCaptor.forClass(ExceptionListener.class);
+    verify(connection, atLeastOnce()).setExceptionListener(captor.capture());
+    captor.getValue().onException(mqException(CMQC.MQRC_RECONNECTING));
+    Assertions.assertEquals(MQCircuitBreaker.State.OPEN, breaker.getState());
+
+    template.convertAndSend("Q", "b");
+    Assertions.assertEquals(1, template.getBufferedCount());
+
+    // With no further sends, the template makes the trial itself and empties the buffer
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (template.getBufferedCount() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    Assertions.assertEquals(0, template.getBufferedCount());
+    Assertions.assertEquals(MQCircuitBreaker.State.CLOSED, breaker.getState());
+    verify(session).createTextMessage("b");
+    verify(target, times(2)).createConnection();
+    template.destroy();
+    ccf.destroy();
+  }
+}
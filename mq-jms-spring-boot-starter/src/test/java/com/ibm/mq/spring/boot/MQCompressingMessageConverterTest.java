@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+public class MQCompressingMessageConverterTest {
+
+  // A BytesMessage that keeps its body and properties
+  private static BytesMessage bytesMessage() throws Exception {
+    BytesMessage m = mock(BytesMessage.class);
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    Map<String, Object> props = new HashMap<>();
+    doAnswer(i -> {
+      body.write((byte[]) i.getArgument(0));
+      return null;
+    }).when(m).writeBytes(any(byte[].class));
+    doAnswer(i -> props.put(i.getArgument(0), i.getArgument(1))).when(m).setStringProperty(anyString(), anyString());
+    doAnswer(i -> props.put(i.getArgument(0), i.getArgument(1))).when(m).setObjectProperty(anyString(), any());
+    when(m.getStringProperty(anyString())).thenAnswer(i -> props.get(i.getArgument(0)));
+    when(m.getPropertyNames()).thenAnswer(i -> Collections.enumeration(props.keySet()));
+    when(m.getBodyLength()).thenAnswer(i -> (long) body.size());
+    when(m.readBytes(any(byte[].class))).thenAnswer(i -> {
+      byte[] b = i.getArgument(0);
+      System.arraycopy(body.toByteArray(), 0, b, 0, b.length);
+      return b.length;
+    });
+    return m;
+  }
+
+  private static TextMessage textMessage(String text) throws Exception {
+    TextMessage m = mock(TextMessage.class);
+    when(m.getText()).thenReturn(text);
+    when(m.getPropertyNames()).thenReturn(Collections.enumeration(List.of("app", "JMSXGroupID")));
+    when(m.getObjectProperty("app")).thenReturn("value");
+    return m;
+  }
+
+  @Test
+  public void testTextRoundTrip() throws Exception {
+    Session session = mock(Session.class);
+    when(session.createTextMessage(anyString())).thenAnswer(i -> textMessage(i.getArgument(0)));
+    when(session.createBytesMessage()).thenAnswer(i -> bytesMessage());
+
+    MQCompressionStatistics stats = new MQCompressionStatistics();
+    MQCompressingMessageConverter converter = new MQCompressingMessageConverter(new SimpleMessageConverter(),
+        MQCompressionCodec.deflate(-1), null, 1024, stats);
+
+    // Short messages are left alone
+    Message small = converter.toMessage("hello", session);
+    Assertions.assertTrue(small instanceof TextMessage);
+    Assertions.assertEquals("hello", converter.fromMessage(small));
+
+    String json = "{\"items\":[" + "{\"name\":\"widget\",\"price\":1.25},".repeat(200) + "{}]}";
+    Message m = converter.toMessage(json, session);
+    Assertions.assertTrue(m instanceof BytesMessage);
+    Assertions.assertEquals("deflate", m.getStringProperty(MQCompressingMessageConverter.CODEC_PROPERTY));
+    Assertions.assertEquals("value", m.getStringProperty("app"));
+    Assertions.assertNull(m.getStringProperty("JMSXGroupID"));
+    Assertions.assertTrue(((BytesMessage) m).getBodyLength() < json.length() / 10);
+
+    Assertions.assertEquals(json, converter.fromMessage(m));
+    Assertions.assertEquals(1, stats.getCompressed());
+    Assertions.assertEquals(1, stats.getSkipped());
+    Assertions.assertEquals(1, stats.getDecompressed());
+    Assertions.assertTrue(stats.getRatio() > 10);
+  }
+
+  @Test
+  public void testBytesAndUnknownCodec() throws Exception {
+    Session session = mock(Session.class);
+    when(session.createBytesMessage()).thenAnswer(i -> bytesMessage());
+
+    MQCompressingMessageConverter converter = new MQCompressingMessageConverter(new SimpleMessageConverter(),
+        MQCompressionCodec.deflate(9), null, 16, null);
+    byte[] data = new byte[5000];
+    Message m = converter.toMessage(data, session);
+    Assertions.assertEquals("bytes", m.getStringProperty(MQCompressingMessageConverter.TYPE_PROPERTY));
+    Assertions.assertArrayEquals(data, (byte[]) converter.fromMessage(m));
+
+    m.setStringProperty(MQCompressingMessageConverter.CODEC_PROPERTY, "zstd");
+    Assertions.assertThrows(MessageConversionException.class, () -> converter.fromMessage(m));
+  }
+
+  @Test
+  public void testDecompressedSizeLimit() throws Exception {
+    Session session = mock(Session.class);
+    when(session.createBytesMessage()).thenAnswer(i -> bytesMessage());
+
+    // A megabyte of zeros compresses to about 1KB
+    MQCompressingMessageConverter sender = new MQCompressingMessageConverter(new SimpleMessageConverter(),
+        MQCompressionCodec.deflate(9), null, 16, null);
+    Message m = sender.toMessage(new byte[1024 * 1024], session);
+    Assertions.assertTrue(((BytesMessage) m).getBodyLength() < 2048);
+
+    MQCompressingMessageConverter receiver = new MQCompressingMessageConverter(new SimpleMessageConverter(),
+        MQCompressionCodec.deflate(-1), null, 16, 64 * 1024, null);
+    MessageConversionException e = Assertions.assertThrows(MessageConversionException.class, () -> receiver.fromMessage(m));
+    Assertions.assertTrue(e.getCause().getMessage().contains("larger than 65536"));
+    Assertions.assertEquals(1024 * 1024, ((byte[]) sender.fromMessage(m)).length);
+  }
+}
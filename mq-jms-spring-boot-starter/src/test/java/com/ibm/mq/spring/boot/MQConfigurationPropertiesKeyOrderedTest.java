@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest(classes={MQConfigurationPropertiesKeyOrdered.class})
+@TestPropertySource(properties = {
+    "logging.level.root=INFO",
+    "logging.level.com.ibm.mq.spring.boot=INFO"
+})
+public class MQConfigurationPropertiesKeyOrderedTest {
+
+  @Autowired
+  private MQConfigurationPropertiesKeyOrdered mqConfigurationPropertiesKeyOrdered;
+
+  @Test
+  public void testDefaults() {
+    Assertions.assertFalse(mqConfigurationPropertiesKeyOrdered.isEnabled());
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getWorkers(),0);
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getBatchSize(),MQKeyOrderedMessageListenerContainer.DEFAULT_BATCH_SIZE);
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getReceiveTimeout(),Duration.ofSeconds(30));
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getKeyProperty(),"JMSXGroupID");
+  }
+
+  @Test
+  public void testSetters() {
+    mqConfigurationPropertiesKeyOrdered.setEnabled(true);
+    mqConfigurationPropertiesKeyOrdered.setWorkers(4);
+    mqConfigurationPropertiesKeyOrdered.setBatchSize(25);
+    mqConfigurationPropertiesKeyOrdered.setReceiveTimeout(Duration.ofSeconds(5));
+    mqConfigurationPropertiesKeyOrdered.setKeyProperty("accountId");
+    Assertions.assertTrue(mqConfigurationPropertiesKeyOrdered.isEnabled());
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getWorkers(),4);
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getBatchSize(),25);
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getReceiveTimeout(),Duration.ofSeconds(5));
+    Assertions.assertEquals(mqConfigurationPropertiesKeyOrdered.getKeyProperty(),"accountId");
+  }
+
+  @Test
+  public void testTrace() {
+    Logger mockLogger = Mockito.mock(Logger.class);
+    when(mockLogger.isTraceEnabled()).thenReturn(true);
+    mqConfigurationPropertiesKeyOrdered.traceProperties(mockLogger);
+  }
+}
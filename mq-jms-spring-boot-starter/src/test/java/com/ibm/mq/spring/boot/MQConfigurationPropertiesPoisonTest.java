@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest(classes={MQConfigurationPropertiesPoison.class})
+@TestPropertySource(properties = {
+    "logging.level.root=INFO",
+    "logging.level.com.ibm.mq.spring.boot=INFO"
+})
+public class MQConfigurationPropertiesPoisonTest {
+
+  @Autowired
+  private MQConfigurationPropertiesPoison mqConfigurationPropertiesPoison;
+
+  @Test
+  public void testDefaults() {
+    Assertions.assertFalse(mqConfigurationPropertiesPoison.isEnabled());
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getMaxFailures(),3);
+    Assertions.assertNull(mqConfigurationPropertiesPoison.getBackoutQueue());
+    Assertions.assertTrue(mqConfigurationPropertiesPoison.isRequeue());
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getInitialDelay(),Duration.ofSeconds(1));
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getMaxDelay(),Duration.ofMinutes(5));
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getMultiplier(),2.0);
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getTrackedMessages(),10000);
+  }
+
+  @Test
+  public void testSetters() {
+    mqConfigurationPropertiesPoison.setEnabled(true);
+    mqConfigurationPropertiesPoison.setMaxFailures(5);
+    mqConfigurationPropertiesPoison.setBackoutQueue("DEV.BACKOUT");
+    mqConfigurationPropertiesPoison.setRequeue(false);
+    mqConfigurationPropertiesPoison.setInitialDelay(Duration.ofMillis(200));
+    mqConfigurationPropertiesPoison.setMaxDelay(Duration.ofSeconds(10));
+    mqConfigurationPropertiesPoison.setMultiplier(3.0);
+    mqConfigurationPropertiesPoison.setTrackedMessages(50);
+    Assertions.assertTrue(mqConfigurationPropertiesPoison.isEnabled());
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getMaxFailures(),5);
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getBackoutQueue(),"DEV.BACKOUT");
+    Assertions.assertFalse(mqConfigurationPropertiesPoison.isRequeue());
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getInitialDelay(),Duration.ofMillis(200));
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getMaxDelay(),Duration.ofSeconds(10));
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getMultiplier(),3.0);
+    Assertions.assertEquals(mqConfigurationPropertiesPoison.getTrackedMessages(),50);
+  }
+
+  @Test
+  public void testTrace() {
+    Logger mockLogger = Mockito.mock(Logger.class);
+    when(mockLogger.isTraceEnabled()).thenReturn(true);
+    mqConfigurationPropertiesPoison.traceProperties(mockLogger);
+  }
+}
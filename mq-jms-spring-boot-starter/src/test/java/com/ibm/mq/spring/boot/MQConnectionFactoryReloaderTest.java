@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.ConnectionMetaData;
+
+public class MQConnectionFactoryReloaderTest {
+
+  private final List<Connection> created = new ArrayList<>();
+
+  private MQReloadableJmsPoolConnectionFactory pool() throws Exception {
+    ConnectionMetaData metaData = mock(ConnectionMetaData.class);
+    when(metaData.getJMSMajorVersion()).thenReturn(2);
+    ConnectionFactory target = mock(ConnectionFactory.class);
+    when(target.createConnection()).thenAnswer(i -> {
+      Connection c = mock(Connection.class);
+      when(c.getMetaData()).thenReturn(metaData);
+      created.add(c);
+      return c;
+    });
+    MQReloadableJmsPoolConnectionFactory pool = new MQReloadableJmsPoolConnectionFactory();
+    pool.setConnectionFactory(target);
+    pool.setMaxConnections(1);
+    return pool;
+  }
+
+  @Test
+  public void testRetiredConnectionClosesWhenReleased() throws Exception {
+    MQReloadableJmsPoolConnectionFactory pool = pool();
+    try {
+      Connection inUse = pool.createConnection();
+      Assertions.assertEquals(1, created.size());
+
+      Assertions.assertEquals(1, pool.drain(null));
+      Assertions.assertEquals(1, pool.getDrainingConnections());
+      verify(created.get(0), never()).close();
+
+      // New requests get a new connection while the old one is still in use
+      Connection next = pool.createConnection();
+      Assertions.assertEquals(2, created.size());
+
+      inUse.close();
+      verify(created.get(0), times(1)).close();
+      Assertions.assertEquals(0, pool.getDrainingConnections());
+
+      next.close();
+      verify(created.get(1), never()).close();
+    }
+    finally {
+      pool.stop();
+    }
+  }
+
+  @Test
+  public void testDrainTimeoutClosesConnectionInUse() throws Exception {
+    MQReloadableJmsPoolConnectionFactory pool = pool();
+    try {
+      pool.createConnection();
+      pool.drain(Duration.ofMillis(50));
+
+      long end = System.currentTimeMillis() + 5000;
+      while (pool.getDrainingConnections() > 0 && System.currentTimeMillis() < end) {
+        Thread.sleep(10);
+      }
+      Assertions.assertEquals(0, pool.getDrainingConnections());
+      verify(created.get(0), times(1)).close();
+    }
+    finally {
+      pool.stop();
+    }
+  }
+
+  @Test
+  public void testReloadReplacesConnectionFactory() throws Exception {
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("ibm.mq.queueManager", "QM1")
+        .withProperty("ibm.mq.channel", "DEV.APP.SVRCONN")
+        .withProperty("ibm.mq.connName", "host1(1414)")
+        .withProperty("ibm.mq.password", "passw0rd");
+    MQConfigurationProperties properties = new MQConfigurationProperties();
+    properties.setQueueManager("QM1");
+    properties.setChannel("DEV.APP.SVRCONN");
+    properties.setConnName("host1(1414)");
+    properties.setPassword("passw0rd");
+
+    MQConnectionFactory initial = new MQConnectionFactory();
+    MQReloadableConnectionFactory reloadable = new MQReloadableConnectionFactory(initial);
+    CachingConnectionFactory caching = new CachingConnectionFactory(new MQCircuitBreakerConnectionFactory(reloadable, new MQCircuitBreaker(5, Duration.ofSeconds(30))));
+    MQConnectionFactoryReloader reloader = new MQConnectionFactoryReloader(caching, new PropertiesMQConnectionDetails(properties),
+        properties, environment, null, null);
+
+    Assertions.assertFalse(reloader.reload());
+    Assertions.assertSame(initial, reloadable.getTargetConnectionFactory());
+
+    environment.setProperty("ibm.mq.connName", "host2(1414)");
+    environment.setProperty("ibm.mq.password", "rotated");
+    Assertions.assertTrue(reloader.reload());
+    Assertions.assertEquals(1, reloader.getReloads());
+
+    MQConnectionFactory updated = reloadable.getTargetConnectionFactory();
+    Assertions.assertNotSame(initial, updated);
+    Assertions.assertEquals("host2(1414)", updated.getStringProperty(WMQConstants.WMQ_CONNECTION_NAME_LIST));
+    Assertions.assertEquals("rotated", updated.getStringProperty(WMQConstants.PASSWORD));
+
+    // Applying the same configuration again changes nothing
+    Assertions.assertFalse(reloader.reload());
+  }
+}
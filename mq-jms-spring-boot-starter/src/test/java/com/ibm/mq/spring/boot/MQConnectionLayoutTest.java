@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Session;
+
+public class MQConnectionLayoutTest {
+
+  @Test
+  public void testPlan() {
+    // Each connection and its sessions fill one socket
+    MQConnectionLayout l = MQConnectionLayout.plan(20, 0, 10);
+    Assertions.assertTrue(l.isShareConversations());
+    Assertions.assertEquals(9, l.getSessionsPerConnection());
+    Assertions.assertEquals(3, l.getConnections());
+    Assertions.assertEquals(3, l.getSockets());
+
+    // The target cannot be more than SHARECNV allows
+    l = MQConnectionLayout.plan(20, 50, 10);
+    Assertions.assertEquals(9, l.getSessionsPerConnection());
+
+    l = MQConnectionLayout.plan(20, 2, 10);
+    Assertions.assertEquals(1, l.getSessionsPerConnection());
+    Assertions.assertEquals(20, l.getConnections());
+
+    // No sharing at all
+    l = MQConnectionLayout.plan(20, 1, 10);
+    Assertions.assertFalse(l.isShareConversations());
+    Assertions.assertEquals(1, l.getConnections());
+    Assertions.assertEquals(21, l.getSockets());
+    Assertions.assertFalse(MQConnectionLayout.plan(5, 0, 1).isShareConversations());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> MQConnectionLayout.plan(0, 0, 10));
+  }
+
+  @Test
+  public void testConversationsAreCounted() throws Exception {
+    ConnectionFactory target = mock(ConnectionFactory.class);
+    when(target.createConnection()).thenAnswer(i -> {
+      Connection c = mock(Connection.class);
+      when(c.createSession(anyBoolean(), anyInt())).thenAnswer(x -> mock(Session.class));
+      return c;
+    });
+    MQConnectionLayoutStatistics statistics = new MQConnectionLayoutStatistics(2, 4);
+    MQProducerCachingConnectionFactory cf = new MQProducerCachingConnectionFactory(target, 0, null);
+    cf.setLayoutStatistics(statistics);
+
+    Connection c1 = cf.createConnection();
+    Connection c2 = cf.createConnection();
+    Session s1 = c1.createSession(true, Session.SESSION_TRANSACTED);
+    c1.createSession(true, Session.SESSION_TRANSACTED);
+    Assertions.assertEquals(3, statistics.getConversations(0));
+    Assertions.assertEquals(1, statistics.getConversations(1));
+    Assertions.assertEquals(0.75, statistics.getUtilization(0));
+
+    s1.close();
+    s1.close();
+    Assertions.assertEquals(2, statistics.getConversations(0));
+
+    // A closed connection's slot is reused, and its sessions no longer count
+    c1.close();
+    Connection c3 = cf.createConnection();
+    Assertions.assertEquals(1, statistics.getConversations(0));
+    Assertions.assertEquals(2, statistics.getSlots());
+    c3.close();
+    c2.close();
+  }
+
+  @Test
+  public void testStatisticsOnlyWithPool() {
+    ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(MQAutoConfiguration.class))
+        .withPropertyValues("ibm.mq.layout.enabled=true");
+
+    runner.run(context -> Assertions.assertFalse(context.containsBean("mqConnectionLayoutStatistics")));
+    runner.withPropertyValues("ibm.mq.pool.enabled=true").run(context -> {
+      Assertions.assertNotNull(context.getBean(MQConnectionLayoutStatistics.class));
+      // The JVM-wide sharing mode is left to the application
+      Assertions.assertEquals("", context.getBean(MQConfigurationProperties.class).getChannelSharing());
+    });
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Session;
+
+public class MQDefaultMessageListenerContainerTest {
+
+  private static Connection connection() throws Exception {
+    Connection c = mock(Connection.class);
+    when(c.createSession(anyBoolean(), anyInt())).thenAnswer(i -> mock(Session.class));
+    return c;
+  }
+
+  @Test
+  public void testSessionsAreSpreadAcrossConnections() throws Exception {
+    Connection shared = connection();
+    Connection extra1 = connection();
+    Connection extra2 = connection();
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    when(cf.createConnection()).thenReturn(extra1, extra2);
+
+    MQDefaultMessageListenerContainer container = new MQDefaultMessageListenerContainer();
+    container.setConnectionFactory(cf);
+    container.setCacheLevel(DefaultMessageListenerContainer.CACHE_CONSUMER);
+    container.setConnections(3);
+
+    for (int i = 0; i < 6; i++) {
+      container.createSession(shared);
+    }
+    verify(shared, times(2)).createSession(anyBoolean(), anyInt());
+    verify(extra1, times(2)).createSession(anyBoolean(), anyInt());
+    verify(extra2, times(2)).createSession(anyBoolean(), anyInt());
+    verify(cf, times(2)).createConnection();
+
+    container.doShutdown();
+    verify(extra1).close();
+    verify(extra2).close();
+  }
+
+  @Test
+  public void testSingleConnectionIsUnchanged() throws Exception {
+    Connection shared = connection();
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+
+    MQDefaultMessageListenerContainer container = new MQDefaultMessageListenerContainer();
+    container.setConnectionFactory(cf);
+    container.setCacheLevel(DefaultMessageListenerContainer.CACHE_CONSUMER);
+    container.createSession(shared);
+    container.createSession(shared);
+    verify(shared, times(2)).createSession(anyBoolean(), anyInt());
+    verify(cf, times(0)).createConnection();
+  }
+
+  @Test
+  public void testClientIdNeedsOneConnection() {
+    MQDefaultMessageListenerContainer container = new MQDefaultMessageListenerContainer();
+    container.setConnectionFactory(mock(ConnectionFactory.class));
+    container.setDestinationName("TOPIC");
+    container.setClientId("APP1");
+    container.setConnections(2);
+    Assertions.assertThrows(IllegalArgumentException.class, container::afterPropertiesSet);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> container.setConnections(0));
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jms.core.JmsTemplate;
+
+import com.ibm.mq.jakarta.jms.MQDestination;
+import com.ibm.mq.jakarta.jms.MQQueue;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+
+import jakarta.jms.Destination;
+import jakarta.jms.Session;
+
+public class MQDestinationResolverTest {
+
+  private static Session session() throws Exception {
+    Session session = mock(Session.class);
+    when(session.createQueue(anyString())).thenAnswer(i -> new MQQueue(i.getArgument(0)));
+    return session;
+  }
+
+  @Test
+  public void testHeaderModes() throws Exception {
+    Session session = session();
+
+    MQDestinationResolver resolver = new MQDestinationResolver(MQHeaderMode.JMS, Map.of("LEAN", MQHeaderMode.MQ));
+    MQDestination d = (MQDestination) resolver.resolveDestinationName(session, "Q1", false);
+    Assertions.assertEquals(WMQConstants.WMQ_CLIENT_JMS_COMPLIANT, d.getTargetClient());
+    d = (MQDestination) resolver.resolveDestinationName(session, "LEAN", false);
+    Assertions.assertEquals(WMQConstants.WMQ_CLIENT_NONJMS_MQ, d.getTargetClient());
+    // A URI option is kept when there is no explicit setting
+    d = (MQDestination) resolver.resolveDestinationName(session, "queue:///Q2?targetClient=1", false);
+    Assertions.assertEquals(WMQConstants.WMQ_CLIENT_NONJMS_MQ, d.getTargetClient());
+
+    resolver = new MQDestinationResolver(MQHeaderMode.MQ, Map.of("FULL", MQHeaderMode.MINIMAL));
+    d = (MQDestination) resolver.resolveDestinationName(session, "Q1", false);
+    Assertions.assertEquals(WMQConstants.WMQ_CLIENT_NONJMS_MQ, d.getTargetClient());
+    d = (MQDestination) resolver.resolveDestinationName(session, "FULL", false);
+    Assertions.assertEquals(WMQConstants.WMQ_CLIENT_JMS_COMPLIANT, d.getTargetClient());
+    Assertions.assertEquals(MQHeaderMode.MINIMAL, resolver.getHeaderMode("FULL"));
+    Assertions.assertEquals(MQHeaderMode.MQ, resolver.getHeaderMode("Q1"));
+  }
+
+  @Test
+  public void testTemplateHeaderModes() {
+    ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(MQAutoConfiguration.class, JmsAutoConfiguration.class));
+
+    // Nothing is added unless an option is set
+    runner.run(context -> {
+      Assertions.assertTrue(context.getBeansOfType(MQDestinationResolver.class).isEmpty());
+      Assertions.assertFalse(context.containsBean("mqHeaderModeTemplatePostProcessor"));
+      Assertions.assertTrue(context.getBean(JmsTemplate.class).isMessageIdEnabled());
+    });
+    runner.withPropertyValues("ibm.mq.destinations.Q1.priority=5").run(context -> {
+      Assertions.assertNotNull(context.getBean(MQDestinationResolver.class));
+      Assertions.assertFalse(context.containsBean("mqHeaderModeTemplatePostProcessor"));
+    });
+
+    runner.withPropertyValues("ibm.mq.headers.mode=MINIMAL").run(context -> {
+      Assertions.assertNotNull(context.getBean(MQDestinationResolver.class));
+      JmsTemplate t = context.getBean(JmsTemplate.class);
+      Assertions.assertFalse(t.isMessageIdEnabled());
+      Assertions.assertFalse(t.isMessageTimestampEnabled());
+    });
+
+    // A template follows the mode of its default destination
+    runner.withPropertyValues("ibm.mq.headers.mode=MINIMAL", "ibm.mq.headers.destinations.FULL=JMS",
+        "spring.jms.template.default-destination=FULL").run(context -> {
+          JmsTemplate t = context.getBean(JmsTemplate.class);
+          Assertions.assertTrue(t.isMessageIdEnabled());
+          Assertions.assertTrue(t.isMessageTimestampEnabled());
+        });
+    runner.withPropertyValues("ibm.mq.headers.destinations.LEAN=MINIMAL",
+        "spring.jms.template.default-destination=LEAN").run(context -> {
+          JmsTemplate t = context.getBean(JmsTemplate.class);
+          Assertions.assertFalse(t.isMessageIdEnabled());
+          Assertions.assertFalse(t.isMessageTimestampEnabled());
+        });
+  }
+
+  @Test
+  public void testDottedNames() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(MQAutoConfiguration.class, JmsAutoConfiguration.class))
+        .withPropertyValues("ibm.mq.destinations[DEV.QUEUE.1].priority=4", "ibm.mq.headers.destinations[DEV.QUEUE.2]=MQ")
+        .run(context -> {
+          Session session = session();
+          MQDestinationResolver resolver = context.getBean(MQDestinationResolver.class);
+
+          // Pre-resolved at startup with its options
+          MQDestination d = (MQDestination) resolver.resolveDestinationName(session, "DEV.QUEUE.1", false);
+          verify(session, never()).createQueue(anyString());
+          Assertions.assertEquals(4, d.getPriority());
+
+          d = (MQDestination) resolver.resolveDestinationName(session, "DEV.QUEUE.2", false);
+          Assertions.assertEquals(WMQConstants.WMQ_CLIENT_NONJMS_MQ, d.getTargetClient());
+        });
+  }
+
+  @Test
+  public void testMQModeRejectedWithConverters() {
+    ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(MQAutoConfiguration.class, JmsAutoConfiguration.class))
+        .withPropertyValues("ibm.mq.headers.destinations.LEAN=MQ");
+
+    runner.withPropertyValues("ibm.mq.compression.enabled=true")
+        .run(context -> Assertions.assertTrue(rootCause(context.getStartupFailure()).getMessage().startsWith("Header mode MQ")));
+    runner.withPropertyValues("ibm.mq.binary.enabled=true")
+        .run(context -> Assertions.assertTrue(rootCause(context.getStartupFailure()).getMessage().startsWith("Header mode MQ")));
+    runner.run(context -> Assertions.assertNull(context.getStartupFailure()));
+  }
+
+  private static Throwable rootCause(Throwable t) {
+    Assertions.assertNotNull(t);
+    while (t.getCause() != null) {
+      t = t.getCause();
+    }
+    return t;
+  }
+
+  @Test
+  public void testCaching() throws Exception {
+    Session session = session();
+
+    MQDestinationResolver resolver = new MQDestinationResolver(MQHeaderMode.JMS, null);
+    Destination d1 = resolver.resolveDestinationName(session, "Q1", false);
+    Destination d2 = resolver.resolveDestinationName(session, "Q1", false);
+    Assertions.assertSame(d1, d2);
+    verify(session, times(1)).createQueue("Q1");
+
+    resolver.clearCache();
+    Assertions.assertNotSame(d1, resolver.resolveDestinationName(session, "Q1", false));
+
+    resolver.setCacheLimit(0);
+    resolver.clearCache();
+    resolver.resolveDestinationName(session, "Q2", false);
+    resolver.resolveDestinationName(session, "Q2", false);
+    verify(session, times(2)).createQueue("Q2");
+  }
+
+  @Test
+  public void testDestinationOptions() throws Exception {
+    Session session = session();
+
+    MQConfigurationPropertiesDestination o = new MQConfigurationPropertiesDestination();
+    o.setPersistence(MQConfigurationPropertiesDestination.Persistence.NON_PERSISTENT);
+    o.setPutAsync(true);
+    o.setReadAhead(true);
+    o.setMessageContext(MQConfigurationPropertiesDestination.MessageContext.SET_ALL);
+
+    MQDestinationResolver resolver = new MQDestinationResolver(MQHeaderMode.JMS, null, Map.of("FAST", o));
+    resolver.preResolve(false);
+    MQDestination d = (MQDestination) resolver.resolveDestinationName(session, "FAST", false);
+    verify(session, never()).createQueue(anyString());
+    Assertions.assertEquals(WMQConstants.WMQ_PER_NON, d.getPersistence());
+    Assertions.assertEquals(WMQConstants.WMQ_PUT_ASYNC_ALLOWED_ENABLED, d.getPutAsyncAllowed());
+    Assertions.assertEquals(WMQConstants.WMQ_READ_AHEAD_ALLOWED_ENABLED, d.getReadAheadAllowed());
+    Assertions.assertEquals(WMQConstants.WMQ_MDCTX_SET_ALL_CONTEXT, d.getMQMDMessageContext());
+    Assertions.assertTrue(d.getMQMDWriteEnabled());
+
+    // Unconfigured destinations keep their defaults
+    d = (MQDestination) resolver.resolveDestinationName(session, "Q1", false);
+    Assertions.assertEquals(WMQConstants.WMQ_PER_APP, d.getPersistence());
+    Assertions.assertEquals(WMQConstants.WMQ_MDCTX_DEFAULT, d.getMQMDMessageContext());
+  }
+}
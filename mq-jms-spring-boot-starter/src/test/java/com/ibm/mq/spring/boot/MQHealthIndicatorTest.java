@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+public class MQHealthIndicatorTest {
+
+  private static ConnectionFactory workingFactory(Session session) throws JMSException {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+    when(session.getTransacted()).thenReturn(true);
+    return cf;
+  }
+
+  @Test
+  public void testCachedStatus() throws Exception {
+    Session session = mock(Session.class);
+    ConnectionFactory good = workingFactory(session);
+    ConnectionFactory bad = mock(ConnectionFactory.class);
+    when(bad.createConnection()).thenThrow(new JMSException("MQRC_Q_MGR_NOT_AVAILABLE"));
+
+    Map<String, ConnectionFactory> cfs = new LinkedHashMap<>();
+    cfs.put("good", good);
+    cfs.put("bad", bad);
+    MQConnectionMonitor monitor = new MQConnectionMonitor(cfs, null, Duration.ofSeconds(10));
+    MQHealthIndicator indicator = new MQHealthIndicator(monitor);
+
+    // Nothing has been checked yet
+    Assertions.assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+
+    monitor.check();
+    verify(session).commit();
+
+    Health health = indicator.health();
+    Assertions.assertEquals(Status.DOWN, health.getStatus());
+    Assertions.assertTrue(((Map<?, ?>) health.getDetails().get("bad")).get("error").toString().contains("MQRC_Q_MGR_NOT_AVAILABLE"));
+    Assertions.assertEquals("UP", ((Map<?, ?>) health.getDetails().get("good")).get("status"));
+
+    // Reading the health does not run another check
+    indicator.health();
+    verify(good).createConnection();
+  }
+
+  @Test
+  public void testSlowCheck() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Session session = mock(Session.class);
+    ConnectionFactory slow = workingFactory(session);
+    when(session.getTransacted()).thenAnswer(i -> {
+      entered.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      return true;
+    });
+
+    MQConnectionMonitor monitor = new MQConnectionMonitor(Map.of("slow", slow), null, Duration.ofMillis(50));
+    MQHealthIndicator indicator = new MQHealthIndicator(monitor);
+
+    Thread t = new Thread(monitor::check);
+    t.start();
+    Assertions.assertTrue(entered.await(10, TimeUnit.SECONDS));
+    Thread.sleep(100);
+
+    // The hung check is reported without waiting for it
+    long start = System.nanoTime();
+    Assertions.assertEquals(Status.DOWN, indicator.health().getStatus());
+    Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+    release.countDown();
+    t.join();
+    Assertions.assertEquals(Status.UP, indicator.health().getStatus());
+  }
+
+  @Test
+  public void testOnlyMQFactoriesChecked() {
+    Assertions.assertTrue(MQHealthConfiguration.isMQ(new MQConnectionFactory()));
+    Assertions.assertTrue(MQHealthConfiguration.isMQ(new CachingConnectionFactory(new MQConnectionFactory())));
+    Assertions.assertTrue(MQHealthConfiguration.isMQ(new MQProducerCachingConnectionFactory(new MQConnectionFactory(), 0, null)));
+    Assertions.assertFalse(MQHealthConfiguration.isMQ(mock(ConnectionFactory.class)));
+    Assertions.assertFalse(MQHealthConfiguration.isMQ(new CachingConnectionFactory(mock(ConnectionFactory.class))));
+
+    ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(MQAutoConfiguration.class))
+        .withPropertyValues("ibm.mq.health.interval=0");
+    runner.run(context -> Assertions.assertFalse(context.containsBean("mqConnectionMonitor")));
+    runner.withPropertyValues("ibm.mq.health.enabled=true").run(context -> {
+      Assertions.assertFalse(context.getBean(MQConnectionMonitor.class).getStates().isEmpty());
+    });
+
+    Map<String, ConnectionFactory> cfs = new LinkedHashMap<>();
+    cfs.put("mq", new CachingConnectionFactory(new MQConnectionFactory()));
+    cfs.put("other", mock(ConnectionFactory.class));
+    MQConnectionMonitor monitor = new MQHealthConfiguration().mqConnectionMonitor(cfs, new MQConfigurationProperties());
+    Assertions.assertEquals(List.of("mq"), List.copyOf(monitor.getStates().keySet()));
+  }
+}
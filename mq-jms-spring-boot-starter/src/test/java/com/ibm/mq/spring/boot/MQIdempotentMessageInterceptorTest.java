@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+public class MQIdempotentMessageInterceptorTest {
+
+  private static Message message(String id) throws JMSException {
+    Message m = mock(Message.class);
+    when(m.getJMSMessageID()).thenReturn(id);
+    return m;
+  }
+
+  @Test
+  public void testDuplicateDiscardedAfterCommit() throws JMSException {
+    MQIdempotentMessageInterceptor interceptor = new MQIdempotentMessageInterceptor(new MQMessageIdCache(100, 0), null, null);
+    Session session = mock(Session.class);
+    AtomicInteger calls = new AtomicInteger();
+    Message m = message("ID:1");
+
+    interceptor.intercept(session, m, calls::incrementAndGet);
+    // Not yet committed, so a redelivery must still be processed
+    interceptor.intercept(session, m, calls::incrementAndGet);
+    Assertions.assertEquals(calls.get(),2);
+
+    interceptor.afterCommit(session, m);
+    interceptor.intercept(session, m, calls::incrementAndGet);
+    Assertions.assertEquals(calls.get(),2);
+    Assertions.assertEquals(interceptor.getDuplicateCount(),1);
+  }
+
+  @Test
+  public void testAfterCommitOnAnotherThread() throws Exception {
+    MQIdempotentMessageInterceptor interceptor = new MQIdempotentMessageInterceptor(new MQMessageIdCache(100, 0), null, null);
+    Session session = mock(Session.class);
+    AtomicInteger calls = new AtomicInteger();
+    Message m = message("ID:3");
+
+    // The key-ordered container runs the listener on a lane and commits on its receiving thread
+    Thread lane = new Thread(() -> {
+      try {
+        interceptor.intercept(session, m, calls::incrementAndGet);
+      }
+      catch (JMSException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    lane.start();
+    lane.join();
+    interceptor.afterCommit(session, m);
+
+    interceptor.intercept(session, m, calls::incrementAndGet);
+    Assertions.assertEquals(calls.get(),1);
+    Assertions.assertEquals(interceptor.getDuplicateCount(),1);
+  }
+
+  @Test
+  public void testFailureNotRecorded() throws JMSException {
+    MQIdempotentMessageInterceptor interceptor = new MQIdempotentMessageInterceptor(new MQMessageIdCache(100, 0), null, null);
+    Session session = mock(Session.class);
+    Message m = message("ID:2");
+
+    Assertions.assertThrows(IllegalStateException.class,() -> interceptor.intercept(session, m, () -> {
+      throw new IllegalStateException("Failure");
+    }));
+    interceptor.afterCommit(session, m);
+
+    AtomicInteger calls = new AtomicInteger();
+    interceptor.intercept(session, m, calls::incrementAndGet);
+    Assertions.assertEquals(calls.get(),1);
+  }
+
+  @Test
+  public void testBusinessKeyAndBackingStore() throws JMSException {
+    Set<String> stored = new HashSet<>();
+    MQIdempotentStore store = new MQIdempotentStore() {
+      @Override
+      public boolean contains(String key) {
+        return stored.contains(key);
+      }
+
+      @Override
+      public void add(String key) {
+        stored.add(key);
+      }
+    };
+    stored.add("ORDER-1");
+
+    MQIdempotentMessageInterceptor interceptor = new MQIdempotentMessageInterceptor(new MQMessageIdCache(100, 0), store,
+        MQMessageKeyExtractor.property("orderId"));
+    Session session = mock(Session.class);
+    AtomicInteger calls = new AtomicInteger();
+
+    Message m1 = message("ID:3");
+    when(m1.getObjectProperty("orderId")).thenReturn("ORDER-1");
+    interceptor.intercept(session, m1, calls::incrementAndGet);
+    Assertions.assertEquals(calls.get(),0);
+
+    Message m2 = message("ID:4");
+    when(m2.getObjectProperty("orderId")).thenReturn("ORDER-2");
+    interceptor.intercept(session, m2, calls::incrementAndGet);
+    interceptor.afterCommit(session, m2);
+    Assertions.assertEquals(calls.get(),1);
+    Assertions.assertTrue(stored.contains("ORDER-2"));
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.jms.XAConnectionFactoryWrapper;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.ibm.mq.jakarta.jms.MQXAConnectionFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.XAConnection;
+import jakarta.jms.XASession;
+
+public class MQInstrumentedXAConnectionFactoryTest {
+
+  @Test
+  public void testStatistics() throws Exception {
+    MQXAConnectionFactory mqcf = mock(MQXAConnectionFactory.class);
+    XAConnection connection = mock(XAConnection.class);
+    XASession session = mock(XASession.class);
+    XAResource resource = mock(XAResource.class);
+    when(mqcf.createXAConnection()).thenReturn(connection);
+    when(connection.createXASession()).thenReturn(session);
+    when(session.getXAResource()).thenReturn(resource);
+    when(resource.prepare(any())).thenReturn(XAResource.XA_OK);
+
+    MQXAStatistics statistics = new MQXAStatistics();
+    MQInstrumentedXAConnectionFactory cf = new MQInstrumentedXAConnectionFactory(mqcf, statistics);
+
+    XAResource xar = cf.createXAConnection().createXASession().getXAResource();
+    Assertions.assertTrue(xar instanceof MQInstrumentedXAResource);
+
+    Xid xid = mock(Xid.class);
+    xar.commit(xid, true);
+    xar.prepare(xid);
+    xar.commit(xid, false);
+    xar.rollback(xid);
+    verify(resource).commit(xid, true);
+
+    Assertions.assertEquals(statistics.getOnePhaseCommits(),1);
+    Assertions.assertEquals(statistics.getTwoPhaseCommits(),1);
+    Assertions.assertEquals(statistics.getPrepares(),1);
+    Assertions.assertEquals(statistics.getReadOnlyPrepares(),0);
+    Assertions.assertEquals(statistics.getRollbacks(),1);
+  }
+
+  @Test
+  public void testIsSameRM() throws Exception {
+    XAResource r1 = mock(XAResource.class);
+    XAResource r2 = mock(XAResource.class);
+    when(r1.isSameRM(r2)).thenReturn(true);
+
+    MQXAStatistics statistics = new MQXAStatistics();
+    MQInstrumentedXAResource w1 = new MQInstrumentedXAResource(r1, statistics);
+    MQInstrumentedXAResource w2 = new MQInstrumentedXAResource(r2, statistics);
+    Assertions.assertTrue(w1.isSameRM(w2));
+    Assertions.assertTrue(w1.isSameRM(r2));
+  }
+
+  @Test
+  public void testSessionsAndBranches() throws Exception {
+    MQXAConnectionFactory mqcf = mock(MQXAConnectionFactory.class);
+    XAConnection connection = mock(XAConnection.class);
+    when(mqcf.createXAConnection()).thenReturn(connection);
+    when(connection.createXASession()).thenAnswer(i -> {
+      XASession session = mock(XASession.class);
+      when(session.getXAResource()).thenReturn(mock(XAResource.class));
+      return session;
+    });
+
+    MQXAStatistics statistics = new MQXAStatistics("QM1");
+    MQInstrumentedXAConnectionFactory cf = new MQInstrumentedXAConnectionFactory(mqcf, statistics);
+
+    XAConnection c = cf.createXAConnection();
+    XASession s1 = c.createXASession();
+    XASession s2 = c.createXASession();
+    Assertions.assertEquals(2, statistics.getOpenSessions());
+
+    Xid xid = mock(Xid.class);
+    XAResource xar = s1.getXAResource();
+    xar.start(xid, XAResource.TMNOFLAGS);
+    Assertions.assertEquals(1, statistics.getActiveBranches());
+    xar.end(xid, XAResource.TMSUSPEND);
+    xar.start(xid, XAResource.TMRESUME);
+    Assertions.assertEquals(1, statistics.getActiveBranches());
+    xar.end(xid, XAResource.TMSUCCESS);
+    Assertions.assertEquals(0, statistics.getActiveBranches());
+
+    s1.close();
+    s1.close();
+    Assertions.assertEquals(1, statistics.getOpenSessions());
+
+    // Closing the connection implicitly closes the remaining session
+    c.close();
+    Assertions.assertEquals(0, statistics.getOpenSessions());
+    s2.close();
+    Assertions.assertEquals(0, statistics.getOpenSessions());
+  }
+
+  @Test
+  public void testJoinedBranches() throws Exception {
+    MQXAStatistics statistics = new MQXAStatistics("QM1");
+    XAResource xar1 = new MQInstrumentedXAResource(mock(XAResource.class), statistics);
+    XAResource xar2 = new MQInstrumentedXAResource(mock(XAResource.class), statistics);
+
+    // A second session joining the branch does not add another, and each end leaves none active
+    xar1.start(xid(1), XAResource.TMNOFLAGS);
+    xar2.start(xid(1), XAResource.TMJOIN);
+    Assertions.assertEquals(1, statistics.getActiveBranches());
+    xar1.end(xid(1), XAResource.TMSUCCESS);
+    xar2.end(xid(1), XAResource.TMSUCCESS);
+    Assertions.assertEquals(0, statistics.getActiveBranches());
+
+    // Joining a branch that this resource never started must not drive the count negative
+    xar1.start(xid(2), XAResource.TMJOIN);
+    Assertions.assertEquals(1, statistics.getActiveBranches());
+    xar1.end(xid(2), XAResource.TMSUCCESS);
+    xar1.end(xid(2), XAResource.TMSUCCESS);
+    Assertions.assertEquals(0, statistics.getActiveBranches());
+
+    // A branch rolled back without being ended is no longer active
+    xar1.start(xid(3), XAResource.TMNOFLAGS);
+    xar1.rollback(xid(3));
+    Assertions.assertEquals(0, statistics.getActiveBranches());
+  }
+
+  // A fresh Xid each time, as transaction managers do not reuse the same object
+  private static Xid xid(int id) {
+    return new Xid() {
+      @Override
+      public int getFormatId() {
+        return 1;
+      }
+
+      @Override
+      public byte[] getGlobalTransactionId() {
+        return new byte[] { (byte) id };
+      }
+
+      @Override
+      public byte[] getBranchQualifier() {
+        return new byte[] { 1 };
+      }
+    };
+  }
+
+  @Test
+  public void testHeuristics() throws Exception {
+    XAResource resource = mock(XAResource.class);
+    Xid xid = mock(Xid.class);
+    doThrow(new XAException(XAException.XA_HEURMIX)).when(resource).commit(xid, false);
+    doThrow(new XAException(XAException.XA_HEURCOM)).when(resource).rollback(xid);
+
+    MQXAStatistics statistics = new MQXAStatistics();
+    MQInstrumentedXAResource xar = new MQInstrumentedXAResource(resource, statistics);
+    Assertions.assertThrows(XAException.class, () -> xar.commit(xid, false));
+    Assertions.assertThrows(XAException.class, () -> xar.rollback(xid));
+
+    Assertions.assertEquals(1, statistics.getHeuristicMixed());
+    Assertions.assertEquals(1, statistics.getHeuristicCommits());
+    Assertions.assertEquals(0, statistics.getTwoPhaseCommits());
+    Assertions.assertEquals(0, statistics.getRollbacks());
+    Assertions.assertEquals(0, statistics.getCommitLatency().getCount());
+  }
+
+  @Test
+  public void testRecoveryScan() throws Exception {
+    MQXAConnectionFactory mqcf = mock(MQXAConnectionFactory.class);
+    XAConnection connection = mock(XAConnection.class);
+    XASession session = mock(XASession.class);
+    XAResource resource = mock(XAResource.class);
+    when(mqcf.createXAConnection()).thenReturn(connection);
+    when(connection.createXASession()).thenReturn(session);
+    when(session.getXAResource()).thenReturn(resource);
+    when(resource.recover(XAResource.TMSTARTRSCAN | XAResource.TMENDRSCAN)).thenReturn(new Xid[] { mock(Xid.class), mock(Xid.class) });
+
+    MQXAStatistics statistics = new MQXAStatistics("QM1");
+    MQXARecoveryMonitor monitor = new MQXARecoveryMonitor(mqcf, statistics, Duration.ZERO);
+    Assertions.assertEquals(2, monitor.scan());
+    Assertions.assertEquals(2, statistics.getInDoubt());
+    Assertions.assertEquals(1, statistics.getRecoveryScans());
+    verify(connection).close();
+
+    when(mqcf.createXAConnection()).thenThrow(new JMSException("MQRC_Q_MGR_NOT_AVAILABLE"));
+    Assertions.assertEquals(-1, monitor.scan());
+    Assertions.assertEquals(1, statistics.getRecoveryScanFailures());
+    Assertions.assertEquals(2, statistics.getInDoubt());
+  }
+
+  @Test
+  public void testEndpointAndMeters() throws Exception {
+    MQXAStatistics statistics = new MQXAStatistics("QM1");
+    statistics.committed(true, 2000000);
+    statistics.prepared(false, 1000000);
+
+    Map<String, Object> m = new MQXAEndpoint(List.of(statistics)).statistics();
+    Assertions.assertTrue(m.containsKey("QM1"));
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new MQXAMeterBinder(List.of(statistics)).bindTo(registry);
+    Assertions.assertEquals(1.0, registry.get("ibm.mq.xa.commits").tag("phase", "one").functionCounter().count());
+    Assertions.assertEquals(1, registry.get("ibm.mq.xa.prepare").tag("queueManager", "QM1").functionTimer().count());
+    Assertions.assertEquals(0.0, registry.get("ibm.mq.xa.indoubt").gauge().value());
+  }
+
+  @Test
+  public void testEndpointAndMetricsConfigured() {
+    ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(MQAutoConfiguration.class))
+        .withBean(XAConnectionFactoryWrapper.class, () -> cf -> (ConnectionFactory) cf)
+        .withPropertyValues("ibm.mq.xa.recoveryScanInterval=0");
+
+    runner.run(context -> {
+      Assertions.assertTrue(context.getBeansOfType(MQXAStatistics.class).isEmpty());
+      Assertions.assertTrue(context.getBeansOfType(MQXAEndpoint.class).isEmpty());
+      Assertions.assertTrue(context.getBeansOfType(MQXAMeterBinder.class).isEmpty());
+    });
+    runner.withPropertyValues("ibm.mq.xa.statistics=true").run(context -> {
+      Assertions.assertNotNull(context.getBean(MQXAStatistics.class));
+      Assertions.assertNotNull(context.getBean(MQXAEndpoint.class));
+      Assertions.assertNotNull(context.getBean(MQXAMeterBinder.class));
+    });
+  }
+}
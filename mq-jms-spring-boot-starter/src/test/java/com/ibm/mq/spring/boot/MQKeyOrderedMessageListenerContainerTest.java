@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Session;
+
+public class MQKeyOrderedMessageListenerContainerTest {
+
+  @Test
+  public void testConcurrency() {
+    MQKeyOrderedMessageListenerContainer container = new MQKeyOrderedMessageListenerContainer();
+    container.setConcurrency("3");
+    Assertions.assertEquals(container.getWorkers(),3);
+    container.setConcurrency("2-6");
+    Assertions.assertEquals(container.getWorkers(),6);
+    Assertions.assertThrows(IllegalArgumentException.class,() -> container.setConcurrency("many"));
+    Assertions.assertThrows(IllegalArgumentException.class,() -> container.setWorkers(0));
+  }
+
+  @Test
+  public void testLaneFor() {
+    MQKeyOrderedMessageListenerContainer container = new MQKeyOrderedMessageListenerContainer();
+    container.setWorkers(4);
+    Assertions.assertEquals(container.laneFor("KEY1"),container.laneFor("KEY1"));
+    Assertions.assertEquals(container.laneFor(Integer.valueOf(-7)),Math.floorMod(-7,4));
+    // Messages without a key are spread round-robin
+    int first = container.laneFor(null);
+    Assertions.assertEquals(container.laneFor(null),(first + 1) % 4);
+  }
+
+  @Test
+  public void testValidateConfiguration() {
+    MQKeyOrderedMessageListenerContainer container = new MQKeyOrderedMessageListenerContainer();
+    container.setConnectionFactory(mock(ConnectionFactory.class));
+    container.setSessionTransacted(false);
+    container.setSessionAcknowledgeMode(Session.AUTO_ACKNOWLEDGE);
+    Assertions.assertThrows(IllegalArgumentException.class,() -> container.afterPropertiesSet());
+  }
+
+  @Test
+  public void testOrderedBatch() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageConsumer consumer = mock(MessageConsumer.class);
+    Destination queue = mock(Destination.class);
+
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    when(session.getTransacted()).thenReturn(true);
+    when(session.createConsumer(any(Destination.class), any())).thenReturn(consumer);
+
+    Message a1 = message("A");
+    Message b1 = message("B");
+    Message a2 = message("A");
+    Message b2 = message("B");
+    when(consumer.receive(anyLong())).thenReturn(a1).thenAnswer(i -> {
+      Thread.sleep(10);
+      return null;
+    });
+    when(consumer.receiveNoWait()).thenReturn(b1, a2, b2, null);
+
+    Map<Object, List<Message>> seen = new ConcurrentHashMap<>();
+    MessageListener listener = m -> {
+      try {
+        seen.computeIfAbsent(m.getObjectProperty("JMSXGroupID"), k -> new CopyOnWriteArrayList<>()).add(m);
+      }
+      catch (JMSException e) {
+        throw new RuntimeException(e);
+      }
+    };
+
+    MQKeyOrderedMessageListenerContainer container = new MQKeyOrderedMessageListenerContainer();
+    container.setConnectionFactory(cf);
+    container.setDestination(queue);
+    container.setMessageListener(listener);
+    container.setWorkers(2);
+    container.setReceiveTimeout(10);
+    container.afterPropertiesSet();
+    container.start();
+    try {
+      verify(session, timeout(5000)).commit();
+      verify(session, never()).rollback();
+      Assertions.assertEquals(List.of(a1, a2), seen.get("A"));
+      Assertions.assertEquals(List.of(b1, b2), seen.get("B"));
+    }
+    finally {
+      container.shutdown();
+    }
+  }
+
+  @Test
+  public void testFailedBatchRollsBack() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageConsumer consumer = mock(MessageConsumer.class);
+    Destination queue = mock(Destination.class);
+
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    when(session.getTransacted()).thenReturn(true);
+    when(session.createConsumer(any(Destination.class), any())).thenReturn(consumer);
+
+    Message a1 = message("A");
+    Message a2 = message("A");
+    when(consumer.receive(anyLong())).thenReturn(a1).thenAnswer(i -> {
+      Thread.sleep(10);
+      return null;
+    });
+    when(consumer.receiveNoWait()).thenReturn(a2, (Message) null);
+
+    List<Message> seen = new CopyOnWriteArrayList<>();
+    MessageListener listener = m -> {
+      seen.add(m);
+      throw new IllegalStateException("Failure");
+    };
+
+    MQKeyOrderedMessageListenerContainer container = new MQKeyOrderedMessageListenerContainer();
+    container.setConnectionFactory(cf);
+    container.setDestination(queue);
+    container.setMessageListener(listener);
+    container.setErrorHandler(t -> {});
+    container.setWorkers(2);
+    container.setReceiveTimeout(10);
+    container.afterPropertiesSet();
+    container.start();
+    try {
+      verify(session, timeout(5000)).rollback();
+      verify(session, never()).commit();
+      // The second message with the same key must not be processed after the first failed
+      Assertions.assertEquals(List.of(a1), seen);
+    }
+    finally {
+      container.shutdown();
+    }
+  }
+
+  @Test
+  public void testInterceptorsApplied() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageConsumer consumer = mock(MessageConsumer.class);
+    Destination queue = mock(Destination.class);
+
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    when(session.getTransacted()).thenReturn(true);
+    when(session.createConsumer(any(Destination.class), any())).thenReturn(consumer);
+
+    Message a1 = message("A");
+    Message b1 = message("B");
+    when(consumer.receive(anyLong())).thenReturn(a1).thenAnswer(i -> {
+      Thread.sleep(10);
+      return null;
+    });
+    when(consumer.receiveNoWait()).thenReturn(b1, (Message) null);
+
+    List<Message> listened = new CopyOnWriteArrayList<>();
+    List<Message> intercepted = new CopyOnWriteArrayList<>();
+    List<Message> committed = new CopyOnWriteArrayList<>();
+    MQMessageListenerInterceptor interceptor = new MQMessageListenerInterceptor() {
+      @Override
+      public void intercept(Session s, Message m, Chain chain) throws JMSException {
+        intercepted.add(m);
+        // Skip the listener for "B" to show the interceptor wraps the invocation
+        if (!"B".equals(m.getObjectProperty("JMSXGroupID"))) {
+          chain.proceed();
+        }
+      }
+
+      @Override
+      public void afterCommit(Session s, Message m) {
+        committed.add(m);
+      }
+    };
+
+    MQKeyOrderedMessageListenerContainer container = new MQKeyOrderedMessageListenerContainer();
+    container.setConnectionFactory(cf);
+    container.setDestination(queue);
+    container.setMessageListener((MessageListener) listened::add);
+    container.setInterceptors(List.of(interceptor));
+    container.setWorkers(2);
+    container.setReceiveTimeout(10);
+    container.afterPropertiesSet();
+    container.start();
+    try {
+      verify(session, timeout(5000)).commit();
+      Assertions.assertEquals(List.of(a1), listened);
+      Assertions.assertEquals(Set.of(a1, b1), Set.copyOf(intercepted));
+      Assertions.assertEquals(List.of(a1, b1), committed);
+    }
+    finally {
+      container.shutdown();
+    }
+  }
+
+  private static Message message(String key) throws JMSException {
+    Message m = mock(Message.class);
+    when(m.getObjectProperty("JMSXGroupID")).thenReturn(key);
+    return m;
+  }
+}
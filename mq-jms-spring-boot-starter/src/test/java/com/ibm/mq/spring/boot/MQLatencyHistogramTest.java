@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MQLatencyHistogramTest {
+
+  @Test
+  public void testEmpty() {
+    MQLatencyHistogram h = new MQLatencyHistogram();
+    Assertions.assertEquals(0, h.getCount());
+    Assertions.assertEquals(0.0, h.getMeanMillis());
+    Assertions.assertEquals(0.0, h.getPercentileMillis(0.99));
+  }
+
+  @Test
+  public void testPercentiles() {
+    MQLatencyHistogram h = new MQLatencyHistogram();
+    // 99 fast operations of 100 microseconds, and one slow one of 50ms
+    for (int i = 0; i < 99; i++) {
+      h.record(100000);
+    }
+    h.record(50000000);
+
+    Assertions.assertEquals(100, h.getCount());
+    Assertions.assertEquals(50.0, h.getMaxMillis());
+    // The 100us values fall in the bucket below 128us
+    Assertions.assertEquals(0.128, h.getPercentileMillis(0.50));
+    Assertions.assertEquals(0.128, h.getPercentileMillis(0.99));
+    // The top value is reported no higher than the maximum
+    Assertions.assertEquals(50.0, h.getPercentileMillis(1.0));
+    Assertions.assertEquals((99 * 0.1 + 50.0) / 100, h.getMeanMillis(), 0.0001);
+  }
+
+  @Test
+  public void testExtremes() {
+    MQLatencyHistogram h = new MQLatencyHistogram();
+    h.record(-1);
+    h.record(Long.MAX_VALUE / 2);
+    Assertions.assertEquals(2, h.getCount());
+    Assertions.assertEquals(0.001, h.getPercentileMillis(0.5));
+    Assertions.assertEquals(h.getMaxMillis(), h.getPercentileMillis(1.0));
+  }
+}
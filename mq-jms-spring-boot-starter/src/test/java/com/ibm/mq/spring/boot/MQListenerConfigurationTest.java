@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.messaginghub.pooled.jms.JmsPoolConnectionFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.config.JmsListenerContainerFactory;
+import org.springframework.jms.config.SimpleJmsListenerEndpoint;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.Topic;
+
+public class MQListenerConfigurationTest {
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableConfigurationProperties(MQConfigurationProperties.class)
+  static class Base {
+    @Bean
+    ConnectionFactory connectionFactory() {
+      return mock(ConnectionFactory.class);
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableConfigurationProperties(MQConfigurationProperties.class)
+  static class PooledBase {
+    @Bean(destroyMethod = "stop")
+    JmsPoolConnectionFactory connectionFactory() {
+      JmsPoolConnectionFactory pool = new JmsPoolConnectionFactory();
+      pool.setConnectionFactory(mock(ConnectionFactory.class));
+      return pool;
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableConfigurationProperties(MQConfigurationProperties.class)
+  static class CachingBase {
+    @Bean
+    CachingConnectionFactory connectionFactory() {
+      return new CachingConnectionFactory(mock(ConnectionFactory.class));
+    }
+  }
+
+  private final ApplicationContextRunner runner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JmsAutoConfiguration.class))
+      .withUserConfiguration(Base.class, MQListenerConfiguration.class);
+
+  @Test
+  public void testBootFactoryKeptWithoutMQFeatures() {
+    runner.run(context -> {
+      JmsListenerContainerFactory<?> factory = context.getBean("jmsListenerContainerFactory", JmsListenerContainerFactory.class);
+      Assertions.assertFalse(factory instanceof MQJmsListenerContainerFactory);
+    });
+  }
+
+  @Test
+  public void testMQFactoryWithListenerOptions() {
+    runner.withPropertyValues("ibm.mq.listener.connections=2").run(context -> {
+      JmsListenerContainerFactory<?> factory = context.getBean("jmsListenerContainerFactory", JmsListenerContainerFactory.class);
+      Assertions.assertTrue(factory instanceof MQJmsListenerContainerFactory);
+    });
+  }
+
+  @Test
+  public void testMQFactoryWithInterceptor() {
+    runner.withBean(MQMessageListenerInterceptor.class, () -> (session, message, chain) -> chain.proceed()).run(context -> {
+      JmsListenerContainerFactory<?> factory = context.getBean("jmsListenerContainerFactory", JmsListenerContainerFactory.class);
+      Assertions.assertTrue(factory instanceof MQJmsListenerContainerFactory);
+    });
+  }
+
+  @Test
+  public void testSubscriptionOptionsOnlyOnTopicFactory() {
+    runner.withPropertyValues("ibm.mq.listener.connections=2", "ibm.mq.listener.subscriptionShared=true").run(context -> {
+      MQJmsListenerContainerFactory factory = context.getBean("jmsListenerContainerFactory", MQJmsListenerContainerFactory.class);
+      DefaultMessageListenerContainer container = factory.createListenerContainer(endpoint("DEV.QUEUE.1"));
+      Assertions.assertFalse(container.isPubSubDomain());
+      Assertions.assertFalse(container.isSubscriptionShared());
+
+      MQJmsListenerContainerFactory topicFactory = context.getBean("mqTopicJmsListenerContainerFactory", MQJmsListenerContainerFactory.class);
+      DefaultMessageListenerContainer topicContainer = topicFactory.createListenerContainer(endpoint("dev/"));
+      Assertions.assertTrue(topicContainer.isPubSubDomain());
+      Assertions.assertTrue(topicContainer.isSubscriptionShared());
+    });
+  }
+
+  @Test
+  public void testNoTopicFactoryWithoutSubscriptionOptions() {
+    runner.withPropertyValues("ibm.mq.listener.connections=2").run(context -> {
+      Assertions.assertFalse(context.containsBean("mqTopicJmsListenerContainerFactory"));
+    });
+  }
+
+  @Test
+  public void testQueueListenerConsumesFromQueueWithSubscriptionShared() {
+    runner.withPropertyValues("ibm.mq.listener.connections=2", "ibm.mq.listener.subscriptionShared=true").run(context -> {
+      ConnectionFactory cf = context.getBean(ConnectionFactory.class);
+      Connection connection = mock(Connection.class);
+      Session session = mock(Session.class);
+      Queue queue = mock(Queue.class);
+      MessageConsumer consumer = mock(MessageConsumer.class);
+      when(cf.createConnection()).thenReturn(connection);
+      when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+      when(session.createQueue("DEV.QUEUE.1")).thenReturn(queue);
+      when(session.createConsumer(any(Destination.class), any())).thenReturn(consumer);
+
+      MQJmsListenerContainerFactory factory = context.getBean("jmsListenerContainerFactory", MQJmsListenerContainerFactory.class);
+      DefaultMessageListenerContainer container = factory.createListenerContainer(endpoint("DEV.QUEUE.1"));
+      container.afterPropertiesSet();
+      container.start();
+      try {
+        verify(session, timeout(5000).atLeastOnce()).createConsumer(queue, null);
+        verify(session, never()).createTopic(any());
+        verify(session, never()).createSharedConsumer(any(Topic.class), any(), any());
+      }
+      finally {
+        container.shutdown();
+      }
+    });
+  }
+
+  @Test
+  public void testPoolBypassedForSeveralConnections() {
+    ApplicationContextRunner pooled = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(JmsAutoConfiguration.class))
+        .withUserConfiguration(PooledBase.class, MQListenerConfiguration.class);
+
+    // Connections from the pool could share one physical connection, so the MQ factory is used directly
+    pooled.withPropertyValues("ibm.mq.listener.connections=2").run(context -> {
+      JmsPoolConnectionFactory pool = context.getBean(JmsPoolConnectionFactory.class);
+      MQJmsListenerContainerFactory factory = context.getBean("jmsListenerContainerFactory", MQJmsListenerContainerFactory.class);
+      Assertions.assertSame(pool.getConnectionFactory(), factory.createListenerContainer(endpoint("DEV.QUEUE.1")).getConnectionFactory());
+    });
+
+    // With one connection, the pool is kept
+    pooled.withPropertyValues("ibm.mq.poison.enabled=true").run(context -> {
+      JmsPoolConnectionFactory pool = context.getBean(JmsPoolConnectionFactory.class);
+      MQJmsListenerContainerFactory factory = context.getBean("jmsListenerContainerFactory", MQJmsListenerContainerFactory.class);
+      Assertions.assertSame(pool, factory.createListenerContainer(endpoint("DEV.QUEUE.1")).getConnectionFactory());
+    });
+  }
+
+  @Test
+  public void testKeyOrderedFactoryBypassesCache() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(JmsAutoConfiguration.class))
+        .withUserConfiguration(CachingBase.class, MQListenerConfiguration.class)
+        .withPropertyValues("ibm.mq.keyOrdered.enabled=true")
+        .run(context -> {
+          CachingConnectionFactory caching = context.getBean(CachingConnectionFactory.class);
+          MQKeyOrderedJmsListenerContainerFactory factory = context.getBean(MQKeyOrderedJmsListenerContainerFactory.class);
+          Assertions.assertSame(caching.getTargetConnectionFactory(), factory.createListenerContainer(endpoint("DEV.QUEUE.1")).getConnectionFactory());
+        });
+  }
+
+  private static SimpleJmsListenerEndpoint endpoint(String destination) {
+    SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
+    endpoint.setId(destination);
+    endpoint.setDestination(destination);
+    endpoint.setMessageListener(m -> {});
+    return endpoint;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MQMessageIdCacheTest {
+
+  @Test
+  public void testAddContains() {
+    MQMessageIdCache cache = new MQMessageIdCache(10, 0);
+    Assertions.assertFalse(cache.contains("ID:414d5120514d31"));
+    cache.add("ID:414d5120514d31");
+    Assertions.assertTrue(cache.contains("ID:414d5120514d31"));
+    Assertions.assertFalse(cache.contains("ID:414d5120514d32"));
+    cache.add("ID:414d5120514d31");
+    Assertions.assertEquals(cache.size(),1);
+  }
+
+  @Test
+  public void testCapacity() {
+    MQMessageIdCache cache = new MQMessageIdCache(3, 0);
+    cache.add("A");
+    cache.add("B");
+    cache.add("C");
+    cache.add("D");
+    Assertions.assertEquals(cache.size(),3);
+    Assertions.assertFalse(cache.contains("A"));
+    Assertions.assertTrue(cache.contains("B"));
+    Assertions.assertTrue(cache.contains("D"));
+  }
+
+  @Test
+  public void testTtl() {
+    AtomicLong now = new AtomicLong(1000);
+    MQMessageIdCache cache = new MQMessageIdCache(10, 5, now::get);
+    cache.add("A");
+    now.addAndGet(3 * 1000000L);
+    cache.add("B");
+    Assertions.assertTrue(cache.contains("A"));
+    now.addAndGet(3 * 1000000L);
+    Assertions.assertFalse(cache.contains("A"));
+    Assertions.assertTrue(cache.contains("B"));
+    Assertions.assertEquals(cache.size(),1);
+  }
+
+  @Test
+  public void testMatchesReferenceSet() {
+    // Compare against a simple FIFO-bounded set with many collisions in the hash table
+    int capacity = 64;
+    MQMessageIdCache cache = new MQMessageIdCache(capacity, 0);
+    ArrayDeque<String> order = new ArrayDeque<>();
+    Set<String> reference = new HashSet<>();
+    Random r = new Random(42);
+
+    for (int i = 0; i < 20000; i++) {
+      String key = "ID:" + r.nextInt(200);
+      Assertions.assertEquals(reference.contains(key), cache.contains(key), key);
+      if (!reference.contains(key)) {
+        if (reference.size() == capacity) {
+          reference.remove(order.removeFirst());
+        }
+        reference.add(key);
+        order.addLast(key);
+        cache.add(key);
+      }
+    }
+    Assertions.assertEquals(reference.size(), cache.size());
+  }
+
+  @Test
+  public void testInvalidCapacity() {
+    Assertions.assertThrows(IllegalArgumentException.class,() -> new MQMessageIdCache(0, 0));
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+public class MQMessageStreamerTest {
+
+  // A BytesMessage that keeps its body and properties
+  private static BytesMessage bytesMessage() throws Exception {
+    BytesMessage m = mock(BytesMessage.class);
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    Map<String, Object> props = new HashMap<>();
+    doAnswer(i -> {
+      body.write(i.getArgument(0), i.getArgument(1), i.getArgument(2));
+      return null;
+    }).when(m).writeBytes(any(byte[].class), anyInt(), anyInt());
+    doAnswer(i -> props.put(i.getArgument(0), i.getArgument(1))).when(m).setStringProperty(anyString(), anyString());
+    doAnswer(i -> props.put(i.getArgument(0), i.getArgument(1))).when(m).setIntProperty(anyString(), anyInt());
+    doAnswer(i -> props.put(i.getArgument(0), i.getArgument(1))).when(m).setBooleanProperty(anyString(), anyBoolean());
+    when(m.getStringProperty(anyString())).thenAnswer(i -> props.get(i.getArgument(0)));
+    when(m.getIntProperty(anyString())).thenAnswer(i -> props.get(i.getArgument(0)));
+    when(m.getBooleanProperty(anyString())).thenAnswer(i -> props.get(i.getArgument(0)));
+    when(m.propertyExists(anyString())).thenAnswer(i -> props.containsKey(i.getArgument(0)));
+    when(m.getBodyLength()).thenAnswer(i -> (long) body.size());
+    when(m.readBytes(any(byte[].class))).thenAnswer(i -> {
+      byte[] b = i.getArgument(0);
+      System.arraycopy(body.toByteArray(), 0, b, 0, b.length);
+      return b.length;
+    });
+    return m;
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue queue = mock(Queue.class);
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+    when(session.createQueue("Q")).thenReturn(queue);
+    when(session.createProducer(queue)).thenReturn(producer);
+    when(session.createBytesMessage()).thenAnswer(i -> bytesMessage());
+
+    List<BytesMessage> sent = new ArrayList<>();
+    doAnswer(i -> sent.add(i.getArgument(0))).when(producer).send(any(BytesMessage.class));
+
+    byte[] payload = new byte[10000];
+    new Random(1).nextBytes(payload);
+
+    MQMessageStreamer streamer = new MQMessageStreamer(cf);
+    streamer.setSegmentSize(4096);
+    String groupId = streamer.send("Q", new ByteArrayInputStream(payload));
+    verify(session).commit();
+
+    Assertions.assertEquals(3, sent.size());
+    Assertions.assertEquals(51, groupId.length());
+    for (int i = 0; i < sent.size(); i++) {
+      Assertions.assertEquals(groupId, sent.get(i).getStringProperty(MQMessageStreamer.GROUP_ID));
+      Assertions.assertEquals(i + 1, sent.get(i).getIntProperty(MQMessageStreamer.GROUP_SEQ));
+      Assertions.assertEquals(i == 2, sent.get(i).propertyExists(MQMessageStreamer.LAST_IN_GROUP));
+    }
+    Assertions.assertEquals(10000 - 8192, sent.get(2).getBodyLength());
+
+    // Receive the group back, one message at a time
+    MessageConsumer first = mock(MessageConsumer.class);
+    MessageConsumer rest = mock(MessageConsumer.class);
+    when(session.createConsumer(queue, MQMessageStreamer.FIRST_IN_GROUP)).thenReturn(first);
+    when(session.createConsumer(queue, "JMSXGroupID = '" + groupId + "'")).thenReturn(rest);
+    when(first.receive(anyLong())).thenReturn(sent.get(0));
+    when(rest.receive(anyLong())).thenReturn(sent.get(1), sent.get(2));
+
+    try (MQMessageInputStream in = streamer.receive("Q", 1000)) {
+      Assertions.assertEquals(groupId, in.getGroupId());
+      Assertions.assertArrayEquals(payload, in.readAllBytes());
+      Assertions.assertEquals(payload.length, in.getLength());
+    }
+    verify(session, times(2)).commit();
+  }
+
+  @Test
+  public void testFailures() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue queue = mock(Queue.class);
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+    when(session.createQueue("Q")).thenReturn(queue);
+    when(session.createProducer(queue)).thenReturn(producer);
+    when(session.createBytesMessage()).thenAnswer(i -> bytesMessage());
+
+    // A failing input stream sends nothing
+    InputStream broken = new InputStream() {
+      int count = 0;
+      @Override
+      public int read() throws IOException {
+        if (++count > 100) {
+          throw new IOException("broken");
+        }
+        return 0;
+      }
+    };
+    MQMessageStreamer streamer = new MQMessageStreamer(cf);
+    streamer.setSegmentSize(10);
+    Assertions.assertThrows(IOException.class, () -> streamer.send("Q", broken));
+    verify(session, never()).commit();
+    verify(session).rollback();
+
+    // A missing segment is reported, and the group is rolled back
+    BytesMessage m1 = bytesMessage();
+    m1.writeBytes(new byte[10], 0, 10);
+    m1.setStringProperty(MQMessageStreamer.GROUP_ID, "ID:01");
+    m1.setIntProperty(MQMessageStreamer.GROUP_SEQ, 1);
+    BytesMessage m3 = bytesMessage();
+    m3.setStringProperty(MQMessageStreamer.GROUP_ID, "ID:01");
+    m3.setIntProperty(MQMessageStreamer.GROUP_SEQ, 3);
+    MessageConsumer first = mock(MessageConsumer.class);
+    MessageConsumer rest = mock(MessageConsumer.class);
+    when(session.createConsumer(queue, MQMessageStreamer.FIRST_IN_GROUP)).thenReturn(first);
+    when(session.createConsumer(queue, "JMSXGroupID = 'ID:01'")).thenReturn(rest);
+    when(first.receive(anyLong())).thenReturn(m1, (BytesMessage) null);
+    when(rest.receive(anyLong())).thenReturn(m3);
+
+    MQMessageInputStream in = streamer.receive("Q", 1000);
+    Assertions.assertEquals(10, in.read(new byte[20]));
+    Assertions.assertThrows(IOException.class, () -> in.read());
+    in.close();
+    verify(session, never()).commit();
+
+    Assertions.assertNull(streamer.receive("Q", 1000));
+  }
+
+  @Test
+  public void testReceiveMessageNotInGroup() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    Queue queue = mock(Queue.class);
+    MessageConsumer first = mock(MessageConsumer.class);
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+    when(session.createQueue("Q")).thenReturn(queue);
+    when(session.createConsumer(queue, MQMessageStreamer.FIRST_IN_GROUP)).thenReturn(first);
+
+    // Neither an ungrouped message nor a group of another message type can be streamed
+    TextMessage text = mock(TextMessage.class);
+    when(text.getStringProperty(MQMessageStreamer.GROUP_ID)).thenReturn("ID:01");
+    BytesMessage ungrouped = bytesMessage();
+    when(first.receive(anyLong())).thenReturn(ungrouped, text);
+
+    MQMessageStreamer streamer = new MQMessageStreamer(cf);
+    JMSException e = Assertions.assertThrows(JMSException.class, () -> streamer.receive("Q", 1000));
+    Assertions.assertTrue(e.getMessage().contains("not the first BytesMessage of a message group"));
+    Assertions.assertThrows(JMSException.class, () -> streamer.receive("Q", 1000));
+    verify(session, times(2)).close();
+    verify(connection, times(2)).close();
+  }
+
+  @Test
+  public void testStreamerOnlyWhenEnabled() {
+    ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withUserConfiguration(MQStreamingConfiguration.class)
+        .withBean(ConnectionFactory.class, () -> mock(ConnectionFactory.class))
+        .withBean(MQConfigurationProperties.class, MQConfigurationProperties::new);
+    runner.run(context -> Assertions.assertTrue(context.getBeansOfType(MQMessageStreamer.class).isEmpty()));
+    runner.withPropertyValues("ibm.mq.streaming.enabled=true")
+        .run(context -> Assertions.assertNotNull(context.getBean(MQMessageStreamer.class)));
+  }
+}
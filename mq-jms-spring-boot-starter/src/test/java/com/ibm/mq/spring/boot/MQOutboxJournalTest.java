@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jms.UncategorizedJmsException;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.constants.CMQC;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+public class MQOutboxJournalTest {
+
+  @TempDir
+  Path dir;
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String string(byte[] b) {
+    return new String(b, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testAppendAndRecover() throws Exception {
+    try (MQOutboxJournal journal = new MQOutboxJournal(dir, 1024, 1024 * 1024, MQOutboxJournal.SyncPolicy.ALWAYS, 0)) {
+      Assertions.assertNull(journal.peek());
+      for (int i = 0; i < 5; i++) {
+        Assertions.assertTrue(journal.append(bytes("msg" + i)));
+      }
+      Assertions.assertEquals(5, journal.getPending());
+      Assertions.assertEquals("msg0", string(journal.peek()));
+      // Peeking again returns the same record until it is consumed
+      Assertions.assertEquals("msg0", string(journal.peek()));
+      journal.consume();
+      Assertions.assertEquals("msg1", string(journal.peek()));
+      journal.consume();
+    }
+
+    // Unconsumed records are still there after reopening, and new ones follow them
+    try (MQOutboxJournal journal = new MQOutboxJournal(dir, 1024, 1024 * 1024, MQOutboxJournal.SyncPolicy.NEVER, 0)) {
+      Assertions.assertEquals(3, journal.getPending());
+      journal.append(bytes("msg5"));
+      for (int i = 2; i <= 5; i++) {
+        Assertions.assertEquals("msg" + i, string(journal.peek()));
+        journal.consume();
+      }
+      Assertions.assertNull(journal.peek());
+      Assertions.assertEquals(0, journal.getPending());
+    }
+  }
+
+  @Test
+  public void testSegmentsAndLimit() throws Exception {
+    byte[] record = new byte[100];
+    // Room for two 108-byte records in each segment, and for three segments in total
+    try (MQOutboxJournal journal = new MQOutboxJournal(dir, 256, 768, MQOutboxJournal.SyncPolicy.INTERVAL, 10)) {
+      Assertions.assertThrows(IllegalArgumentException.class, () -> journal.append(new byte[250]));
+      int count = 0;
+      while (journal.append(record)) {
+        record[0] = (byte) ++count;
+      }
+      Assertions.assertEquals(6, count);
+      Assertions.assertEquals(3, journal.getSegmentCount());
+
+      // Consuming a whole segment releases it
+      journal.consume();
+      journal.consume();
+      Assertions.assertEquals(2, journal.getSegmentCount());
+      Assertions.assertEquals(2, journal.peek()[0]);
+      Assertions.assertTrue(journal.append(record));
+      Assertions.assertEquals(5, journal.getPending());
+    }
+
+    try (MQOutboxJournal journal = new MQOutboxJournal(dir, 256, 768, MQOutboxJournal.SyncPolicy.INTERVAL, 10)) {
+      Assertions.assertEquals(5, journal.getPending());
+      Assertions.assertEquals(2, journal.peek()[0]);
+    }
+  }
+
+  @Test
+  public void testTemplateOutbox() throws Exception {
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    Connection connection = mock(Connection.class);
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue queue = mock(Queue.class);
+    when(cf.createConnection()).thenReturn(connection);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    when(session.createQueue("Q")).thenReturn(queue);
+    when(session.createProducer(queue)).thenReturn(producer);
+    when(session.createTextMessage(any())).thenReturn(mock(TextMessage.class));
+
+    JMSException reconnecting = new JMSException("JMSWMQ0018");
+    reconnecting.setLinkedException(new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_RECONNECTING, null));
+    JMSException reconnected = new JMSException("JMSWMQ0018");
+    reconnected.setLinkedException(new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_RECONNECTED, null));
+
+    MQCircuitBreaker breaker = new MQCircuitBreaker(1, Duration.ofMinutes(1));
+    MQCircuitBreakerJmsTemplate template = new MQCircuitBreakerJmsTemplate(cf, breaker, 0, null);
+    try (MQOutboxJournal journal = new MQOutboxJournal(dir, 4096, 65536, MQOutboxJournal.SyncPolicy.NEVER, 0)) {
+      template.enableOutbox(journal);
+
+      breaker.onException(reconnecting);
+      template.convertAndSend("Q", "a");
+      template.convertAndSend("Q", "b");
+      Assertions.assertEquals(2, template.getOutbox().getPending());
+      verify(session, never()).createTextMessage("a");
+
+      breaker.onException(reconnected);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (template.getOutbox().hasPending() && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      Assertions.assertFalse(template.getOutbox().hasPending());
+      Assertions.assertEquals(2, template.getOutbox().getSentCount());
+      verify(session).createTextMessage("a");
+      verify(session).createTextMessage("b");
+      template.destroy();
+    }
+  }
+
+  private static UncategorizedJmsException failure(int reason) {
+    JMSException e = new JMSException("JMSWMQ2007");
+    e.setLinkedException(new MQException(CMQC.MQCC_FAILED, reason, null));
+    return new UncategorizedJmsException(e);
+  }
+
+  @Test
+  public void testTransientRetriedAndPermanentParked() throws Exception {
+    AtomicInteger full = new AtomicInteger(1);
+    List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    MQOutbox.Sender sender = (destinationName, body) -> {
+      if (destinationName.equals("FULL") && full.getAndDecrement() > 0) {
+        throw failure(CMQC.MQRC_Q_FULL);
+      }
+      if (destinationName.equals("MISSING")) {
+        throw failure(CMQC.MQRC_UNKNOWN_OBJECT_NAME);
+      }
+      sent.add((String) body);
+    };
+
+    try (MQOutboxJournal journal = new MQOutboxJournal(dir, 4096, 65536, MQOutboxJournal.SyncPolicy.NEVER, 0)) {
+      MQOutbox outbox = new MQOutbox(journal, null, sender);
+      outbox.offer("FULL", "a");
+      outbox.offer("MISSING", "b");
+      outbox.offer("Q", "c");
+      outbox.start();
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (outbox.hasPending() && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      outbox.stop();
+
+      // The full queue is retried in order, and the unknown queue's message is kept aside
+      Assertions.assertEquals(List.of("a", "c"), sent);
+      Assertions.assertEquals(1, outbox.getParkedCount());
+      Assertions.assertEquals(1, journal.getParkedJournal().getPending());
+    }
+
+    // Parked records survive a restart, and are not sent again
+    try (MQOutboxJournal journal = new MQOutboxJournal(dir, 4096, 65536, MQOutboxJournal.SyncPolicy.NEVER, 0)) {
+      Assertions.assertEquals(0, journal.getPending());
+      Assertions.assertEquals(1, journal.getParkedJournal().getPending());
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.Topic;
+
+public class MQPoisonMessageInterceptorTest {
+
+  private static final MQMessageListenerInterceptor.Chain FAIL = () -> {
+    throw new IllegalStateException("Listener failed");
+  };
+
+  private static final MQMessageListenerInterceptor.Chain NOT_CALLED = () -> {
+    Assertions.fail("Listener called");
+  };
+
+  private static MQConfigurationPropertiesPoison properties(String backoutQueue) {
+    MQConfigurationPropertiesPoison p = new MQConfigurationPropertiesPoison();
+    p.setEnabled(true);
+    p.setMaxFailures(3);
+    p.setBackoutQueue(backoutQueue);
+    p.setInitialDelay(Duration.ofSeconds(1));
+    p.setMaxDelay(Duration.ofSeconds(3));
+    return p;
+  }
+
+  private static Message message(String id, Object destination) throws JMSException {
+    Message m = mock(Message.class);
+    when(m.getJMSMessageID()).thenReturn(id);
+    when(m.getJMSDestination()).thenReturn((jakarta.jms.Destination) destination);
+    when(m.getPropertyNames()).thenReturn(Collections.emptyEnumeration());
+    return m;
+  }
+
+  @Test
+  public void testDelay() {
+    MQPoisonMessageInterceptor interceptor = new MQPoisonMessageInterceptor(properties(null));
+    Assertions.assertEquals(interceptor.delayFor(1),1000);
+    Assertions.assertEquals(interceptor.delayFor(2),2000);
+    Assertions.assertEquals(interceptor.delayFor(3),3000);
+    Assertions.assertEquals(interceptor.delayFor(30),3000);
+  }
+
+  @Test
+  public void testSuccess() throws JMSException {
+    MQPoisonMessageInterceptor interceptor = new MQPoisonMessageInterceptor(properties("DEV.BACKOUT"));
+    Session session = mock(Session.class);
+    Message m = message("ID:1", mock(Queue.class));
+    interceptor.intercept(session, m, () -> {});
+    verify(session, never()).createProducer(eq(null));
+    Assertions.assertEquals(interceptor.getRequeuedCount(),0);
+  }
+
+  @Test
+  public void testRequeueWithDelay() throws JMSException {
+    MQPoisonMessageInterceptor interceptor = new MQPoisonMessageInterceptor(properties("DEV.BACKOUT"));
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue queue = mock(Queue.class);
+    when(session.createProducer(queue)).thenReturn(producer);
+
+    // The failure is left for the container to roll back, with anything else the listener did
+    Message m = message("ID:1", queue);
+    Assertions.assertThrows(IllegalStateException.class, () -> interceptor.intercept(session, m, FAIL));
+    verify(session, never()).createProducer(queue);
+    Assertions.assertEquals(interceptor.getRolledBackCount(),1);
+
+    // The redelivered message is requeued without running the listener
+    when(m.getJMSRedelivered()).thenReturn(true);
+    when(m.propertyExists("JMSXDeliveryCount")).thenReturn(true);
+    when(m.getIntProperty("JMSXDeliveryCount")).thenReturn(2);
+    interceptor.intercept(session, m, NOT_CALLED);
+
+    verify(m).setIntProperty(MQPoisonMessageInterceptor.FAILURE_COUNT_PROPERTY, 1);
+    verify(m).setStringProperty(MQPoisonMessageInterceptor.ORIGINAL_MESSAGE_ID_PROPERTY, "ID:1");
+    verify(producer).setDeliveryDelay(1000);
+    verify(producer).send(eq(m), anyInt(), anyInt(), anyLong());
+    Assertions.assertEquals(interceptor.getRequeuedCount(),1);
+  }
+
+  @Test
+  public void testRequeuedCopyGivenToListener() throws JMSException {
+    MQPoisonMessageInterceptor interceptor = new MQPoisonMessageInterceptor(properties("DEV.BACKOUT"));
+    Session session = mock(Session.class);
+    Message m = message("ID:2", mock(Queue.class));
+    when(m.propertyExists(MQPoisonMessageInterceptor.FAILURE_COUNT_PROPERTY)).thenReturn(true);
+    when(m.getIntProperty(MQPoisonMessageInterceptor.FAILURE_COUNT_PROPERTY)).thenReturn(1);
+    when(m.getStringProperty(MQPoisonMessageInterceptor.ORIGINAL_MESSAGE_ID_PROPERTY)).thenReturn("ID:1");
+
+    boolean[] called = { false };
+    interceptor.intercept(session, m, () -> called[0] = true);
+    Assertions.assertTrue(called[0]);
+    Assertions.assertEquals(interceptor.getRequeuedCount(),0);
+  }
+
+  @Test
+  public void testBackout() throws JMSException {
+    MQPoisonMessageInterceptor interceptor = new MQPoisonMessageInterceptor(properties("DEV.BACKOUT"));
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue backout = mock(Queue.class);
+    when(session.createQueue("DEV.BACKOUT")).thenReturn(backout);
+    when(session.createProducer(backout)).thenReturn(producer);
+
+    // A requeued copy that has failed twice before, and has now been rolled back once
+    Message m = message("ID:2", mock(Queue.class));
+    when(m.propertyExists(MQPoisonMessageInterceptor.FAILURE_COUNT_PROPERTY)).thenReturn(true);
+    when(m.getIntProperty(MQPoisonMessageInterceptor.FAILURE_COUNT_PROPERTY)).thenReturn(2);
+    when(m.getStringProperty(MQPoisonMessageInterceptor.ORIGINAL_MESSAGE_ID_PROPERTY)).thenReturn("ID:1");
+    when(m.getJMSRedelivered()).thenReturn(true);
+    when(m.propertyExists("JMSXDeliveryCount")).thenReturn(true);
+    when(m.getIntProperty("JMSXDeliveryCount")).thenReturn(2);
+
+    interceptor.intercept(session, m, NOT_CALLED);
+
+    verify(producer, never()).setDeliveryDelay(anyLong());
+    verify(producer).send(eq(m), anyInt(), anyInt(), anyLong());
+    verify(m).setIntProperty(MQPoisonMessageInterceptor.FAILURE_COUNT_PROPERTY, 3);
+    Assertions.assertEquals(interceptor.getBackedOutCount(),1);
+  }
+
+  @Test
+  public void testTopicFailuresCountedLocally() throws JMSException {
+    MQPoisonMessageInterceptor interceptor = new MQPoisonMessageInterceptor(properties("DEV.BACKOUT"));
+    Session session = mock(Session.class);
+    MessageProducer producer = mock(MessageProducer.class);
+    Queue backout = mock(Queue.class);
+    when(session.createQueue("DEV.BACKOUT")).thenReturn(backout);
+    when(session.createProducer(backout)).thenReturn(producer);
+    Message m = message("ID:3", mock(Topic.class));
+
+    // Topic messages cannot be requeued, so they are rolled back until the limit is reached
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertThrows(IllegalStateException.class, () -> interceptor.intercept(session, m, FAIL));
+    }
+    Assertions.assertEquals(interceptor.getRolledBackCount(),3);
+
+    interceptor.intercept(session, m, NOT_CALLED);
+    verify(producer).send(eq(m), anyInt(), anyInt(), anyLong());
+    Assertions.assertEquals(interceptor.getBackedOutCount(),1);
+    Assertions.assertEquals(interceptor.getRequeuedCount(),0);
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+
+import com.ibm.mq.jakarta.jms.MQQueue;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+public class MQProducerCachingConnectionFactoryTest {
+
+  private final Map<Destination, MessageProducer> opened = new HashMap<>();
+
+  private Session session() throws Exception {
+    Session session = mock(Session.class);
+    when(session.createProducer(any())).thenAnswer(i -> {
+      MessageProducer p = mock(MessageProducer.class);
+      when(p.getDeliveryMode()).thenReturn(DeliveryMode.PERSISTENT);
+      when(p.getPriority()).thenReturn(4);
+      opened.put(i.getArgument(0), p);
+      return p;
+    });
+    return session;
+  }
+
+  private Session wrap(Session session, int size, MQProducerCacheStatistics statistics) throws Exception {
+    return wrap(session, size, statistics, null, 0);
+  }
+
+  private Session wrap(Session session, int size, MQProducerCacheStatistics statistics, MQHandleStatistics handles, int limit) throws Exception {
+    Connection connection = mock(Connection.class);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    ConnectionFactory target = mock(ConnectionFactory.class);
+    when(target.createConnection()).thenReturn(connection);
+
+    MQProducerCachingConnectionFactory cf = new MQProducerCachingConnectionFactory(target, size, statistics);
+    cf.setHandleStatistics(handles);
+    cf.setHandleLimit(limit);
+    return cf.createConnection().createSession(true, Session.SESSION_TRANSACTED);
+  }
+
+  @Test
+  public void testProducersAreReused() throws Exception {
+    Session session = session();
+    MQProducerCacheStatistics statistics = new MQProducerCacheStatistics();
+    Session s = wrap(session, 10, statistics);
+
+    MQQueue q1 = new MQQueue("Q1");
+    MessageProducer p = s.createProducer(q1);
+    p.setDeliveryMode(DeliveryMode.NON_PERSISTENT);
+    p.close();
+    MessageProducer p2 = s.createProducer(new MQQueue("Q1"));
+    Assertions.assertSame(p, p2);
+    verify(session, times(1)).createProducer(any());
+    Assertions.assertEquals(1, statistics.getHits());
+    Assertions.assertEquals(1, statistics.getMisses());
+
+    // The real producer stays open, but its settings are put back when it returns to the cache
+    MessageProducer real = opened.get(q1);
+    verify(real, never()).close();
+    verify(real).setDeliveryMode(DeliveryMode.PERSISTENT);
+
+    s.close();
+    verify(real).close();
+    verify(session).close();
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() throws Exception {
+    Session session = session();
+    MQProducerCacheStatistics statistics = new MQProducerCacheStatistics();
+    Session s = wrap(session, 2, statistics);
+
+    MQQueue q1 = new MQQueue("Q1");
+    MQQueue q2 = new MQQueue("Q2");
+    s.createProducer(q1).close();
+    s.createProducer(q2).close();
+    s.createProducer(q1).close();
+    s.createProducer(new MQQueue("Q3")).close();
+
+    Assertions.assertEquals(1, statistics.getEvictions());
+    verify(opened.get(q2)).close();
+    verify(opened.get(q1), never()).close();
+
+    // Unidentified producers are not cached
+    s.createProducer(null);
+    s.createProducer(null);
+    verify(session, times(2)).createProducer(null);
+  }
+
+  @Test
+  public void testInUseProducerNotClosedOnEviction() throws Exception {
+    Session session = session();
+    MQProducerCacheStatistics statistics = new MQProducerCacheStatistics();
+    Session s = wrap(session, 1, statistics);
+
+    MQQueue q1 = new MQQueue("Q1");
+    MessageProducer busy = s.createProducer(q1);
+    s.createProducer(new MQQueue("Q2")).close();
+
+    // Q1 has left the cache but is still being used, so it is only closed when the application closes it
+    Assertions.assertEquals(1, statistics.getEvictions());
+    verify(opened.get(q1), never()).close();
+    busy.send(null);
+    verify(opened.get(q1)).send(null);
+    busy.close();
+    verify(opened.get(q1)).close();
+
+    // The next producer for Q1 is a new one
+    s.createProducer(q1);
+    verify(session, times(3)).createProducer(any());
+  }
+
+  @Test
+  public void testHandlesAreCounted() throws Exception {
+    Session session = session();
+    when(session.createConsumer(any())).thenAnswer(i -> mock(MessageConsumer.class));
+    MQHandleStatistics handles = new MQHandleStatistics("QM1");
+    Session s = wrap(session, 0, null, handles, 0);
+
+    MessageConsumer c = s.createConsumer(new MQQueue("Q1"));
+    MessageProducer p = s.createProducer(new MQQueue("Q1"));
+    s.createProducer(new MQQueue("Q2"));
+    s.createProducer(null);
+    Assertions.assertEquals(2, handles.getOpen("Q1"));
+    Assertions.assertEquals(1, handles.getOpen("Q2"));
+    Assertions.assertEquals(3, handles.getOpenLatency().getCount());
+
+    c.close();
+    p.close();
+    p.close();
+    Assertions.assertEquals(0, handles.getOpen("Q1"));
+    Assertions.assertEquals(2, handles.getClosed());
+    Assertions.assertEquals(1, handles.getOpen());
+  }
+
+  @Test
+  public void testHandleLimitClosesIdleProducers() throws Exception {
+    Session session = session();
+    MQHandleStatistics handles = new MQHandleStatistics("QM1");
+    Session s = wrap(session, 10, new MQProducerCacheStatistics(), handles, 2);
+
+    MQQueue q1 = new MQQueue("Q1");
+    MQQueue q2 = new MQQueue("Q2");
+    s.createProducer(q1).close();
+    MessageProducer busy = s.createProducer(q2);
+    s.createProducer(new MQQueue("Q3")).close();
+
+    // Q1 was idle and least recently used; Q2 is still in use so it stays open
+    verify(opened.get(q1)).close();
+    verify(opened.get(q2), never()).close();
+    Assertions.assertEquals(1, handles.getEvictions());
+    Assertions.assertEquals(2, handles.getOpen());
+
+    // Over the limit with nothing idle, the new handle is still opened
+    s.createProducer(new MQQueue("Q4"));
+    Assertions.assertEquals(2, handles.getEvictions());
+    busy.close();
+    Assertions.assertEquals(2, handles.getOpen());
+  }
+
+  @Test
+  public void testHandleLimitWithCachingConnectionFactory() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(MQAutoConfiguration.class))
+        .withPropertyValues("ibm.mq.handles.enabled=true", "ibm.mq.handles.limit=2", "ibm.mq.producerCache.size=5")
+        .run(context -> {
+          // The caching factory's own producer cache would hold producers that the limit cannot close
+          CachingConnectionFactory ccf = context.getBean(CachingConnectionFactory.class);
+          Assertions.assertFalse(ccf.isCacheProducers());
+          MQProducerCachingConnectionFactory target = (MQProducerCachingConnectionFactory) ccf.getTargetConnectionFactory();
+          Assertions.assertNotNull(target.getHandleStatistics());
+        });
+  }
+
+  @Test
+  public void testHandleLimitEvictsThroughCachingConnectionFactory() throws Exception {
+    Session session = session();
+    Connection connection = mock(Connection.class);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    ConnectionFactory target = mock(ConnectionFactory.class);
+    when(target.createConnection()).thenReturn(connection);
+
+    // Set up as the starter does for the default caching factory when a handle limit is set
+    MQHandleStatistics handles = new MQHandleStatistics("QM1");
+    MQProducerCachingConnectionFactory cf = new MQProducerCachingConnectionFactory(target, 5, null);
+    cf.setHandleStatistics(handles);
+    cf.setHandleLimit(2);
+    CachingConnectionFactory ccf = new CachingConnectionFactory(cf);
+    ccf.setCacheProducers(false);
+
+    MQQueue q1 = new MQQueue("Q1");
+    JmsTemplate template = new JmsTemplate(ccf);
+    template.send(q1, s -> mock(Message.class));
+    template.send(new MQQueue("Q2"), s -> mock(Message.class));
+    template.send(q1, s -> mock(Message.class));
+    template.send(new MQQueue("Q3"), s -> mock(Message.class));
+
+    // Q1 is reused from the session's cache, and Q2 is closed to stay within the limit
+    verify(session, times(3)).createProducer(any());
+    Assertions.assertEquals(1, handles.getEvictions());
+    Assertions.assertEquals(2, handles.getOpen());
+    ccf.destroy();
+  }
+}
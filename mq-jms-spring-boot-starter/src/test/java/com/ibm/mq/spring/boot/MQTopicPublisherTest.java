@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.boot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.ibm.mq.MQException;
+import com.ibm.mq.constants.CMQC;
+import com.ibm.mq.jakarta.jms.MQTopic;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+public class MQTopicPublisherTest {
+
+  private final Session session = mock(Session.class);
+  private final MessageProducer producer = mock(MessageProducer.class);
+
+  private MQTopicPublisher publisher() throws Exception {
+    when(session.createTopic(anyString())).thenAnswer(i -> new MQTopic(i.getArgument(0)));
+    when(session.createProducer(any())).thenReturn(producer);
+    when(session.createTextMessage(anyString())).thenReturn(mock(TextMessage.class));
+    Connection connection = mock(Connection.class);
+    when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+    ConnectionFactory cf = mock(ConnectionFactory.class);
+    when(cf.createConnection()).thenReturn(connection);
+    return new MQTopicPublisher(cf, null);
+  }
+
+  @Test
+  public void testTopicsAndProducersAreReused() throws Exception {
+    MQTopicPublisher publisher = publisher();
+
+    publisher.publish("prices/IBM", "1");
+    publisher.publish("prices/IBM", "2");
+    Map<String, Object> batch = new LinkedHashMap<>();
+    batch.put("prices/IBM", "3");
+    batch.put("prices/ACME", "4");
+    publisher.publish(batch);
+
+    verify(session, times(2)).createProducer(any());
+    verify(session, times(2)).createTopic(anyString());
+    verify(producer, times(4)).send(any(Message.class));
+    verify(session, times(3)).commit();
+
+    MQTopicPublisherStatistics s = publisher.getStatistics();
+    Assertions.assertEquals(4, s.getPublished());
+    Assertions.assertEquals(3, s.getBatches());
+    Assertions.assertEquals(4, s.getPublishLatency().getCount());
+  }
+
+  @Test
+  public void testFailuresAreCounted() throws Exception {
+    MQTopicPublisher publisher = publisher();
+
+    JMSException noSubs = new JMSException("no subscribers");
+    noSubs.setLinkedException(new MQException(CMQC.MQCC_WARNING, CMQC.MQRC_NO_SUBS_MATCHED, null));
+    doThrow(noSubs).doThrow(new JMSException("failed")).when(producer).send(any(Message.class));
+
+    Assertions.assertThrows(JMSException.class, () -> publisher.publish("prices/IBM", "1"));
+    Assertions.assertThrows(JMSException.class, () -> publisher.publish("prices/IBM", "2"));
+    Assertions.assertEquals(1, publisher.getStatistics().getNoSubscribers());
+    Assertions.assertEquals(1, publisher.getStatistics().getFailures());
+
+    // A failed session is rolled back and not reused
+    verify(session, times(2)).rollback();
+    verify(session, times(2)).close();
+  }
+
+  @Test
+  public void testHandleLimitEvictsAndRetries() throws Exception {
+    MQTopicPublisher publisher = publisher();
+    MessageProducer first = mock(MessageProducer.class);
+    MessageProducer second = mock(MessageProducer.class);
+    JMSException noHandles = new JMSException("no handles");
+    noHandles.setLinkedException(new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_HANDLE_NOT_AVAILABLE, null));
+    when(session.createProducer(any())).thenReturn(first, second).thenThrow(noHandles).thenReturn(producer);
+
+    publisher.publish("prices/IBM", "1");
+    publisher.publish("prices/ACME", "2");
+    publisher.publish("prices/XYZ", "3");
+
+    // The least recently used producer makes room for the new one
+    verify(first).close();
+    verify(second, times(0)).close();
+    verify(producer).send(any(Message.class));
+    Assertions.assertEquals(0, publisher.getStatistics().getFailures());
+  }
+
+  @Test
+  public void testCloseWhilePublishing() throws Exception {
+    MQTopicPublisher publisher = publisher();
+    doAnswer(i -> {
+      publisher.close();
+      return null;
+    }).doNothing().when(producer).send(any(Message.class));
+
+    // The session in use when the publisher was closed is closed when it is returned, not reused
+    publisher.publish("prices/IBM", "1");
+    verify(session).close();
+    publisher.publish("prices/IBM", "2");
+    verify(session, times(2)).createProducer(any());
+  }
+
+  @Test
+  public void testPublisherOnlyWhenEnabled() {
+    ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withUserConfiguration(MQPublisherConfiguration.class)
+        .withBean(ConnectionFactory.class, () -> mock(ConnectionFactory.class))
+        .withBean(MQConfigurationProperties.class, MQConfigurationProperties::new);
+    runner.run(context -> {
+      Assertions.assertTrue(context.getBeansOfType(MQTopicPublisher.class).isEmpty());
+      Assertions.assertTrue(context.getBeansOfType(MQTopicPublisherStatistics.class).isEmpty());
+    });
+    runner.withPropertyValues("ibm.mq.publisher.enabled=true").run(context -> {
+      Assertions.assertEquals(MQTopicPublisher.DEFAULT_CACHE_SIZE, context.getBean(MQTopicPublisher.class).getCacheSize());
+      Assertions.assertNotNull(context.getBean(MQTopicPublisherMeterBinder.class));
+    });
+  }
+}
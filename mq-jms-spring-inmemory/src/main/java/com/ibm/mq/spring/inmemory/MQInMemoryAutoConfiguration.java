@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ibm.mq.spring.boot.MQAutoConfiguration;
+import com.ibm.mq.spring.boot.MQConfigurationProperties;
+import com.ibm.mq.spring.boot.MQConnectionDetails;
+
+/**
+ * Replaces the connection to a real queue manager with an in-memory one, when this module is on
+ * the classpath. It is meant to be a test-scope dependency. Set "ibm.mq.inMemory.enabled=false"
+ * to turn it off without removing the dependency.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureBefore(MQAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "ibm.mq.inMemory", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(MQConfigurationProperties.class)
+public class MQInMemoryAutoConfiguration {
+  private static Logger logger = LoggerFactory.getLogger(MQInMemoryAutoConfiguration.class);
+
+  @Bean
+  @ConditionalOnMissingBean(MQConnectionDetails.class)
+  MQInMemoryConnectionDetails mqInMemoryConnectionDetails(MQConfigurationProperties properties) {
+    logger.trace("Using in-memory connection factory for queue manager {}", properties.getQueueManager());
+    return new MQInMemoryConnectionDetails(properties);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The queues belonging to one in-memory "queue manager". Brokers are created on first use and
+ * are shared by every connection factory in the JVM that names the same queue manager, so that
+ * tests can inspect the queues that an application has used.
+ */
+public class MQInMemoryBroker {
+
+  private static final ConcurrentMap<String, MQInMemoryBroker> brokers = new ConcurrentHashMap<>();
+
+  private final String queueManager;
+  private final ConcurrentMap<String, MQInMemoryQueueStore> queues = new ConcurrentHashMap<>();
+  private final String idPrefix;
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicLong temporaryQueues = new AtomicLong();
+
+  private MQInMemoryBroker(String queueManager) {
+    this.queueManager = queueManager;
+    // MQ message IDs are 24 bytes. Start with a random part so IDs differ between runs.
+    this.idPrefix = "ID:" + hex(ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * @param queueManager - the queue manager name. Null is treated as the empty string.
+   * @return the broker for that name, created if necessary
+   */
+  public static MQInMemoryBroker forQueueManager(String queueManager) {
+    return brokers.computeIfAbsent((queueManager == null) ? "" : queueManager.trim(), MQInMemoryBroker::new);
+  }
+
+  /**
+   * Remove the messages from every queue of every broker.
+   */
+  public static void clearAll() {
+    brokers.values().forEach(MQInMemoryBroker::clear);
+  }
+
+  public String getQueueManager() {
+    return queueManager;
+  }
+
+  /**
+   * @return the names of the queues that have been used
+   */
+  public Set<String> getQueueNames() {
+    return new TreeSet<>(queues.keySet());
+  }
+
+  /**
+   * @param queue - the queue name
+   * @return the number of messages on the queue, including any with a delivery delay
+   */
+  public int getDepth(String queue) {
+    MQInMemoryQueueStore q = queues.get(MQInMemoryQueue.queueName(queue));
+    return (q == null) ? 0 : q.depth();
+  }
+
+  /**
+   * @param queue - the queue name
+   * @return the number of messages committed to the queue since it was first used
+   */
+  public long getEnqueueCount(String queue) {
+    MQInMemoryQueueStore q = queues.get(MQInMemoryQueue.queueName(queue));
+    return (q == null) ? 0 : q.getEnqueued();
+  }
+
+  /**
+   * @param queue - the queue name
+   * @return the number of messages removed from the queue and not rolled back
+   */
+  public long getDequeueCount(String queue) {
+    MQInMemoryQueueStore q = queues.get(MQInMemoryQueue.queueName(queue));
+    return (q == null) ? 0 : q.getDequeued();
+  }
+
+  /**
+   * Remove all messages from all of the queues.
+   */
+  public void clear() {
+    queues.values().forEach(MQInMemoryQueueStore::clear);
+  }
+
+  MQInMemoryQueueStore queue(String name) {
+    return queues.computeIfAbsent(name, MQInMemoryQueueStore::new);
+  }
+
+  MQInMemoryTemporaryQueue createTemporaryQueue() {
+    // Use the same style of name as MQ's default model queue
+    String name = "AMQ.INMEMORY." + hex(temporaryQueues.incrementAndGet());
+    queue(name);
+    return new MQInMemoryTemporaryQueue(this, name);
+  }
+
+  void deleteQueue(String name) {
+    MQInMemoryQueueStore q = queues.remove(name);
+    if (q != null) {
+      q.wakeUp();
+    }
+  }
+
+  String nextMessageId() {
+    return idPrefix + "0000000000000000" + hex(sequence.incrementAndGet());
+  }
+
+  private static String hex(long l) {
+    String s = Long.toHexString(l);
+    return "0000000000000000".substring(s.length()) + s;
+  }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageEOFException;
+import jakarta.jms.MessageFormatException;
+import jakarta.jms.MessageNotReadableException;
+
+/**
+ * A message whose body is a stream of bytes. The body is write-only until the message is sent
+ * or {@link #reset()} is called, and read-only after that.
+ */
+public class MQInMemoryBytesMessage extends MQInMemoryMessage implements BytesMessage {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+  private DataOutputStream out = new DataOutputStream(bytesOut);
+  private byte[] data = null;
+  private DataInputStream in = null;
+
+  @Override
+  MQInMemoryMessage copy() {
+    MQInMemoryBytesMessage m = copyHeaders(new MQInMemoryBytesMessage());
+    m.setData(getData());
+    return m;
+  }
+
+  private byte[] getData() {
+    return (data != null) ? data : bytesOut.toByteArray();
+  }
+
+  private void setData(byte[] b) {
+    data = b;
+    in = new DataInputStream(new ByteArrayInputStream(b));
+    bytesOut = null;
+    out = null;
+  }
+
+  private DataInputStream in() throws JMSException {
+    if (in == null) {
+      throw new MessageNotReadableException("Message is write-only");
+    }
+    return in;
+  }
+
+  private DataOutputStream out() throws JMSException {
+    checkWriteable();
+    if (out == null) {
+      throw new MessageNotReadableException("Message is read-only");
+    }
+    return out;
+  }
+
+  private static JMSException wrap(IOException e) {
+    JMSException je = (e instanceof EOFException) ? new MessageEOFException("End of message") : new MessageFormatException(e.getMessage());
+    je.setLinkedException(e);
+    return je;
+  }
+
+  @Override
+  public long getBodyLength() throws JMSException {
+    in();
+    return data.length;
+  }
+
+  @Override
+  public boolean readBoolean() throws JMSException {
+    try {
+      return in().readBoolean();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public byte readByte() throws JMSException {
+    try {
+      return in().readByte();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public int readUnsignedByte() throws JMSException {
+    try {
+      return in().readUnsignedByte();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public short readShort() throws JMSException {
+    try {
+      return in().readShort();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public int readUnsignedShort() throws JMSException {
+    try {
+      return in().readUnsignedShort();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public char readChar() throws JMSException {
+    try {
+      return in().readChar();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public int readInt() throws JMSException {
+    try {
+      return in().readInt();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public long readLong() throws JMSException {
+    try {
+      return in().readLong();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public float readFloat() throws JMSException {
+    try {
+      return in().readFloat();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public double readDouble() throws JMSException {
+    try {
+      return in().readDouble();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public String readUTF() throws JMSException {
+    try {
+      return in().readUTF();
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public int readBytes(byte[] value) throws JMSException {
+    return readBytes(value, value.length);
+  }
+
+  @Override
+  public int readBytes(byte[] value, int length) throws JMSException {
+    try {
+      int n = in().read(value, 0, length);
+      return n;
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeBoolean(boolean value) throws JMSException {
+    try {
+      out().writeBoolean(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeByte(byte value) throws JMSException {
+    try {
+      out().writeByte(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeShort(short value) throws JMSException {
+    try {
+      out().writeShort(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeChar(char value) throws JMSException {
+    try {
+      out().writeChar(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeInt(int value) throws JMSException {
+    try {
+      out().writeInt(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeLong(long value) throws JMSException {
+    try {
+      out().writeLong(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeFloat(float value) throws JMSException {
+    try {
+      out().writeFloat(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeDouble(double value) throws JMSException {
+    try {
+      out().writeDouble(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeUTF(String value) throws JMSException {
+    try {
+      out().writeUTF(value);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeBytes(byte[] value) throws JMSException {
+    writeBytes(value, 0, value.length);
+  }
+
+  @Override
+  public void writeBytes(byte[] value, int offset, int length) throws JMSException {
+    try {
+      out().write(value, offset, length);
+    }
+    catch (IOException e) {
+      throw wrap(e);
+    }
+  }
+
+  @Override
+  public void writeObject(Object value) throws JMSException {
+    if (value instanceof Boolean) {
+      writeBoolean((Boolean) value);
+    }
+    else if (value instanceof Byte) {
+      writeByte((Byte) value);
+    }
+    else if (value instanceof Short) {
+      writeShort((Short) value);
+    }
+    else if (value instanceof Character) {
+      writeChar((Character) value);
+    }
+    else if (value instanceof Integer) {
+      writeInt((Integer) value);
+    }
+    else if (value instanceof Long) {
+      writeLong((Long) value);
+    }
+    else if (value instanceof Float) {
+      writeFloat((Float) value);
+    }
+    else if (value instanceof Double) {
+      writeDouble((Double) value);
+    }
+    else if (value instanceof String) {
+      writeUTF((String) value);
+    }
+    else if (value instanceof byte[]) {
+      writeBytes((byte[]) value);
+    }
+    else {
+      throw new MessageFormatException("Unsupported type: " + ((value == null) ? "null" : value.getClass().getName()));
+    }
+  }
+
+  @Override
+  public void reset() throws JMSException {
+    setData(getData());
+    bodyReadOnly = true;
+  }
+
+  @Override
+  public void clearBody() throws JMSException {
+    super.clearBody();
+    data = null;
+    in = null;
+    bytesOut = new ByteArrayOutputStream();
+    out = new DataOutputStream(bytesOut);
+  }
+
+  @Override
+  protected Object getBodyObject() throws JMSException {
+    byte[] b = getData();
+    return (b.length == 0) ? EMPTY : b.clone();
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public boolean isBodyAssignableTo(Class c) throws JMSException {
+    return ((Class<?>) c).isAssignableFrom(byte[].class);
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionConsumer;
+import jakarta.jms.ConnectionMetaData;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.JMSException;
+import jakarta.jms.ServerSessionPool;
+import jakarta.jms.Session;
+import jakarta.jms.Topic;
+
+/**
+ * A connection to an {@link MQInMemoryBroker}. Consumers only receive messages while the
+ * connection is started, as with a real connection.
+ */
+class MQInMemoryConnection implements Connection {
+
+  private static final long SLICE = 100;
+
+  private final MQInMemoryBroker broker;
+  private final Set<MQInMemorySession> sessions = ConcurrentHashMap.newKeySet();
+  private final Set<MQInMemoryTemporaryQueue> temporaryQueues = ConcurrentHashMap.newKeySet();
+  private final Object startLock = new Object();
+
+  private volatile boolean started = false;
+  private volatile boolean closed = false;
+  private String clientId;
+  private ExceptionListener exceptionListener;
+
+  MQInMemoryConnection(MQInMemoryBroker broker) {
+    this.broker = broker;
+  }
+
+  MQInMemoryBroker getBroker() {
+    return broker;
+  }
+
+  void checkClosed() throws JMSException {
+    if (closed) {
+      throw new IllegalStateException("Connection is closed");
+    }
+  }
+
+  /**
+   * Wait, for a limited time, for the connection to be started.
+   *
+   * @return true if the connection is started
+   */
+  boolean awaitStarted(long millis) throws InterruptedException {
+    if (started) {
+      return true;
+    }
+    synchronized (startLock) {
+      if (!started && !closed && millis > 0) {
+        startLock.wait(Math.min(millis, SLICE));
+      }
+    }
+    return started;
+  }
+
+  void removeSession(MQInMemorySession session) {
+    sessions.remove(session);
+  }
+
+  MQInMemoryTemporaryQueue createTemporaryQueue() throws JMSException {
+    checkClosed();
+    MQInMemoryTemporaryQueue q = broker.createTemporaryQueue();
+    temporaryQueues.add(q);
+    return q;
+  }
+
+  @Override
+  public Session createSession(boolean transacted, int acknowledgeMode) throws JMSException {
+    checkClosed();
+    MQInMemorySession session = new MQInMemorySession(this, transacted ? Session.SESSION_TRANSACTED : acknowledgeMode);
+    sessions.add(session);
+    return session;
+  }
+
+  @Override
+  public Session createSession(int sessionMode) throws JMSException {
+    return createSession(sessionMode == Session.SESSION_TRANSACTED, sessionMode);
+  }
+
+  @Override
+  public Session createSession() throws JMSException {
+    return createSession(false, Session.AUTO_ACKNOWLEDGE);
+  }
+
+  @Override
+  public String getClientID() throws JMSException {
+    return clientId;
+  }
+
+  @Override
+  public void setClientID(String clientID) throws JMSException {
+    checkClosed();
+    if (clientId != null) {
+      throw new IllegalStateException("Client ID is already set");
+    }
+    this.clientId = clientID;
+  }
+
+  @Override
+  public ConnectionMetaData getMetaData() throws JMSException {
+    return new ConnectionMetaData() {
+      @Override
+      public String getJMSVersion() {
+        return "3.0";
+      }
+
+      @Override
+      public int getJMSMajorVersion() {
+        return 3;
+      }
+
+      @Override
+      public int getJMSMinorVersion() {
+        return 0;
+      }
+
+      @Override
+      public String getJMSProviderName() {
+        return "IBM MQ in-memory stand-in";
+      }
+
+      @Override
+      public String getProviderVersion() {
+        return "1.0";
+      }
+
+      @Override
+      public int getProviderMajorVersion() {
+        return 1;
+      }
+
+      @Override
+      public int getProviderMinorVersion() {
+        return 0;
+      }
+
+      @Override
+      public Enumeration<String> getJMSXPropertyNames() {
+        return Collections.enumeration(Set.of(MQInMemoryMessage.JMSX_DELIVERY_COUNT));
+      }
+    };
+  }
+
+  @Override
+  public ExceptionListener getExceptionListener() throws JMSException {
+    return exceptionListener;
+  }
+
+  @Override
+  public void setExceptionListener(ExceptionListener listener) throws JMSException {
+    this.exceptionListener = listener;
+  }
+
+  @Override
+  public void start() throws JMSException {
+    checkClosed();
+    synchronized (startLock) {
+      started = true;
+      startLock.notifyAll();
+    }
+  }
+
+  @Override
+  public void stop() throws JMSException {
+    checkClosed();
+    started = false;
+  }
+
+  @Override
+  public void close() throws JMSException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    started = false;
+    for (MQInMemorySession s : sessions) {
+      s.close();
+    }
+    for (MQInMemoryTemporaryQueue q : temporaryQueues) {
+      q.delete();
+    }
+    temporaryQueues.clear();
+    synchronized (startLock) {
+      startLock.notifyAll();
+    }
+  }
+
+  @Override
+  public ConnectionConsumer createConnectionConsumer(Destination destination, String messageSelector,
+      ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+    throw MQInMemorySession.unsupported("ConnectionConsumer");
+  }
+
+  @Override
+  public ConnectionConsumer createSharedConnectionConsumer(Topic topic, String subscriptionName,
+      String messageSelector, ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+    throw MQInMemorySession.unsupported("ConnectionConsumer");
+  }
+
+  @Override
+  public ConnectionConsumer createDurableConnectionConsumer(Topic topic, String subscriptionName,
+      String messageSelector, ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+    throw MQInMemorySession.unsupported("ConnectionConsumer");
+  }
+
+  @Override
+  public ConnectionConsumer createSharedDurableConnectionConsumer(Topic topic, String subscriptionName,
+      String messageSelector, ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+    throw MQInMemorySession.unsupported("ConnectionConsumer");
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+import com.ibm.mq.spring.boot.MQConfigurationProperties;
+import com.ibm.mq.spring.boot.MQConnectionDetails;
+
+/**
+ * Connection details that make the starter create an {@link MQInMemoryConnectionFactory}. The
+ * queue manager name from the "ibm.mq" properties selects the in-memory broker.
+ */
+public class MQInMemoryConnectionDetails implements MQConnectionDetails {
+
+  private final MQConfigurationProperties properties;
+
+  public MQInMemoryConnectionDetails(MQConfigurationProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public String getConnName() {
+    return properties.getConnName();
+  }
+
+  @Override
+  public String getQueueManager() {
+    return properties.getQueueManager();
+  }
+
+  @Override
+  public String getChannel() {
+    return properties.getChannel();
+  }
+
+  @Override
+  public String getUser() {
+    return properties.getUser();
+  }
+
+  @Override
+  public String getPassword() {
+    return properties.getPassword();
+  }
+
+  @Override
+  public Class<? extends MQConnectionFactory> getConnectionFactoryClass() {
+    return MQInMemoryConnectionFactory.class;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import com.ibm.mq.jakarta.jms.MQConnectionFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSRuntimeException;
+
+/**
+ * An MQConnectionFactory whose connections go to an {@link MQInMemoryBroker} instead of a queue
+ * manager. The broker is chosen by the queue manager name set on the factory, so the caching,
+ * pooling and listener configuration built around an MQConnectionFactory can be exercised without
+ * a queue manager. All of the other MQ connection properties are ignored.
+ * <p>
+ * Only the classic JMS API (Connection, Session) is provided; JMSContext is not.
+ */
+public class MQInMemoryConnectionFactory extends MQConnectionFactory {
+  private static final long serialVersionUID = 1L;
+
+  public MQInMemoryConnectionFactory() {
+    super();
+  }
+
+  /**
+   * @return the broker that connections from this factory use
+   */
+  public MQInMemoryBroker getBroker() {
+    return MQInMemoryBroker.forQueueManager(getQueueManager());
+  }
+
+  @Override
+  public Connection createConnection() throws JMSException {
+    return new MQInMemoryConnection(getBroker());
+  }
+
+  @Override
+  public Connection createConnection(String userName, String password) throws JMSException {
+    return createConnection();
+  }
+
+  @Override
+  public JMSContext createContext() {
+    throw new JMSRuntimeException("JMSContext is not supported by the in-memory connection factory");
+  }
+
+  @Override
+  public JMSContext createContext(int sessionMode) {
+    return createContext();
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password) {
+    return createContext();
+  }
+
+  @Override
+  public JMSContext createContext(String userName, String password, int sessionMode) {
+    return createContext();
+  }
+}
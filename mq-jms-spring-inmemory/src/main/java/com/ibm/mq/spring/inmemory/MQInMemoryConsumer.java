@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+
+/**
+ * Receives messages from an in-memory queue, either synchronously or by delivering them to a
+ * MessageListener on a thread owned by the consumer.
+ */
+class MQInMemoryConsumer implements MessageConsumer {
+
+  // Longest time to block in one wait, so that close() and connection stop are noticed
+  private static final long SLICE = 100;
+
+  private final MQInMemorySession session;
+  private final MQInMemoryQueueStore store;
+  private final String messageSelector;
+  private final MQInMemorySelector selector;
+
+  private volatile MessageListener listener;
+  private volatile boolean closed = false;
+  private Thread listenerThread;
+
+  MQInMemoryConsumer(MQInMemorySession session, MQInMemoryQueueStore store, String messageSelector) throws JMSException {
+    this.session = session;
+    this.store = store;
+    this.messageSelector = messageSelector;
+    this.selector = MQInMemorySelector.parse(messageSelector);
+  }
+
+  private void checkClosed() throws JMSException {
+    if (closed) {
+      throw new IllegalStateException("Consumer is closed");
+    }
+  }
+
+  @Override
+  public String getMessageSelector() throws JMSException {
+    checkClosed();
+    return messageSelector;
+  }
+
+  @Override
+  public MessageListener getMessageListener() throws JMSException {
+    checkClosed();
+    return listener;
+  }
+
+  @Override
+  public synchronized void setMessageListener(MessageListener listener) throws JMSException {
+    checkClosed();
+    this.listener = listener;
+    if (listener != null && listenerThread == null) {
+      listenerThread = new Thread(this::deliverToListener, "MQInMemoryConsumer-" + store.getName());
+      listenerThread.setDaemon(true);
+      listenerThread.start();
+    }
+  }
+
+  private void deliverToListener() {
+    while (!closed) {
+      MessageListener l = listener;
+      if (l == null) {
+        break;
+      }
+      MQInMemoryMessage m;
+      try {
+        m = receiveMessage(SLICE);
+      }
+      catch (JMSException e) {
+        break;
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (m == null) {
+        continue;
+      }
+      try {
+        l.onMessage(m);
+      }
+      catch (RuntimeException e) {
+        // The JMS specification says an auto-acknowledged message is redelivered if the
+        // listener throws. Transacted and client-acknowledged sessions are left to the application.
+        int mode = MQInMemorySession.AUTO_ACKNOWLEDGE;
+        try {
+          mode = session.getAcknowledgeMode();
+        }
+        catch (JMSException ignored) {
+          // Session has been closed
+        }
+        if (mode == MQInMemorySession.AUTO_ACKNOWLEDGE || mode == MQInMemorySession.DUPS_OK_ACKNOWLEDGE) {
+          session.redeliver(store, m);
+        }
+      }
+    }
+    synchronized (this) {
+      listenerThread = null;
+    }
+  }
+
+  @Override
+  public Message receive() throws JMSException {
+    return receive(0);
+  }
+
+  @Override
+  public Message receive(long timeout) throws JMSException {
+    return doReceive((timeout <= 0) ? -1 : timeout);
+  }
+
+  @Override
+  public Message receiveNoWait() throws JMSException {
+    return doReceive(0);
+  }
+
+  private Message doReceive(long timeout) throws JMSException {
+    checkClosed();
+    if (listener != null) {
+      throw new IllegalStateException("Consumer has a MessageListener");
+    }
+    try {
+      return receiveMessage(timeout);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  /**
+   * @param timeout - milliseconds to wait. 0 for no wait, negative to wait until a message
+   *                arrives or the consumer is closed.
+   */
+  private MQInMemoryMessage receiveMessage(long timeout) throws JMSException, InterruptedException {
+    long deadline = (timeout < 0) ? Long.MAX_VALUE : System.currentTimeMillis() + timeout;
+    MQInMemoryConnection connection = session.getConnection();
+    while (!closed) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (connection.awaitStarted(Math.min(remaining, SLICE))) {
+        MQInMemoryMessage m = store.take(selector, Math.max(0, Math.min(remaining, SLICE)));
+        if (m != null) {
+          session.delivered(store, m);
+          return m;
+        }
+      }
+      if (System.currentTimeMillis() >= deadline) {
+        break;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void close() throws JMSException {
+    Thread t;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      t = listenerThread;
+    }
+    store.wakeUp();
+    // Wait for a message being processed by the listener, unless the listener itself is closing
+    if (t != null && t != Thread.currentThread()) {
+      try {
+        t.join(5000);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    session.removeConsumer(this);
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.MessageFormatException;
+
+/**
+ * A message whose body is a set of name/value pairs.
+ */
+public class MQInMemoryMapMessage extends MQInMemoryMessage implements MapMessage {
+
+  private Map<String, Object> map = new LinkedHashMap<>();
+
+  @Override
+  MQInMemoryMessage copy() {
+    MQInMemoryMapMessage m = copyHeaders(new MQInMemoryMapMessage());
+    m.map = new LinkedHashMap<>(map);
+    return m;
+  }
+
+  @Override
+  public boolean getBoolean(String name) throws JMSException {
+    return toBoolean(map.get(name));
+  }
+
+  @Override
+  public byte getByte(String name) throws JMSException {
+    return toByte(map.get(name));
+  }
+
+  @Override
+  public short getShort(String name) throws JMSException {
+    return toShort(map.get(name));
+  }
+
+  @Override
+  public char getChar(String name) throws JMSException {
+    Object o = map.get(name);
+    if (o == null) {
+      throw new NullPointerException();
+    }
+    if (o instanceof Character) {
+      return (Character) o;
+    }
+    throw new MessageFormatException("Cannot convert " + o.getClass().getSimpleName() + " to char");
+  }
+
+  @Override
+  public int getInt(String name) throws JMSException {
+    return toInt(map.get(name));
+  }
+
+  @Override
+  public long getLong(String name) throws JMSException {
+    return toLong(map.get(name));
+  }
+
+  @Override
+  public float getFloat(String name) throws JMSException {
+    return toFloat(map.get(name));
+  }
+
+  @Override
+  public double getDouble(String name) throws JMSException {
+    return toDouble(map.get(name));
+  }
+
+  @Override
+  public String getString(String name) throws JMSException {
+    Object o = map.get(name);
+    if (o instanceof byte[]) {
+      throw new MessageFormatException("Cannot convert byte[] to String");
+    }
+    return (o == null) ? null : o.toString();
+  }
+
+  @Override
+  public byte[] getBytes(String name) throws JMSException {
+    Object o = map.get(name);
+    if (o == null || o instanceof byte[]) {
+      return (byte[]) o;
+    }
+    throw new MessageFormatException("Cannot convert " + o.getClass().getSimpleName() + " to byte[]");
+  }
+
+  @Override
+  public Object getObject(String name) throws JMSException {
+    return map.get(name);
+  }
+
+  @Override
+  public Enumeration<String> getMapNames() throws JMSException {
+    return Collections.enumeration(map.keySet());
+  }
+
+  @Override
+  public void setBoolean(String name, boolean value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setByte(String name, byte value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setShort(String name, short value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setChar(String name, char value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setInt(String name, int value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setLong(String name, long value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setFloat(String name, float value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setDouble(String name, double value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setString(String name, String value) throws JMSException {
+    put(name, value);
+  }
+
+  @Override
+  public void setBytes(String name, byte[] value) throws JMSException {
+    put(name, (value == null) ? null : value.clone());
+  }
+
+  @Override
+  public void setBytes(String name, byte[] value, int offset, int length) throws JMSException {
+    byte[] b = new byte[length];
+    System.arraycopy(value, offset, b, 0, length);
+    put(name, b);
+  }
+
+  @Override
+  public void setObject(String name, Object value) throws JMSException {
+    if (value != null && !(value instanceof Boolean || value instanceof Number || value instanceof Character
+        || value instanceof String || value instanceof byte[])) {
+      throw new MessageFormatException("Unsupported type: " + value.getClass().getName());
+    }
+    put(name, value);
+  }
+
+  private void put(String name, Object value) throws JMSException {
+    if (name == null || name.isEmpty()) {
+      throw new IllegalArgumentException("Name must not be empty");
+    }
+    checkWriteable();
+    map.put(name, value);
+  }
+
+  @Override
+  public boolean itemExists(String name) throws JMSException {
+    return map.containsKey(name);
+  }
+
+  @Override
+  public void clearBody() throws JMSException {
+    super.clearBody();
+    map = new LinkedHashMap<>();
+  }
+
+  @Override
+  protected Object getBodyObject() throws JMSException {
+    return map.isEmpty() ? null : Collections.unmodifiableMap(map);
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public boolean isBodyAssignableTo(Class c) throws JMSException {
+    return ((Class<?>) c).isAssignableFrom(Map.class);
+  }
+}
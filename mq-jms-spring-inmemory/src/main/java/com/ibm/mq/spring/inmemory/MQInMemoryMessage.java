@@ -0,0 +1,460 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageFormatException;
+import jakarta.jms.MessageNotWriteableException;
+
+/**
+ * A message with no body. It is also the base class for the other message types, holding
+ * the header fields and properties.
+ */
+public class MQInMemoryMessage implements Message {
+
+  static final String JMSX_DELIVERY_COUNT = "JMSXDeliveryCount";
+
+  private String messageId;
+  private long timestamp;
+  private String correlationId;
+  private Destination replyTo;
+  private Destination destination;
+  private int deliveryMode = DeliveryMode.PERSISTENT;
+  private boolean redelivered;
+  private String type;
+  private long expiration;
+  private long deliveryTime;
+  private int priority = Message.DEFAULT_PRIORITY;
+
+  private Map<String, Object> properties = new LinkedHashMap<>();
+  private boolean propertiesReadOnly = false;
+  protected boolean bodyReadOnly = false;
+
+  // Set when the message is received, so that acknowledge() can be passed to the session
+  private volatile MQInMemorySession session;
+  private int deliveryCount = 0;
+
+  /**
+   * @return a copy of this message, as it would be delivered to a consumer. The body
+   *         of the copy is read-only.
+   */
+  MQInMemoryMessage copy() {
+    return copyHeaders(new MQInMemoryMessage());
+  }
+
+  protected <T extends MQInMemoryMessage> T copyHeaders(T copy) {
+    MQInMemoryMessage m = copy;
+    m.messageId = messageId;
+    m.timestamp = timestamp;
+    m.correlationId = correlationId;
+    m.replyTo = replyTo;
+    m.destination = destination;
+    m.deliveryMode = deliveryMode;
+    m.type = type;
+    m.expiration = expiration;
+    m.deliveryTime = deliveryTime;
+    m.priority = priority;
+    m.properties = new LinkedHashMap<>(properties);
+    m.propertiesReadOnly = true;
+    m.bodyReadOnly = true;
+    return copy;
+  }
+
+  // Called each time the message is given to a consumer
+  void delivered(MQInMemorySession session) {
+    this.session = session;
+    deliveryCount++;
+    redelivered = deliveryCount > 1;
+    properties.put(JMSX_DELIVERY_COUNT, deliveryCount);
+  }
+
+  @Override
+  public String getJMSMessageID() throws JMSException {
+    return messageId;
+  }
+
+  @Override
+  public void setJMSMessageID(String id) throws JMSException {
+    this.messageId = id;
+  }
+
+  @Override
+  public long getJMSTimestamp() throws JMSException {
+    return timestamp;
+  }
+
+  @Override
+  public void setJMSTimestamp(long timestamp) throws JMSException {
+    this.timestamp = timestamp;
+  }
+
+  @Override
+  public byte[] getJMSCorrelationIDAsBytes() throws JMSException {
+    return (correlationId == null) ? null : correlationId.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public void setJMSCorrelationIDAsBytes(byte[] correlationID) throws JMSException {
+    this.correlationId = (correlationID == null) ? null : new String(correlationID, java.nio.charset.StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public void setJMSCorrelationID(String correlationID) throws JMSException {
+    this.correlationId = correlationID;
+  }
+
+  @Override
+  public String getJMSCorrelationID() throws JMSException {
+    return correlationId;
+  }
+
+  @Override
+  public Destination getJMSReplyTo() throws JMSException {
+    return replyTo;
+  }
+
+  @Override
+  public void setJMSReplyTo(Destination replyTo) throws JMSException {
+    this.replyTo = replyTo;
+  }
+
+  @Override
+  public Destination getJMSDestination() throws JMSException {
+    return destination;
+  }
+
+  @Override
+  public void setJMSDestination(Destination destination) throws JMSException {
+    this.destination = destination;
+  }
+
+  @Override
+  public int getJMSDeliveryMode() throws JMSException {
+    return deliveryMode;
+  }
+
+  @Override
+  public void setJMSDeliveryMode(int deliveryMode) throws JMSException {
+    this.deliveryMode = deliveryMode;
+  }
+
+  @Override
+  public boolean getJMSRedelivered() throws JMSException {
+    return redelivered;
+  }
+
+  @Override
+  public void setJMSRedelivered(boolean redelivered) throws JMSException {
+    this.redelivered = redelivered;
+  }
+
+  @Override
+  public String getJMSType() throws JMSException {
+    return type;
+  }
+
+  @Override
+  public void setJMSType(String type) throws JMSException {
+    this.type = type;
+  }
+
+  @Override
+  public long getJMSExpiration() throws JMSException {
+    return expiration;
+  }
+
+  @Override
+  public void setJMSExpiration(long expiration) throws JMSException {
+    this.expiration = expiration;
+  }
+
+  @Override
+  public long getJMSDeliveryTime() throws JMSException {
+    return deliveryTime;
+  }
+
+  @Override
+  public void setJMSDeliveryTime(long deliveryTime) throws JMSException {
+    this.deliveryTime = deliveryTime;
+  }
+
+  @Override
+  public int getJMSPriority() throws JMSException {
+    return priority;
+  }
+
+  @Override
+  public void setJMSPriority(int priority) throws JMSException {
+    this.priority = priority;
+  }
+
+  @Override
+  public void clearProperties() throws JMSException {
+    properties.clear();
+    propertiesReadOnly = false;
+  }
+
+  @Override
+  public boolean propertyExists(String name) throws JMSException {
+    return properties.containsKey(name);
+  }
+
+  @Override
+  public boolean getBooleanProperty(String name) throws JMSException {
+    return toBoolean(properties.get(name));
+  }
+
+  @Override
+  public byte getByteProperty(String name) throws JMSException {
+    return toByte(properties.get(name));
+  }
+
+  @Override
+  public short getShortProperty(String name) throws JMSException {
+    return toShort(properties.get(name));
+  }
+
+  @Override
+  public int getIntProperty(String name) throws JMSException {
+    return toInt(properties.get(name));
+  }
+
+  @Override
+  public long getLongProperty(String name) throws JMSException {
+    return toLong(properties.get(name));
+  }
+
+  @Override
+  public float getFloatProperty(String name) throws JMSException {
+    return toFloat(properties.get(name));
+  }
+
+  @Override
+  public double getDoubleProperty(String name) throws JMSException {
+    return toDouble(properties.get(name));
+  }
+
+  @Override
+  public String getStringProperty(String name) throws JMSException {
+    Object o = properties.get(name);
+    return (o == null) ? null : o.toString();
+  }
+
+  @Override
+  public Object getObjectProperty(String name) throws JMSException {
+    return properties.get(name);
+  }
+
+  @Override
+  public Enumeration<String> getPropertyNames() throws JMSException {
+    return Collections.enumeration(properties.keySet());
+  }
+
+  @Override
+  public void setBooleanProperty(String name, boolean value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setByteProperty(String name, byte value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setShortProperty(String name, short value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setIntProperty(String name, int value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setLongProperty(String name, long value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setFloatProperty(String name, float value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setDoubleProperty(String name, double value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setStringProperty(String name, String value) throws JMSException {
+    setProperty(name, value);
+  }
+
+  @Override
+  public void setObjectProperty(String name, Object value) throws JMSException {
+    if (value != null && !(value instanceof Boolean || value instanceof Number || value instanceof String)) {
+      throw new MessageFormatException("Unsupported property type: " + value.getClass().getName());
+    }
+    setProperty(name, value);
+  }
+
+  private void setProperty(String name, Object value) throws JMSException {
+    if (name == null || name.isEmpty()) {
+      throw new IllegalArgumentException("Property name must not be empty");
+    }
+    if (propertiesReadOnly) {
+      throw new MessageNotWriteableException("Message properties are read-only");
+    }
+    properties.put(name, value);
+  }
+
+  @Override
+  public void acknowledge() throws JMSException {
+    MQInMemorySession s = session;
+    if (s != null) {
+      s.acknowledge();
+    }
+  }
+
+  @Override
+  public void clearBody() throws JMSException {
+    bodyReadOnly = false;
+  }
+
+  protected void checkWriteable() throws JMSException {
+    if (bodyReadOnly) {
+      throw new MessageNotWriteableException("Message body is read-only");
+    }
+  }
+
+  @Override
+  public <T> T getBody(Class<T> c) throws JMSException {
+    Object body = getBodyObject();
+    if (body == null) {
+      return null;
+    }
+    if (!c.isInstance(body)) {
+      throw new MessageFormatException("Body cannot be assigned to " + c.getName());
+    }
+    return c.cast(body);
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public boolean isBodyAssignableTo(Class c) throws JMSException {
+    Object body = getBodyObject();
+    return (body == null) || c.isInstance(body);
+  }
+
+  protected Object getBodyObject() throws JMSException {
+    return null;
+  }
+
+  // Conversions between the types allowed for properties and map message entries, as
+  // defined by the JMS specification
+
+  static boolean toBoolean(Object o) throws JMSException {
+    if (o == null || o instanceof String) {
+      return Boolean.parseBoolean((String) o);
+    }
+    if (o instanceof Boolean) {
+      return (Boolean) o;
+    }
+    throw conversionError(o, "boolean");
+  }
+
+  static byte toByte(Object o) throws JMSException {
+    if (o == null || o instanceof String) {
+      return Byte.parseByte((String) o);
+    }
+    if (o instanceof Byte) {
+      return (Byte) o;
+    }
+    throw conversionError(o, "byte");
+  }
+
+  static short toShort(Object o) throws JMSException {
+    if (o == null || o instanceof String) {
+      return Short.parseShort((String) o);
+    }
+    if (o instanceof Byte || o instanceof Short) {
+      return ((Number) o).shortValue();
+    }
+    throw conversionError(o, "short");
+  }
+
+  static int toInt(Object o) throws JMSException {
+    if (o == null || o instanceof String) {
+      return Integer.parseInt((String) o);
+    }
+    if (o instanceof Byte || o instanceof Short || o instanceof Integer) {
+      return ((Number) o).intValue();
+    }
+    throw conversionError(o, "int");
+  }
+
+  static long toLong(Object o) throws JMSException {
+    if (o == null || o instanceof String) {
+      return Long.parseLong((String) o);
+    }
+    if (o instanceof Byte || o instanceof Short || o instanceof Integer || o instanceof Long) {
+      return ((Number) o).longValue();
+    }
+    throw conversionError(o, "long");
+  }
+
+  static float toFloat(Object o) throws JMSException {
+    if (o == null) {
+      throw new NullPointerException();
+    }
+    if (o instanceof String) {
+      return Float.parseFloat((String) o);
+    }
+    if (o instanceof Float) {
+      return (Float) o;
+    }
+    throw conversionError(o, "float");
+  }
+
+  static double toDouble(Object o) throws JMSException {
+    if (o == null) {
+      throw new NullPointerException();
+    }
+    if (o instanceof String) {
+      return Double.parseDouble((String) o);
+    }
+    if (o instanceof Float || o instanceof Double) {
+      return ((Number) o).doubleValue();
+    }
+    throw conversionError(o, "double");
+  }
+
+  private static MessageFormatException conversionError(Object o, String type) {
+    return new MessageFormatException("Cannot convert " + o.getClass().getSimpleName() + " to " + type);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + messageId + "]";
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.io.Serializable;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.ObjectMessage;
+
+/**
+ * A message whose body is a Serializable object. The object is passed by reference and is not
+ * serialized, so senders must not change it after sending.
+ */
+public class MQInMemoryObjectMessage extends MQInMemoryMessage implements ObjectMessage {
+
+  private Serializable object;
+
+  @Override
+  MQInMemoryMessage copy() {
+    MQInMemoryObjectMessage m = copyHeaders(new MQInMemoryObjectMessage());
+    m.object = object;
+    return m;
+  }
+
+  @Override
+  public void setObject(Serializable object) throws JMSException {
+    checkWriteable();
+    this.object = object;
+  }
+
+  @Override
+  public Serializable getObject() throws JMSException {
+    return object;
+  }
+
+  @Override
+  public void clearBody() throws JMSException {
+    super.clearBody();
+    object = null;
+  }
+
+  @Override
+  protected Object getBodyObject() throws JMSException {
+    return object;
+  }
+}
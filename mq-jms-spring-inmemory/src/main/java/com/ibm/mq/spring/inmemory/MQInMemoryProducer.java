@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import jakarta.jms.CompletionListener;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.InvalidDestinationException;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageFormatException;
+import jakarta.jms.MessageProducer;
+
+/**
+ * Puts messages to in-memory queues. Each message is copied when it is sent, so the application
+ * can reuse the original. Asynchronous sends complete before the send method returns.
+ */
+class MQInMemoryProducer implements MessageProducer {
+
+  private final MQInMemorySession session;
+  private final Destination destination;
+
+  private boolean disableMessageID = false;
+  private boolean disableMessageTimestamp = false;
+  private int deliveryMode = DeliveryMode.PERSISTENT;
+  private int priority = Message.DEFAULT_PRIORITY;
+  private long timeToLive = Message.DEFAULT_TIME_TO_LIVE;
+  private long deliveryDelay = Message.DEFAULT_DELIVERY_DELAY;
+  private volatile boolean closed = false;
+
+  MQInMemoryProducer(MQInMemorySession session, Destination destination) {
+    this.session = session;
+    this.destination = destination;
+  }
+
+  private void checkClosed() throws JMSException {
+    if (closed) {
+      throw new IllegalStateException("Producer is closed");
+    }
+  }
+
+  @Override
+  public void setDisableMessageID(boolean value) throws JMSException {
+    this.disableMessageID = value;
+  }
+
+  @Override
+  public boolean getDisableMessageID() throws JMSException {
+    return disableMessageID;
+  }
+
+  @Override
+  public void setDisableMessageTimestamp(boolean value) throws JMSException {
+    this.disableMessageTimestamp = value;
+  }
+
+  @Override
+  public boolean getDisableMessageTimestamp() throws JMSException {
+    return disableMessageTimestamp;
+  }
+
+  @Override
+  public void setDeliveryMode(int deliveryMode) throws JMSException {
+    this.deliveryMode = deliveryMode;
+  }
+
+  @Override
+  public int getDeliveryMode() throws JMSException {
+    return deliveryMode;
+  }
+
+  @Override
+  public void setPriority(int defaultPriority) throws JMSException {
+    this.priority = defaultPriority;
+  }
+
+  @Override
+  public int getPriority() throws JMSException {
+    return priority;
+  }
+
+  @Override
+  public void setTimeToLive(long timeToLive) throws JMSException {
+    this.timeToLive = timeToLive;
+  }
+
+  @Override
+  public long getTimeToLive() throws JMSException {
+    return timeToLive;
+  }
+
+  @Override
+  public void setDeliveryDelay(long deliveryDelay) throws JMSException {
+    this.deliveryDelay = deliveryDelay;
+  }
+
+  @Override
+  public long getDeliveryDelay() throws JMSException {
+    return deliveryDelay;
+  }
+
+  @Override
+  public Destination getDestination() throws JMSException {
+    return destination;
+  }
+
+  @Override
+  public void close() throws JMSException {
+    closed = true;
+  }
+
+  @Override
+  public void send(Message message) throws JMSException {
+    send(message, deliveryMode, priority, timeToLive);
+  }
+
+  @Override
+  public void send(Message message, int deliveryMode, int priority, long timeToLive) throws JMSException {
+    if (destination == null) {
+      throw new UnsupportedOperationException("Producer has no destination");
+    }
+    doSend(destination, message, deliveryMode, priority, timeToLive);
+  }
+
+  @Override
+  public void send(Destination destination, Message message) throws JMSException {
+    send(destination, message, deliveryMode, priority, timeToLive);
+  }
+
+  @Override
+  public void send(Destination destination, Message message, int deliveryMode, int priority, long timeToLive) throws JMSException {
+    if (this.destination != null) {
+      throw new UnsupportedOperationException("Producer already has a destination");
+    }
+    if (destination == null) {
+      throw new InvalidDestinationException("No destination given");
+    }
+    doSend(destination, message, deliveryMode, priority, timeToLive);
+  }
+
+  @Override
+  public void send(Message message, CompletionListener completionListener) throws JMSException {
+    send(message);
+    completionListener.onCompletion(message);
+  }
+
+  @Override
+  public void send(Message message, int deliveryMode, int priority, long timeToLive, CompletionListener completionListener) throws JMSException {
+    send(message, deliveryMode, priority, timeToLive);
+    completionListener.onCompletion(message);
+  }
+
+  @Override
+  public void send(Destination destination, Message message, CompletionListener completionListener) throws JMSException {
+    send(destination, message);
+    completionListener.onCompletion(message);
+  }
+
+  @Override
+  public void send(Destination destination, Message message, int deliveryMode, int priority, long timeToLive,
+      CompletionListener completionListener) throws JMSException {
+    send(destination, message, deliveryMode, priority, timeToLive);
+    completionListener.onCompletion(message);
+  }
+
+  private void doSend(Destination destination, Message message, int deliveryMode, int priority, long timeToLive) throws JMSException {
+    checkClosed();
+    if (!(message instanceof MQInMemoryMessage)) {
+      throw new MessageFormatException("Message was not created by an in-memory session");
+    }
+    MQInMemoryQueueStore store = session.store(destination);
+    long now = System.currentTimeMillis();
+
+    // The headers are set on the application's message, as the JMS specification requires,
+    // and the copy put to the queue takes them from there.
+    message.setJMSDestination(destination);
+    message.setJMSDeliveryMode(deliveryMode);
+    message.setJMSPriority(priority);
+    message.setJMSExpiration((timeToLive > 0) ? now + timeToLive : 0);
+    message.setJMSTimestamp(disableMessageTimestamp ? 0 : now);
+    message.setJMSDeliveryTime(now + deliveryDelay);
+    message.setJMSMessageID(session.getConnection().getBroker().nextMessageId());
+
+    session.send(store, ((MQInMemoryMessage) message).copy());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.Objects;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Queue;
+
+/**
+ * A queue held by an {@link MQInMemoryBroker}.
+ */
+public class MQInMemoryQueue implements Queue {
+
+  private final String name;
+
+  public MQInMemoryQueue(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Convert a name, which may be in the MQ "queue:///NAME?options" form, to the plain queue name.
+   */
+  static String queueName(String name) {
+    String n = name;
+    if (n.regionMatches(true, 0, "queue://", 0, 8)) {
+      n = n.substring(8);
+      // Remove the queue manager part, which is empty in "queue:///NAME"
+      int slash = n.indexOf('/');
+      if (slash >= 0) {
+        n = n.substring(slash + 1);
+      }
+    }
+    int query = n.indexOf('?');
+    if (query >= 0) {
+      n = n.substring(0, query);
+    }
+    return n.trim();
+  }
+
+  @Override
+  public String getQueueName() throws JMSException {
+    return name;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return (o instanceof MQInMemoryQueue) && name.equals(((MQInMemoryQueue) o).name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(name);
+  }
+
+  @Override
+  public String toString() {
+    return "queue:///" + name;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+
+/**
+ * Looks at the messages on an in-memory queue without removing them. The enumeration is a
+ * snapshot taken when it is requested.
+ */
+class MQInMemoryQueueBrowser implements QueueBrowser {
+
+  private final Queue queue;
+  private final MQInMemoryQueueStore store;
+  private final MQInMemorySelector selector;
+
+  MQInMemoryQueueBrowser(Queue queue, MQInMemoryQueueStore store, MQInMemorySelector selector) {
+    this.queue = queue;
+    this.store = store;
+    this.selector = selector;
+  }
+
+  @Override
+  public Queue getQueue() throws JMSException {
+    return queue;
+  }
+
+  @Override
+  public String getMessageSelector() throws JMSException {
+    return (selector == null) ? null : selector.toString();
+  }
+
+  @Override
+  public Enumeration<?> getEnumeration() throws JMSException {
+    List<Message> copies = new ArrayList<>();
+    for (MQInMemoryMessage m : store.browse(selector)) {
+      copies.add(m.copy());
+    }
+    return Collections.enumeration(copies);
+  }
+
+  @Override
+  public void close() throws JMSException {
+    // Nothing to release
+  }
+}
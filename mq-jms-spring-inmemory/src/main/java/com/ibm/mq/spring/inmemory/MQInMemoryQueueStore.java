@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.jms.JMSException;
+
+/**
+ * The messages on one queue. Messages are kept in arrival order. A message with a delivery
+ * time in the future stays on the queue but is skipped until that time; an expired message
+ * is discarded when a consumer next looks at the queue.
+ */
+class MQInMemoryQueueStore {
+
+  private final String name;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final ArrayDeque<MQInMemoryMessage> messages = new ArrayDeque<>();
+
+  private final LongAdder enqueued = new LongAdder();
+  private final LongAdder dequeued = new LongAdder();
+
+  MQInMemoryQueueStore(String name) {
+    this.name = name;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  void put(MQInMemoryMessage m) {
+    lock.lock();
+    try {
+      messages.addLast(m);
+      enqueued.increment();
+      changed.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Put back messages that were received but not committed, ahead of any other messages
+   * so that they keep their original order.
+   */
+  void putBack(List<MQInMemoryMessage> list) {
+    lock.lock();
+    try {
+      for (int i = list.size() - 1; i >= 0; i--) {
+        messages.addFirst(list.get(i));
+      }
+      dequeued.add(-list.size());
+      changed.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @param selector  - null to match any message
+   * @param timeout   - milliseconds to wait; 0 for no wait
+   * @return the first available message that matches, or null if none arrives in time
+   */
+  MQInMemoryMessage take(MQInMemorySelector selector, long timeout) throws JMSException, InterruptedException {
+    long deadline = System.currentTimeMillis() + timeout;
+    lock.lock();
+    try {
+      while (true) {
+        long now = System.currentTimeMillis();
+        long nextVisible = Long.MAX_VALUE;
+        Iterator<MQInMemoryMessage> it = messages.iterator();
+        while (it.hasNext()) {
+          MQInMemoryMessage m = it.next();
+          long expiration = m.getJMSExpiration();
+          if (expiration > 0 && expiration <= now) {
+            it.remove();
+            continue;
+          }
+          long deliveryTime = m.getJMSDeliveryTime();
+          if (deliveryTime > now) {
+            nextVisible = Math.min(nextVisible, deliveryTime);
+            continue;
+          }
+          if (selector == null || selector.matches(m)) {
+            it.remove();
+            dequeued.increment();
+            return m;
+          }
+        }
+
+        long wait = Math.min(deadline, nextVisible) - now;
+        if (deadline <= now) {
+          return null;
+        }
+        changed.await(Math.max(1, wait), TimeUnit.MILLISECONDS);
+      }
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the messages that a consumer could currently receive, without removing them
+   */
+  List<MQInMemoryMessage> browse(MQInMemorySelector selector) throws JMSException {
+    List<MQInMemoryMessage> list = new ArrayList<>();
+    lock.lock();
+    try {
+      long now = System.currentTimeMillis();
+      for (MQInMemoryMessage m : messages) {
+        long expiration = m.getJMSExpiration();
+        if ((expiration == 0 || expiration > now) && m.getJMSDeliveryTime() <= now
+            && (selector == null || selector.matches(m))) {
+          list.add(m);
+        }
+      }
+    }
+    finally {
+      lock.unlock();
+    }
+    return list;
+  }
+
+  // Wake up any waiting consumers, so they can see that they have been closed
+  void wakeUp() {
+    lock.lock();
+    try {
+      changed.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  int depth() {
+    lock.lock();
+    try {
+      return messages.size();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  void clear() {
+    lock.lock();
+    try {
+      messages.clear();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  long getEnqueued() {
+    return enqueued.sum();
+  }
+
+  long getDequeued() {
+    return dequeued.sum();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.jms.InvalidSelectorException;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+
+/**
+ * A message selector made of comparisons joined by AND, such as
+ * {@code JMSCorrelationID = 'ID:1234' AND region <> 'EU'}. Each comparison is between a header
+ * field or property and a string or integer literal, using "=" or "<>". That covers the
+ * request/reply and filtering patterns that applications usually use; anything else is rejected
+ * with an InvalidSelectorException rather than being silently ignored.
+ */
+class MQInMemorySelector {
+
+  private static final Pattern TERM = Pattern.compile(
+      "\\s*([A-Za-z_$][A-Za-z0-9_$.]*)\\s*(=|<>)\\s*('(?:[^']|'')*'|-?[0-9]+)\\s*");
+  private static final Pattern AND = Pattern.compile("(?i)\\s+AND\\s+");
+
+  private final String text;
+  private final List<Term> terms = new ArrayList<>();
+
+  private record Term(String identifier, boolean equal, Object value) {
+  }
+
+  private MQInMemorySelector(String text) throws InvalidSelectorException {
+    this.text = text;
+    for (String part : splitOutsideQuotes(text)) {
+      Matcher m = TERM.matcher(part);
+      if (!m.matches()) {
+        throw new InvalidSelectorException("Unsupported selector: " + text);
+      }
+      String literal = m.group(3);
+      Object value = literal.startsWith("'") ? literal.substring(1, literal.length() - 1).replace("''", "'") : Long.valueOf(literal);
+      terms.add(new Term(m.group(1), m.group(2).equals("="), value));
+    }
+  }
+
+  /**
+   * @return a selector, or null if the text is null or empty and so matches every message
+   */
+  static MQInMemorySelector parse(String text) throws InvalidSelectorException {
+    if (text == null || text.isBlank()) {
+      return null;
+    }
+    return new MQInMemorySelector(text);
+  }
+
+  private static List<String> splitOutsideQuotes(String text) {
+    List<String> parts = new ArrayList<>();
+    Matcher m = AND.matcher(text);
+    int start = 0;
+    while (m.find()) {
+      // Only split on AND when it is not inside a quoted literal
+      long quotes = text.substring(0, m.start()).chars().filter(c -> c == '\'').count();
+      if (quotes % 2 == 0) {
+        parts.add(text.substring(start, m.start()));
+        start = m.end();
+      }
+    }
+    parts.add(text.substring(start));
+    return parts;
+  }
+
+  boolean matches(Message m) throws JMSException {
+    for (Term t : terms) {
+      Object actual = value(m, t.identifier());
+      if (actual == null) {
+        // Comparisons with a missing value are "unknown", which does not select the message
+        return false;
+      }
+      boolean equal;
+      if (t.value() instanceof Long) {
+        equal = (actual instanceof Number) && ((Number) actual).longValue() == (Long) t.value();
+      }
+      else {
+        equal = t.value().equals(actual);
+      }
+      if (equal != t.equal()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Object value(Message m, String identifier) throws JMSException {
+    switch (identifier) {
+    case "JMSCorrelationID":
+      return m.getJMSCorrelationID();
+    case "JMSMessageID":
+      return m.getJMSMessageID();
+    case "JMSType":
+      return m.getJMSType();
+    case "JMSPriority":
+      return m.getJMSPriority();
+    case "JMSDeliveryMode":
+      return (m.getJMSDeliveryMode() == jakarta.jms.DeliveryMode.PERSISTENT) ? "PERSISTENT" : "NON_PERSISTENT";
+    default:
+      return m.getObjectProperty(identifier);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Destination;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.InvalidDestinationException;
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.ObjectMessage;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.Session;
+import jakarta.jms.StreamMessage;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import jakarta.jms.TopicSubscriber;
+
+/**
+ * A session on an {@link MQInMemoryConnection}. In a transacted session, sent messages are only
+ * put to their queues on commit, and received messages are returned to the front of their
+ * queues on rollback, with an incremented JMSXDeliveryCount. A CLIENT_ACKNOWLEDGE session holds
+ * received messages in the same way until they are acknowledged or recovered.
+ * <p>
+ * Only point-to-point messaging is provided. Topics, durable subscriptions and StreamMessages
+ * cause a JMSException.
+ */
+class MQInMemorySession implements Session {
+
+  private record Delivery(MQInMemoryQueueStore store, MQInMemoryMessage message) {
+  }
+
+  private final MQInMemoryConnection connection;
+  private final int sessionMode;
+
+  private final List<Delivery> sent = new ArrayList<>();
+  private final List<Delivery> received = new ArrayList<>();
+  private final Set<MQInMemoryConsumer> consumers = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean closed = false;
+
+  MQInMemorySession(MQInMemoryConnection connection, int sessionMode) {
+    this.connection = connection;
+    this.sessionMode = sessionMode;
+  }
+
+  static JMSException unsupported(String what) {
+    return new JMSException(what + " is not supported by the in-memory connection factory");
+  }
+
+  MQInMemoryConnection getConnection() {
+    return connection;
+  }
+
+  void checkClosed() throws JMSException {
+    if (closed) {
+      throw new IllegalStateException("Session is closed");
+    }
+  }
+
+  MQInMemoryQueueStore store(Destination destination) throws JMSException {
+    if (!(destination instanceof MQInMemoryQueue)) {
+      throw new InvalidDestinationException("Not an in-memory queue: " + destination);
+    }
+    return connection.getBroker().queue(((MQInMemoryQueue) destination).getQueueName());
+  }
+
+  synchronized void send(MQInMemoryQueueStore store, MQInMemoryMessage message) throws JMSException {
+    checkClosed();
+    if (sessionMode == SESSION_TRANSACTED) {
+      sent.add(new Delivery(store, message));
+    }
+    else {
+      store.put(message);
+    }
+  }
+
+  synchronized void delivered(MQInMemoryQueueStore store, MQInMemoryMessage message) {
+    message.delivered(this);
+    if (sessionMode == SESSION_TRANSACTED || sessionMode == CLIENT_ACKNOWLEDGE) {
+      received.add(new Delivery(store, message));
+    }
+  }
+
+  // A message listener failed in an auto-acknowledge session. The message is redelivered.
+  void redeliver(MQInMemoryQueueStore store, MQInMemoryMessage message) {
+    store.putBack(List.of(message));
+  }
+
+  private void putBackReceived() {
+    Map<MQInMemoryQueueStore, List<MQInMemoryMessage>> byQueue = new LinkedHashMap<>();
+    for (Delivery d : received) {
+      byQueue.computeIfAbsent(d.store(), k -> new ArrayList<>()).add(d.message());
+    }
+    byQueue.forEach(MQInMemoryQueueStore::putBack);
+    received.clear();
+  }
+
+  void removeConsumer(MQInMemoryConsumer consumer) {
+    consumers.remove(consumer);
+  }
+
+  @Override
+  public synchronized void commit() throws JMSException {
+    checkClosed();
+    if (sessionMode != SESSION_TRANSACTED) {
+      throw new IllegalStateException("Session is not transacted");
+    }
+    for (Delivery d : sent) {
+      d.store().put(d.message());
+    }
+    sent.clear();
+    received.clear();
+  }
+
+  @Override
+  public synchronized void rollback() throws JMSException {
+    checkClosed();
+    if (sessionMode != SESSION_TRANSACTED) {
+      throw new IllegalStateException("Session is not transacted");
+    }
+    sent.clear();
+    putBackReceived();
+  }
+
+  @Override
+  public synchronized void recover() throws JMSException {
+    checkClosed();
+    if (sessionMode == SESSION_TRANSACTED) {
+      throw new IllegalStateException("Session is transacted");
+    }
+    putBackReceived();
+  }
+
+  synchronized void acknowledge() throws JMSException {
+    checkClosed();
+    if (sessionMode == CLIENT_ACKNOWLEDGE) {
+      received.clear();
+    }
+  }
+
+  @Override
+  public void close() throws JMSException {
+    if (closed) {
+      return;
+    }
+    for (MQInMemoryConsumer c : consumers) {
+      c.close();
+    }
+    synchronized (this) {
+      closed = true;
+      sent.clear();
+      putBackReceived();
+    }
+    connection.removeSession(this);
+  }
+
+  @Override
+  public boolean getTransacted() throws JMSException {
+    checkClosed();
+    return sessionMode == SESSION_TRANSACTED;
+  }
+
+  @Override
+  public int getAcknowledgeMode() throws JMSException {
+    checkClosed();
+    return sessionMode;
+  }
+
+  @Override
+  public BytesMessage createBytesMessage() throws JMSException {
+    checkClosed();
+    return new MQInMemoryBytesMessage();
+  }
+
+  @Override
+  public MapMessage createMapMessage() throws JMSException {
+    checkClosed();
+    return new MQInMemoryMapMessage();
+  }
+
+  @Override
+  public Message createMessage() throws JMSException {
+    checkClosed();
+    return new MQInMemoryMessage();
+  }
+
+  @Override
+  public ObjectMessage createObjectMessage() throws JMSException {
+    checkClosed();
+    return new MQInMemoryObjectMessage();
+  }
+
+  @Override
+  public ObjectMessage createObjectMessage(Serializable object) throws JMSException {
+    ObjectMessage m = createObjectMessage();
+    m.setObject(object);
+    return m;
+  }
+
+  @Override
+  public StreamMessage createStreamMessage() throws JMSException {
+    throw unsupported("StreamMessage");
+  }
+
+  @Override
+  public TextMessage createTextMessage() throws JMSException {
+    checkClosed();
+    return new MQInMemoryTextMessage();
+  }
+
+  @Override
+  public TextMessage createTextMessage(String text) throws JMSException {
+    TextMessage m = createTextMessage();
+    m.setText(text);
+    return m;
+  }
+
+  @Override
+  public MessageListener getMessageListener() throws JMSException {
+    return null;
+  }
+
+  @Override
+  public void setMessageListener(MessageListener listener) throws JMSException {
+    throw unsupported("A session MessageListener");
+  }
+
+  @Override
+  public void run() {
+    // Only used by application servers with a session-level MessageListener
+  }
+
+  @Override
+  public MessageProducer createProducer(Destination destination) throws JMSException {
+    checkClosed();
+    if (destination != null) {
+      store(destination);
+    }
+    return new MQInMemoryProducer(this, destination);
+  }
+
+  @Override
+  public MessageConsumer createConsumer(Destination destination) throws JMSException {
+    return createConsumer(destination, null);
+  }
+
+  @Override
+  public MessageConsumer createConsumer(Destination destination, String messageSelector) throws JMSException {
+    checkClosed();
+    MQInMemoryConsumer c = new MQInMemoryConsumer(this, store(destination), messageSelector);
+    consumers.add(c);
+    return c;
+  }
+
+  @Override
+  public MessageConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal) throws JMSException {
+    // noLocal only applies to topics
+    return createConsumer(destination, messageSelector);
+  }
+
+  @Override
+  public MessageConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public MessageConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public Queue createQueue(String queueName) throws JMSException {
+    checkClosed();
+    return new MQInMemoryQueue(MQInMemoryQueue.queueName(queueName));
+  }
+
+  @Override
+  public Topic createTopic(String topicName) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public TopicSubscriber createDurableSubscriber(Topic topic, String name) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public TopicSubscriber createDurableSubscriber(Topic topic, String name, String messageSelector, boolean noLocal) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public MessageConsumer createDurableConsumer(Topic topic, String name) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public MessageConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public MessageConsumer createSharedDurableConsumer(Topic topic, String name) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public MessageConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector) throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public QueueBrowser createBrowser(Queue queue) throws JMSException {
+    return createBrowser(queue, null);
+  }
+
+  @Override
+  public QueueBrowser createBrowser(Queue queue, String messageSelector) throws JMSException {
+    checkClosed();
+    return new MQInMemoryQueueBrowser(queue, store(queue), MQInMemorySelector.parse(messageSelector));
+  }
+
+  @Override
+  public TemporaryQueue createTemporaryQueue() throws JMSException {
+    checkClosed();
+    return connection.createTemporaryQueue();
+  }
+
+  @Override
+  public TemporaryTopic createTemporaryTopic() throws JMSException {
+    throw unsupported("Topic");
+  }
+
+  @Override
+  public void unsubscribe(String name) throws JMSException {
+    throw unsupported("Topic");
+  }
+}
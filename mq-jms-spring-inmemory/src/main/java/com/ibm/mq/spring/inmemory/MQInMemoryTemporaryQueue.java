@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.TemporaryQueue;
+
+/**
+ * A queue that exists until it is deleted or the connection that created it is closed.
+ */
+class MQInMemoryTemporaryQueue extends MQInMemoryQueue implements TemporaryQueue {
+
+  private final MQInMemoryBroker broker;
+
+  MQInMemoryTemporaryQueue(MQInMemoryBroker broker, String name) {
+    super(name);
+    this.broker = broker;
+  }
+
+  @Override
+  public void delete() throws JMSException {
+    broker.deleteQueue(getQueueName());
+  }
+}
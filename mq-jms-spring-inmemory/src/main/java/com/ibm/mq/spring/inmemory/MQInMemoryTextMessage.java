@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.TextMessage;
+
+/**
+ * A message whose body is a String.
+ */
+public class MQInMemoryTextMessage extends MQInMemoryMessage implements TextMessage {
+
+  private String text;
+
+  @Override
+  MQInMemoryMessage copy() {
+    MQInMemoryTextMessage m = copyHeaders(new MQInMemoryTextMessage());
+    m.text = text;
+    return m;
+  }
+
+  @Override
+  public void setText(String text) throws JMSException {
+    checkWriteable();
+    this.text = text;
+  }
+
+  @Override
+  public String getText() throws JMSException {
+    return text;
+  }
+
+  @Override
+  public void clearBody() throws JMSException {
+    super.clearBody();
+    text = null;
+  }
+
+  @Override
+  protected Object getBodyObject() throws JMSException {
+    return text;
+  }
+}
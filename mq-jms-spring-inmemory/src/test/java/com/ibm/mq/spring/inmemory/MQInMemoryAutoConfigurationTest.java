@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.annotation.EnableJms;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.TextMessage;
+
+@SpringBootTest(classes = { MQInMemoryAutoConfigurationTest.TestConfig.class },
+    properties = { "ibm.mq.queueManager=QMBOOT", "spring.jms.listener.receive-timeout=100ms" })
+public class MQInMemoryAutoConfigurationTest {
+
+  private static final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+  @Configuration
+  @EnableAutoConfiguration
+  @EnableJms
+  static class TestConfig {
+    @Bean
+    Listener listener() {
+      return new Listener();
+    }
+  }
+
+  static class Listener {
+    @JmsListener(destination = "DEV.QUEUE.1")
+    public void onMessage(String body) {
+      received.add(body);
+    }
+  }
+
+  @Autowired
+  private ConnectionFactory connectionFactory;
+
+  @Autowired
+  private JmsTemplate jmsTemplate;
+
+  @Test
+  public void testStarterUsesInMemoryFactory() throws Exception {
+    // The starter's default caching configuration wraps the in-memory factory
+    Assertions.assertTrue(connectionFactory instanceof CachingConnectionFactory);
+    ConnectionFactory target = ((CachingConnectionFactory) connectionFactory).getTargetConnectionFactory();
+    Assertions.assertTrue(target instanceof MQInMemoryConnectionFactory);
+    Assertions.assertEquals("QMBOOT", ((MQInMemoryConnectionFactory) target).getQueueManager());
+
+    jmsTemplate.convertAndSend("DEV.QUEUE.1", "hello");
+    Assertions.assertEquals("hello", received.poll(10, TimeUnit.SECONDS));
+
+    jmsTemplate.convertAndSend("DEV.QUEUE.2", "browse me");
+    Assertions.assertEquals(1, MQInMemoryBroker.forQueueManager("QMBOOT").getDepth("DEV.QUEUE.2"));
+    TextMessage m = (TextMessage) jmsTemplate.receive("DEV.QUEUE.2");
+    Assertions.assertEquals("browse me", m.getText());
+  }
+}
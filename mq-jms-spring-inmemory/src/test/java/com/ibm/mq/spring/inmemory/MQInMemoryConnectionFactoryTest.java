@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package com.ibm.mq.spring.inmemory;
+
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.Connection;
+import jakarta.jms.InvalidSelectorException;
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TextMessage;
+
+public class MQInMemoryConnectionFactoryTest {
+
+  private MQInMemoryConnectionFactory cf;
+  private Connection connection;
+
+  @BeforeEach
+  public void setup() throws JMSException {
+    cf = new MQInMemoryConnectionFactory();
+    cf.setQueueManager("QMTEST");
+    connection = cf.createConnection();
+    connection.start();
+  }
+
+  @AfterEach
+  public void cleanup() throws JMSException {
+    connection.close();
+    cf.getBroker().clear();
+  }
+
+  @Test
+  public void testSendReceive() throws JMSException {
+    Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    Queue q = session.createQueue("queue:///DEV.QUEUE.1?persistence=1");
+    Assertions.assertEquals("DEV.QUEUE.1", q.getQueueName());
+
+    TextMessage tm = session.createTextMessage("hello");
+    tm.setIntProperty("count", 3);
+    session.createProducer(q).send(tm);
+    Assertions.assertNotNull(tm.getJMSMessageID());
+    Assertions.assertEquals(1, cf.getBroker().getDepth("DEV.QUEUE.1"));
+
+    // The sender can change its message without affecting the one on the queue
+    tm.setText("changed");
+
+    TextMessage received = (TextMessage) session.createConsumer(q).receive(1000);
+    Assertions.assertEquals("hello", received.getText());
+    Assertions.assertEquals(tm.getJMSMessageID(), received.getJMSMessageID());
+    Assertions.assertEquals("3", received.getStringProperty("count"));
+    Assertions.assertEquals(1, received.getIntProperty("JMSXDeliveryCount"));
+    Assertions.assertEquals(0, cf.getBroker().getDepth("DEV.QUEUE.1"));
+  }
+
+  @Test
+  public void testTransactions() throws JMSException {
+    Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+    Queue q = session.createQueue("DEV.QUEUE.1");
+    MessageProducer producer = session.createProducer(q);
+    MessageConsumer consumer = session.createConsumer(q);
+
+    producer.send(session.createTextMessage("one"));
+    producer.send(session.createTextMessage("two"));
+    Assertions.assertNull(consumer.receiveNoWait());
+    session.rollback();
+    Assertions.assertEquals(0, cf.getBroker().getDepth("DEV.QUEUE.1"));
+
+    producer.send(session.createTextMessage("one"));
+    producer.send(session.createTextMessage("two"));
+    session.commit();
+    Assertions.assertEquals(2, cf.getBroker().getDepth("DEV.QUEUE.1"));
+
+    Assertions.assertEquals("one", ((TextMessage) consumer.receive(1000)).getText());
+    Assertions.assertEquals("two", ((TextMessage) consumer.receive(1000)).getText());
+    session.rollback();
+
+    // Rolled back messages keep their order, and are marked as redelivered
+    Message m = consumer.receive(1000);
+    Assertions.assertEquals("one", ((TextMessage) m).getText());
+    Assertions.assertTrue(m.getJMSRedelivered());
+    Assertions.assertEquals(2, m.getIntProperty("JMSXDeliveryCount"));
+    consumer.receive(1000);
+    session.commit();
+    Assertions.assertEquals(0, cf.getBroker().getDepth("DEV.QUEUE.1"));
+  }
+
+  @Test
+  public void testClientAcknowledge() throws JMSException {
+    Session session = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
+    Queue q = session.createQueue("DEV.QUEUE.1");
+    session.createProducer(q).send(session.createTextMessage("one"));
+
+    MessageConsumer consumer = session.createConsumer(q);
+    consumer.receive(1000);
+    session.recover();
+    Message m = consumer.receive(1000);
+    Assertions.assertTrue(m.getJMSRedelivered());
+    m.acknowledge();
+    session.close();
+    Assertions.assertEquals(0, cf.getBroker().getDepth("DEV.QUEUE.1"));
+  }
+
+  @Test
+  public void testSelectorAndReplyTo() throws Exception {
+    Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    Queue q = session.createQueue("DEV.QUEUE.1");
+    TemporaryQueue replyQ = session.createTemporaryQueue();
+
+    MessageProducer producer = session.createProducer(null);
+    for (int i = 0; i < 3; i++) {
+      TextMessage m = session.createTextMessage("request " + i);
+      m.setJMSCorrelationID("CORREL" + i);
+      m.setJMSReplyTo(replyQ);
+      producer.send(q, m);
+    }
+
+    MessageConsumer selective = session.createConsumer(q, "JMSCorrelationID = 'CORREL1'");
+    TextMessage request = (TextMessage) selective.receive(1000);
+    Assertions.assertEquals("request 1", request.getText());
+    Assertions.assertNull(selective.receiveNoWait());
+    Assertions.assertEquals(2, cf.getBroker().getDepth("DEV.QUEUE.1"));
+
+    producer.send(request.getJMSReplyTo(), session.createTextMessage("reply"));
+    Assertions.assertEquals("reply", ((TextMessage) session.createConsumer(replyQ).receive(1000)).getText());
+
+    Enumeration<?> browsed = session.createBrowser(q, "JMSCorrelationID <> 'CORREL1'").getEnumeration();
+    int count = 0;
+    while (browsed.hasMoreElements()) {
+      browsed.nextElement();
+      count++;
+    }
+    Assertions.assertEquals(2, count);
+    Assertions.assertThrows(InvalidSelectorException.class, () -> session.createConsumer(q, "JMSPriority > 4"));
+  }
+
+  @Test
+  public void testDeliveryDelayAndListener() throws Exception {
+    Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    Queue q = session.createQueue("DEV.QUEUE.1");
+    MessageProducer producer = session.createProducer(q);
+    producer.setDeliveryDelay(200);
+    BytesMessage bm = session.createBytesMessage();
+    bm.writeInt(42);
+    producer.send(bm);
+
+    MessageConsumer consumer = session.createConsumer(q);
+    Assertions.assertNull(consumer.receiveNoWait());
+    BytesMessage received = (BytesMessage) consumer.receive(5000);
+    Assertions.assertEquals(42, received.readInt());
+
+    java.util.concurrent.BlockingQueue<Message> delivered = new java.util.concurrent.LinkedBlockingQueue<>();
+    Session listenerSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    listenerSession.createConsumer(q).setMessageListener(delivered::add);
+    MapMessage mm = session.createMapMessage();
+    mm.setString("key", "value");
+    session.createProducer(q).send(mm);
+    MapMessage m = (MapMessage) delivered.poll(5, java.util.concurrent.TimeUnit.SECONDS);
+    Assertions.assertEquals("value", m.getString("key"));
+    listenerSession.close();
+  }
+}
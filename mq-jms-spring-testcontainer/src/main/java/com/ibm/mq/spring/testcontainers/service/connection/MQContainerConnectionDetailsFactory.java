@@ -1,5 +1,5 @@
 /*
- * Copyright © 2025 IBM Corp. All rights reserved.
+ * Copyright © 2025,2026 IBM Corp. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
  * except in compliance with the License. You may obtain a copy of the License at
@@ -14,12 +14,16 @@
 
 package com.ibm.mq.spring.testcontainers.service.connection;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.testcontainers.service.connection.ContainerConnectionDetailsFactory;
 import org.springframework.boot.testcontainers.service.connection.ContainerConnectionSource;
 
 import com.ibm.mq.spring.boot.MQConnectionDetails;
+import com.ibm.mq.testcontainers.MQClusterTopology;
 import com.ibm.mq.testcontainers.MQContainer;
 
 public class MQContainerConnectionDetailsFactory
@@ -34,6 +38,73 @@ extends ContainerConnectionDetailsFactory<MQContainer, MQConnectionDetails> {
     return new MQContainerConnectionDetails(source);
   }
 
+  /**
+   * Connection details for one container, for use where it is not registered as a {@code @ServiceConnection}.
+   * For example, to build a second connection factory for XA between two queue managers in an
+   * {@link MQClusterTopology}. Values are read from the container when they are needed, so this can be
+   * called before the container is started.
+   *
+   * @param container - the container
+   * @return connection details for the container's queue manager
+   */
+  public static MQConnectionDetails connectionDetails(MQContainer container) {
+    return new MQTopologyConnectionDetails(container::getConnName, container::getQueueManager, container);
+  }
+
+  /**
+   * Connection details that reach every queue manager in a topology, using a connection name list.
+   * The queue manager name is left empty so the client accepts whichever one it connects to. Channel and
+   * credentials come from the first container. Define this as an {@code MQConnectionDetails} bean to have
+   * the auto-configured connection factory use it, and set the "ibm.mq.balancing*" options as needed.
+   *
+   * @param topology - the started topology
+   * @return connection details for the whole topology
+   */
+  public static MQConnectionDetails connectionDetails(MQClusterTopology topology) {
+    List<MQContainer> containers = topology.getContainers();
+    if (containers.isEmpty()) {
+      throw new IllegalStateException("The topology has not been started");
+    }
+    return new MQTopologyConnectionDetails(topology::getConnName, () -> "", containers.get(0));
+  }
+
+  private static final class MQTopologyConnectionDetails implements MQConnectionDetails {
+    private final Supplier<String> connName;
+    private final Supplier<String> queueManager;
+    private final MQContainer container;
+
+    private MQTopologyConnectionDetails(Supplier<String> connName, Supplier<String> queueManager, MQContainer container) {
+      this.connName = connName;
+      this.queueManager = queueManager;
+      this.container = container;
+    }
+
+    @Override
+    public String getConnName() {
+      return connName.get();
+    }
+
+    @Override
+    public String getQueueManager() {
+      return queueManager.get();
+    }
+
+    @Override
+    public String getChannel() {
+      return container.getChannel();
+    }
+
+    @Override
+    public String getUser() {
+      return container.getAppUser();
+    }
+
+    @Override
+    public String getPassword() {
+      return container.getAppPassword();
+    }
+  }
+
   private static final class MQContainerConnectionDetails
   extends ContainerConnectionDetails<MQContainer> implements MQConnectionDetails {
     private static Logger logger = LoggerFactory.getLogger(MQContainerConnectionDetails.class);
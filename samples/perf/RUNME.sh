@@ -0,0 +1,50 @@
+# This script compiles and runs the load generator in this directory.
+#
+# The program sends and receives messages on the DEV.QUEUE.1 queue for a fixed
+# time and then reports the throughput and latency.
+#
+# Options:
+#   -m      Use the in-memory queue manager instead of a real one
+#   -p      Use the pooled connection factory instead of the caching one
+#   -l      Send messages without an MQRFH2 header (ibm.mq.headers.mode=MQ). Compare the
+#           CPU and wire size reported at the end with a run that does not use this option
+#   -n      Send messages without asking for message IDs and timestamps (ibm.mq.headers.mode=MINIMAL).
+#           Compare the CPU and wire size in the same way
+#   other   Any other arguments are passed to the application, for example
+#           --perf.producers=4 --perf.messageSize=10240
+#
+# You may need to modify the application.properties file to get it to
+# connect to your queue manager.
+
+args=""
+while getopts :mpln o
+do
+  case $o in
+  m)
+    args="$args --ibm.mq.inMemory.enabled=true"
+    ;;
+  p)
+    args="$args --ibm.mq.pool.enabled=true"
+    ;;
+  l)
+    args="$args --ibm.mq.headers.mode=MQ"
+    ;;
+  n)
+    args="$args --ibm.mq.headers.mode=MINIMAL"
+    ;;
+  *)
+    ;;
+  esac
+done
+shift $((OPTIND-1))
+args="$args $*"
+
+###### Cleanup from previous runs
+# Try to clear the queue (assuming it's a local queue manager)
+echo "CLEAR QLOCAL(DEV.QUEUE.1)" | runmqsc -e QM1 >/dev/null 2>&1
+######
+
+# Now run the program. Build using the gradle wrapper in parent directory
+cd ../..
+
+./gradlew -p samples/perf bootRun --args="$args"
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+// A load generator for the IBM MQ Spring Boot starter.
+//
+// This program drives a configurable number of producers and consumers through the
+// auto-configured connection factory and listener container factory, and reports
+// the message rates and end-to-end latency percentiles. Use it to compare connection
+// factory, pool and listener settings before changing them in production.
+//
+// It can run against a real queue manager, or with "ibm.mq.inMemory.enabled=true"
+// against the in-memory stand-in so that the starter's own overheads can be measured.
+
+package perf;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jms.annotation.EnableJms;
+
+@SpringBootApplication
+@EnableJms
+@EnableConfigurationProperties(PerfProperties.class)
+public class Application {
+
+  public static void main(String[] args) {
+    // The LoadGenerator runs during startup, and the program ends when it has finished
+    ConfigurableApplicationContext context = SpringApplication.run(Application.class, args);
+    System.exit(SpringApplication.exit(context));
+  }
+}
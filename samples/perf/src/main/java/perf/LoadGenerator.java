@@ -0,0 +1,328 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package perf;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jms.config.JmsListenerContainerFactory;
+import org.springframework.jms.config.SimpleJmsListenerEndpoint;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.MessageListenerContainer;
+import org.springframework.jms.support.destination.DestinationResolver;
+import org.springframework.jms.support.destination.DynamicDestinationResolver;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.ibm.mq.jakarta.jms.MQQueue;
+import com.ibm.msg.client.jakarta.wmq.WMQConstants;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+
+@Component
+public class LoadGenerator implements CommandLineRunner {
+
+  // The first bytes of each message body hold the System.nanoTime() at which it was sent. The body
+  // is used rather than a property so that it survives ibm.mq.headers.mode=MQ
+  static final int TIMESTAMP_LENGTH = 8;
+
+  // Size of the MQMD that precedes every message
+  static final int MQMD_LENGTH = 364;
+
+  private final ConnectionFactory connectionFactory;
+  private final BeanFactory beanFactory;
+  private final PerfProperties props;
+  private final DestinationResolver destinationResolver;
+  private final Environment environment;
+  private final Statistics stats = new Statistics();
+
+  private volatile boolean running = true;
+  private long cpuStart;
+
+  public LoadGenerator(ConnectionFactory connectionFactory, BeanFactory beanFactory, PerfProperties props,
+      ObjectProvider<DestinationResolver> destinationResolver, Environment environment) {
+    this.connectionFactory = connectionFactory;
+    this.beanFactory = beanFactory;
+    this.props = props;
+    this.destinationResolver = destinationResolver.getIfUnique(DynamicDestinationResolver::new);
+    this.environment = environment;
+  }
+
+  @Override
+  public void run(String... args) throws Exception {
+    printConfiguration();
+
+    MessageListenerContainer container = (props.getConsumers() > 0) ? startConsumers() : null;
+
+    ExecutorService producers = Executors.newFixedThreadPool(Math.max(1, props.getProducers()));
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < props.getProducers(); i++) {
+      futures.add(producers.submit(this::produce));
+    }
+
+    long start = System.nanoTime();
+    long end = start + props.getDuration().toNanos();
+    long warmupEnd = start + props.getWarmup().toNanos();
+    boolean warm = props.getWarmup().isZero();
+    long lastSent = 0;
+    long lastReceived = 0;
+    long lastReport = start;
+    cpuStart = processCpuNanos();
+
+    while (System.nanoTime() < end) {
+      long next = Math.min(end, System.nanoTime() + props.getReportInterval().toNanos());
+      if (!warm) {
+        next = Math.min(next, warmupEnd);
+      }
+      LockSupport.parkNanos(next - System.nanoTime());
+
+      long now = System.nanoTime();
+      if (!warm && now >= warmupEnd) {
+        warm = true;
+        stats.reset();
+        cpuStart = processCpuNanos();
+        lastSent = 0;
+        lastReceived = 0;
+        lastReport = now;
+        System.out.println("Warmup complete");
+        continue;
+      }
+      double seconds = (now - lastReport) / 1e9;
+      long sent = stats.getSent();
+      long received = stats.getReceived();
+      Histogram h = stats.interval();
+      System.out.printf("%6.1fs  sent %10.0f msg/s  received %10.0f msg/s  p99 %8d us%n",
+          (now - start) / 1e9, (sent - lastSent) / seconds, (received - lastReceived) / seconds,
+          h.getTotalCount() > 0 ? h.getValueAtPercentile(99.0) : 0);
+      lastSent = sent;
+      lastReceived = received;
+      lastReport = now;
+    }
+
+    // Stop sending, and give the consumers a chance to catch up before reporting
+    running = false;
+    producers.shutdown();
+    for (Future<?> f : futures) {
+      f.get();
+    }
+    double sendSeconds = stats.getElapsedSeconds();
+    long sent = stats.getSent();
+
+    if (container != null && props.getProducers() > 0) {
+      long drainEnd = System.nanoTime() + props.getDrainTimeout().toNanos();
+      while (stats.getReceived() < sent && System.nanoTime() < drainEnd) {
+        TimeUnit.MILLISECONDS.sleep(100);
+      }
+    }
+    double receiveSeconds = stats.getElapsedSeconds();
+    long cpuNanos = processCpuNanos() - cpuStart;
+    if (container != null) {
+      container.stop();
+    }
+
+    printResults(sent, sendSeconds, stats.getReceived(), receiveSeconds, cpuNanos);
+    printWireSize();
+  }
+
+  private MessageListenerContainer startConsumers() throws Exception {
+    JmsListenerContainerFactory<?> factory = beanFactory.getBean(props.getContainerFactory(), JmsListenerContainerFactory.class);
+
+    SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
+    endpoint.setId("perf");
+    endpoint.setDestination(props.getQueue());
+    endpoint.setConcurrency(props.getConsumers() + "-" + props.getConsumers());
+    endpoint.setMessageListener(this::consume);
+
+    MessageListenerContainer container = factory.createListenerContainer(endpoint);
+    if (container instanceof InitializingBean) {
+      ((InitializingBean) container).afterPropertiesSet();
+    }
+    container.start();
+    return container;
+  }
+
+  private void consume(Message m) {
+    try {
+      long sentNanos = ((BytesMessage) m).readLong();
+      stats.received(System.nanoTime() - sentNanos);
+    }
+    catch (JMSException | RuntimeException e) {
+      stats.error();
+    }
+  }
+
+  private void produce() {
+    JmsTemplate template = new JmsTemplate(connectionFactory);
+    template.setSessionTransacted(props.getBatchSize() > 1);
+    template.setDestinationResolver(destinationResolver);
+
+    byte[] payload = new byte[Math.max(0, props.getMessageSize() - TIMESTAMP_LENGTH)];
+    Arrays.fill(payload, (byte) 'x');
+    int deliveryMode = props.isPersistent() ? DeliveryMode.PERSISTENT : DeliveryMode.NON_PERSISTENT;
+    int batchSize = Math.max(1, props.getBatchSize());
+    long interval = (props.getRate() > 0) ? TimeUnit.SECONDS.toNanos(1) * batchSize / props.getRate() : 0;
+    long nextBatch = System.nanoTime();
+    long[] sequence = { 0 };
+    // The starter applies MINIMAL and MQ to JmsTemplate beans. This template is not a bean, and sends
+    // with its own producers, so the same options are set here.
+    boolean minimal = !"JMS".equalsIgnoreCase(environment.getProperty("ibm.mq.headers.mode", "JMS"));
+
+    while (running) {
+      try {
+        template.execute(session -> {
+          MessageProducer producer = session.createProducer(destinationResolver.resolveDestinationName(session, props.getQueue(), false));
+          try {
+            producer.setDeliveryMode(deliveryMode);
+            producer.setDisableMessageID(minimal);
+            producer.setDisableMessageTimestamp(minimal);
+            for (int i = 0; i < batchSize; i++) {
+              BytesMessage m = session.createBytesMessage();
+              m.writeLong(System.nanoTime());
+              m.writeBytes(payload);
+              m.setStringProperty("JMSXGroupID", "key-" + (sequence[0]++ % Math.max(1, props.getKeys())));
+              producer.send(m);
+            }
+            if (session.getTransacted()) {
+              session.commit();
+            }
+          }
+          finally {
+            // With a caching connection factory, this returns the producer to the cache
+            producer.close();
+          }
+          for (int i = 0; i < batchSize; i++) {
+            stats.sent();
+          }
+          return null;
+        }, false);
+      }
+      catch (RuntimeException e) {
+        stats.error();
+      }
+
+      if (interval > 0) {
+        nextBatch += interval;
+        long wait = nextBatch - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+      }
+    }
+  }
+
+  private void printConfiguration() {
+    String cfName = connectionFactory.getClass().getSimpleName();
+    if (connectionFactory instanceof CachingConnectionFactory) {
+      cfName += " wrapping " + ((CachingConnectionFactory) connectionFactory).getTargetConnectionFactory().getClass().getSimpleName();
+    }
+    System.out.println();
+    System.out.println("========================================");
+    System.out.println("Connection factory : " + cfName);
+    System.out.println("Listener factory   : " + props.getContainerFactory());
+    System.out.println("Queue              : " + props.getQueue());
+    System.out.println("Producers          : " + props.getProducers() + " (batch " + props.getBatchSize() + ", rate "
+        + ((props.getRate() > 0) ? props.getRate() + " msg/s each" : "unlimited") + ")");
+    System.out.println("Consumers          : " + props.getConsumers());
+    System.out.println("Message size       : " + props.getMessageSize() + (props.isPersistent() ? " persistent" : " non-persistent"));
+    System.out.println("Duration           : " + props.getDuration() + " (warmup " + props.getWarmup() + ")");
+    System.out.println("Header mode        : " + environment.getProperty("ibm.mq.headers.mode", "JMS"));
+    System.out.println("========================================");
+  }
+
+  private void printResults(long sent, double sendSeconds, long received, double receiveSeconds, long cpuNanos) {
+    Histogram h = stats.getTotal();
+    System.out.println();
+    System.out.println("========================================");
+    System.out.printf("Sent     : %d messages, %.0f msg/s%n", sent, sent / sendSeconds);
+    System.out.printf("Received : %d messages, %.0f msg/s%n", received, received / receiveSeconds);
+    System.out.printf("Errors   : %d%n", stats.getErrors());
+    if (cpuNanos >= 0 && sent + received > 0) {
+      // Both sides run in this process, so this is the CPU for one send plus one receive
+      System.out.printf("CPU      : %.1f us per message sent and received%n", cpuNanos / 1000.0 / Math.max(sent, received));
+    }
+    if (h.getTotalCount() > 0) {
+      System.out.println("Latency (microseconds)");
+      System.out.printf("  min %d  p50 %d  p90 %d  p99 %d  p99.9 %d  max %d%n",
+          h.getMinValue(), h.getValueAtPercentile(50), h.getValueAtPercentile(90),
+          h.getValueAtPercentile(99), h.getValueAtPercentile(99.9), h.getMaxValue());
+    }
+    System.out.println("========================================");
+  }
+
+  // Put one message and read it back with messageBody=MQ, so that the body includes any MQRFH2
+  // header. Only possible with a real queue manager.
+  private void printWireSize() {
+    JmsTemplate template = new JmsTemplate(connectionFactory);
+    template.setDestinationResolver(destinationResolver);
+    template.setReceiveTimeout(5000);
+    try {
+      Long length = template.execute(session -> {
+        Destination d = destinationResolver.resolveDestinationName(session, props.getQueue(), false);
+        if (!(d instanceof MQQueue)) {
+          return null;
+        }
+        try (MessageProducer producer = session.createProducer(d)) {
+          BytesMessage m = session.createBytesMessage();
+          m.writeLong(System.nanoTime());
+          m.writeBytes(new byte[Math.max(0, props.getMessageSize() - TIMESTAMP_LENGTH)]);
+          m.setStringProperty("JMSXGroupID", "key-0");
+          producer.send(m);
+        }
+        MQQueue raw = new MQQueue(((MQQueue) d).getBaseQueueName());
+        raw.setMessageBodyStyle(WMQConstants.WMQ_MESSAGE_BODY_MQ);
+        try (MessageConsumer consumer = session.createConsumer(raw)) {
+          Message m = consumer.receive(5000);
+          return (m instanceof BytesMessage) ? ((BytesMessage) m).getBodyLength() : null;
+        }
+      }, true);
+      if (length != null) {
+        long headers = length - props.getMessageSize() + MQMD_LENGTH;
+        System.out.printf("Wire size: %d bytes per message, of which %d are MQMD and MQRFH2 headers%n", length + MQMD_LENGTH, headers);
+        System.out.println("========================================");
+      }
+    }
+    catch (RuntimeException e) {
+      System.out.println("Unable to measure message size: " + e.getMessage());
+    }
+  }
+
+  private static long processCpuNanos() {
+    java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    if (os instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+    }
+    return -1;
+  }
+}
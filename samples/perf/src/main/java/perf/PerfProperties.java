@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package perf;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Options for the load generator, set with "perf.*" properties.
+ */
+@ConfigurationProperties(prefix = "perf")
+public class PerfProperties {
+
+  /** Queue to send to and receive from */
+  private String queue = "DEV.QUEUE.1";
+
+  /** Number of producer threads. 0 only consumes messages already on the queue */
+  private int producers = 2;
+
+  /** Number of concurrent consumers in the listener container. 0 only produces */
+  private int consumers = 2;
+
+  /** Size of each message body in bytes */
+  private int messageSize = 1024;
+
+  /** Whether messages are persistent */
+  private boolean persistent = false;
+
+  /** Messages sent in each producer transaction. 1 sends without a transaction */
+  private int batchSize = 1;
+
+  /** Target rate for each producer in messages/second. 0 sends as fast as possible */
+  private int rate = 0;
+
+  /** Number of distinct JMSXGroupID values, for use with the key-ordered listener */
+  private int keys = 16;
+
+  /** How long to send messages for, including the warmup */
+  private Duration duration = Duration.ofSeconds(30);
+
+  /** Time at the start of the run that is excluded from the results */
+  private Duration warmup = Duration.ofSeconds(5);
+
+  /** How often to print interim rates */
+  private Duration reportInterval = Duration.ofSeconds(5);
+
+  /** How long to wait for consumers to receive the remaining messages after sending stops */
+  private Duration drainTimeout = Duration.ofSeconds(30);
+
+  /** Name of the JmsListenerContainerFactory bean used for the consumers */
+  private String containerFactory = "jmsListenerContainerFactory";
+
+  public String getQueue() {
+    return queue;
+  }
+
+  public void setQueue(String queue) {
+    this.queue = queue;
+  }
+
+  public int getProducers() {
+    return producers;
+  }
+
+  public void setProducers(int producers) {
+    this.producers = producers;
+  }
+
+  public int getConsumers() {
+    return consumers;
+  }
+
+  public void setConsumers(int consumers) {
+    this.consumers = consumers;
+  }
+
+  public int getMessageSize() {
+    return messageSize;
+  }
+
+  public void setMessageSize(int messageSize) {
+    this.messageSize = messageSize;
+  }
+
+  public boolean isPersistent() {
+    return persistent;
+  }
+
+  public void setPersistent(boolean persistent) {
+    this.persistent = persistent;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public int getRate() {
+    return rate;
+  }
+
+  public void setRate(int rate) {
+    this.rate = rate;
+  }
+
+  public int getKeys() {
+    return keys;
+  }
+
+  public void setKeys(int keys) {
+    this.keys = keys;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  public void setDuration(Duration duration) {
+    this.duration = duration;
+  }
+
+  public Duration getWarmup() {
+    return warmup;
+  }
+
+  public void setWarmup(Duration warmup) {
+    this.warmup = warmup;
+  }
+
+  public Duration getReportInterval() {
+    return reportInterval;
+  }
+
+  public void setReportInterval(Duration reportInterval) {
+    this.reportInterval = reportInterval;
+  }
+
+  public Duration getDrainTimeout() {
+    return drainTimeout;
+  }
+
+  public void setDrainTimeout(Duration drainTimeout) {
+    this.drainTimeout = drainTimeout;
+  }
+
+  public String getContainerFactory() {
+    return containerFactory;
+  }
+
+  public void setContainerFactory(String containerFactory) {
+    this.containerFactory = containerFactory;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 IBM Corp. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package perf;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Counts messages and records end-to-end latency. The latency is measured from just before
+ * the send to the start of the listener, using System.nanoTime carried in a message property,
+ * so it is only meaningful when the producers and consumers run in the same JVM.
+ */
+public class Statistics {
+
+  // Up to one hour, in microseconds, with 3 significant digits
+  private final Recorder recorder = new Recorder(TimeUnit.HOURS.toMicros(1), 3);
+  private final Histogram total = new Histogram(TimeUnit.HOURS.toMicros(1), 3);
+
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder received = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+
+  private volatile long sentBase = 0;
+  private volatile long receivedBase = 0;
+  private volatile long startNanos = System.nanoTime();
+
+  public void sent() {
+    sent.increment();
+  }
+
+  public void received(long latencyNanos) {
+    received.increment();
+    recorder.recordValue(Math.max(0, Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), total.getHighestTrackableValue())));
+  }
+
+  public void error() {
+    errors.increment();
+  }
+
+  /**
+   * Discard everything recorded so far, at the end of the warmup.
+   */
+  public synchronized void reset() {
+    sentBase = sent.sum();
+    receivedBase = received.sum();
+    recorder.reset();
+    total.reset();
+    startNanos = System.nanoTime();
+  }
+
+  public long getSent() {
+    return sent.sum() - sentBase;
+  }
+
+  public long getReceived() {
+    return received.sum() - receivedBase;
+  }
+
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  public double getElapsedSeconds() {
+    return (System.nanoTime() - startNanos) / 1e9;
+  }
+
+  /**
+   * @return the latencies recorded since the previous call, which are also added to the total
+   */
+  public synchronized Histogram interval() {
+    Histogram h = recorder.getIntervalHistogram();
+    total.add(h);
+    return h;
+  }
+
+  public synchronized Histogram getTotal() {
+    interval();
+    return total.copy();
+  }
+}